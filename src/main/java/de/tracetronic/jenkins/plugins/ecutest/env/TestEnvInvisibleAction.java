@@ -29,6 +29,7 @@ public class TestEnvInvisibleAction extends InvisibleAction {
     private final String testResult;
     private final int timeout;
     private final Map<String, String> outParams;
+    private final long testDuration;
 
     /**
      * Instantiates a new {@link TestEnvInvisibleAction}.
@@ -55,6 +56,7 @@ public class TestEnvInvisibleAction extends InvisibleAction {
         testReportDir = testClient.getTestReportDir();
         testResult = testClient.getTestResult();
         timeout = testClient.getExecutionConfig().getParsedTimeout();
+        testDuration = testClient.getTestDuration();
     }
 
     public int getTestId() {
@@ -101,6 +103,15 @@ public class TestEnvInvisibleAction extends InvisibleAction {
         return outParams;
     }
 
+    /**
+     * Gets the duration of the test execution.
+     *
+     * @return the test duration in milliseconds, 0 if not measured
+     */
+    public long getTestDuration() {
+        return testDuration;
+    }
+
     /**
      * Defines the test type.
      */
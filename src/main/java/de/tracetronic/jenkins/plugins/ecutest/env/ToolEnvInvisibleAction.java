@@ -1,13 +1,16 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.env;
 
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ToolInfo;
 import hudson.model.InvisibleAction;
 
+import javax.annotation.CheckForNull;
+
 /**
  * Helper invisible action which is used for exchanging information between {@link ETClient}s
  * and other objects like {@link ToolEnvContributor}.
@@ -24,6 +27,8 @@ public class ToolEnvInvisibleAction extends InvisibleAction {
     private final boolean debugMode;
     private final String lastTbc;
     private final String lastTcf;
+    private final ToolInfo toolInfo;
+    private final String nodeName;
 
     /**
      * Instantiates a new {@link ToolEnvInvisibleAction}.
@@ -33,6 +38,19 @@ public class ToolEnvInvisibleAction extends InvisibleAction {
      * @param toolClient the tool client holding the relevant information
      */
     public ToolEnvInvisibleAction(final int toolId, final ETClient toolClient) {
+        this(toolId, toolClient, null);
+    }
+
+    /**
+     * Instantiates a new {@link ToolEnvInvisibleAction}.
+     *
+     * @param toolId     identifies this invisible action and is used as the suffix
+     *                   for the tool related build environment variables
+     * @param toolClient the tool client holding the relevant information
+     * @param nodeName   the name of the node ecu.test has been started on, may be {@code null} if unknown
+     * @since 2.47
+     */
+    public ToolEnvInvisibleAction(final int toolId, final ETClient toolClient, @CheckForNull final String nodeName) {
         super();
         this.toolId = toolId;
         toolName = toolClient.getToolName();
@@ -44,6 +62,8 @@ public class ToolEnvInvisibleAction extends InvisibleAction {
         debugMode = toolClient.isDebugMode();
         lastTbc = toolClient.getLastTbc();
         lastTcf = toolClient.getLastTcf();
+        toolInfo = toolClient.getToolInfo();
+        this.nodeName = nodeName;
     }
 
     public int getToolId() {
@@ -85,4 +105,26 @@ public class ToolEnvInvisibleAction extends InvisibleAction {
     public String getLastTcf() {
         return lastTcf;
     }
+
+    /**
+     * Gets the information gathered after starting ecu.test.
+     *
+     * @return the tool information or {@code null} if not available, e.g. for builds of previous plugin versions
+     * @since 2.47
+     */
+    @CheckForNull
+    public ToolInfo getToolInfo() {
+        return toolInfo;
+    }
+
+    /**
+     * Gets the name of the node ecu.test has been started on.
+     *
+     * @return the node name, empty for the built-in node or {@code null} if not available
+     * @since 2.47
+     */
+    @CheckForNull
+    public String getNodeName() {
+        return nodeName;
+    }
 }
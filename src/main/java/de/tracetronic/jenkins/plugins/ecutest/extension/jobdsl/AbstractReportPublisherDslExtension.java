@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -60,6 +60,16 @@ public abstract class AbstractReportPublisherDslExtension extends AbstractDslExt
          */
         protected boolean keepAll = true;
 
+        /**
+         * The cache ZIP download setting.
+         */
+        protected boolean cacheZipDownload;
+
+        /**
+         * The deduplicate archive setting.
+         */
+        protected boolean deduplicateArchive;
+
         /**
          * Option defining whether missing reports are allowed.
          *
@@ -95,5 +105,24 @@ public abstract class AbstractReportPublisherDslExtension extends AbstractDslExt
         public void keepAll(final boolean value) {
             keepAll = value;
         }
+
+        /**
+         * Option defining whether a ZIP file of the archived artifacts is created in advance for downloading.
+         *
+         * @param value the value
+         */
+        public void cacheZipDownload(final boolean value) {
+            cacheZipDownload = value;
+        }
+
+        /**
+         * Option defining whether archived artifacts are deduplicated across builds. Only applies to publishers
+         * archiving TRF reports, ecu.test logs and generated reports.
+         *
+         * @param value the value
+         */
+        public void deduplicateArchive(final boolean value) {
+            deduplicateArchive = value;
+        }
     }
 }
@@ -75,7 +75,7 @@ public abstract class AbstractTestBuilderDslExtension extends AbstractDslExtensi
             final ExecutionConfigContext context = new ExecutionConfigContext();
             executeInContext(closure, context);
             executionConfig = new ExecutionConfig(context.timeout, context.stopOnError, context.checkTestFile,
-                    context.recordWarnings);
+                    context.recordWarnings, context.maxLogErrors);
         }
 
         /**
@@ -239,6 +239,7 @@ public abstract class AbstractTestBuilderDslExtension extends AbstractDslExtensi
             private boolean stopOnError = true;
             private boolean checkTestFile = true;
             private boolean recordWarnings = false;
+            private int maxLogErrors;
 
             /**
              * Option defining the timeout.
@@ -288,6 +289,16 @@ public abstract class AbstractTestBuilderDslExtension extends AbstractDslExtensi
             public void recordWarnings(final boolean value) {
                 recordWarnings = value;
             }
+
+            /**
+             * Option defining the maximum number of logged errors before aborting the test execution.
+             *
+             * @param value the value, 0 to disable it
+             */
+            public void maxLogErrors(final int value) {
+                Preconditions.checkArgument(value >= 0, "maxLogErrors must not be negative");
+                maxLogErrors = value;
+            }
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -12,6 +12,7 @@ import de.tracetronic.jenkins.plugins.ecutest.report.generator.ReportGeneratorCo
 import de.tracetronic.jenkins.plugins.ecutest.report.generator.ReportGeneratorPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.report.generator.ReportGeneratorSetting;
 import de.tracetronic.jenkins.plugins.ecutest.report.junit.JUnitPublisher;
+import de.tracetronic.jenkins.plugins.ecutest.report.junit.JUnitPublisher.GenerationMode;
 import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.report.tms.TMSPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFPublisher;
@@ -56,6 +57,7 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
         publisher.setRunOnFailed(context.runOnFailed);
         publisher.setArchiving(context.archiving);
         publisher.setKeepAll(context.keepAll);
+        publisher.setCacheZipDownload(context.cacheZipDownload);
         checkATXInstallation(atxName.toString(), publisher);
         return publisher;
     }
@@ -100,10 +102,12 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
         final JUnitPublisher publisher = new JUnitPublisher(toolName.toString());
         publisher.setUnstableThreshold(context.unstableThreshold);
         publisher.setFailedThreshold(context.failedThreshold);
+        publisher.setGenerationMode(context.generationMode);
         publisher.setAllowMissing(context.allowMissing);
         publisher.setRunOnFailed(context.runOnFailed);
         publisher.setArchiving(context.archiving);
         publisher.setKeepAll(context.keepAll);
+        publisher.setCacheZipDownload(context.cacheZipDownload);
         checkToolInstallation(toolName.toString(), publisher);
         return publisher;
     }
@@ -134,6 +138,8 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
         publisher.setRunOnFailed(context.runOnFailed);
         publisher.setArchiving(context.archiving);
         publisher.setKeepAll(context.keepAll);
+        publisher.setCacheZipDownload(context.cacheZipDownload);
+        publisher.setDeduplicateArchive(context.deduplicateArchive);
         return publisher;
     }
 
@@ -161,10 +167,13 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
         publisher.setUnstableOnWarning(context.unstableOnWarning);
         publisher.setFailedOnError(context.failedOnError);
         publisher.setTestSpecific(context.testSpecific);
+        publisher.setCompressArchive(context.compressArchive);
         publisher.setAllowMissing(context.allowMissing);
         publisher.setRunOnFailed(context.runOnFailed);
         publisher.setArchiving(context.archiving);
         publisher.setKeepAll(context.keepAll);
+        publisher.setCacheZipDownload(context.cacheZipDownload);
+        publisher.setDeduplicateArchive(context.deduplicateArchive);
         return publisher;
     }
 
@@ -199,6 +208,8 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
         publisher.setRunOnFailed(context.runOnFailed);
         publisher.setArchiving(context.archiving);
         publisher.setKeepAll(context.keepAll);
+        publisher.setCacheZipDownload(context.cacheZipDownload);
+        publisher.setDeduplicateArchive(context.deduplicateArchive);
         checkToolInstallation(toolName.toString(), publisher);
         return publisher;
     }
@@ -236,6 +247,7 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
         publisher.setRunOnFailed(context.runOnFailed);
         publisher.setArchiving(context.archiving);
         publisher.setKeepAll(context.keepAll);
+        publisher.setCacheZipDownload(context.cacheZipDownload);
         checkToolInstallation(toolName.toString(), publisher);
         return publisher;
     }
@@ -265,6 +277,7 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
 
         private double unstableThreshold;
         private double failedThreshold;
+        private GenerationMode generationMode = GenerationMode.TOOL;
 
         /**
          * Option defining the unstable threshold.
@@ -287,6 +300,15 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
             Preconditions.checkArgument(validation.kind != FormValidation.Kind.ERROR, validation.getMessage());
             failedThreshold = value;
         }
+
+        /**
+         * Option defining the generation mode.
+         *
+         * @param value the value
+         */
+        public void generationMode(final CharSequence value) {
+            generationMode = GenerationMode.valueOf(value.toString());
+        }
     }
 
     /**
@@ -303,6 +325,7 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
         private boolean unstableOnWarning;
         private boolean failedOnError;
         private boolean testSpecific;
+        private boolean compressArchive;
 
         /**
          * Option defining whether to mark the build as unstable if warnings found.
@@ -330,6 +353,15 @@ public class ReportPublisherDslExtension extends AbstractReportPublisherDslExten
         public void testSpecific(final boolean value) {
             testSpecific = value;
         }
+
+        /**
+         * Option defining whether to store the archived log files compressed.
+         *
+         * @param value the value
+         */
+        public void compressArchive(final boolean value) {
+            compressArchive = value;
+        }
     }
 
     /**
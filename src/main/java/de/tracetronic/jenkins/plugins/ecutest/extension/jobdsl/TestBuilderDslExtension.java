@@ -127,6 +127,8 @@ public class TestBuilderDslExtension extends AbstractTestBuilderDslExtension {
         final TestFolderBuilder builder = new TestFolderBuilder(testFolder.toString());
         builder.setScanMode(context.scanMode);
         builder.setRecursiveScan(context.recursiveScan);
+        builder.setParallelism(context.parallelism);
+        builder.setInstances(context.instances);
         builder.setTestConfig(context.testConfig);
         builder.setPackageConfig(context.packageConfig);
         builder.setProjectConfig(context.projectConfig);
@@ -523,8 +525,12 @@ public class TestBuilderDslExtension extends AbstractTestBuilderDslExtension {
      */
     public class TestFolderContext extends AbstractTestContext {
 
+        private static final String OPT_INSTANCES = "instances";
+
         private ScanMode scanMode = ScanMode.PACKAGES_AND_PROJECTS;
         private boolean recursiveScan;
+        private int parallelism = 1;
+        private String instances;
         private PackageConfig packageConfig;
         private ProjectConfig projectConfig;
 
@@ -546,6 +552,25 @@ public class TestBuilderDslExtension extends AbstractTestBuilderDslExtension {
             recursiveScan = value;
         }
 
+        /**
+         * Option defining the number of ecu.test instances to execute the tests in parallel.
+         *
+         * @param value the value
+         */
+        public void parallelism(final int value) {
+            parallelism = value;
+        }
+
+        /**
+         * Option defining the ecu.test installations used for parallel execution.
+         *
+         * @param value the installation names separated by comma or line breaks
+         */
+        public void instances(final CharSequence value) {
+            Preconditions.checkNotNull(value, NOT_NULL_MSG, OPT_INSTANCES);
+            instances = value.toString();
+        }
+
         /**
          * Option defining the package configuration.
          *
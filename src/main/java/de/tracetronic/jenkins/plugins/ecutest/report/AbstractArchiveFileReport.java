@@ -9,6 +9,7 @@ import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogReport;
 import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFReport;
 import hudson.model.Run;
 import jenkins.util.VirtualFile;
+import org.apache.commons.io.IOUtils;
 import org.kohsuke.stapler.StaplerRequest;
 import org.kohsuke.stapler.StaplerResponse;
 
@@ -16,7 +17,10 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Common base class for {@link TRFReport} and {@link ETLogReport} holding the archive file information.
@@ -24,6 +28,11 @@ import java.util.logging.Logger;
  */
 public abstract class AbstractArchiveFileReport extends AbstractTestReport {
 
+    /**
+     * File extension of archive files that are stored compressed.
+     */
+    public static final String COMPRESSED_EXTENSION = ".gz";
+
     private static final Logger LOGGER = Logger.getLogger(AbstractArchiveFileReport.class.getName());
 
     private final String fileName;
@@ -66,6 +75,7 @@ public abstract class AbstractArchiveFileReport extends AbstractTestReport {
 
     /**
      * Send contents of the archive file that is requested via HTTP.
+     * Archive files that are stored compressed are decompressed on the fly.
      *
      * @param req the {@link StaplerRequest} used for access this report
      * @param rsp the {@link StaplerResponse} used for serving the file
@@ -83,7 +93,10 @@ public abstract class AbstractArchiveFileReport extends AbstractTestReport {
 
         final boolean isProjectLevel = action.isProjectLevel();
         final File rootDir = isProjectLevel ? build.getParent().getRootDir() : build.getRootDir();
-        final File archiveFile = new File(new File(rootDir, getArchiveDir()), getFileName());
+        final File plainFile = new File(new File(rootDir, getArchiveDir()), getFileName());
+        final File compressedFile = new File(plainFile.getPath() + COMPRESSED_EXTENSION);
+        final boolean isCompressed = !plainFile.exists() && compressedFile.exists();
+        final File archiveFile = isCompressed ? compressedFile : plainFile;
         if (!archiveFile.exists()) {
             LOGGER.warning(String.format("Archive file does not exist: %s for %s", getFileName(),
                 build.getFullDisplayName()));
@@ -104,7 +117,15 @@ public abstract class AbstractArchiveFileReport extends AbstractTestReport {
         }
 
         // Download the archive file
-        rsp.setHeader("Content-Disposition", "attachment;filename=\"" + archiveFile.getName() + "\"");
-        rsp.serveFile(req, archiveFile.toURI().toURL());
+        rsp.setHeader("Content-Disposition", "attachment;filename=\"" + plainFile.getName() + "\"");
+        if (isCompressed) {
+            rsp.setContentType("application/octet-stream");
+            rsp.setDateHeader("Last-Modified", archiveFile.lastModified());
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(archiveFile.toPath()))) {
+                IOUtils.copy(in, rsp.getOutputStream());
+            }
+        } else {
+            rsp.serveFile(req, archiveFile.toURI().toURL());
+        }
     }
 }
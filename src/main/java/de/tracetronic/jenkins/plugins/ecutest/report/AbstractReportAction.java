@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -69,6 +69,12 @@ public abstract class AbstractReportAction extends AbstractRequestHandler implem
         }
     }
 
+    @Override
+    protected File getCachedZip(final File rootDir) {
+        final String urlName = getUrlName();
+        return urlName != null ? ReportZipCache.getCachedZip(new File(rootDir, urlName)) : null;
+    }
+
     /**
      * Gets the last build with report artifacts in a project.
      *
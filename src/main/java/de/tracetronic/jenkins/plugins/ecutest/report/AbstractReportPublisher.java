@@ -64,6 +64,14 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
      * @since 1.9
      */
     private Boolean keepAll = true;
+    /**
+     * @since 2.47
+     */
+    private boolean cacheZipDownload;
+    /**
+     * @since 2.47
+     */
+    private boolean deduplicateArchive;
 
     private transient boolean downstream;
     private transient String workspace;
@@ -113,22 +121,17 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
     /**
      * Removes the report actions from all previous builds which published at project level.
      *
+     * <p>
+     * Only the previous owner of the project-level report is loaded, as recorded by the
+     * {@link ProjectReportRegistry}.
+     *
      * @param run   the run
      * @param clazz the report action class to remove
      * @throws IOException signals that an I/O exception has occurred
      */
-    @SuppressWarnings("deprecation")
     public static void removePreviousReports(final Run<?, ?> run,
                                              final Class<? extends AbstractReportAction> clazz) throws IOException {
-        Run<?, ?> prevBuild = run.getPreviousBuild();
-        while (prevBuild != null) {
-            final AbstractReportAction buildAction = prevBuild.getAction(clazz);
-            if (buildAction != null && buildAction.isProjectLevel()) {
-                prevBuild.getActions().remove(buildAction);
-                prevBuild.save();
-            }
-            prevBuild = prevBuild.getPreviousBuild();
-        }
+        ProjectReportRegistry.replaceOwner(run, clazz);
     }
 
     /**
@@ -207,6 +210,34 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
         this.keepAll = keepAll;
     }
 
+    /**
+     * Returns whether a ZIP file of the archived artifacts is created in advance for downloading.
+     *
+     * @return {@code true} if the ZIP download is cached, {@code false} otherwise
+     */
+    public boolean isCacheZipDownload() {
+        return cacheZipDownload;
+    }
+
+    @DataBoundSetter
+    public void setCacheZipDownload(final boolean cacheZipDownload) {
+        this.cacheZipDownload = cacheZipDownload;
+    }
+
+    /**
+     * Returns whether archived artifacts are deduplicated across builds by the {@link ReportArchiveStore}.
+     *
+     * @return {@code true} if archived artifacts are deduplicated, {@code false} otherwise
+     */
+    public boolean isDeduplicateArchive() {
+        return deduplicateArchive;
+    }
+
+    @DataBoundSetter
+    public void setDeduplicateArchive(final boolean deduplicateArchive) {
+        this.deduplicateArchive = deduplicateArchive;
+    }
+
     /**
      * Returns whether this publisher is part of {@link DownStreamPublisher} actions.
      *
@@ -260,7 +291,14 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
 
         try {
             initLogger(listener);
+            final File archiveDir = isArchiving() ? new File(getArchiveTarget(run).getRemote()) : null;
+            if (archiveDir != null) {
+                ReportZipCache.invalidate(archiveDir);
+            }
             performReport(run, workspace, launcher, listener);
+            if (archiveDir != null && isCacheZipDownload()) {
+                ReportZipCache.schedule(archiveDir);
+            }
         } catch (final IOException e) {
             Util.displayIOException(e, listener);
             throw e;
@@ -496,6 +534,49 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
         return new FilePath(isKeepAll() ? getBuildArchiveDir(run) : getProjectArchiveDir(run.getParent()));
     }
 
+    /**
+     * Archives the files of the source directory matching the given patterns to the target directory. The files are
+     * fetched by the {@link ReportArchiveSession} of the build, so that files archived by multiple publishers are
+     * transferred only once, and deduplicated by the {@link ReportArchiveStore} if enabled and artifacts are archived
+     * for all builds.
+     *
+     * @param run       the run
+     * @param sourceDir the source directory
+     * @param includes  the inclusion file pattern
+     * @param excludes  the exclusion file pattern, may be {@code null}
+     * @param targetDir the target directory
+     * @return the number of archived files
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    protected int archiveFiles(final Run<?, ?> run, final FilePath sourceDir, final String includes,
+                               @CheckForNull final String excludes, final FilePath targetDir)
+        throws IOException, InterruptedException {
+        final ReportArchiveSession session = ReportArchiveSession.get(run);
+        final boolean deduplicate = isDeduplicateArchive() && isKeepAll() && ReportArchiveStore.isSupported();
+        final List<ReportArchiveSession.ArchiveFile> files = session.fetch(sourceDir, includes, excludes, deduplicate);
+        if (deduplicate) {
+            return ReportArchiveStore.get().archive(files, run.getRootDir(), new File(targetDir.getRemote()));
+        }
+        return session.copy(files, new File(targetDir.getRemote()));
+    }
+
+    /**
+     * Gets the tree of the given report directory shared by all publishers of the build, so that the report
+     * directory is walked only once on the node.
+     *
+     * @param run       the run
+     * @param reportDir the report directory
+     * @return the report tree or {@code null} if the directory does not exist
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    @CheckForNull
+    protected ReportTree getReportTree(final Run<?, ?> run, final FilePath reportDir)
+        throws IOException, InterruptedException {
+        return ReportArchiveSession.get(run).getReportTree(reportDir);
+    }
+
     /**
      * Gets the directory where the reports are stored for the given project.
      *
@@ -643,12 +724,8 @@ public abstract class AbstractReportPublisher extends Recorder implements Simple
      * @throws InterruptedException the interrupted exception
      */
     protected long getDirectorySize(final FilePath directory) throws IOException, InterruptedException {
-        long size = 0;
-        final FilePath[] files = directory.list("**");
-        for (final FilePath file : files) {
-            size += file.length();
-        }
-        return size;
+        final ReportTree reportTree = ReportTree.scan(directory);
+        return reportTree != null ? reportTree.getSize() : 0;
     }
 
     /**
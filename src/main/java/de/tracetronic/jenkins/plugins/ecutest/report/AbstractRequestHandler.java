@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -10,9 +10,6 @@ import hudson.model.AbstractProject;
 import hudson.model.Job;
 import hudson.model.Run;
 import jenkins.util.VirtualFile;
-import org.apache.commons.io.IOUtils;
-import org.apache.tools.zip.ZipEntry;
-import org.apache.tools.zip.ZipOutputStream;
 import org.kohsuke.stapler.StaplerRequest;
 import org.kohsuke.stapler.StaplerResponse;
 
@@ -20,8 +17,11 @@ import javax.annotation.CheckForNull;
 import javax.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 import java.util.logging.Logger;
 
 /**
@@ -65,6 +65,18 @@ public abstract class AbstractRequestHandler {
      */
     protected abstract VirtualFile getArchiveTargetDir(File rootDir);
 
+    /**
+     * Gets the pre-built ZIP file of the archive target directory for use in {@link #doZipDownload}.
+     *
+     * @param rootDir the root directory
+     * @return the cached ZIP file or {@code null} if the archive directory has to be compressed on the fly
+     * @since 2.47
+     */
+    @CheckForNull
+    protected File getCachedZip(final File rootDir) {
+        return null;
+    }
+
     /**
      * Resolves the build action containing the report artifacts by {@link StaplerRequest#findAncestorObject(Class)}.
      *
@@ -136,38 +148,88 @@ public abstract class AbstractRequestHandler {
             return;
         }
 
-        // Compress and download the archive directory
         final String zipFileName = String.format("%s_%s#%d", archiveDir.getName(), build.getParent().getName(),
             build.getNumber());
         rsp.setHeader("Content-Disposition", "attachment;filename=\"" + zipFileName + "\"");
         rsp.setContentType("application/zip");
-        zip(rsp.getOutputStream(), archiveDir);
+
+        final File cachedZip = getCachedZip(rootDir);
+        if (cachedZip != null) {
+            try {
+                serveFile(req, rsp, cachedZip);
+                return;
+            } catch (final NoSuchFileException e) {
+                LOGGER.fine(String.format("Cached ZIP file has been invalidated: %s", cachedZip));
+            }
+        }
+        // Compress and stream the archive directory
+        ReportZipWriter.write(archiveDir, rsp.getOutputStream());
     }
 
     /**
-     * Compresses the given archive directory and serves as download.
+     * Serves the given file supporting single byte range requests to resume interrupted downloads.
      *
-     * @param outputStream the output stream
-     * @param archiveDir   the archive directory
+     * @param req  the {@link StaplerRequest} used for access this report
+     * @param rsp  the {@link StaplerResponse} used for serving the file
+     * @param file the file to serve
+     * @throws NoSuchFileException if the file has been deleted in the meantime
      * @throws IOException signals that an I/O exception has occurred
      */
-    @SuppressWarnings("deprecation")
-    private void zip(final OutputStream outputStream, final VirtualFile archiveDir) throws IOException {
-        final ZipOutputStream zos = new ZipOutputStream(outputStream);
-        zos.setEncoding(System.getProperty("file.encoding"));
-
-        for (final String archiveFile : archiveDir.list("**/**")) {
-            // Convert all backslashes to forward slashes
-            final ZipEntry entry = new ZipEntry(archiveFile.replace('\\', '/'));
-            final VirtualFile file = archiveDir.child(archiveFile);
-            entry.setTime(file.lastModified());
-            zos.putNextEntry(entry);
-
-            try (InputStream in = file.open()) {
-                IOUtils.copy(in, zos);
+    private static void serveFile(final StaplerRequest req, final StaplerResponse rsp, final File file)
+        throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long length = channel.size();
+            final long lastModified = file.lastModified();
+            rsp.setHeader("Accept-Ranges", "bytes");
+            rsp.setDateHeader("Last-Modified", lastModified);
+
+            ByteRange range = ByteRange.parse(req.getHeader("Range"), length);
+            if (range != null && !isRangeValid(req, lastModified)) {
+                range = null;
+            }
+            long position = 0;
+            long count = length;
+            if (range != null) {
+                if (!range.isSatisfiable()) {
+                    rsp.setHeader("Content-Range", "bytes */" + length);
+                    rsp.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                position = range.getStart();
+                count = range.getLength();
+                rsp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                rsp.setHeader("Content-Range", String.format("bytes %d-%d/%d", range.getStart(), range.getEnd(),
+                    length));
+            }
+            rsp.setHeader("Content-Length", Long.toString(count));
+
+            final WritableByteChannel out = Channels.newChannel(rsp.getOutputStream());
+            while (count > 0) {
+                final long transferred = channel.transferTo(position, count, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                count -= transferred;
             }
-            zos.closeEntry();
         }
-        zos.close();
+    }
+
+    /**
+     * Checks the {@code If-Range} precondition, which requires the file to be unmodified since the given date.
+     *
+     * @param req          the {@link StaplerRequest} used for access this report
+     * @param lastModified the last modification time of the file
+     * @return {@code true} if the requested range can be served, {@code false} if the whole file has to be served
+     */
+    private static boolean isRangeValid(final StaplerRequest req, final long lastModified) {
+        try {
+            final long ifRange = req.getDateHeader("If-Range");
+            // HTTP dates have a precision of seconds
+            return ifRange < 0 || ifRange >= lastModified / 1000 * 1000;
+        } catch (final IllegalArgumentException e) {
+            // Entity tags are not supported
+            return false;
+        }
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import javax.annotation.CheckForNull;
+
+/**
+ * Single byte range of an HTTP range request.
+ *
+ * @since 2.47
+ */
+final class ByteRange {
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    private final long start;
+    private final long end;
+
+    /**
+     * Instantiates a new {@link ByteRange}.
+     *
+     * @param start the first byte position
+     * @param end   the last byte position (inclusive), less than {@code start} if not satisfiable
+     */
+    private ByteRange(final long start, final long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses the {@code Range} header value for content of the given length. Multiple ranges are not supported and
+     * like malformed values result in serving the whole content.
+     *
+     * @param header the header value
+     * @param length the content length
+     * @return the byte range or {@code null} if the whole content should be served
+     */
+    @CheckForNull
+    static ByteRange parse(@CheckForNull final String header, final long length) {
+        if (header == null || !header.startsWith(BYTES_UNIT) || header.indexOf(',') >= 0) {
+            return null;
+        }
+        final String spec = header.substring(BYTES_UNIT.length()).trim();
+        final int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            final String first = spec.substring(0, dash).trim();
+            final String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range, i.e. the last n bytes
+                final long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return new ByteRange(0, -1);
+                }
+                return new ByteRange(Math.max(0, length - suffix), length - 1);
+            }
+            final long start = Long.parseLong(first);
+            final long lastPos = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || lastPos < start) {
+                return null;
+            }
+            if (start >= length) {
+                return new ByteRange(0, -1);
+            }
+            return new ByteRange(start, Math.min(lastPos, length - 1));
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether this range overlaps the content.
+     *
+     * @return {@code true} if satisfiable, {@code false} otherwise
+     */
+    boolean isSatisfiable() {
+        return start <= end;
+    }
+
+    long getStart() {
+        return start;
+    }
+
+    long getEnd() {
+        return end;
+    }
+
+    /**
+     * Gets the number of bytes in this range.
+     *
+     * @return the range length
+     */
+    long getLength() {
+        return end - start + 1;
+    }
+}
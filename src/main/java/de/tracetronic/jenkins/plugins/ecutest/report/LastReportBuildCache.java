@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.Extension;
+import hudson.model.Action;
+import hudson.model.Job;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the last build per job containing a specific report action, used to render project actions without
+ * walking back the build history on every page load.
+ *
+ * <p>
+ * The history of a job is scanned only once per action type. Afterwards the cache is kept up-to-date by
+ * {@link RunListenerImpl} when builds complete or get deleted. Builds that are still running are checked directly,
+ * since they may already provide reports before their completion.
+ */
+public final class LastReportBuildCache {
+
+    /**
+     * Marks that no build contains the report action.
+     */
+    private static final int NO_BUILD = 0;
+
+    private static final Map<Job<?, ?>, Map<Class<? extends Action>, Integer>> CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Instantiates a new {@link LastReportBuildCache}.
+     */
+    private LastReportBuildCache() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Gets the last build of a job containing the given report action.
+     *
+     * @param project     the job
+     * @param actionClass the report action class
+     * @return the last build with the report action or {@code null} if no proper build exists
+     */
+    @CheckForNull
+    public static Run<?, ?> getLastReportBuild(final Job<?, ?> project, final Class<? extends Action> actionClass) {
+        final Map<Class<? extends Action>, Integer> jobCache = getJobCache(project);
+        final Integer cachedNumber = jobCache.get(actionClass);
+        if (cachedNumber == null) {
+            return scan(project, actionClass, jobCache);
+        }
+
+        // Running builds are not cached yet
+        for (Run<?, ?> build = project.getLastBuild(); build != null && build.getNumber() > cachedNumber
+            && build.isBuilding(); build = build.getPreviousBuild()) {
+            if (build.getAction(actionClass) != null) {
+                return build;
+            }
+        }
+
+        if (cachedNumber == NO_BUILD) {
+            return null;
+        }
+        final Run<?, ?> build = project.getBuildByNumber(cachedNumber);
+        if (build == null || build.getAction(actionClass) == null) {
+            // Cached build has been deleted or its report has been removed meanwhile
+            return scan(project, actionClass, jobCache);
+        }
+        return build;
+    }
+
+    /**
+     * Scans the build history of a job for the last build containing the given report action and caches the last
+     * completed one.
+     *
+     * @param project     the job
+     * @param actionClass the report action class
+     * @param jobCache    the cache of the job
+     * @return the last build with the report action or {@code null} if no proper build exists
+     */
+    @CheckForNull
+    private static Run<?, ?> scan(final Job<?, ?> project, final Class<? extends Action> actionClass,
+                                  final Map<Class<? extends Action>, Integer> jobCache) {
+        Run<?, ?> lastBuild = null;
+        for (Run<?, ?> build = project.getLastBuild(); build != null; build = build.getPreviousBuild()) {
+            if (build.getAction(actionClass) != null) {
+                if (lastBuild == null) {
+                    lastBuild = build;
+                }
+                if (!build.isBuilding()) {
+                    jobCache.put(actionClass, build.getNumber());
+                    return lastBuild;
+                }
+            }
+        }
+        jobCache.put(actionClass, NO_BUILD);
+        return lastBuild;
+    }
+
+    /**
+     * Gets the cache of a job.
+     *
+     * @param project the job
+     * @return the job cache mapping action classes to build numbers
+     */
+    private static Map<Class<? extends Action>, Integer> getJobCache(final Job<?, ?> project) {
+        synchronized (CACHE) {
+            return CACHE.computeIfAbsent(project, key -> new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Updates the cache of the job of a completed build.
+     *
+     * @param run the completed run
+     */
+    static void onCompleted(final Run<?, ?> run) {
+        final Map<Class<? extends Action>, Integer> jobCache = CACHE.get(run.getParent());
+        if (jobCache != null) {
+            for (final Class<? extends Action> actionClass : jobCache.keySet()) {
+                if (run.getAction(actionClass) != null) {
+                    jobCache.merge(actionClass, run.getNumber(), Math::max);
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidates cache entries of the job of a deleted build that refer to this build.
+     *
+     * @param run the deleted run
+     */
+    static void onDeleted(final Run<?, ?> run) {
+        final Map<Class<? extends Action>, Integer> jobCache = CACHE.get(run.getParent());
+        if (jobCache != null) {
+            jobCache.values().removeIf(number -> number == run.getNumber());
+        }
+    }
+
+    /**
+     * Listener keeping the {@link LastReportBuildCache} up-to-date.
+     */
+    @Extension
+    public static final class RunListenerImpl extends RunListener<Run<?, ?>> {
+
+        @Override
+        public void onCompleted(final Run<?, ?> run, @Nonnull final TaskListener listener) {
+            LastReportBuildCache.onCompleted(run);
+        }
+
+        @Override
+        public void onDeleted(final Run<?, ?> run) {
+            LastReportBuildCache.onDeleted(run);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.model.Job;
+import hudson.model.Run;
+
+import javax.annotation.CheckForNull;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Registry recording which build of a job currently owns the project-level report of each report action type.
+ *
+ * <p>
+ * The registry is persisted as sidecar file in the job root directory. Replacing a project-level report therefore
+ * only loads and rewrites the previous owner build instead of walking the whole build history. Jobs without a
+ * registry entry for a report type are migrated once by removing the project-level reports from all previous builds.
+ */
+public final class ProjectReportRegistry {
+
+    /**
+     * File name of the registry inside of the job root directory.
+     */
+    static final String REGISTRY_FILE = "ecutest-project-reports.properties";
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectReportRegistry.class.getName());
+
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new {@link ProjectReportRegistry}.
+     */
+    private ProjectReportRegistry() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Registers the given run as owner of the project-level report of given type and removes the report action from
+     * the previous owner.
+     *
+     * @param run   the run publishing at project level
+     * @param clazz the report action class
+     * @return the number of previous builds that have been loaded
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public static int replaceOwner(final Run<?, ?> run,
+                                   final Class<? extends AbstractReportAction> clazz) throws IOException {
+        final Job<?, ?> job = run.getParent();
+        final File registryFile = new File(job.getRootDir(), REGISTRY_FILE);
+        synchronized (LOCKS.computeIfAbsent(registryFile.getAbsolutePath(), key -> new Object())) {
+            final Properties owners = load(registryFile);
+            final int ownerNumber = parseBuildNumber(owners.getProperty(clazz.getName()));
+            final int loadedBuilds;
+            if (ownerNumber <= 0) {
+                loadedBuilds = migrate(run, clazz);
+            } else if (ownerNumber != run.getNumber()) {
+                removeProjectReport(job.getBuildByNumber(ownerNumber), clazz);
+                loadedBuilds = 1;
+            } else {
+                loadedBuilds = 0;
+            }
+            owners.setProperty(clazz.getName(), String.valueOf(run.getNumber()));
+            save(registryFile, owners);
+            return loadedBuilds;
+        }
+    }
+
+    /**
+     * Removes the project-level reports from all previous builds, used once for jobs without registry entry.
+     *
+     * @param run   the run
+     * @param clazz the report action class
+     * @return the number of previous builds that have been loaded
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static int migrate(final Run<?, ?> run, final Class<? extends AbstractReportAction> clazz)
+        throws IOException {
+        int loadedBuilds = 0;
+        Run<?, ?> prevBuild = run.getPreviousBuild();
+        while (prevBuild != null) {
+            removeProjectReport(prevBuild, clazz);
+            loadedBuilds++;
+            prevBuild = prevBuild.getPreviousBuild();
+        }
+        LOGGER.fine(String.format("Migrated project-level %s reports of %s by scanning %d build(s).",
+            clazz.getSimpleName(), run.getParent().getFullName(), loadedBuilds));
+        return loadedBuilds;
+    }
+
+    /**
+     * Removes the project-level report action of given type from a build.
+     *
+     * @param build the build, may be {@code null} if already deleted
+     * @param clazz the report action class
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    @SuppressWarnings("deprecation")
+    private static void removeProjectReport(@CheckForNull final Run<?, ?> build,
+                                            final Class<? extends AbstractReportAction> clazz) throws IOException {
+        if (build == null) {
+            return;
+        }
+        final AbstractReportAction buildAction = build.getAction(clazz);
+        if (buildAction != null && buildAction.isProjectLevel()) {
+            build.getActions().remove(buildAction);
+            build.save();
+        }
+    }
+
+    /**
+     * Parses a registered build number.
+     *
+     * @param value the registered value, may be {@code null}
+     * @return the build number or 0 if not registered or invalid
+     */
+    private static int parseBuildNumber(@CheckForNull final String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Loads the registry file.
+     *
+     * @param registryFile the registry file
+     * @return the registered owners, empty if the file does not exist
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static Properties load(final File registryFile) throws IOException {
+        final Properties owners = new Properties();
+        if (registryFile.isFile()) {
+            try (InputStream in = Files.newInputStream(registryFile.toPath())) {
+                owners.load(in);
+            }
+        }
+        return owners;
+    }
+
+    /**
+     * Saves the registry file atomically.
+     *
+     * @param registryFile the registry file
+     * @param owners       the registered owners
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static void save(final File registryFile, final Properties owners) throws IOException {
+        final File tmpFile = new File(registryFile.getParentFile(), registryFile.getName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmpFile.toPath())) {
+            owners.store(out, "Builds owning the project-level ecu.test reports");
+        }
+        Files.move(tmpFile.toPath(), registryFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.Extension;
+import hudson.FilePath;
+import hudson.Util;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+import hudson.remoting.VirtualChannel;
+import hudson.util.DirScanner;
+import hudson.util.FileVisitor;
+import jenkins.MasterToSlaveFileCallable;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Session of a build sharing the report files transferred from the node between all publishers.
+ *
+ * <p>
+ * For each archiving request the paths, sizes and content hashes of the matching files are collected on the node
+ * in a single call. Only files with content not yet transferred within the build are sent to the controller as
+ * compressed archive and staged in the build directory by their content hash. The publishers then claim their
+ * subset from the staged files, which are linked to the archive directories if possible. The staged files are
+ * removed when the build is completed. Local files are only hashed if they are deduplicated, otherwise they are
+ * copied as is.
+ *
+ * @since 2.47
+ */
+public final class ReportArchiveSession {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportArchiveSession.class.getName());
+
+    /**
+     * Defines the name of the staging directory in the build directory.
+     */
+    static final String STAGING_DIR_NAME = "archive-session";
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Map<Run<?, ?>, ReportArchiveSession> SESSIONS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final File stagingDir;
+
+    private final Map<FilePath, ReportTree> reportTrees = new HashMap<>();
+
+    /**
+     * Instantiates a new {@link ReportArchiveSession}.
+     *
+     * @param stagingDir the directory to stage the transferred files in
+     */
+    ReportArchiveSession(final File stagingDir) {
+        this.stagingDir = stagingDir;
+    }
+
+    /**
+     * Gets the session of the given build.
+     *
+     * @param run the run
+     * @return the archive session
+     */
+    public static ReportArchiveSession get(final Run<?, ?> run) {
+        synchronized (SESSIONS) {
+            return SESSIONS.computeIfAbsent(run,
+                key -> new ReportArchiveSession(new File(key.getRootDir(), STAGING_DIR_NAME)));
+        }
+    }
+
+    /**
+     * Closes the session of the given build and removes its staged files.
+     *
+     * @param run the run
+     */
+    static void close(final Run<?, ?> run) {
+        final ReportArchiveSession session = SESSIONS.remove(run);
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    /**
+     * Removes the staged files.
+     */
+    synchronized void close() {
+        try {
+            Util.deleteRecursive(stagingDir);
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, String.format("Failed removing staged report files in %s: %s", stagingDir,
+                e.getMessage()));
+        }
+    }
+
+    /**
+     * Fetches the files of the source directory matching the given patterns. Files on remote nodes are transferred
+     * only if their content has not been transferred within this session yet, local files are accessed directly.
+     *
+     * @param sourceDir   the source directory
+     * @param includes    the inclusion file pattern
+     * @param excludes    the exclusion file pattern, may be {@code null}
+     * @param deduplicate specifies whether the files are deduplicated, which requires the content hashes of local
+     *                    files as well
+     * @return the fetched files in the order of the source directory
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    public List<ArchiveFile> fetch(final FilePath sourceDir, final String includes,
+                                   @CheckForNull final String excludes, final boolean deduplicate)
+        throws IOException, InterruptedException {
+        final List<FileInfo> infos = sourceDir.act(
+            new ManifestCallable(includes, excludes, deduplicate || sourceDir.isRemote()));
+        final List<ArchiveFile> files = new ArrayList<>(infos.size());
+        if (!sourceDir.isRemote()) {
+            final File baseDir = new File(sourceDir.getRemote());
+            for (final FileInfo info : infos) {
+                files.add(new ArchiveFile(info.path, info.hash, new File(baseDir, info.path), false));
+            }
+            return files;
+        }
+
+        final Map<String, String> hashes;
+        synchronized (this) {
+            hashes = stage(sourceDir, infos);
+        }
+        for (final FileInfo info : infos) {
+            final String hash = hashes.get(info.path);
+            files.add(new ArchiveFile(info.path, hash, getStagedFile(hash), true));
+        }
+        return files;
+    }
+
+    /**
+     * Gets the tree of the given report directory. The tree is scanned once per session and shared between all
+     * publishers of the build.
+     *
+     * @param reportDir the report directory
+     * @return the report tree or {@code null} if the directory does not exist
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    @CheckForNull
+    public ReportTree getReportTree(final FilePath reportDir) throws IOException, InterruptedException {
+        synchronized (reportTrees) {
+            if (reportTrees.containsKey(reportDir)) {
+                return reportTrees.get(reportDir);
+            }
+        }
+        final ReportTree reportTree = ReportTree.scan(reportDir);
+        synchronized (reportTrees) {
+            reportTrees.put(reportDir, reportTree);
+        }
+        return reportTree;
+    }
+
+    /**
+     * Discards the scanned report trees, e.g. after files have been generated into the report directories.
+     */
+    public void invalidateReportTrees() {
+        synchronized (reportTrees) {
+            reportTrees.clear();
+        }
+    }
+
+    /**
+     * Copies the fetched files to the target directory.
+     *
+     * @param files     the fetched files
+     * @param targetDir the target directory
+     * @return the number of copied files
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public int copy(final List<ArchiveFile> files, final File targetDir) throws IOException {
+        for (final ArchiveFile file : files) {
+            final File targetFile = new File(targetDir, file.getPath());
+            if (file.isStaged()) {
+                linkOrCopy(file.getFile(), targetFile);
+            } else {
+                Files.createDirectories(targetFile.getParentFile().toPath());
+                Files.copy(file.getFile().toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.COPY_ATTRIBUTES);
+            }
+        }
+        return files.size();
+    }
+
+    /**
+     * Transfers the files with content that is not staged yet and resolves the staged content of all files.
+     *
+     * @param sourceDir the remote source directory
+     * @param infos     the file information collected on the node
+     * @return the content hashes of the staged files mapped by their paths
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    private Map<String, String> stage(final FilePath sourceDir, final List<FileInfo> infos)
+        throws IOException, InterruptedException {
+        final Map<String, String> hashes = new HashMap<>();
+        final Map<String, String> missing = new LinkedHashMap<>();
+        for (final FileInfo info : infos) {
+            if (isStaged(info)) {
+                hashes.put(info.path, info.hash);
+            } else {
+                // Transfer files with the same content only once
+                missing.putIfAbsent(info.hash, info.path);
+            }
+        }
+        hashes.putAll(transfer(sourceDir, new ArrayList<>(missing.values())));
+
+        // Files that have been modified after collecting their hashes are transferred separately
+        final List<String> unresolved = new ArrayList<>();
+        for (final FileInfo info : infos) {
+            if (!hashes.containsKey(info.path) && !isStaged(info)) {
+                unresolved.add(info.path);
+            } else {
+                hashes.putIfAbsent(info.path, info.hash);
+            }
+        }
+        hashes.putAll(transfer(sourceDir, unresolved));
+        return hashes;
+    }
+
+    /**
+     * Transfers the given files as compressed archive and stages them by their actual content hash.
+     *
+     * @param sourceDir the remote source directory
+     * @param paths     the relative paths of the files to transfer
+     * @return the content hashes of the transferred files mapped by their paths
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    private Map<String, String> transfer(final FilePath sourceDir, final List<String> paths)
+        throws IOException, InterruptedException {
+        final Map<String, String> hashes = new HashMap<>();
+        if (paths.isEmpty()) {
+            return hashes;
+        }
+        Files.createDirectories(stagingDir.toPath());
+        final File tempDir = Files.createTempDirectory(stagingDir.toPath(), "transfer").toFile();
+        try {
+            sourceDir.copyRecursiveTo(new ExplicitScanner(paths), new FilePath(tempDir), "report files");
+            for (final String path : paths) {
+                final File transferred = new File(tempDir, path);
+                if (!transferred.isFile()) {
+                    throw new IOException(String.format("Failed transferring report file %s", path));
+                }
+                final String hash = hash(transferred);
+                final File stagedFile = getStagedFile(hash);
+                if (!stagedFile.isFile()) {
+                    Files.move(transferred.toPath(), stagedFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                }
+                hashes.put(path, hash);
+            }
+        } finally {
+            Util.deleteRecursive(tempDir);
+        }
+        return hashes;
+    }
+
+    /**
+     * Checks whether the content of the given file has already been staged.
+     *
+     * @param info the file information
+     * @return {@code true} if staged, {@code false} otherwise
+     */
+    private boolean isStaged(final FileInfo info) {
+        final File stagedFile = getStagedFile(info.hash);
+        return stagedFile.isFile() && stagedFile.length() == info.size;
+    }
+
+    /**
+     * Gets the staged file of the given content hash.
+     *
+     * @param hash the content hash
+     * @return the staged file
+     */
+    private File getStagedFile(final String hash) {
+        return new File(stagingDir, hash);
+    }
+
+    /**
+     * Links the source file to the target file or copies it if linking is not possible, e.g. across file systems.
+     * Linked files must not be modified afterwards.
+     *
+     * @param sourceFile the source file
+     * @param targetFile the target file
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    static void linkOrCopy(final File sourceFile, final File targetFile) throws IOException {
+        Files.createDirectories(targetFile.getParentFile().toPath());
+        Files.deleteIfExists(targetFile.toPath());
+        try {
+            Files.createLink(targetFile.toPath(), sourceFile.toPath());
+        } catch (final IOException | UnsupportedOperationException e) {
+            LOGGER.log(Level.FINE, String.format("Failed linking %s, copying instead: %s", targetFile,
+                e.getMessage()));
+            Files.copy(sourceFile.toPath(), targetFile.toPath(), StandardCopyOption.COPY_ATTRIBUTES);
+        }
+    }
+
+    /**
+     * Calculates the content hash of the given file.
+     *
+     * @param file the file
+     * @return the hex encoded content hash
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    static String hash(final File file) throws IOException {
+        final MessageDigest digest = newDigest();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return Util.toHexString(digest.digest());
+    }
+
+    /**
+     * Creates a new message digest for hashing the file contents.
+     *
+     * @return the message digest
+     */
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * File fetched within an archive session.
+     */
+    public static final class ArchiveFile {
+
+        private final String path;
+        private final String hash;
+        private final File file;
+        private final boolean staged;
+
+        /**
+         * Instantiates a new {@link ArchiveFile}.
+         *
+         * @param path   the path relative to the source directory
+         * @param hash   the content hash, may be {@code null} if not hashed
+         * @param file   the local file to read the content from
+         * @param staged specifies whether the file has been staged by the session or is the source file itself
+         */
+        ArchiveFile(final String path, @CheckForNull final String hash, final File file, final boolean staged) {
+            this.path = path;
+            this.hash = hash;
+            this.file = file;
+            this.staged = staged;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        @CheckForNull
+        public String getHash() {
+            return hash;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public boolean isStaged() {
+            return staged;
+        }
+    }
+
+    /**
+     * Path, size and content hash of a file collected on the node.
+     */
+    private static final class FileInfo implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String path;
+        private final long size;
+        private final String hash;
+
+        /**
+         * Instantiates a new {@link FileInfo}.
+         *
+         * @param path the path relative to the source directory
+         * @param size the file size
+         * @param hash the content hash, may be {@code null} if not hashed
+         */
+        FileInfo(final String path, final long size, @CheckForNull final String hash) {
+            this.path = path;
+            this.size = size;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * {@link hudson.FilePath.FileCallable} collecting the file information of all matching files of a directory on
+     * the node where they are located.
+     */
+    private static final class ManifestCallable extends MasterToSlaveFileCallable<List<FileInfo>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String includes;
+        private final String excludes;
+        private final boolean calculateHash;
+
+        /**
+         * Instantiates a new {@link ManifestCallable}.
+         *
+         * @param includes      the inclusion file pattern
+         * @param excludes      the exclusion file pattern, may be {@code null}
+         * @param calculateHash specifies whether to calculate the content hashes
+         */
+        ManifestCallable(final String includes, @CheckForNull final String excludes, final boolean calculateHash) {
+            this.includes = includes;
+            this.excludes = excludes;
+            this.calculateHash = calculateHash;
+        }
+
+        @Override
+        public List<FileInfo> invoke(final File baseDir, final VirtualChannel channel) throws IOException {
+            final List<FileInfo> infos = new ArrayList<>();
+            if (!baseDir.isDirectory()) {
+                return infos;
+            }
+            for (final String includedFile : Util.createFileSet(baseDir, includes, excludes)
+                .getDirectoryScanner().getIncludedFiles()) {
+                final File file = new File(baseDir, includedFile);
+                infos.add(new FileInfo(includedFile.replace('\\', '/'), file.length(),
+                    calculateHash ? hash(file) : null));
+            }
+            return infos;
+        }
+    }
+
+    /**
+     * {@link DirScanner} visiting an explicit list of files.
+     */
+    private static final class ExplicitScanner extends DirScanner {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> paths;
+
+        /**
+         * Instantiates a new {@link ExplicitScanner}.
+         *
+         * @param paths the paths relative to the scanned directory
+         */
+        ExplicitScanner(final List<String> paths) {
+            this.paths = paths;
+        }
+
+        @Override
+        public void scan(final File dir, final FileVisitor visitor) throws IOException {
+            for (final String path : paths) {
+                final File file = new File(dir, path);
+                if (file.isFile()) {
+                    visitor.visit(file, path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Listener closing the archive session of completed builds.
+     */
+    @Extension
+    public static final class RunListenerImpl extends RunListener<Run<?, ?>> {
+
+        @Override
+        public void onCompleted(final Run<?, ?> run, @Nonnull final TaskListener listener) {
+            ReportArchiveSession.close(run);
+        }
+
+        @Override
+        public void onDeleted(final Run<?, ?> run) {
+            ReportArchiveSession.close(run);
+        }
+    }
+}
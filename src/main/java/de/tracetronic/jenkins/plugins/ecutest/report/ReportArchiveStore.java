@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.model.Item;
+import hudson.model.Run;
+import hudson.model.listeners.ItemListener;
+import hudson.model.listeners.RunListener;
+import jenkins.model.Jenkins;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Content-addressed store deduplicating archived report files across builds.
+ *
+ * <p>
+ * Each distinct file content is stored once as blob named by its SHA-256 hash. The archive directories of the
+ * builds contain hard links to these blobs, so that the reports can still be served from the build directories,
+ * while only changed files have to be transferred and occupy additional disk space. The hard link count of a blob
+ * serves as reference count: when a build gets deleted, its links are removed as recorded in its manifest and
+ * blobs that are no longer linked by any build are garbage collected. Since deleting a whole job removes the build
+ * directories without notifying about the single builds, the store is swept for blobs without any links then.
+ *
+ * <p>
+ * Deduplication requires a file system providing hard links and their link count, otherwise the files are copied
+ * as usual.
+ *
+ * @since 2.47
+ */
+public final class ReportArchiveStore {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportArchiveStore.class.getName());
+
+    /**
+     * Defines the name of the store directory in the Jenkins home directory.
+     */
+    public static final String STORE_DIR_NAME = "ecutest-archive-store";
+
+    /**
+     * Defines the name of the manifest file in the build directory listing the archived links.
+     */
+    static final String MANIFEST_NAME = "ecutest-archive.manifest";
+
+    /**
+     * Guards linking blobs against concurrent garbage collection.
+     */
+    private static final ReadWriteLock LOCK = new ReentrantReadWriteLock();
+
+    private final File storeDir;
+
+    /**
+     * Instantiates a new {@link ReportArchiveStore}.
+     *
+     * @param storeDir the store directory
+     */
+    public ReportArchiveStore(final File storeDir) {
+        this.storeDir = storeDir;
+    }
+
+    /**
+     * Gets the store located in the Jenkins home directory.
+     *
+     * @return the archive store
+     */
+    public static ReportArchiveStore get() {
+        return new ReportArchiveStore(new File(Jenkins.get().getRootDir(), STORE_DIR_NAME));
+    }
+
+    /**
+     * Returns whether the file system supports deduplication by hard links with link count.
+     *
+     * @return {@code true} if deduplication is supported, {@code false} otherwise
+     */
+    public static boolean isSupported() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("unix");
+    }
+
+    /**
+     * Archives the fetched files to the target directory inside the build directory. Files with content already
+     * contained in the store are only linked.
+     *
+     * @param files     the files fetched by the {@link ReportArchiveSession}
+     * @param runDir    the build directory recording the manifest
+     * @param targetDir the target directory inside the build directory
+     * @return the number of archived files
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public int archive(final List<ReportArchiveSession.ArchiveFile> files, final File runDir, final File targetDir)
+        throws IOException {
+        if (files.isEmpty()) {
+            return 0;
+        }
+
+        final Map<String, String> manifest = new LinkedHashMap<>();
+        final String targetPath = runDir.toPath().relativize(targetDir.toPath()).toString().replace('\\', '/');
+        LOCK.readLock().lock();
+        try {
+            for (final ReportArchiveSession.ArchiveFile file : files) {
+                String hash = file.getHash();
+                if (hash == null || !getBlob(hash).isFile()) {
+                    hash = store(file);
+                }
+                ReportArchiveSession.linkOrCopy(getBlob(hash), new File(targetDir, file.getPath()));
+                manifest.put(targetPath.isEmpty() ? file.getPath() : targetPath + "/" + file.getPath(), hash);
+            }
+        } finally {
+            LOCK.readLock().unlock();
+        }
+        writeManifest(runDir, manifest);
+        return files.size();
+    }
+
+    /**
+     * Releases all archived files of a build and garbage collects the blobs that are no longer referenced.
+     *
+     * @param runDir the build directory
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public void release(final File runDir) throws IOException {
+        final File manifestFile = new File(runDir, MANIFEST_NAME);
+        if (!manifestFile.isFile()) {
+            return;
+        }
+
+        final Set<String> hashes = new LinkedHashSet<>();
+        LOCK.writeLock().lock();
+        try {
+            try (BufferedReader reader = Files.newBufferedReader(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final int separator = line.indexOf('\t');
+                    if (separator > 0) {
+                        hashes.add(line.substring(0, separator));
+                        Files.deleteIfExists(new File(runDir, line.substring(separator + 1)).toPath());
+                    }
+                }
+            }
+            for (final String hash : hashes) {
+                final File blob = getBlob(hash);
+                if (blob.isFile() && getLinkCount(blob) <= 1) {
+                    Files.delete(blob.toPath());
+                }
+            }
+            Files.delete(manifestFile.toPath());
+        } finally {
+            LOCK.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Garbage collects all blobs that are no longer linked by any build, e.g. after a whole job has been deleted
+     * together with its build directories.
+     *
+     * @return the number of collected blobs
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public int collectGarbage() throws IOException {
+        final File[] blobDirs = storeDir.listFiles(File::isDirectory);
+        if (blobDirs == null) {
+            return 0;
+        }
+
+        int collected = 0;
+        LOCK.writeLock().lock();
+        try {
+            for (final File blobDir : blobDirs) {
+                final File[] blobs = blobDir.listFiles(File::isFile);
+                if (blobs == null) {
+                    continue;
+                }
+                for (final File blob : blobs) {
+                    if (getLinkCount(blob) <= 1) {
+                        Files.delete(blob.toPath());
+                        collected++;
+                    }
+                }
+            }
+        } finally {
+            LOCK.writeLock().unlock();
+        }
+        return collected;
+    }
+
+    /**
+     * Gets the blob file of the given content hash.
+     *
+     * @param hash the content hash
+     * @return the blob file
+     */
+    File getBlob(final String hash) {
+        return new File(new File(storeDir, hash.substring(0, 2)), hash);
+    }
+
+    /**
+     * Adds the given file to the store. Files staged by the session are named by their verified content hash,
+     * otherwise the hash is calculated again while copying, since the file may have been modified after fetching.
+     *
+     * @param file the file to store
+     * @return the content hash of the stored file
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private String store(final ReportArchiveSession.ArchiveFile file) throws IOException {
+        Files.createDirectories(storeDir.toPath());
+        final File tempFile = File.createTempFile("blob", ".tmp", storeDir);
+        try {
+            final String hash;
+            if (file.isStaged()) {
+                ReportArchiveSession.linkOrCopy(file.getFile(), tempFile);
+                hash = file.getHash();
+            } else {
+                final MessageDigest digest = ReportArchiveSession.newDigest();
+                try (InputStream in = new DigestInputStream(Files.newInputStream(file.getFile().toPath()), digest)) {
+                    Files.copy(in, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                hash = Util.toHexString(digest.digest());
+            }
+            final File blob = getBlob(hash);
+            Files.createDirectories(blob.getParentFile().toPath());
+            try {
+                // Linking fails atomically if the blob exists, which keeps a blob stored concurrently and its links
+                Files.createLink(blob.toPath(), tempFile.toPath());
+            } catch (final FileAlreadyExistsException e) {
+                LOGGER.log(Level.FINE, String.format("Blob %s has already been stored", hash));
+            }
+            return hash;
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    /**
+     * Appends the archived links to the manifest of the build.
+     *
+     * @param runDir   the build directory
+     * @param manifest the archived links mapped to their content hashes
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static void writeManifest(final File runDir, final Map<String, String> manifest) throws IOException {
+        final StringBuilder lines = new StringBuilder();
+        for (final Map.Entry<String, String> entry : manifest.entrySet()) {
+            lines.append(entry.getValue()).append('\t').append(entry.getKey()).append('\n');
+        }
+        synchronized (ReportArchiveStore.class) {
+            try (Writer writer = Files.newBufferedWriter(new File(runDir, MANIFEST_NAME).toPath(),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(lines.toString());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of hard links of the given file.
+     *
+     * @param file the file
+     * @return the link count
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static int getLinkCount(final File file) throws IOException {
+        return (Integer) Files.getAttribute(file.toPath(), "unix:nlink");
+    }
+
+    /**
+     * Listener garbage collecting the archived files of deleted builds.
+     */
+    @Extension
+    public static final class RunListenerImpl extends RunListener<Run<?, ?>> {
+
+        @Override
+        public void onDeleted(final Run<?, ?> run) {
+            try {
+                get().release(run.getRootDir());
+            } catch (final IOException e) {
+                LOGGER.log(Level.WARNING, String.format("Failed releasing archived reports of %s: %s",
+                    run.getFullDisplayName(), e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Listener garbage collecting the archived files of deleted jobs.
+     */
+    @Extension
+    public static final class ItemListenerImpl extends ItemListener {
+
+        @Override
+        public void onDeleted(final Item item) {
+            try {
+                final int collected = get().collectGarbage();
+                LOGGER.log(Level.FINE, String.format("Collected %d archived report blobs after deleting %s",
+                    collected, item.getFullName()));
+            } catch (final IOException e) {
+                LOGGER.log(Level.WARNING, String.format("Failed collecting archived reports of %s: %s",
+                    item.getFullName(), e.getMessage()));
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import javax.annotation.CheckForNull;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of a report tree providing constant time lookup of reports by their URL id and a flattened view of the
+ * tree in display order.
+ *
+ * <p>
+ * The index is a snapshot of the report tree, so build actions have to rebuild it after adding reports. It is not
+ * persisted, but built lazily on first access after loading the build.
+ *
+ * @param <T> the report type
+ */
+public final class ReportIndex<T extends AbstractTestReport> {
+
+    private final Map<String, T> reportsById;
+    private final AbstractTestReport[] reports;
+    private final int[] depths;
+
+    /**
+     * Instantiates a new {@link ReportIndex} by walking the report tree once.
+     *
+     * @param rootReports the top-level reports
+     */
+    public ReportIndex(final List<? extends AbstractTestReport> rootReports) {
+        final Map<String, T> byId = new HashMap<>();
+        AbstractTestReport[] flatReports = new AbstractTestReport[Math.max(16, rootReports.size())];
+        int[] flatDepths = new int[flatReports.length];
+        int size = 0;
+
+        // Iterative pre-order traversal keeping the display order of the recursive rendering
+        final Deque<AbstractTestReport> reportStack = new ArrayDeque<>();
+        final Deque<Integer> depthStack = new ArrayDeque<>();
+        push(reportStack, depthStack, rootReports, 0);
+        while (!reportStack.isEmpty()) {
+            final AbstractTestReport report = reportStack.pop();
+            final int depth = depthStack.pop();
+            if (size == flatReports.length) {
+                flatReports = Arrays.copyOf(flatReports, size * 2);
+                flatDepths = Arrays.copyOf(flatDepths, size * 2);
+            }
+            flatReports[size] = report;
+            flatDepths[size] = depth;
+            size++;
+            // Keep the first report of duplicate ids like the previous linear search
+            byId.putIfAbsent(report.getId(), cast(report));
+            push(reportStack, depthStack, report.getSubReports(), depth + 1);
+        }
+
+        this.reportsById = byId;
+        this.reports = Arrays.copyOf(flatReports, size);
+        this.depths = Arrays.copyOf(flatDepths, size);
+    }
+
+    /**
+     * Pushes the reports in reverse order, so that they are popped in their original order.
+     *
+     * @param reportStack the report stack
+     * @param depthStack  the depth stack
+     * @param reports     the reports to push
+     * @param depth       the depth of the reports
+     */
+    private static void push(final Deque<AbstractTestReport> reportStack, final Deque<Integer> depthStack,
+                             final List<? extends AbstractTestReport> reports, final int depth) {
+        for (int i = reports.size() - 1; i >= 0; i--) {
+            reportStack.push(reports.get(i));
+            depthStack.push(depth);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T cast(final AbstractTestReport report) {
+        return (T) report;
+    }
+
+    /**
+     * Gets the report with the given id.
+     *
+     * @param id the report id
+     * @return the report or {@code null} if no report with this id exists
+     */
+    @CheckForNull
+    public T get(final String id) {
+        return reportsById.get(id);
+    }
+
+    /**
+     * Gets the number of indexed reports including all sub-reports.
+     *
+     * @return the number of reports
+     */
+    public int size() {
+        return reports.length;
+    }
+
+    /**
+     * Gets all reports of the tree in display order, i.e. each report followed by its sub-reports.
+     *
+     * @return the flattened report entries
+     */
+    public List<Entry<T>> getEntries() {
+        return new AbstractList<Entry<T>>() {
+
+            @Override
+            public Entry<T> get(final int index) {
+                return new Entry<>(cast(reports[index]), depths[index]);
+            }
+
+            @Override
+            public int size() {
+                return reports.length;
+            }
+        };
+    }
+
+    /**
+     * Entry of the flattened report tree.
+     *
+     * @param <T> the report type
+     */
+    public static final class Entry<T extends AbstractTestReport> {
+
+        private final T report;
+        private final int depth;
+
+        /**
+         * Instantiates a new {@link Entry}.
+         *
+         * @param report the report
+         * @param depth  the depth of the report in the tree, 0 for top-level reports
+         */
+        Entry(final T report, final int depth) {
+            this.report = report;
+            this.depth = depth;
+        }
+
+        public T getReport() {
+            return report;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFPublisher;
+import hudson.FilePath;
+import hudson.remoting.VirtualChannel;
+import jenkins.MasterToSlaveFileCallable;
+import org.apache.tools.ant.types.selectors.SelectorUtils;
+
+import javax.annotation.CheckForNull;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Snapshot of a report directory holding the names and sizes of all files and the structure of all sub-directories.
+ *
+ * <p>
+ * The whole tree is collected by a single walk on the node where the directory is located, so that publishers
+ * traversing the report structure do not need a separate remote call for listing each directory and for checking
+ * the existence and size of each file.
+ *
+ * @since 2.47
+ */
+public final class ReportTree implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final String path;
+    private final Map<String, Long> files = new TreeMap<>();
+    private final List<ReportTree> directories = new ArrayList<>();
+    private long size;
+
+    /**
+     * Instantiates a new {@link ReportTree}.
+     *
+     * @param name the directory name
+     * @param path the directory path relative to the scanned root directory, empty for the root directory
+     */
+    private ReportTree(final String name, final String path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    /**
+     * Scans the given directory on the node where it is located.
+     *
+     * @param dir the directory to scan
+     * @return the report tree or {@code null} if the directory does not exist
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    @CheckForNull
+    public static ReportTree scan(final FilePath dir) throws IOException, InterruptedException {
+        return dir.act(new ScanCallable());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public List<ReportTree> getDirectories() {
+        return Collections.unmodifiableList(directories);
+    }
+
+    /**
+     * Checks whether this directory contains a file with the given name.
+     *
+     * @param fileName the file name
+     * @return {@code true} if the file exists, {@code false} otherwise
+     */
+    public boolean hasFile(final String fileName) {
+        return files.containsKey(fileName);
+    }
+
+    /**
+     * Gets the size of the given file in this directory.
+     *
+     * @param fileName the file name
+     * @return the file size or {@code 0} if the file does not exist
+     */
+    public long getFileSize(final String fileName) {
+        final Long fileSize = files.get(fileName);
+        return fileSize != null ? fileSize : 0L;
+    }
+
+    /**
+     * Gets the name of the first file in this directory matching the given patterns.
+     *
+     * @param include the inclusion file name pattern
+     * @param exclude the exclusion file name pattern, may be {@code null}
+     * @return the first matching file name or {@code null} if not found
+     */
+    @CheckForNull
+    public String getFirstFile(final String include, @CheckForNull final String exclude) {
+        for (final String fileName : files.keySet()) {
+            if (SelectorUtils.match(include, fileName)
+                && (exclude == null || !SelectorUtils.match(exclude, fileName))) {
+                return fileName;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the name of the first TRF file in this directory, equivalent to
+     * {@link AbstractReportPublisher#getFirstReportFile(FilePath)}.
+     *
+     * @return the first report file name or {@code null} if not found
+     */
+    @CheckForNull
+    public String getFirstReportFile() {
+        return getFirstFile(TRFPublisher.TRF_INCLUDE, TRFPublisher.TRF_EXCLUDE);
+    }
+
+    /**
+     * Checks whether this directory or any sub-directory contains a file matching the given pattern.
+     *
+     * @param pattern the Ant-style path pattern relative to this directory
+     * @return {@code true} if a matching file exists, {@code false} otherwise
+     */
+    public boolean containsFiles(final String pattern) {
+        return containsFiles(pattern, "");
+    }
+
+    /**
+     * Checks whether this directory or any sub-directory contains a file matching the given pattern.
+     *
+     * @param pattern the Ant-style path pattern relative to the directory the search started at
+     * @param prefix  the path of this directory relative to the directory the search started at
+     * @return {@code true} if a matching file exists, {@code false} otherwise
+     */
+    private boolean containsFiles(final String pattern, final String prefix) {
+        for (final String fileName : files.keySet()) {
+            if (SelectorUtils.matchPath(pattern, prefix + fileName)) {
+                return true;
+            }
+        }
+        for (final ReportTree dir : directories) {
+            if (dir.containsFiles(pattern, prefix + dir.name + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the files and sub-directories of the given directory recursively.
+     *
+     * @param dir the directory
+     */
+    private void collect(final File dir) {
+        final File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        Arrays.sort(children);
+        for (final File child : children) {
+            if (child.isDirectory()) {
+                final ReportTree subDir = new ReportTree(child.getName(),
+                    path.isEmpty() ? child.getName() : path + "/" + child.getName());
+                subDir.collect(child);
+                directories.add(subDir);
+                size += subDir.size;
+            } else if (child.isFile()) {
+                files.put(child.getName(), child.length());
+                size += child.length();
+            }
+        }
+    }
+
+    /**
+     * {@link hudson.FilePath.FileCallable} collecting the report tree on the node where the directory is located.
+     */
+    private static final class ScanCallable extends MasterToSlaveFileCallable<ReportTree> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ReportTree invoke(final File dir, final VirtualChannel channel) {
+            if (!dir.isDirectory()) {
+                return null;
+            }
+            final ReportTree tree = new ReportTree(dir.getName(), "");
+            tree.collect(dir);
+            return tree;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import jenkins.util.VirtualFile;
+
+import javax.annotation.CheckForNull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache of pre-built ZIP files of archived report directories.
+ *
+ * <p>
+ * The ZIP file of an archive directory is created asynchronously after archiving and stored next to it, so that
+ * it is deleted together with the build or replaced by the next project-level archive. Downloads are served from
+ * the cached file if available, which allows resuming interrupted downloads, and fall back to streaming otherwise.
+ *
+ * @since 2.47
+ */
+public final class ReportZipCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportZipCache.class.getName());
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "ReportZipCache-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final AtomicLong STAMP = new AtomicLong();
+
+    /**
+     * Stamps of invalidated archive directories that are still being written or queued for caching.
+     */
+    private static final Map<File, Long> INVALIDATED = new HashMap<>();
+
+    /**
+     * Instantiates a new {@link ReportZipCache}.
+     */
+    private ReportZipCache() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Gets the cache file of the given archive directory.
+     *
+     * @param archiveDir the archive directory
+     * @return the cache file
+     */
+    static File getCacheFile(final File archiveDir) {
+        return new File(archiveDir.getParentFile(), archiveDir.getName() + ".zip");
+    }
+
+    /**
+     * Gets the cached ZIP file of the given archive directory.
+     *
+     * @param archiveDir the archive directory
+     * @return the cached ZIP file or {@code null} if not available
+     */
+    @CheckForNull
+    public static File getCachedZip(final File archiveDir) {
+        final File cacheFile = getCacheFile(archiveDir);
+        return cacheFile.isFile() ? cacheFile : null;
+    }
+
+    /**
+     * Invalidates the cached ZIP file before the archive directory gets modified.
+     *
+     * @param archiveDir the archive directory
+     */
+    public static void invalidate(final File archiveDir) {
+        synchronized (INVALIDATED) {
+            INVALIDATED.put(archiveDir, STAMP.incrementAndGet());
+            deleteQuietly(getCacheFile(archiveDir));
+        }
+    }
+
+    /**
+     * Schedules creating the cached ZIP file after the archive directory has been modified. The ZIP file is
+     * discarded if the archive directory is invalidated again in the meantime.
+     *
+     * @param archiveDir the archive directory
+     */
+    public static void schedule(final File archiveDir) {
+        final long stamp;
+        synchronized (INVALIDATED) {
+            stamp = INVALIDATED.getOrDefault(archiveDir, 0L);
+        }
+        EXECUTOR.execute(() -> create(archiveDir, stamp));
+    }
+
+    /**
+     * Creates the cached ZIP file if the archive directory has not been invalidated since the given stamp.
+     *
+     * @param archiveDir the archive directory
+     * @param stamp      the invalidation stamp at scheduling time
+     */
+    static void create(final File archiveDir, final long stamp) {
+        if (!archiveDir.isDirectory()) {
+            return;
+        }
+        File tempFile = null;
+        try {
+            tempFile = File.createTempFile(archiveDir.getName(), ".tmp", archiveDir.getParentFile());
+            ReportZipWriter.write(VirtualFile.forFile(archiveDir), tempFile);
+            synchronized (INVALIDATED) {
+                if (INVALIDATED.getOrDefault(archiveDir, 0L) == stamp) {
+                    Files.move(tempFile.toPath(), getCacheFile(archiveDir).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    INVALIDATED.remove(archiveDir);
+                }
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, String.format("Failed caching ZIP file of %s: %s", archiveDir,
+                e.getMessage()));
+        } finally {
+            if (tempFile != null) {
+                deleteQuietly(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Deletes the given file if it exists.
+     *
+     * @param file the file to delete
+     */
+    private static void deleteQuietly(final File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, String.format("Failed deleting %s: %s", file, e.getMessage()));
+        }
+    }
+}
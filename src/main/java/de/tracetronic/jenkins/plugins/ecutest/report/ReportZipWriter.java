@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import jenkins.util.VirtualFile;
+import org.apache.commons.lang.StringUtils;
+import org.apache.tools.zip.Zip64Mode;
+import org.apache.tools.zip.ZipEntry;
+import org.apache.tools.zip.ZipOutputStream;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * Writer streaming the contents of an archive directory as ZIP file.
+ *
+ * <p>
+ * Files that are already compressed, like TRF reports (SQLite databases), images or archives, are not compressed
+ * again, all other files are deflated favoring speed over size. When writing to a file, those are stored as is,
+ * since their checksum can be written after the entry. When streaming, they are deflated without compression to avoid
+ * reading each file twice. Entries exceeding the ZIP size limits are written in ZIP64 format.
+ */
+public final class ReportZipWriter {
+
+    /**
+     * Defines the buffer size used for reading the archive files and writing the ZIP stream.
+     */
+    static final int BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * File extensions of already compressed formats.
+     */
+    private static final Set<String> STORED_EXTENSIONS = new HashSet<>(Arrays.asList(
+        "trf", "prf", "zip", "gz", "tgz", "bz2", "xz", "7z", "jar", "png", "jpg", "jpeg", "gif", "webp"));
+
+    /**
+     * Instantiates a new {@link ReportZipWriter}.
+     */
+    private ReportZipWriter() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Writes all files of the archive directory as ZIP file to the given output stream and closes it.
+     *
+     * @param archiveDir   the archive directory
+     * @param outputStream the output stream
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public static void write(final VirtualFile archiveDir, final OutputStream outputStream) throws IOException {
+        try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE))) {
+            write(archiveDir, zos, false);
+        }
+    }
+
+    /**
+     * Writes all files of the archive directory to the given ZIP file.
+     *
+     * @param archiveDir the archive directory
+     * @param zipFile    the ZIP file to write
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    public static void write(final VirtualFile archiveDir, final File zipFile) throws IOException {
+        try (ZipOutputStream zos = new ZipOutputStream(zipFile)) {
+            write(archiveDir, zos, true);
+        }
+    }
+
+    /**
+     * Writes all files of the archive directory to the given ZIP output stream.
+     *
+     * @param archiveDir the archive directory
+     * @param zos        the ZIP output stream
+     * @param seekable   specifies whether the ZIP output stream writes to a file, which allows storing entries
+     *                   without knowing their checksum in advance
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    @SuppressWarnings("deprecation")
+    private static void write(final VirtualFile archiveDir, final ZipOutputStream zos, final boolean seekable)
+        throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        zos.setEncoding(System.getProperty("file.encoding"));
+        zos.setUseZip64(Zip64Mode.AsNeeded);
+
+        for (final String archiveFile : archiveDir.list("**/**")) {
+            // Convert all backslashes to forward slashes
+            final ZipEntry entry = new ZipEntry(archiveFile.replace('\\', '/'));
+            final VirtualFile file = archiveDir.child(archiveFile);
+            entry.setTime(file.lastModified());
+            entry.setSize(file.length());
+            final boolean compressed = isStored(archiveFile);
+            if (compressed && seekable) {
+                entry.setMethod(ZipEntry.STORED);
+            } else {
+                zos.setLevel(compressed ? Deflater.NO_COMPRESSION : Deflater.BEST_SPEED);
+            }
+            zos.putNextEntry(entry);
+            try (InputStream in = file.open()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    zos.write(buffer, 0, read);
+                }
+            }
+            zos.closeEntry();
+        }
+    }
+
+    /**
+     * Checks whether the given file is already compressed and should be stored as is.
+     *
+     * @param fileName the file name
+     * @return {@code true} if the file should be stored without compression, {@code false} otherwise
+     */
+    static boolean isStored(final String fileName) {
+        final String extension = StringUtils.substringAfterLast(fileName, ".");
+        return STORED_EXTENSIONS.contains(extension.toLowerCase(Locale.ENGLISH));
+    }
+}
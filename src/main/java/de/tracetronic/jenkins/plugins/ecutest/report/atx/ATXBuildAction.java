@@ -1,11 +1,12 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.report.atx;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractTestReport;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportIndex;
 import hudson.model.Action;
 import jenkins.tasks.SimpleBuildStep;
 
@@ -24,6 +25,13 @@ public class ATXBuildAction<T extends AbstractTestReport> extends AbstractATXAct
 
     private final List<T> atxReports = new ArrayList<>();
 
+    /**
+     * Index of all reports by their id, built lazily on first access.
+     *
+     * @since 2.47
+     */
+    private transient ReportIndex<T> reportIndex;
+
     /**
      * Instantiates a new {@link ATXBuildAction}.
      *
@@ -47,8 +55,9 @@ public class ATXBuildAction<T extends AbstractTestReport> extends AbstractATXAct
      *
      * @param report the ATX report to add
      */
-    public void add(final T report) {
+    public synchronized void add(final T report) {
         this.atxReports.add(report);
+        reportIndex = null;
     }
 
     /**
@@ -56,8 +65,9 @@ public class ATXBuildAction<T extends AbstractTestReport> extends AbstractATXAct
      *
      * @param reports the collection of ATX reports
      */
-    public void addAll(final Collection<T> reports) {
+    public synchronized void addAll(final Collection<T> reports) {
         this.atxReports.addAll(reports);
+        reportIndex = null;
     }
 
     /**
@@ -67,40 +77,28 @@ public class ATXBuildAction<T extends AbstractTestReport> extends AbstractATXAct
      * @return the {@link ATXReport} or {@code null} if no proper report exists
      */
     public T getDynamic(final String token) {
-        for (final T report : getATXReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final T potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+        return getReportIndex().get(token);
     }
 
     /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link ATXReport} matching the given token id.
+     * Gets all reports including their sub-reports in display order.
      *
-     * @param token  the token id
-     * @param report the report
-     * @return the {@link ATXReport} or {@code null} if no proper report exists
+     * @return the flattened report tree
+     */
+    public List<ReportIndex.Entry<T>> getFlattenedReports() {
+        return getReportIndex().getEntries();
+    }
+
+    /**
+     * Gets the index of all reports, built on first access after adding reports or loading the build.
+     *
+     * @return the report index
      */
-    @SuppressWarnings("unchecked")
-    private T traverseSubReports(final String token, final T report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (T) subReport;
-            } else {
-                final T potentialReport = traverseSubReports(token, (T) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
+    private synchronized ReportIndex<T> getReportIndex() {
+        if (reportIndex == null) {
+            reportIndex = new ReportIndex<>(atxReports);
         }
-        return null;
+        return reportIndex;
     }
 
     /**
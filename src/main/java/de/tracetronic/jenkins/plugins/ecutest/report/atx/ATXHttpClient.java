@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.atx;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXConfig;
+import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXSetting;
+import de.tracetronic.jenkins.plugins.ecutest.util.ATXUtil;
+import hudson.EnvVars;
+import org.apache.commons.lang.StringUtils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Shared HTTP client for requests to test.guide, e.g. testing the connection or resolving report links.
+ *
+ * <p>
+ * Clients are shared by all installations using the same proxy and SSL settings within the current JVM, so that
+ * connections are kept alive and reused. The number of concurrent requests
+ * per client is bounded, further requests wait until a running request has completed.
+ *
+ * @since 2.47
+ */
+public final class ATXHttpClient {
+
+    /**
+     * Defines the connect and request timeout.
+     */
+    static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Defines the maximum number of concurrent requests per client.
+     */
+    static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    private static final Map<ClientKey, ATXHttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+    private final HttpClient client;
+    private final Semaphore permits = new Semaphore(MAX_CONCURRENT_REQUESTS, true);
+
+    /**
+     * Instantiates a new {@link ATXHttpClient}.
+     *
+     * @param key the proxy and SSL settings
+     * @throws MalformedURLException if the proxy URL is malformed
+     */
+    private ATXHttpClient(final ClientKey key) throws MalformedURLException {
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(TIMEOUT);
+        if (StringUtils.isNotBlank(key.proxyUrl)) {
+            configureProxy(builder, key.proxyUrl);
+        } else {
+            builder.proxy(HttpClient.Builder.NO_PROXY);
+        }
+        if (key.ignoreSSL) {
+            builder.sslContext(TrustAllHolder.SSL_CONTEXT);
+        }
+        client = builder.build();
+    }
+
+    /**
+     * Gets the shared client for the connection settings of the given ATX configuration.
+     *
+     * @param config  the ATX configuration
+     * @param envVars the environment variables to expand the proxy URL
+     * @return the shared client
+     * @throws MalformedURLException if the proxy URL is malformed
+     */
+    public static ATXHttpClient get(final ATXConfig config, final EnvVars envVars) throws MalformedURLException {
+        final Object ignoreSSL = config.getSettingValueByGroup("ignoreSSL", ATXSetting.SettingsGroup.CONNECTION);
+        return get(ATXUtil.getProxyUrl(config, envVars), ignoreSSL != null && (boolean) ignoreSSL);
+    }
+
+    /**
+     * Gets the shared client for the given connection settings.
+     *
+     * @param proxyUrl  the proxy URL, may be empty to connect directly
+     * @param ignoreSSL specifies whether to ignore SSL issues
+     * @return the shared client
+     * @throws MalformedURLException if the proxy URL is malformed
+     */
+    public static ATXHttpClient get(final String proxyUrl, final boolean ignoreSSL) throws MalformedURLException {
+        final ClientKey key = new ClientKey(proxyUrl, ignoreSSL);
+        final ATXHttpClient client = CLIENTS.get(key);
+        if (client != null) {
+            return client;
+        }
+        final ATXHttpClient newClient = new ATXHttpClient(key);
+        final ATXHttpClient existingClient = CLIENTS.putIfAbsent(key, newClient);
+        return existingClient == null ? newClient : existingClient;
+    }
+
+    /**
+     * Discards all shared clients, e.g. if the connection settings of the ATX installations have changed. Running
+     * requests are not affected, subsequent calls of {@link #get(String, boolean)} create new clients.
+     */
+    public static void invalidate() {
+        CLIENTS.clear();
+    }
+
+    /**
+     * Creates a new GET request builder for the given URL using the default timeout.
+     *
+     * @param url the request URL
+     * @return the request builder
+     * @throws MalformedURLException if the URL is malformed
+     */
+    public static HttpRequest.Builder newRequest(final String url) throws MalformedURLException {
+        try {
+            return HttpRequest.newBuilder(new URL(url).toURI()).timeout(TIMEOUT).GET();
+        } catch (final URISyntaxException | IllegalArgumentException e) {
+            final MalformedURLException exception = new MalformedURLException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    /**
+     * Sends the given request and waits for the response.
+     *
+     * @param request     the request
+     * @param bodyHandler the response body handler
+     * @param <T>         the response body type
+     * @return the response
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the current thread was interrupted
+     */
+    public <T> HttpResponse<T> send(final HttpRequest request, final HttpResponse.BodyHandler<T> bodyHandler)
+        throws IOException, InterruptedException {
+        permits.acquire();
+        try {
+            return client.send(request, bodyHandler);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Sends the given request asynchronously. The call blocks while the maximum number of concurrent requests is
+     * reached.
+     *
+     * @param request     the request
+     * @param bodyHandler the response body handler
+     * @param <T>         the response body type
+     * @return the future response
+     * @throws InterruptedException if the current thread was interrupted while waiting for a free request slot
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(final HttpRequest request,
+                                                            final HttpResponse.BodyHandler<T> bodyHandler)
+        throws InterruptedException {
+        permits.acquire();
+        try {
+            return client.sendAsync(request, bodyHandler).whenComplete((response, error) -> permits.release());
+        } catch (final RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Resolves the given URL redirect asynchronously without following it. A missing or invalid redirect location
+     * completes the returned future exceptionally with a {@link MalformedURLException}.
+     *
+     * @param redirect the redirect URL
+     * @return the future resolved location
+     * @throws MalformedURLException if the redirect URL is malformed
+     * @throws InterruptedException  if the current thread was interrupted while waiting for a free request slot
+     */
+    public CompletableFuture<URL> resolveRedirectAsync(final String redirect)
+        throws MalformedURLException, InterruptedException {
+        return sendAsync(newRequest(redirect).build(), HttpResponse.BodyHandlers.discarding())
+            .thenApply(response -> {
+                final String location = response.headers().firstValue("Location").orElse(null);
+                try {
+                    if (location == null) {
+                        throw new MalformedURLException(String.format(
+                            "Missing redirect location for %s (status code: %d)", redirect, response.statusCode()));
+                    }
+                    return response.uri().resolve(location).toURL();
+                } catch (final MalformedURLException e) {
+                    throw new CompletionException(e);
+                } catch (final IllegalArgumentException e) {
+                    final MalformedURLException exception = new MalformedURLException(
+                        "Invalid redirect location: " + location);
+                    exception.initCause(e);
+                    throw new CompletionException(exception);
+                }
+            });
+    }
+
+    /**
+     * Configures a HTTP proxy based on given proxy URL. User name and password contained in the URL are used to
+     * authenticate against the proxy.
+     *
+     * @param builder  the client builder
+     * @param proxyUrl the proxy URL
+     * @throws MalformedURLException if the proxy URL is malformed
+     */
+    private static void configureProxy(final HttpClient.Builder builder, final String proxyUrl)
+        throws MalformedURLException {
+        final URL url = new URL(proxyUrl);
+        builder.proxy(ProxySelector.of(new InetSocketAddress(url.getHost(), url.getPort())));
+        final String userInfo = url.getUserInfo();
+        if (StringUtils.isNotBlank(userInfo)) {
+            try {
+                final String userName;
+                final String password;
+                int delimiter = userInfo.indexOf(':');
+                if (delimiter == -1) {
+                    userName = URLDecoder.decode(userInfo, StandardCharsets.UTF_8.name());
+                    password = "";
+                } else {
+                    userName = URLDecoder.decode(userInfo.substring(0, delimiter++), StandardCharsets.UTF_8.name());
+                    password = URLDecoder.decode(userInfo.substring(delimiter), StandardCharsets.UTF_8.name());
+                }
+                builder.authenticator(new ProxyAuthenticator(userName, password));
+            } catch (final UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Identifies a shared client by its connection settings.
+     */
+    private static final class ClientKey {
+
+        private final String proxyUrl;
+        private final boolean ignoreSSL;
+
+        /**
+         * Instantiates a new {@link ClientKey}.
+         *
+         * @param proxyUrl  the proxy URL
+         * @param ignoreSSL specifies whether to ignore SSL issues
+         */
+        ClientKey(final String proxyUrl, final boolean ignoreSSL) {
+            this.proxyUrl = StringUtils.trimToEmpty(proxyUrl);
+            this.ignoreSSL = ignoreSSL;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ClientKey)) {
+                return false;
+            }
+            final ClientKey that = (ClientKey) other;
+            return ignoreSSL == that.ignoreSSL && proxyUrl.equals(that.proxyUrl);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(proxyUrl, ignoreSSL);
+        }
+    }
+
+    /**
+     * Authenticator class for authentication with proxied network connections using user name and password.
+     */
+    private static final class ProxyAuthenticator extends Authenticator {
+
+        private final String userName;
+        private final String password;
+
+        /**
+         * Instantiates a {@link ProxyAuthenticator}.
+         *
+         * @param userName the proxy user name
+         * @param password the proxy password
+         */
+        private ProxyAuthenticator(final String userName, final String password) {
+            this.userName = userName;
+            this.password = password;
+        }
+
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+            if (getRequestorType() != RequestorType.PROXY) {
+                return null;
+            }
+            return new PasswordAuthentication(userName, password.toCharArray());
+        }
+    }
+
+    /**
+     * Initializes and holds the SSL context trusting all certificates and host names.
+     */
+    private static final class TrustAllHolder {
+
+        private static final SSLContext SSL_CONTEXT = createSSLContext();
+
+        /**
+         * Private constructor.
+         */
+        private TrustAllHolder() {
+            throw new UnsupportedOperationException("Singleton class");
+        }
+
+        /**
+         * Creates the SSL context with a trust manager that neither validates certificate chains nor host names.
+         *
+         * @return the SSL context
+         */
+        private static SSLContext createSSLContext() {
+            final TrustManager[] trustAllCerts = new TrustManager[]{new X509ExtendedTrustManager() {
+
+                @Override
+                public X509Certificate[] getAcceptedIssuers() {
+                    return new X509Certificate[0];
+                }
+
+                @Override
+                public void checkClientTrusted(final X509Certificate[] certs, final String authType) {
+                }
+
+                @Override
+                public void checkServerTrusted(final X509Certificate[] certs, final String authType) {
+                }
+
+                @Override
+                public void checkClientTrusted(final X509Certificate[] certs, final String authType,
+                                               final Socket socket) {
+                }
+
+                @Override
+                public void checkServerTrusted(final X509Certificate[] certs, final String authType,
+                                               final Socket socket) {
+                }
+
+                @Override
+                public void checkClientTrusted(final X509Certificate[] certs, final String authType,
+                                               final SSLEngine engine) {
+                }
+
+                @Override
+                public void checkServerTrusted(final X509Certificate[] certs, final String authType,
+                                               final SSLEngine engine) {
+                }
+            } };
+            try {
+                final SSLContext sslContext = SSLContext.getInstance("TLS");
+                sslContext.init(null, trustAllCerts, new SecureRandom());
+                return sslContext;
+            } catch (final GeneralSecurityException e) {
+                throw new IllegalStateException("Could not create SSL context: " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.atx;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precompiled template for building ATX report links.
+ *
+ * <p>
+ * The template consists of literal text and indexed placeholders like <code>{0}</code>, which are replaced by the
+ * string representation of the given values in the same way as {@link String#format(String, Object...)} with
+ * <code>%s</code> does. The template is parsed once, so expanding only appends the literals and values.
+ *
+ * @since 2.47
+ */
+final class ATXLinkTemplate {
+
+    private final String[] literals;
+    private final int[] indexes;
+    private final int parameterCount;
+    private final int literalLength;
+
+    /**
+     * Instantiates a new {@link ATXLinkTemplate}.
+     *
+     * @param literals the literals, one more than placeholders
+     * @param indexes  the parameter indexes of the placeholders
+     */
+    private ATXLinkTemplate(final String[] literals, final int[] indexes) {
+        this.literals = literals;
+        this.indexes = indexes;
+        int maxIndex = -1;
+        for (final int index : indexes) {
+            maxIndex = Math.max(maxIndex, index);
+        }
+        parameterCount = maxIndex + 1;
+        int length = 0;
+        for (final String literal : literals) {
+            length += literal.length();
+        }
+        literalLength = length;
+    }
+
+    /**
+     * Compiles the given template.
+     *
+     * @param template the template containing indexed placeholders
+     * @return the compiled template
+     * @throws IllegalArgumentException if a placeholder is malformed
+     */
+    static ATXLinkTemplate compile(final String template) {
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> indexes = new ArrayList<>();
+        int start = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            final int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in link template: " + template);
+            }
+            try {
+                indexes.add(Integer.parseUnsignedInt(template.substring(open + 1, close)));
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid placeholder in link template: " + template, e);
+            }
+            literals.add(template.substring(start, open));
+            start = close + 1;
+            open = template.indexOf('{', start);
+        }
+        literals.add(template.substring(start));
+        return new ATXLinkTemplate(literals.toArray(new String[0]),
+            indexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Expands this template by the given values.
+     *
+     * @param values the values to insert
+     * @return the expanded link
+     */
+    String expand(final Object... values) {
+        return appendTo(new StringBuilder(literalLength + 16 * indexes.length), values).toString();
+    }
+
+    /**
+     * Appends this template expanded by the given values.
+     *
+     * @param builder the builder to append to
+     * @param values  the values to insert
+     * @return the given builder
+     * @throws IllegalArgumentException if fewer values than placeholders are given
+     */
+    StringBuilder appendTo(final StringBuilder builder, final Object... values) {
+        if (values.length < parameterCount) {
+            throw new IllegalArgumentException(String.format("Link template requires %d values, but got %d",
+                parameterCount, values.length));
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            builder.append(literals[i]).append(values[indexes[i]]);
+        }
+        return builder.append(literals[indexes.length]);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.atx;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXConfig;
+import hudson.EnvVars;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves test.guide report link redirects asynchronously using the shared {@link ATXHttpClient} of an ATX
+ * configuration, which bounds the number of concurrent requests. Identical redirects are only resolved once.
+ *
+ * @since 2.47
+ */
+final class ATXRedirectResolver {
+
+    private final ATXConfig config;
+    private final EnvVars envVars;
+    private final Map<String, CompletableFuture<URL>> redirects = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new {@link ATXRedirectResolver}.
+     *
+     * @param config  the ATX configuration
+     * @param envVars the environment variables
+     */
+    ATXRedirectResolver(final ATXConfig config, final EnvVars envVars) {
+        this.config = config;
+        this.envVars = envVars;
+    }
+
+    /**
+     * Resolves the given redirect asynchronously. Failures complete the returned future exceptionally with the
+     * original cause, e.g. a {@link MalformedURLException} for an invalid or missing redirect location.
+     *
+     * @param redirect the redirect URL
+     * @return the future resolved location
+     */
+    CompletableFuture<URL> resolve(final String redirect) {
+        final CompletableFuture<URL> location = new CompletableFuture<>();
+        final CompletableFuture<URL> pendingLocation = redirects.putIfAbsent(redirect, location);
+        if (pendingLocation != null) {
+            return pendingLocation;
+        }
+        try {
+            ATXHttpClient.get(config, envVars).resolveRedirectAsync(redirect).whenComplete((url, error) -> {
+                if (error == null) {
+                    location.complete(url);
+                } else {
+                    location.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+                }
+            });
+        } catch (final MalformedURLException e) {
+            location.completeExceptionally(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            location.completeExceptionally(e);
+        }
+        return location;
+    }
+
+    /**
+     * Gets the number of distinct redirects requested so far.
+     *
+     * @return the number of distinct redirects
+     */
+    int getRedirectCount() {
+        return redirects.size();
+    }
+}
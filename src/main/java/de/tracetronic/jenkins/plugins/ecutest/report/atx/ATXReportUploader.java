@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -10,50 +10,46 @@ import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXConfig;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXInstallation;
-import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXSetting;
 import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFPublisher;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.reader.TRFReader;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.reader.TRFReportInfo;
 import de.tracetronic.jenkins.plugins.ecutest.util.ATXUtil;
-import de.tracetronic.jenkins.plugins.ecutest.util.validation.ATXValidator;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Run;
 import hudson.model.TaskListener;
 import hudson.remoting.Callable;
-import jenkins.security.MasterToSlaveCallable;
 import net.sf.json.JSONArray;
 import net.sf.json.JSONException;
 import net.sf.json.JSONObject;
 import net.sf.json.groovy.JsonSlurper;
 
-import javax.net.ssl.HttpsURLConnection;
+import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
 import java.io.UnsupportedEncodingException;
-import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLDecoder;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Class providing the generation and upload of {@link ATXReport}s.
@@ -66,6 +62,19 @@ public class ATXReportUploader extends AbstractATXReportHandler {
     private static final String ATX_TREND_URL = "wicket/bookmarkable/"
         + "de.tracetronic.ttstm.web.detail.TestCaseDetailPage?testCase";
 
+    /**
+     * Precompiled templates for building the ATX report links.
+     */
+    private static final ATXLinkTemplate PKG_TREND_REPORT_URL =
+        ATXLinkTemplate.compile("{0}/" + ATX_TREND_URL + "={1}");
+    private static final ATXLinkTemplate PKG_REPORT_URL =
+        ATXLinkTemplate.compile("{0}/reports?dateFrom={1}&dateTo={2}&testcase={3}");
+    private static final ATXLinkTemplate PRJ_REPORT_URL =
+        ATXLinkTemplate.compile("{0}/reports?dateFrom={1}&dateTo={2}&testexecplan={3}");
+    private static final ATXLinkTemplate PRJ_FOLDER_REPORT_URL =
+        ATXLinkTemplate.compile("{0}/reports?dateFrom={1}&dateTo={2}&testexecplan={3}&plannedTestCaseFolder={4}*");
+    private static final ATXLinkTemplate PROJECT_ID_PARAM = ATXLinkTemplate.compile("&projectId={0}");
+
     /**
      * Instantiates a new {@code ATXReportUploader}.
      *
@@ -110,26 +119,13 @@ public class ATXReportUploader extends AbstractATXReportHandler {
 
         checkForWarning(config, logger);
 
+        // Collect the TRF files of all report directories to upload them in a single batch
+        final List<UploadDirHolder> uploadDirs = new ArrayList<>();
         for (final FilePath reportDir : reportDirs) {
             final FilePath reportFile = AbstractReportPublisher.getFirstReportFile(reportDir);
             if (reportFile != null && reportFile.exists()) {
-                final List<FilePath> uploadFiles = Arrays.asList(
-                    reportDir.list(TRFPublisher.TRF_INCLUDES, TRFPublisher.TRF_EXCLUDES));
-
-                // Upload ATX reports
-                final UploadInfoHolder uploadInfo = launcher.getChannel().call(
-                    new UploadReportCallable(config, uploadFiles, usePersistedSettings, injectBuildVars,
-                            envVars, listener));
-
-                if (uploadInfo.isUploaded()) {
-                    // Prepare ATX report links
-                    final String title = reportFile.getParent().getName();
-                    if (uploadInfo.getTestInfo() == null) {
-                        uploadInfo.setTestInfo(launcher.getChannel().call(
-                            new ParseTRFCallable(reportFile.getRemote())));
-                    }
-                    traverseReports(atxReports, reportDir, title, baseUrl, uploadInfo.getTestInfo(), projectId);
-                }
+                uploadDirs.add(new UploadDirHolder(reportDir, reportFile, Arrays.asList(
+                    reportDir.list(TRFPublisher.TRF_INCLUDES, TRFPublisher.TRF_EXCLUDES))));
             } else {
                 if (!allowMissing) {
                     logger.logError(String.format("Specified TRF file '%s' does not exist.", reportFile));
@@ -138,6 +134,24 @@ public class ATXReportUploader extends AbstractATXReportHandler {
             }
         }
 
+        if (!uploadDirs.isEmpty()) {
+            // Upload ATX reports
+            final List<UploadInfoHolder> uploadInfos = launcher.getChannel().call(
+                new UploadReportCallable(config, uploadDirs, usePersistedSettings, injectBuildVars,
+                    envVars, listener));
+
+            // Prepare ATX report links
+            for (int i = 0; i < uploadDirs.size(); i++) {
+                final UploadDirHolder uploadDir = uploadDirs.get(i);
+                final UploadInfoHolder uploadInfo = uploadInfos.get(i);
+                if (uploadInfo.isUploaded() && uploadInfo.getTestInfo() != null) {
+                    final String title = uploadDir.getReportFile().getParent().getName();
+                    traverseReports(atxReports, uploadDir.getReportDir(), title, baseUrl, uploadInfo.getTestInfo(),
+                        projectId);
+                }
+            }
+        }
+
         if (atxReports.isEmpty() && !allowMissing) {
             logger.logError("Empty test results are not allowed, setting build status to FAILURE!");
             return false;
@@ -262,11 +276,7 @@ public class ATXReportUploader extends AbstractATXReportHandler {
      */
     private String getPkgTrendReportUrl(final String baseUrl, final TestInfoHolder testInfo, final String projectId) {
         final String testName = ATXUtil.getValidATXName(testInfo.getTestName());
-        String pkgTrendReportUrl = String.format("%s/%s=%s", baseUrl, ATX_TREND_URL, testName);
-        if (projectId != null) {
-            pkgTrendReportUrl = String.format("%s&projectId=%s", pkgTrendReportUrl, projectId);
-        }
-        return pkgTrendReportUrl;
+        return buildReportUrl(PKG_TREND_REPORT_URL, projectId, baseUrl, testName);
     }
 
     /**
@@ -286,12 +296,7 @@ public class ATXReportUploader extends AbstractATXReportHandler {
         final String from = String.valueOf(testInfo.getFrom());
         final String to = String.valueOf(testInfo.getTo());
         final String atxTestName = ATXUtil.getValidATXName(testName);
-        String pkgReportUrl = String.format("%s/reports?dateFrom=%s&dateTo=%s&testcase=%s",
-                baseUrl, from, to, atxTestName);
-        if (projectId != null) {
-            pkgReportUrl = String.format("%s&projectId=%s", pkgReportUrl, projectId);
-        }
-        return pkgReportUrl;
+        return buildReportUrl(PKG_REPORT_URL, projectId, baseUrl, from, to, atxTestName);
     }
 
     /**
@@ -312,19 +317,10 @@ public class ATXReportUploader extends AbstractATXReportHandler {
         final String testName = ATXUtil.getValidATXName(testInfo.getTestName());
         final String from = String.valueOf(testInfo.getFrom());
         final String to = String.valueOf(testInfo.getTo());
-        String prjReportUrl;
         if (projectName != null) {
-            prjReportUrl = String.format("%s/reports?dateFrom=%s&dateTo=%s&testexecplan=%s&plannedTestCaseFolder=%s*",
-                baseUrl, from, to, projectName, testName);
-        } else {
-            prjReportUrl = String.format("%s/reports?dateFrom=%s&dateTo=%s&testexecplan=%s",
-                baseUrl, from, to, testName);
-        }
-        if (projectId != null) {
-            prjReportUrl = String.format("%s&projectId=%s", prjReportUrl, projectId);
+            return buildReportUrl(PRJ_FOLDER_REPORT_URL, projectId, baseUrl, from, to, projectName, testName);
         }
-
-        return prjReportUrl;
+        return buildReportUrl(PRJ_REPORT_URL, projectId, baseUrl, from, to, testName);
     }
 
     /**
@@ -341,25 +337,41 @@ public class ATXReportUploader extends AbstractATXReportHandler {
                                       final String subTestName, final String projectName, final String projectId) {
         final String from = String.valueOf(testInfo.getFrom());
         final String to = String.valueOf(testInfo.getTo());
-        String prjReportUrl;
         if (projectName != null) {
-            prjReportUrl = String.format("%s/reports?dateFrom=%s&dateTo=%s&testexecplan=%s&plannedTestCaseFolder=%s*",
-                baseUrl, from, to, ATXUtil.getValidATXName(projectName), subTestName);
-        } else {
-            prjReportUrl = String.format("%s/reports?dateFrom=%s&dateTo=%s&testexecplan=%s",
-                baseUrl, from, to, subTestName);
+            return buildReportUrl(PRJ_FOLDER_REPORT_URL, projectId, baseUrl, from, to,
+                ATXUtil.getValidATXName(projectName), subTestName);
         }
+        return buildReportUrl(PRJ_REPORT_URL, projectId, baseUrl, from, to, subTestName);
+    }
+
+    /**
+     * Builds a report URL from the given template and appends the project id if available.
+     *
+     * @param template  the report URL template
+     * @param projectId the project id, can be {@code null}
+     * @param values    the template values
+     * @return the report URL
+     */
+    private static String buildReportUrl(final ATXLinkTemplate template, final String projectId,
+                                         final Object... values) {
+        final StringBuilder reportUrl = template.appendTo(new StringBuilder(128), values);
         if (projectId != null) {
-            prjReportUrl = String.format("%s&projectId=%s", prjReportUrl, projectId);
+            PROJECT_ID_PARAM.appendTo(reportUrl, projectId);
         }
-
-        return prjReportUrl;
+        return reportUrl.toString();
     }
 
     /**
-     * {@link Callable} enabling generating and uploading ATX reports remotely.
+     * {@link Callable} enabling generating and uploading ATX reports of multiple report directories remotely.
+     *
+     * <p>
+     * The ATX reports are generated one after another by the same ecu.test instance, since the COM API does not allow
+     * concurrent report generation. Evaluating the upload response files of a report is done by a small worker pool
+     * meanwhile the next report is generated. The report links on test.guide are resolved asynchronously afterwards,
+     * whereby identical links are only requested once and the number of concurrent requests is bounded by the shared
+     * {@link ATXHttpClient}.
      */
-    private static final class UploadReportCallable extends AbstractReportCallable<UploadInfoHolder> {
+    private static final class UploadReportCallable extends AbstractReportCallable<List<UploadInfoHolder>> {
 
         private static final long serialVersionUID = 1L;
 
@@ -374,6 +386,12 @@ public class ATXReportUploader extends AbstractATXReportHandler {
          */
         private static final String SUCCESS_FILE_NAME = "success.json";
 
+        /**
+         * Defines the number of threads evaluating upload responses.
+         */
+        private static final int RESPONSE_THREADS = 2;
+
+        private final List<UploadDirHolder> uploadDirs;
         private final boolean usePersistedSettings;
         private final boolean injectBuildVars;
 
@@ -381,81 +399,287 @@ public class ATXReportUploader extends AbstractATXReportHandler {
          * Instantiates a new {@link UploadReportCallable}.
          *
          * @param config               the ATX configuration
-         * @param reportFiles          the list of TRF files
+         * @param uploadDirs           the report directories holding the TRF files to upload
          * @param usePersistedSettings specifies whether to use read settings from persisted configurations file
          * @param injectBuildVars      specifies whether to inject common build variables as ATX constants
          * @param envVars              the environment variables
          * @param listener             the listener
          */
-        UploadReportCallable(final ATXConfig config, final List<FilePath> reportFiles,
+        UploadReportCallable(final ATXConfig config, final List<UploadDirHolder> uploadDirs,
                              final boolean usePersistedSettings, final boolean injectBuildVars,
                              final EnvVars envVars, final TaskListener listener) {
-            super(config, reportFiles, envVars, listener);
+            super(config, flatten(uploadDirs), envVars, listener);
+            this.uploadDirs = uploadDirs;
             this.usePersistedSettings = usePersistedSettings;
             this.injectBuildVars = injectBuildVars;
         }
 
+        /**
+         * Flattens the TRF files of all report directories.
+         *
+         * @param uploadDirs the report directories
+         * @return the list of all TRF files
+         */
+        private static List<FilePath> flatten(final List<UploadDirHolder> uploadDirs) {
+            final List<FilePath> reportFiles = new ArrayList<>();
+            uploadDirs.forEach(uploadDir -> reportFiles.addAll(uploadDir.getTrfFiles()));
+            return reportFiles;
+        }
+
         @Override
-        public UploadInfoHolder call() throws IOException {
-            final UploadInfoHolder uploadInfo = new UploadInfoHolder(false);
+        public List<UploadInfoHolder> call() throws IOException {
             final TTConsoleLogger logger = new TTConsoleLogger(getListener());
             final Map<String, String> configMap = getConfigMap(true, injectBuildVars);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
-                final List<FilePath> reportFiles = getReportFiles();
-                if (reportFiles.isEmpty()) {
-                    logger.logInfo("-> No report files found to upload!");
-                } else {
-                    for (final FilePath reportFile : reportFiles) {
-                        logger.logInfo(String.format("-> Generating and uploading ATX report: %s",
-                            reportFile.getRemote()));
-                        final FilePath outDir = reportFile.getParent().child(ATX_TEMPLATE_NAME);
-                        if (usePersistedSettings) {
-                            final FilePath reportDir = reportFile.getParent();
-                            final FilePath configPath = reportDir.child(ATX_TEMPLATE_NAME + ".xml");
-                            logger.logInfo(String.format("- Using persisted settings from configuration: %s",
-                                configPath.getRemote()));
-                            testEnv.generateTestReportDocument(reportFile.getRemote(),
-                                reportDir.getRemote(), configPath.getRemote(), true);
-                        } else {
-                            testEnv.generateTestReportDocumentFromDB(reportFile.getRemote(),
-                                outDir.getRemote(), ATX_TEMPLATE_NAME, true, configMap);
+            final boolean uploadAsync = "True".equals(configMap.get("uploadAsync"));
+            final List<List<Future<UploadInfoHolder>>> responses = new ArrayList<>();
+            final ATXRedirectResolver resolver = new ATXRedirectResolver(config, getEnvVars());
+            final AtomicInteger threadCount = new AtomicInteger();
+            final ExecutorService executor = Executors.newFixedThreadPool(RESPONSE_THREADS, runnable -> {
+                final Thread thread = new Thread(runnable, "ATXResponse-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                final String progId = ETComProperty.getInstance().getProgId();
+                try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
+                    final TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
+                    if (getReportFiles().isEmpty()) {
+                        logger.logInfo("-> No report files found to upload!");
+                    }
+                    // Reports sharing an output directory must not overwrite a pending response
+                    final Map<FilePath, Future<UploadResponse>> pendingDirs = new HashMap<>();
+                    for (final UploadDirHolder uploadDir : uploadDirs) {
+                        final List<Future<UploadInfoHolder>> dirResponses = new ArrayList<>();
+                        responses.add(dirResponses);
+                        try {
+                            for (final FilePath reportFile : uploadDir.getTrfFiles()) {
+                                final FilePath outDir = reportFile.getParent().child(ATX_TEMPLATE_NAME);
+                                await(pendingDirs.get(outDir));
+
+                                logger.logInfo(String.format("-> Generating and uploading ATX report: %s",
+                                    reportFile.getRemote()));
+                                final long start = System.currentTimeMillis();
+                                generateReport(testEnv, reportFile, outDir, configMap, logger);
+                                comClient.waitForIdle(0);
+                                final long generationTime = System.currentTimeMillis() - start;
+
+                                final CompletableFuture<UploadResponse> response =
+                                    CompletableFuture.supplyAsync(() -> {
+                                        try {
+                                            return evaluateResponse(reportFile, outDir, uploadAsync,
+                                                generationTime, logger);
+                                        } catch (final IOException e) {
+                                            throw new CompletionException(e);
+                                        }
+                                    }, executor);
+                                pendingDirs.put(outDir, response);
+                                dirResponses.add(response.thenCompose(uploadResponse ->
+                                    resolveTestInfo(uploadResponse, reportFile, resolver, logger)));
+                            }
+                        } catch (final ETComException e) {
+                            // Mark only this report directory as failed and continue unless connection is lost
+                            logger.logComException(e);
+                            dirResponses.clear();
+                            if (e.isConnectionFailure()) {
+                                break;
+                            }
+                        }
+                    }
+                } catch (final ETComException e) {
+                    logger.logComException(e);
+                }
+                final long awaitStart = System.currentTimeMillis();
+                final List<UploadInfoHolder> uploadInfos = collectUploadInfos(responses);
+                if (resolver.getRedirectCount() > 0) {
+                    logger.logInfo(String.format("-> Resolved %d test.guide report link(s), awaited pending "
+                        + "responses in %d ms", resolver.getRedirectCount(), System.currentTimeMillis() - awaitStart));
+                }
+                return uploadInfos;
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        /**
+         * Generates and uploads the ATX report of a single TRF file.
+         *
+         * @param testEnv    the test environment
+         * @param reportFile the TRF file
+         * @param outDir     the ATX output directory
+         * @param configMap  the ATX configuration map
+         * @param logger     the logger
+         * @throws ETComException in case of a COM exception
+         */
+        private void generateReport(final TestEnvironment testEnv, final FilePath reportFile, final FilePath outDir,
+                                    final Map<String, String> configMap, final TTConsoleLogger logger)
+            throws ETComException {
+            if (usePersistedSettings) {
+                final FilePath reportDir = reportFile.getParent();
+                final FilePath configPath = reportDir.child(ATX_TEMPLATE_NAME + ".xml");
+                logger.logInfo(String.format("- Using persisted settings from configuration: %s",
+                    configPath.getRemote()));
+                testEnv.generateTestReportDocument(reportFile.getRemote(),
+                    reportDir.getRemote(), configPath.getRemote(), true);
+            } else {
+                testEnv.generateTestReportDocumentFromDB(reportFile.getRemote(),
+                    outDir.getRemote(), ATX_TEMPLATE_NAME, true, configMap);
+            }
+        }
+
+        /**
+         * Evaluates the upload response files of a single TRF file.
+         *
+         * @param reportFile     the TRF file
+         * @param outDir         the ATX output directory
+         * @param uploadAsync    specifies whether asynchronous upload is enabled
+         * @param generationTime the generation and upload time in milliseconds
+         * @param logger         the logger
+         * @return the upload response of this TRF file
+         * @throws IOException signals that an I/O exception has occurred
+         */
+        private UploadResponse evaluateResponse(final FilePath reportFile, final FilePath outDir,
+                                                final boolean uploadAsync, final long generationTime,
+                                                final TTConsoleLogger logger) throws IOException {
+            final long start = System.currentTimeMillis();
+            final UploadResponse response;
+            final FilePath errorFile = outDir.child(ERROR_FILE_NAME);
+            if (checkErrorLog(errorFile, logger)) {
+                final FilePath successFile = outDir.child(SUCCESS_FILE_NAME);
+                response = new UploadResponse(true, checkSuccessLog(successFile, uploadAsync, logger));
+            } else {
+                response = new UploadResponse(false, null);
+            }
+            final long responseTime = System.currentTimeMillis() - start;
+            logger.logInfo(String.format("-> Processed ATX report %s in %d ms (upload: %d ms, response: %d ms)",
+                reportFile.getName(), generationTime + responseTime, generationTime, responseTime));
+            return response;
+        }
+
+        /**
+         * Resolves the report link of an upload response asynchronously and parses the test information from it.
+         *
+         * @param response   the upload response
+         * @param reportFile the TRF file
+         * @param resolver   the redirect resolver
+         * @param logger     the logger
+         * @return the future upload info of this TRF file, completed exceptionally in case of a connection error
+         */
+        private CompletableFuture<UploadInfoHolder> resolveTestInfo(final UploadResponse response,
+                                                                    final FilePath reportFile,
+                                                                    final ATXRedirectResolver resolver,
+                                                                    final TTConsoleLogger logger) {
+            final UploadInfoHolder uploadInfo = new UploadInfoHolder(response.isUploaded());
+            final String redirect = response.getRedirect();
+            if (redirect == null) {
+                return CompletableFuture.completedFuture(uploadInfo);
+            }
+            final long start = System.currentTimeMillis();
+            return resolver.resolve(redirect).handle((location, error) -> {
+                try {
+                    if (error != null) {
+                        if (error instanceof MalformedURLException || error instanceof InterruptedException) {
+                            logger.logError("-> Could not parse ATX JSON response: " + error.getMessage());
+                            return uploadInfo;
                         }
-                        comClient.waitForIdle(0);
+                        throw new CompletionException(error);
+                    }
+                    final TestInfoHolder testInfo = parseTestInfo(location, reportFile);
+                    if (testInfo != null) {
+                        testInfo.setLink(redirect);
+                    }
+                    uploadInfo.setTestInfo(testInfo);
+                    logger.logInfo(String.format("-> Resolved test.guide report link of %s in %d ms",
+                        reportFile.getName(), System.currentTimeMillis() - start));
+                } catch (final UnsupportedEncodingException e) {
+                    logger.logError("-> Could not parse ATX JSON response: " + e.getMessage());
+                }
+                return uploadInfo;
+            });
+        }
 
-                        final FilePath errorFile = outDir.child(ERROR_FILE_NAME);
-                        if (checkErrorLog(errorFile, logger)) {
-                            final FilePath successFile = outDir.child(SUCCESS_FILE_NAME);
-                            final boolean uploadAsync = configMap.get("uploadAsync").equals("True");
-                            uploadInfo.setTestInfo(checkSuccessLog(successFile, reportFile, uploadAsync, logger));
+        /**
+         * Collects the upload infos of all report directories. A report directory counts as uploaded if any of its
+         * TRF files has been uploaded, missing test information is read from its main TRF file.
+         *
+         * @param responses the pending responses per report directory
+         * @return the upload infos in order of the report directories
+         * @throws IOException signals that an I/O exception has occurred
+         */
+        private List<UploadInfoHolder> collectUploadInfos(final List<List<Future<UploadInfoHolder>>> responses)
+            throws IOException {
+            final List<UploadInfoHolder> uploadInfos = new ArrayList<>();
+            for (int i = 0; i < uploadDirs.size(); i++) {
+                final UploadInfoHolder uploadInfo = new UploadInfoHolder(false);
+                if (i < responses.size()) {
+                    for (final Future<UploadInfoHolder> response : responses.get(i)) {
+                        final UploadInfoHolder fileInfo = await(response);
+                        if (fileInfo.isUploaded()) {
                             uploadInfo.setUploaded(true);
+                            uploadInfo.setTestInfo(fileInfo.getTestInfo());
                         }
                     }
                 }
-            } catch (final ETComException e) {
-                logger.logComException(e);
+                if (uploadInfo.isUploaded() && uploadInfo.getTestInfo() == null) {
+                    uploadInfo.setTestInfo(readTestInfo(new File(uploadDirs.get(i).getReportFile().getRemote())));
+                }
+                uploadInfos.add(uploadInfo);
             }
-            return uploadInfo;
+            return uploadInfos;
         }
 
         /**
-         * Checks the success log file and parse upload information.
+         * Waits for a pending upload response.
+         *
+         * @param response the response, may be {@code null}
+         * @param <T>      the response type
+         * @return the response result or {@code null} if no response given
+         * @throws IOException signals that an I/O exception has occurred or the thread was interrupted
+         */
+        private static <T> T await(final Future<T> response) throws IOException {
+            if (response == null) {
+                return null;
+            }
+            try {
+                return response.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for ATX upload response!", e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+
+        /**
+         * Reads the test name, type and execution times of a TRF.
+         *
+         * @param trfFile the TRF file
+         * @return the test info
+         * @throws IOException signals that an I/O exception has occurred
+         */
+        private static TestInfoHolder readTestInfo(final File trfFile) throws IOException {
+            try (TRFReader reader = new TRFReader(trfFile)) {
+                final TRFReportInfo info = reader.getReportInfo();
+                return new TestInfoHolder(info.getName(), info.getTestType(),
+                    info.getExecutionTime(), info.getEndTime());
+            }
+        }
+
+        /**
+         * Checks the success log file and parses the report link of the upload.
          * The success log file will only be written by test.guide 1.53.0 and above.
          *
          * @param successFile the success file
-         * @param uploadFile  the upload file
          * @param uploadAsync specifies whether asynchronous upload is enabled
          * @param logger      the logger
-         * @return the parsed test information
-         * @throws IOException                  signals that an I/O exception has occurred
-         * @throws MalformedURLException        in case of a malformed URL
-         * @throws UnsupportedEncodingException in case of an unsupported encoding
+         * @return the report link to be resolved or {@code null} if not available
+         * @throws IOException signals that an I/O exception has occurred
          */
-        private TestInfoHolder checkSuccessLog(final FilePath successFile, final FilePath uploadFile,
-                                               final boolean uploadAsync, final TTConsoleLogger logger)
-                throws IOException {
-            TestInfoHolder testInfo = null;
+        private String checkSuccessLog(final FilePath successFile, final boolean uploadAsync,
+                                       final TTConsoleLogger logger) throws IOException {
+            String redirect = null;
             try {
                 if (successFile.exists()) {
                     logger.logDebug("ATX report uploaded successfully.");
@@ -469,22 +693,16 @@ public class ATXReportUploader extends AbstractATXReportHandler {
                             final String status = jsonArray.getJSONObject(i).getString(
                                 uploadAsync ? "statusCode" : "STATUS");
                             if ("200".equals(status)) {
-                                final String text = jsonArray.getJSONObject(i).getString(uploadAsync ? "body" : "TEXT");
-                                final URL location = resolveRedirect(text);
-                                testInfo = parseTestInfo(location, uploadFile);
-                                if (testInfo != null) {
-                                    testInfo.setLink(text);
-                                }
+                                redirect = jsonArray.getJSONObject(i).getString(uploadAsync ? "body" : "TEXT");
                                 break;
                             }
                         }
                     }
                 }
-            } catch (final JSONException | InterruptedException | UnsupportedEncodingException
-                    | KeyManagementException | NoSuchAlgorithmException | MalformedURLException e) {
+            } catch (final JSONException | InterruptedException e) {
                 logger.logError("-> Could not parse ATX JSON response: " + e.getMessage());
             }
-            return testInfo;
+            return redirect;
         }
 
         /**
@@ -569,128 +787,69 @@ public class ATXReportUploader extends AbstractATXReportHandler {
         }
 
         /**
-         * Resolves the given URL redirect.
-         *
-         * @param redirect the redirect URL
-         * @return the resolved URL redirect
-         * @throws MalformedURLException    in case of a malformed URL
-         * @throws NoSuchAlgorithmException in case of a missing algorithm
-         * @throws KeyManagementException   in case of a key management exception
-         * @throws IOException              signals that an I/O exception has occurred
+         * Helper class storing the evaluated upload response files of a single TRF file.
          */
-        private URL resolveRedirect(final String redirect)
-            throws MalformedURLException, NoSuchAlgorithmException, KeyManagementException, IOException {
-            final HttpURLConnection connection;
-            final URL url = new URL(redirect);
-
-            // Handle SSL connection
-            final Object ignoreSSL = config.getSettingValueByGroup(
-                "ignoreSSL", ATXSetting.SettingsGroup.CONNECTION);
-
-            if (redirect.startsWith("https://") && ignoreSSL != null && (boolean) ignoreSSL) {
-                connection = (HttpsURLConnection) url.openConnection();
-                ATXValidator.ignoreSSLIssues((HttpsURLConnection) connection);
-            } else {
-                connection = (HttpURLConnection) url.openConnection();
+        private static final class UploadResponse {
+
+            private final boolean uploaded;
+            private final String redirect;
+
+            /**
+             * Instantiates a new {@link UploadResponse}.
+             *
+             * @param uploaded specifies whether the report has been uploaded
+             * @param redirect the report link to be resolved, can be {@code null}
+             */
+            UploadResponse(final boolean uploaded, final String redirect) {
+                this.uploaded = uploaded;
+                this.redirect = redirect;
+            }
+
+            public boolean isUploaded() {
+                return uploaded;
             }
-            connection.setInstanceFollowRedirects(false);
-            connection.connect();
 
-            final String location = connection.getHeaderField("Location");
-            return new URL(location);
+            public String getRedirect() {
+                return redirect;
+            }
         }
     }
 
     /**
-     * {@link Callable} parsing the test name, type and execution times of a TRF remotely.
+     * Helper class storing a report directory together with its main report file and the TRF files to upload.
+     * Used as data model for {@link UploadReportCallable}.
      */
-    private static final class ParseTRFCallable extends MasterToSlaveCallable<TestInfoHolder, IOException> {
+    private static final class UploadDirHolder implements Serializable {
 
         private static final long serialVersionUID = 1L;
 
-        private static final String QUERY_INFO = "SELECT execution_time, duration from info";
-        private static final String QUERY_PRJ = "SELECT name FROM prj";
-        private static final String QUERY_PKG = "SELECT name FROM pkg";
-
-        private final String trfFile;
+        private final FilePath reportDir;
+        private final FilePath reportFile;
+        private final List<FilePath> trfFiles;
 
         /**
-         * Instantiates a new {@link ParseTRFCallable}.
+         * Instantiates a new {@link UploadDirHolder}.
          *
-         * @param trfFile the TRF file path
+         * @param reportDir  the report directory
+         * @param reportFile the main report file
+         * @param trfFiles   the TRF files to upload
          */
-        ParseTRFCallable(final String trfFile) {
-            this.trfFile = trfFile;
+        UploadDirHolder(final FilePath reportDir, final FilePath reportFile, final List<FilePath> trfFiles) {
+            this.reportDir = reportDir;
+            this.reportFile = reportFile;
+            this.trfFiles = trfFiles;
         }
 
-        @Override
-        public TestInfoHolder call() throws IOException {
-            try (SQLite sql = new SQLite(trfFile)) {
-                ResultSet rs = sql.query(QUERY_INFO);
-                final String execTime = rs.getString("execution_time");
-                final SimpleDateFormat fmt = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-                final Date date = fmt.parse(execTime);
-                final float duration = rs.getFloat("duration") * 1000.0f;
-                final long from = date.getTime();
-                final long to = from + (long) duration;
-
-                rs = sql.query(QUERY_PRJ);
-                final String prjName = rs.getString("name");
-                if ("$$$_PACKAGE_$$$".equals(prjName)) {
-                    rs = sql.query(QUERY_PKG);
-                    final String pkgName = rs.getString("name");
-                    return new TestInfoHolder(pkgName, TestType.PACKAGE, from, to);
-                } else {
-                    return new TestInfoHolder(prjName, TestType.PROJECT, from, to);
-                }
-            } catch (final ClassNotFoundException | SQLException | ParseException e) {
-                throw new IOException(e);
-            }
+        public FilePath getReportDir() {
+            return reportDir;
         }
 
-        /**
-         * Parser for SQLite databases like TRF reports.
-         */
-        private static class SQLite implements AutoCloseable {
-
-            private final Connection connection;
-            private PreparedStatement statement;
-
-            /**
-             * Instantiates a new {@link SQLite}.
-             *
-             * @param sqlFile the path to database file
-             * @throws ClassNotFoundException in case the JDBC class cannot be located
-             * @throws SQLException           in case of a SQL exception
-             */
-            SQLite(final String sqlFile) throws ClassNotFoundException, SQLException {
-                Class.forName("org.sqlite.JDBC");
-                connection = DriverManager.getConnection("jdbc:sqlite:" + sqlFile);
-            }
-
-            /**
-             * Queries the database with given SQL statement.
-             *
-             * @param sql the SQL statement
-             * @return the result set
-             * @throws SQLException in case of a SQL exception
-             */
-            @SuppressFBWarnings(value = "SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING",
-                                justification = "Constant query statements used only")
-            public ResultSet query(final String sql) throws SQLException {
-                statement = connection.prepareStatement(sql);
-                return statement.executeQuery();
-            }
+        public FilePath getReportFile() {
+            return reportFile;
+        }
 
-            @Override
-            public void close() throws SQLException {
-                if (statement != null) {
-                    statement.close();
-                }
-                if (connection != null) {
-                    connection.close();
-                }
-            }
+        public List<FilePath> getTrfFiles() {
+            return trfFiles;
         }
     }
 
@@ -743,7 +902,7 @@ public class ATXReportUploader extends AbstractATXReportHandler {
 
     /**
      * Helper class storing information about the test name and type.
-     * Used as data model for {@link ParseTRFCallable}.
+     * Used as data model for {@link UploadReportCallable}.
      */
     private static final class TestInfoHolder implements Serializable {
 
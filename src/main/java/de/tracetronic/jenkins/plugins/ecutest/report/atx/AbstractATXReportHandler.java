@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -90,6 +90,10 @@ public abstract class AbstractATXReportHandler {
             return reportFiles;
         }
 
+        public EnvVars getEnvVars() {
+            return envVars;
+        }
+
         public TaskListener getListener() {
             return listener;
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -13,25 +13,24 @@ import hudson.model.Descriptor;
 import hudson.util.Secret;
 import org.jenkinsci.Symbol;
 import org.kohsuke.stapler.DataBoundConstructor;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Class holding the ATX configuration grouped by setting sections.
@@ -61,6 +60,13 @@ public class ATXConfig extends AbstractDescribableImpl<ATXConfig> implements Clo
     @Deprecated
     private transient Map<String, List<ATXSetting<?>>> configMap;
 
+    /**
+     * Index of the settings by name and by group, built lazily and rebuilt whenever the settings list is replaced.
+     *
+     * @since 2.47
+     */
+    private transient volatile SettingsIndex settingsIndex;
+
     /**
      * Instantiates a new {@link ATXConfig} with the default configuration.
      */
@@ -122,6 +128,7 @@ public class ATXConfig extends AbstractDescribableImpl<ATXConfig> implements Clo
                 }
             }
         }
+        settingsIndex = null;
         return this;
     }
 
@@ -156,6 +163,7 @@ public class ATXConfig extends AbstractDescribableImpl<ATXConfig> implements Clo
 
     public void setSettings(final List<ATXSetting<?>> settings) {
         this.settings = settings;
+        settingsIndex = null;
     }
 
     public List<ATXCustomSetting> getCustomSettings() {
@@ -167,20 +175,33 @@ public class ATXConfig extends AbstractDescribableImpl<ATXConfig> implements Clo
     }
 
     /**
-     * Parses the default ATX configuration from the ATX template configuration file provided with this plugin.
+     * Creates the default ATX configuration by cloning the settings of the ATX template configuration, which is
+     * parsed only once.
      *
-     * @return the default ATX settings map
+     * @return the default ATX settings
      */
     private List<ATXSetting<?>> parseDefaultConfig() {
-        Document doc = null;
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        try (InputStream configFile = ATXConfig.class.getResourceAsStream("config.xml")) {
-            final DocumentBuilder builder = factory.newDocumentBuilder();
-            doc = builder.parse(configFile);
-        } catch (ParserConfigurationException | SAXException | IOException e) {
-            LOGGER.log(Level.SEVERE, "Error parsing ATX template configuration: " + e.getMessage(), e);
+        final List<ATXSetting<?>> defaultSettings = DefaultConfigHolder.SETTINGS;
+        final List<ATXSetting<?>> settings = new ArrayList<>(defaultSettings.size());
+        for (final ATXSetting<?> setting : defaultSettings) {
+            settings.add(setting.clone());
+        }
+        return settings;
+    }
+
+    /**
+     * Gets the index of the current settings. The index is rebuilt if the settings list has been replaced or its
+     * size has changed since the last indexing, the setting values themselves are not part of the index.
+     *
+     * @return the settings index
+     */
+    private SettingsIndex getSettingsIndex() {
+        SettingsIndex index = settingsIndex;
+        if (index == null || !index.isIndexOf(settings)) {
+            index = new SettingsIndex(settings);
+            settingsIndex = index;
         }
-        return ATXSettingParser.parseSettings(doc);
+        return index;
     }
 
     /**
@@ -190,7 +211,7 @@ public class ATXConfig extends AbstractDescribableImpl<ATXConfig> implements Clo
      * @return the ATX setting or {@code null} if not found
      */
     public Optional<ATXSetting<?>> getSettingByName(final String name) {
-        return settings.stream().filter(setting -> setting.getName().equals(name)).findFirst();
+        return Optional.ofNullable(getSettingsIndex().byName.get(name));
     }
 
     /**
@@ -210,7 +231,10 @@ public class ATXConfig extends AbstractDescribableImpl<ATXConfig> implements Clo
      * @return the list of ATX settings or empty list if not found
      */
     public List<ATXSetting<?>> getSettingsByGroup(final SettingsGroup group) {
-        return settings.stream().filter(setting -> setting.getGroup().equals(group)).collect(Collectors.toList());
+        if (group == null) {
+            return Collections.emptyList();
+        }
+        return getSettingsIndex().groupLists.getOrDefault(group, Collections.emptyList());
     }
 
     /**
@@ -257,8 +281,12 @@ public class ATXConfig extends AbstractDescribableImpl<ATXConfig> implements Clo
      */
     @CheckForNull
     public Object getSettingValueByGroup(final String name, final SettingsGroup group) {
-        final List<ATXSetting<?>> settings = getSettingsByGroup(group);
-        return getSettingValueBySettings(name, settings);
+        if (group == null) {
+            return null;
+        }
+        final Map<String, ATXSetting<?>> groupSettings = getSettingsIndex().byGroup.get(group);
+        final ATXSetting<?> setting = groupSettings == null ? null : groupSettings.get(name);
+        return setting == null ? null : setting.getValue();
     }
 
     /**
@@ -295,6 +323,87 @@ public class ATXConfig extends AbstractDescribableImpl<ATXConfig> implements Clo
         return SettingsGroup.fromString(groupName);
     }
 
+    /**
+     * Initializes and holds the settings parsed from the ATX template configuration provided with this plugin. These
+     * settings serve as prototype for each new configuration and must never be modified.
+     */
+    private static final class DefaultConfigHolder {
+
+        private static final List<ATXSetting<?>> SETTINGS = Collections.unmodifiableList(parseTemplateConfig());
+
+        /**
+         * Private constructor.
+         */
+        private DefaultConfigHolder() {
+            throw new UnsupportedOperationException("Singleton class");
+        }
+
+        /**
+         * Parses the ATX template configuration file provided with this plugin.
+         *
+         * @return the template settings or an empty list if parsing failed
+         */
+        private static List<ATXSetting<?>> parseTemplateConfig() {
+            try (InputStream configFile = ATXConfig.class.getResourceAsStream("config.xml")) {
+                return ATXSettingParser.parseSettings(configFile);
+            } catch (final XMLStreamException | IOException e) {
+                LOGGER.log(Level.SEVERE, "Error parsing ATX template configuration: " + e.getMessage(), e);
+                return new ArrayList<>();
+            }
+        }
+    }
+
+    /**
+     * Immutable index of a settings list by setting name and by settings group. If a setting name occurs multiple
+     * times, the first occurrence is indexed, the same as a linear search would find.
+     */
+    private static final class SettingsIndex {
+
+        private final List<ATXSetting<?>> settings;
+        private final int size;
+        private final Map<String, ATXSetting<?>> byName;
+        private final Map<SettingsGroup, Map<String, ATXSetting<?>>> byGroup;
+        private final Map<SettingsGroup, List<ATXSetting<?>>> groupLists;
+
+        /**
+         * Instantiates a new {@link SettingsIndex}.
+         *
+         * @param settings the settings to index
+         */
+        SettingsIndex(final List<ATXSetting<?>> settings) {
+            this.settings = settings;
+            final Map<String, ATXSetting<?>> names = new HashMap<>();
+            final Map<SettingsGroup, Map<String, ATXSetting<?>>> groups = new EnumMap<>(SettingsGroup.class);
+            final Map<SettingsGroup, List<ATXSetting<?>>> lists = new EnumMap<>(SettingsGroup.class);
+            if (settings != null) {
+                for (final ATXSetting<?> setting : settings) {
+                    names.putIfAbsent(setting.getName(), setting);
+                    if (setting.getGroup() != null) {
+                        groups.computeIfAbsent(setting.getGroup(), group -> new LinkedHashMap<>())
+                            .putIfAbsent(setting.getName(), setting);
+                        lists.computeIfAbsent(setting.getGroup(), group -> new ArrayList<>()).add(setting);
+                    }
+                }
+            }
+            size = settings == null ? 0 : settings.size();
+            byName = Collections.unmodifiableMap(names);
+            groups.replaceAll((group, groupSettings) -> Collections.unmodifiableMap(groupSettings));
+            byGroup = Collections.unmodifiableMap(groups);
+            lists.replaceAll((group, groupSettings) -> Collections.unmodifiableList(groupSettings));
+            groupLists = Collections.unmodifiableMap(lists);
+        }
+
+        /**
+         * Checks whether this index is still valid for the given settings list.
+         *
+         * @param settings the current settings list
+         * @return {@code true} if the list is the indexed one and has not changed in size, {@code false} otherwise
+         */
+        boolean isIndexOf(final List<ATXSetting<?>> settings) {
+            return this.settings == settings && (settings == null || size == settings.size());
+        }
+    }
+
     /**
      * DescriptorImpl of {@link ATXConfig}.
      */
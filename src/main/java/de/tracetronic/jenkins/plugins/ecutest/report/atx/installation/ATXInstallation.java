@@ -6,6 +6,7 @@
 package de.tracetronic.jenkins.plugins.ecutest.report.atx.installation;
 
 import de.tracetronic.jenkins.plugins.ecutest.ETPlugin;
+import de.tracetronic.jenkins.plugins.ecutest.report.atx.ATXHttpClient;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.ATXPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.validation.ATXValidator;
@@ -236,6 +237,8 @@ public class ATXInstallation extends AbstractDescribableImpl<ATXInstallation> im
                 }
             }
             this.installations = inst.toArray(new ATXInstallation[0]);
+            // Connection settings may have changed
+            ATXHttpClient.invalidate();
         }
 
         public ATXConfig getDefaultConfig() {
@@ -1,52 +1,62 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.report.atx.installation;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXSetting.SettingsGroup;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import hudson.util.Secret;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.w3c.dom.Text;
-
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
+
+import javax.annotation.CheckForNull;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Parser for the ATX template configuration to gather all available ATX settings.
+ *
+ * <p>
+ * The template is read by a single streaming pass. Each child element of the {@code SETTINGS} section belongs to the
+ * settings group announced by the nearest preceding comment, children after an unknown comment are ignored.
  */
 public final class ATXSettingParser {
 
     private static final Logger LOGGER = Logger.getLogger(ATXSetting.class.getName());
 
-    private static final String PRECEDING_COMMENT = "//SETTINGS//*[preceding-sibling::comment()[1]";
-    private static final String CONNECTION_EXPRESSION = PRECEDING_COMMENT + "[.=' Verbindungseinstellungen ']]";
-    private static final String UPLOAD_EXPRESSION = PRECEDING_COMMENT + "[.=' Uploadeinstellungen ']]";
-    private static final String ARCHIVE_EXPRESSION = PRECEDING_COMMENT + "[.=' Archiveinstellungen ']]";
-    private static final String ATTRIBUTE_EXPRESSION = PRECEDING_COMMENT + "[.=' Attributeinstellungen ']]";
-    private static final String TBC_CONSTANT_EXPRESSION = PRECEDING_COMMENT
-        + "[.=' TBC-Globale Konstanteneinstellungen ']]";
-    private static final String TCF_CONSTANT_EXPRESSION = PRECEDING_COMMENT
-        + "[.=' TCF-Globale Konstanteneinstellungen ']]";
-    private static final String REVIEW_EXPRESSION = PRECEDING_COMMENT + "[.=' Review Einstellungen ']]";
-    private static final String SPECIAL_EXPRESSION = PRECEDING_COMMENT + "[.=' Spezielle Einstellungen ']]";
+    private static final String SETTINGS_ELEMENT = "SETTINGS";
+    private static final String DESCRIPTION_ELEMENT = "DESCRIPTION";
+    private static final String MULTILANG_ELEMENT = "MULTILANGDATA";
+    private static final String LANGUAGE_ELEMENT = "ELEMENT";
+    private static final String VALUE_ELEMENT = "DVALUE";
+    private static final String LANGUAGE_GERMAN = "de_DE";
+    private static final String LANGUAGE_ENGLISH = "en_US";
+    private static final Map<String, SettingsGroup> GROUP_COMMENTS = new HashMap<>();
     private static final List<String> SECRET_SETTINGS =
         Arrays.asList("uploadAuthenticationKey", "httpProxy", "httpsProxy");
 
+    static {
+        GROUP_COMMENTS.put("Verbindungseinstellungen", SettingsGroup.CONNECTION);
+        GROUP_COMMENTS.put("Uploadeinstellungen", SettingsGroup.UPLOAD);
+        GROUP_COMMENTS.put("Archiveinstellungen", SettingsGroup.ARCHIVE);
+        GROUP_COMMENTS.put("Attributeinstellungen", SettingsGroup.ATTRIBUTE);
+        GROUP_COMMENTS.put("TBC-Globale Konstanteneinstellungen", SettingsGroup.TBC_CONSTANTS);
+        GROUP_COMMENTS.put("TCF-Globale Konstanteneinstellungen", SettingsGroup.TCF_CONSTANTS);
+        GROUP_COMMENTS.put("Review Einstellungen", SettingsGroup.REVIEW);
+        GROUP_COMMENTS.put("Spezielle Einstellungen", SettingsGroup.SPECIAL);
+    }
+
     /**
      * Instantiates a new {@link ATXSettingParser}.
      */
@@ -56,119 +66,195 @@ public final class ATXSettingParser {
     /**
      * Parses all settings of the ATX template configuration.
      *
-     * @param doc the XML document representation
-     * @return the map of settings
+     * @param configFile the stream of the ATX template configuration
+     * @return the list of settings ordered by settings group
+     * @throws XMLStreamException if the configuration is not well-formed
+     * @since 2.47
      */
-    public static List<ATXSetting<?>> parseSettings(final Document doc) {
-        final List<ATXSetting<?>> settings = new ArrayList<>();
-
-        final List<ATXSetting<?>> connectionSettings = parseSetting(
-                doc, SettingsGroup.CONNECTION, CONNECTION_EXPRESSION);
-        final List<ATXSetting<?>> uploadSettings = parseSetting(doc, SettingsGroup.UPLOAD, UPLOAD_EXPRESSION);
-        final List<ATXSetting<?>> archiveSettings = parseSetting(doc, SettingsGroup.ARCHIVE, ARCHIVE_EXPRESSION);
-        final List<ATXSetting<?>> attributeSettings = parseSetting(doc, SettingsGroup.ATTRIBUTE, ATTRIBUTE_EXPRESSION);
-        final List<ATXSetting<?>> tbcConstantSettings = parseSetting(doc,
-            SettingsGroup.TBC_CONSTANTS, TBC_CONSTANT_EXPRESSION);
-        final List<ATXSetting<?>> tcfConstantSettings = parseSetting(doc,
-            SettingsGroup.TCF_CONSTANTS, TCF_CONSTANT_EXPRESSION);
-        final List<ATXSetting<?>> reviewSettings = parseSetting(doc, SettingsGroup.REVIEW, REVIEW_EXPRESSION);
-        final List<ATXSetting<?>> specialSettings = parseSetting(doc, SettingsGroup.SPECIAL, SPECIAL_EXPRESSION);
-
-        settings.addAll(connectionSettings);
-        settings.addAll(uploadSettings);
-        settings.addAll(archiveSettings);
-        settings.addAll(attributeSettings);
-        settings.addAll(tbcConstantSettings);
-        settings.addAll(tcfConstantSettings);
-        settings.addAll(reviewSettings);
-        settings.addAll(specialSettings);
+    public static List<ATXSetting<?>> parseSettings(final InputStream configFile) throws XMLStreamException {
+        final Map<SettingsGroup, List<ATXSetting<?>>> groupSettings = new EnumMap<>(SettingsGroup.class);
+        final XMLStreamReader reader = createInputFactory().createXMLStreamReader(configFile);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                    && SETTINGS_ELEMENT.equals(reader.getLocalName())) {
+                    parseSettingsSection(reader, groupSettings);
+                }
+            }
+        } finally {
+            reader.close();
+        }
 
+        final List<ATXSetting<?>> settings = new ArrayList<>();
+        groupSettings.values().forEach(settings::addAll);
         return settings;
     }
 
     /**
-     * Parses a single setting of the ATX template configuration.
+     * Creates a factory for stream readers which neither resolve DTDs nor external entities.
      *
-     * @param doc        the XML document representation
-     * @param group      the settings group
-     * @param expression the XPath expression for a separated setting
-     * @return the parsed setting represented by a list of settings
+     * @return the XML input factory
      */
-    @SuppressFBWarnings(value = "DCN_NULLPOINTER_EXCEPTION", justification = "Has been working as expected.")
-    public static List<ATXSetting<?>> parseSetting(final Document doc,
-                                                final SettingsGroup group,
-                                                final String expression) {
-        final List<ATXSetting<?>> settings = new ArrayList<>();
-        try {
-            final XPath xpath = XPathFactory.newInstance().newXPath();
-            final XPathExpression xPathExpression = xpath.compile(expression);
-            final NodeList settingNodes = (NodeList) xPathExpression.evaluate(doc, XPathConstants.NODESET);
-            for (int i = 0; i < settingNodes.getLength(); i++) {
-                final Node settingNode = settingNodes.item(i);
-                removeWhitespaceNodes((Element) settingNode);
-
-                // Parse setting values
-                final String settingName = parseAttribute(settingNode, "name");
-                final String defaultValue = parseAttribute(settingNode, "default");
-                final String descGerman = parseDescription(settingNode, "de_DE");
-                final String descEnglish = parseDescription(settingNode, "en_US");
-
-                // Add sub setting
-                if (isCheckbox(settingName, defaultValue)) {
-                    final ATXBooleanSetting setting = new ATXBooleanSetting(settingName, group,
-                        descGerman, descEnglish, toBoolean(defaultValue));
-                    settings.add(setting);
-                } else if (isSecret(settingName)) {
-                    final ATXSecretSetting setting = new ATXSecretSetting(settingName, group,
-                        descGerman, descEnglish, Secret.fromString(defaultValue));
-                    settings.add(setting);
+    private static XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Parses the settings section, positioned at its start element, up to its end element.
+     *
+     * @param reader        the stream reader
+     * @param groupSettings the parsed settings mapped by their group
+     * @throws XMLStreamException if the configuration is not well-formed
+     */
+    private static void parseSettingsSection(final XMLStreamReader reader,
+                                             final Map<SettingsGroup, List<ATXSetting<?>>> groupSettings)
+        throws XMLStreamException {
+        SettingsGroup group = null;
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.COMMENT) {
+                group = GROUP_COMMENTS.get(reader.getText().trim());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                final ATXSetting<?> setting = group == null ? null : parseSetting(reader, group);
+                if (setting == null) {
+                    skipElement(reader);
                 } else {
-                    final ATXTextSetting setting = new ATXTextSetting(settingName, group,
-                        descGerman, descEnglish, defaultValue);
-                    settings.add(setting);
+                    groupSettings.computeIfAbsent(group, key -> new ArrayList<>()).add(setting);
                 }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
             }
-        } catch (final XPathExpressionException | IllegalArgumentException | NullPointerException e) {
-            LOGGER.log(Level.SEVERE, "Error parsing setting: " + e.getMessage(), e);
         }
-        return settings;
     }
 
     /**
-     * Parses the description for the given language key.
+     * Parses a single setting, positioned at its start element. If the setting is valid, the reader is moved to its
+     * end element.
      *
-     * @param node        the node containing the description
-     * @param languageKey the language key (only de_DE or en_US supported for now)
-     * @return the parsed description value
+     * @param reader the stream reader
+     * @param group  the settings group
+     * @return the parsed setting or {@code null} if the setting has no name or default value
+     * @throws XMLStreamException if the configuration is not well-formed
      */
-    private static String parseDescription(final Node node, final String languageKey) {
-        String description = "";
-        final String expression = String.format("./DESCRIPTION/MULTILANGDATA/ELEMENT[@dkey='%s']/DVALUE", languageKey);
-        try {
-            final XPath xpath = XPathFactory.newInstance().newXPath();
-            final XPathExpression xPathExpression = xpath.compile(expression);
-            final Node descNode = (Node) xPathExpression.evaluate(node, XPathConstants.NODE);
-            if (descNode != null) {
-                final String content = descNode.getTextContent();
-                if (content != null) {
-                    description = descNode.getTextContent().replaceAll("\\s+", " ").trim();
+    @CheckForNull
+    private static ATXSetting<?> parseSetting(final XMLStreamReader reader, final SettingsGroup group)
+        throws XMLStreamException {
+        final String settingName = parseAttribute(reader, "name");
+        final String defaultValue = parseAttribute(reader, "default");
+        if (settingName == null || defaultValue == null) {
+            LOGGER.log(Level.SEVERE, "Error parsing setting: missing name or default value in "
+                + reader.getLocalName() + " of group " + group.getConfigName());
+            return null;
+        }
+
+        final Map<String, String> descriptions = parseDescriptions(reader);
+        final String descGerman = descriptions.getOrDefault(LANGUAGE_GERMAN, "");
+        final String descEnglish = descriptions.getOrDefault(LANGUAGE_ENGLISH, "");
+
+        if (isCheckbox(settingName, defaultValue)) {
+            return new ATXBooleanSetting(settingName, group, descGerman, descEnglish, toBoolean(defaultValue));
+        } else if (isSecret(settingName)) {
+            return new ATXSecretSetting(settingName, group, descGerman, descEnglish, Secret.fromString(defaultValue));
+        } else {
+            return new ATXTextSetting(settingName, group, descGerman, descEnglish, defaultValue);
+        }
+    }
+
+    /**
+     * Parses the descriptions of a setting by reading its content up to the end element of the setting. Only the
+     * first description per language key is taken into account.
+     *
+     * @param reader the stream reader positioned at the start element of the setting
+     * @return the normalized descriptions mapped by their language key
+     * @throws XMLStreamException if the configuration is not well-formed
+     */
+    private static Map<String, String> parseDescriptions(final XMLStreamReader reader) throws XMLStreamException {
+        final Map<String, String> descriptions = new HashMap<>();
+        final List<String> path = new ArrayList<>();
+        String languageKey = null;
+        StringBuilder value = null;
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                path.add(reader.getLocalName());
+                if (isPath(path, DESCRIPTION_ELEMENT, MULTILANG_ELEMENT, LANGUAGE_ELEMENT)) {
+                    languageKey = reader.getAttributeValue(null, "dkey");
+                } else if (isPath(path, DESCRIPTION_ELEMENT, MULTILANG_ELEMENT, LANGUAGE_ELEMENT, VALUE_ELEMENT)
+                    && languageKey != null && !descriptions.containsKey(languageKey)) {
+                    value = new StringBuilder();
+                }
+            } else if (value != null && (event == XMLStreamConstants.CHARACTERS
+                || event == XMLStreamConstants.CDATA)) {
+                value.append(reader.getText());
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (path.isEmpty()) {
+                    break;
                 }
+                if (value != null && isPath(path, DESCRIPTION_ELEMENT, MULTILANG_ELEMENT, LANGUAGE_ELEMENT,
+                    VALUE_ELEMENT)) {
+                    descriptions.put(languageKey, normalize(value.toString()));
+                    value = null;
+                }
+                path.remove(path.size() - 1);
             }
-        } catch (final XPathExpressionException | IllegalArgumentException e) {
-            LOGGER.log(Level.SEVERE, "Error parsing description: " + e.getMessage(), e);
         }
-        return description;
+        return descriptions;
+    }
+
+    /**
+     * Checks whether the current element path equals the given element names.
+     *
+     * @param path     the current element path relative to the setting
+     * @param elements the expected element names
+     * @return {@code true} if the path matches, {@code false} otherwise
+     */
+    private static boolean isPath(final List<String> path, final String... elements) {
+        return path.equals(Arrays.asList(elements));
     }
 
     /**
-     * Parses a node attribute for given name.
+     * Skips the current element including all of its content.
      *
-     * @param node     the node containing the attribute
+     * @param reader the stream reader positioned at the start element
+     * @throws XMLStreamException if the configuration is not well-formed
+     */
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Parses an attribute of the current element for given name.
+     *
+     * @param reader   the stream reader positioned at the start element
      * @param attrName the attribute name
-     * @return the parsed attribute value
+     * @return the normalized attribute value or {@code null} if not present
      */
-    private static String parseAttribute(final Node node, final String attrName) {
-        return node.getAttributes().getNamedItem(attrName).getTextContent().replaceAll("\\s+", " ").trim();
+    @CheckForNull
+    private static String parseAttribute(final XMLStreamReader reader, final String attrName) {
+        final String value = reader.getAttributeValue(null, attrName);
+        return value == null ? null : normalize(value);
+    }
+
+    /**
+     * Collapses all whitespace sequences to a single space and trims the result.
+     *
+     * @param value the value to normalize
+     * @return the normalized value
+     */
+    private static String normalize(final String value) {
+        return value.replaceAll("\\s+", " ").trim();
     }
 
     /**
@@ -205,21 +291,4 @@ public final class ATXSettingParser {
     private static boolean toBoolean(final String value) {
         return "true".equals(value.toLowerCase(Locale.getDefault()));
     }
-
-    /**
-     * Removes whitespace nodes for easier data extraction.
-     *
-     * @param elem the node element
-     */
-    private static void removeWhitespaceNodes(final Element elem) {
-        final NodeList children = elem.getChildNodes();
-        for (int i = children.getLength() - 1; i >= 0; i--) {
-            final Node child = children.item(i);
-            if (child instanceof Text && ((Text) child).getData().trim().length() == 0) {
-                elem.removeChild(child);
-            } else if (!(child instanceof Text)) {
-                removeWhitespaceNodes((Element) child);
-            }
-        }
-    }
 }
@@ -6,6 +6,7 @@
 package de.tracetronic.jenkins.plugins.ecutest.report.generator;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportAction;
+import de.tracetronic.jenkins.plugins.ecutest.report.LastReportBuildCache;
 import hudson.model.Job;
 import hudson.model.Run;
 
@@ -25,12 +26,7 @@ public abstract class AbstractReportGeneratorAction extends AbstractReportAction
 
     @Override
     public Run<?, ?> getLastReportBuild(final Job<?, ?> project) {
-        for (Run<?, ?> build = project.getLastBuild(); build != null; build = build.getPreviousBuild()) {
-            if (build.getAction(ReportGeneratorBuildAction.class) != null) {
-                return build;
-            }
-        }
-        return null;
+        return LastReportBuildCache.getLastReportBuild(project, ReportGeneratorBuildAction.class);
     }
 
     @Override
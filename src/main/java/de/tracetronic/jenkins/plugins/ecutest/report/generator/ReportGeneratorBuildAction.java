@@ -1,11 +1,12 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.report.generator;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractTestReport;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportIndex;
 import hudson.model.Action;
 import jenkins.tasks.SimpleBuildStep;
 
@@ -22,6 +23,13 @@ public class ReportGeneratorBuildAction extends AbstractReportGeneratorAction im
 
     private final List<GeneratorReport> generatorReports = new ArrayList<>();
 
+    /**
+     * Index of all reports by their id, built lazily on first access.
+     *
+     * @since 2.47
+     */
+    private transient ReportIndex<GeneratorReport> reportIndex;
+
     /**
      * Instantiates a new {@link ReportGeneratorBuildAction}.
      *
@@ -45,8 +53,9 @@ public class ReportGeneratorBuildAction extends AbstractReportGeneratorAction im
      *
      * @param report the generator report to add
      */
-    public void add(final GeneratorReport report) {
+    public synchronized void add(final GeneratorReport report) {
         generatorReports.add(report);
+        reportIndex = null;
     }
 
     /**
@@ -54,8 +63,9 @@ public class ReportGeneratorBuildAction extends AbstractReportGeneratorAction im
      *
      * @param reports the collection of generator reports
      */
-    public void addAll(final Collection<GeneratorReport> reports) {
+    public synchronized void addAll(final Collection<GeneratorReport> reports) {
         this.generatorReports.addAll(reports);
+        reportIndex = null;
     }
 
     /**
@@ -65,39 +75,28 @@ public class ReportGeneratorBuildAction extends AbstractReportGeneratorAction im
      * @return the {@link GeneratorReport} or {@code null} if no proper report exists
      */
     public AbstractTestReport getDynamic(final String token) {
-        for (final GeneratorReport report : getGeneratorReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final GeneratorReport potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+        return getReportIndex().get(token);
     }
 
     /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link GeneratorReport} matching the given token id.
+     * Gets all reports including their sub-reports in display order.
      *
-     * @param token  the token id
-     * @param report the report
-     * @return the {@link GeneratorReport} or {@code null} if no proper report exists
+     * @return the flattened report tree
+     */
+    public List<ReportIndex.Entry<GeneratorReport>> getFlattenedReports() {
+        return getReportIndex().getEntries();
+    }
+
+    /**
+     * Gets the index of all reports, built on first access after adding reports or loading the build.
+     *
+     * @return the report index
      */
-    private GeneratorReport traverseSubReports(final String token, final GeneratorReport report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (GeneratorReport) subReport;
-            } else {
-                final GeneratorReport potentialReport = traverseSubReports(token, (GeneratorReport) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
+    private synchronized ReportIndex<GeneratorReport> getReportIndex() {
+        if (reportIndex == null) {
+            reportIndex = new ReportIndex<>(generatorReports);
         }
-        return null;
+        return reportIndex;
     }
 
     @Override
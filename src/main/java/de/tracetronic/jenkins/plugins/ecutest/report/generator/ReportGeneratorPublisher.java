@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -9,6 +9,8 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractToolPublisher;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportArchiveSession;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportTree;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import hudson.EnvVars;
@@ -166,6 +168,8 @@ public class ReportGeneratorPublisher extends AbstractToolPublisher {
             final ReportGeneratorConfig expConfig = config.expand(envVars);
             final ReportGenerator generator = new ReportGenerator(expConfig);
             final boolean isGenerated = generator.generate(reportFiles, launcher, listener);
+            // Generated reports are written into the report directories
+            ReportArchiveSession.get(run).invalidateReportTrees();
             if (isArchiving() && isGenerated && !reportFiles.isEmpty()) {
                 // Archive generated reports
                 logger.logInfo("- Archiving generated reports...");
@@ -174,8 +178,8 @@ public class ReportGeneratorPublisher extends AbstractToolPublisher {
                 final List<FilePath> reportDirs = getReportDirs(run, workspace, launcher);
                 for (final FilePath reportDir : reportDirs) {
                     try {
-                        final int copiedFiles = reportDir.copyRecursiveTo(String.format("**/%s/**", templateName),
-                            archiveTargetDir.child(reportDir.getName()));
+                        final int copiedFiles = archiveFiles(run, reportDir, String.format("**/%s/**", templateName),
+                            null, archiveTargetDir.child(reportDir.getName()));
                         logger.logInfo(String.format("-> Archived %d report file(s).", copiedFiles));
                     } catch (final IOException e) {
                         Util.displayIOException(e, listener);
@@ -188,9 +192,10 @@ public class ReportGeneratorPublisher extends AbstractToolPublisher {
                         templateName, getDirectorySize(archiveTargetDir));
                     reports.add(report);
                     for (final FilePath reportDir : reportDirs) {
+                        final ReportTree reportTree = getReportTree(run, reportDir);
                         final GeneratorReport subReport = new GeneratorReport(randomId(),
                             reportDir.getBaseName(), String.format("%s/%s", templateName,
-                            reportDir.getBaseName()), getDirectorySize(reportDir));
+                            reportDir.getBaseName()), reportTree != null ? reportTree.getSize() : 0);
                         report.addSubReport(subReport);
                     }
                 }
@@ -10,6 +10,7 @@ import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractToolPublisher;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
+import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.validation.JUnitValidator;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import hudson.Extension;
@@ -26,12 +27,14 @@ import hudson.tasks.junit.TestResult;
 import hudson.tasks.junit.TestResultAction;
 import hudson.tasks.test.TestResultAggregator;
 import hudson.util.FormValidation;
+import hudson.util.ListBoxModel;
 import org.apache.commons.lang.NotImplementedException;
 import org.jenkinsci.Symbol;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
 import org.kohsuke.stapler.QueryParameter;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -55,6 +58,7 @@ public class JUnitPublisher extends AbstractToolPublisher implements MatrixAggre
 
     private double unstableThreshold;
     private double failedThreshold;
+    private GenerationMode generationMode = GenerationMode.TOOL;
 
     /**
      * Instantiates a new {@link JUnitPublisher}.
@@ -123,6 +127,21 @@ public class JUnitPublisher extends AbstractToolPublisher implements MatrixAggre
         this.failedThreshold = convertToPercentage(failedThreshold);
     }
 
+    /**
+     * Gets the generation mode, defaults to {@link GenerationMode#TOOL} for configurations saved before.
+     *
+     * @return the generation mode
+     */
+    @Nonnull
+    public GenerationMode getGenerationMode() {
+        return generationMode == null ? GenerationMode.TOOL : generationMode;
+    }
+
+    @DataBoundSetter
+    public void setGenerationMode(@CheckForNull final GenerationMode generationMode) {
+        this.generationMode = generationMode == null ? GenerationMode.TOOL : generationMode;
+    }
+
     @Override
     public MatrixAggregator createAggregator(final MatrixBuild build, final Launcher launcher,
                                              final BuildListener listener) {
@@ -136,7 +155,8 @@ public class JUnitPublisher extends AbstractToolPublisher implements MatrixAggre
         final TTConsoleLogger logger = getLogger();
         logger.logInfo("Publishing UNIT reports...");
 
-        if (isSkipped(true, run, launcher)) {
+        final boolean useTool = getGenerationMode() == GenerationMode.TOOL;
+        if (isSkipped(useTool, run, launcher)) {
             return;
         }
 
@@ -146,11 +166,7 @@ public class JUnitPublisher extends AbstractToolPublisher implements MatrixAggre
         }
 
         // Generate JUnit reports
-        if (!isInstallationVerified(run.getEnvironment(listener))) {
-            setInstallation(configureToolInstallation(workspace.toComputer(), listener, run.getEnvironment(listener)));
-        }
-        final JUnitReportGenerator generator = new JUnitReportGenerator();
-        if (!generator.generate(getInstallation(), reportFiles, run, workspace, launcher, listener)) {
+        if (!generateReports(reportFiles, useTool, run, workspace, launcher, listener)) {
             run.setResult(Result.FAILURE);
             return;
         }
@@ -181,6 +197,39 @@ public class JUnitPublisher extends AbstractToolPublisher implements MatrixAggre
         }
     }
 
+    /**
+     * Generates the UNIT reports either by ecu.test or directly from the TRF reports. Falls back to ecu.test if the
+     * TRF reports do not provide verdict data.
+     *
+     * @param reportFiles the report files
+     * @param useTool     specifies whether to generate by ecu.test
+     * @param run         the run
+     * @param workspace   the workspace
+     * @param launcher    the launcher
+     * @param listener    the listener
+     * @return {@code true} if generation succeeded, {@code false} otherwise
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     * @throws ETPluginException    in case of installation configuration errors
+     */
+    private boolean generateReports(final List<FilePath> reportFiles, final boolean useTool, final Run<?, ?> run,
+                                    final FilePath workspace, final Launcher launcher, final TaskListener listener)
+        throws IOException, InterruptedException, ETPluginException {
+        if (!useTool) {
+            try {
+                return new TRFJUnitReportGenerator().generate(reportFiles, launcher, listener);
+            } catch (final TRFJUnitReportGenerator.MissingVerdictException e) {
+                getLogger().logWarn(String.format("%s Generating UNIT reports by ecu.test instead.", e.getMessage()));
+                ProcessUtil.checkOS(launcher);
+            }
+        }
+        if (!isInstallationVerified(run.getEnvironment(listener))) {
+            setInstallation(configureToolInstallation(workspace.toComputer(), listener, run.getEnvironment(listener)));
+        }
+        final JUnitReportGenerator generator = new JUnitReportGenerator();
+        return generator.generate(getInstallation(), reportFiles, run, workspace, launcher, listener);
+    }
+
     /**
      * Sets the build result according to the test result.
      *
@@ -225,6 +274,21 @@ public class JUnitPublisher extends AbstractToolPublisher implements MatrixAggre
         throw new NotImplementedException();
     }
 
+    /**
+     * Defines the modes to generate the UNIT reports.
+     */
+    public enum GenerationMode {
+        /**
+         * Generate by the UNIT report template of ecu.test.
+         */
+        TOOL,
+
+        /**
+         * Generate directly from the TRF reports without starting ecu.test.
+         */
+        TRF
+    }
+
     /**
      * DescriptorImpl for {@link JUnitPublisher}.
      */
@@ -248,6 +312,22 @@ public class JUnitPublisher extends AbstractToolPublisher implements MatrixAggre
             return Messages.JUnitPublisher_DisplayName();
         }
 
+        public GenerationMode getDefaultGenerationMode() {
+            return GenerationMode.TOOL;
+        }
+
+        /**
+         * Fills the generation mode drop-down menu.
+         *
+         * @return the generation mode items
+         */
+        public ListBoxModel doFillGenerationModeItems() {
+            final ListBoxModel items = new ListBoxModel();
+            items.add(Messages.JUnitPublisher_GenerationMode_Tool(), GenerationMode.TOOL.toString());
+            items.add(Messages.JUnitPublisher_GenerationMode_TRF(), GenerationMode.TRF.toString());
+            return items;
+        }
+
         /**
          * Validates the unstable threshold.
          *
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.junit;
+
+import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.reader.TRFCursor;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.reader.TRFReader;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.reader.TRFTestCase;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.reader.TRFVerdict;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.TaskListener;
+import hudson.remoting.Callable;
+import jenkins.security.MasterToSlaveCallable;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class providing the generation of JUnit reports directly from TRF reports without ecu.test.
+ *
+ * <p>
+ * The generated {@code junit-report.xml} follows the structure of the UNIT report template, i.e. one test suite
+ * containing a single test case per executed package, so that the generated reports can be parsed and archived the
+ * same way as the ones created by ecu.test.
+ *
+ * <p>
+ * A TRF report whose test cases all lack a verdict does not provide verdict data at all. Such a report cannot be
+ * converted without reporting all test cases as skipped, so generation fails with a {@link MissingVerdictException}
+ * before any UNIT report is written.
+ */
+public class TRFJUnitReportGenerator {
+
+    /**
+     * Generates UNIT reports by reading the given TRF reports remotely.
+     *
+     * @param reportFiles the report files
+     * @param launcher    the launcher
+     * @param listener    the listener
+     * @return {@code true} if generation succeeded, {@code false} otherwise
+     * @throws MissingVerdictException if any TRF report does not provide verdict data
+     * @throws IOException             signals that an I/O exception has occurred
+     * @throws InterruptedException    if the build gets interrupted
+     */
+    public boolean generate(final List<FilePath> reportFiles, final Launcher launcher,
+                            final TaskListener listener) throws IOException, InterruptedException {
+        final TTConsoleLogger logger = new TTConsoleLogger(listener);
+        logger.logInfo("- Generating UNIT test reports from TRF...");
+        return launcher.getChannel().call(new GenerateUnitReportCallable(reportFiles, listener));
+    }
+
+    /**
+     * Checks whether the given TRF report provides verdict data, i.e. at least one of its test cases has a verdict.
+     * A report without test cases needs no verdict data.
+     *
+     * @param trfFile the TRF report
+     * @throws MissingVerdictException if the TRF report does not provide verdict data
+     * @throws IOException             signals that an I/O exception has occurred
+     */
+    static void checkVerdicts(final File trfFile) throws IOException {
+        boolean hasTestCases = false;
+        try (TRFReader reader = new TRFReader(trfFile);
+             TRFCursor<TRFTestCase> testCases = reader.getTestCases()) {
+            while (testCases.hasNext()) {
+                if (testCases.next().getVerdict() != TRFVerdict.NONE) {
+                    return;
+                }
+                hasTestCases = true;
+            }
+        }
+        if (hasTestCases) {
+            throw new MissingVerdictException(String.format("TRF report %s does not provide verdicts!", trfFile));
+        }
+    }
+
+    /**
+     * Writes the UNIT report of a single TRF report.
+     *
+     * @param trfFile the TRF report
+     * @param xmlFile the UNIT report to write
+     * @throws MissingVerdictException if the TRF report does not provide verdict data
+     * @throws IOException             signals that an I/O exception has occurred
+     */
+    static void writeReport(final File trfFile, final File xmlFile) throws IOException {
+        checkVerdicts(trfFile);
+        try (TRFReader reader = new TRFReader(trfFile);
+             TRFCursor<TRFTestCase> testCases = reader.getTestCases()) {
+            writeReport(testCases, xmlFile);
+        }
+    }
+
+    /**
+     * Writes the UNIT report of the given test cases.
+     *
+     * @param testCases the test cases
+     * @param xmlFile   the UNIT report to write
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    static void writeReport(final Iterator<TRFTestCase> testCases, final File xmlFile) throws IOException {
+        final File outDir = xmlFile.getParentFile();
+        if (outDir != null && !outDir.isDirectory() && !outDir.mkdirs()) {
+            throw new IOException(String.format("Could not create directory %s!", outDir));
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(xmlFile.toPath()))) {
+            final XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+            try {
+                writer.writeStartDocument("UTF-8", "1.0");
+                writer.writeStartElement("testsuites");
+                while (testCases.hasNext()) {
+                    writeTestSuite(writer, testCases.next());
+                }
+                writer.writeEndElement();
+                writer.writeEndDocument();
+                writer.flush();
+            } finally {
+                writer.close();
+            }
+        } catch (final XMLStreamException | UncheckedIOException e) {
+            throw new IOException(String.format("Could not write UNIT report %s!", xmlFile), e);
+        }
+    }
+
+    /**
+     * Writes the test suite of a single test case. Skipped test cases are counted in the {@code tests} attribute
+     * like JUnit does.
+     *
+     * @param writer   the XML writer
+     * @param testCase the test case
+     * @throws XMLStreamException in case of an XML exception
+     */
+    private static void writeTestSuite(final XMLStreamWriter writer, final TRFTestCase testCase)
+        throws XMLStreamException {
+        final TRFVerdict verdict = testCase.getVerdict();
+        final boolean skipped = verdict == TRFVerdict.NONE;
+        final boolean error = verdict == TRFVerdict.ERROR;
+        final boolean failed = verdict == TRFVerdict.FAILED || verdict == TRFVerdict.INCONCLUSIVE;
+
+        writer.writeStartElement("testsuite");
+        writer.writeAttribute("errors", error ? "1" : "0");
+        writer.writeAttribute("failures", failed ? "1" : "0");
+        writer.writeAttribute("name", testCase.getName());
+        writer.writeAttribute("skipped", skipped ? "1" : "0");
+        writer.writeAttribute("tests", "1");
+        writer.writeAttribute("time", skipped ? "0" : formatTime(testCase.getDuration()));
+
+        writer.writeStartElement("testcase");
+        writer.writeAttribute("name", testCase.getName());
+        if (skipped) {
+            writer.writeEmptyElement("skipped");
+        } else {
+            writer.writeAttribute("time", formatTime(testCase.getDuration()));
+            if (error || failed) {
+                final String type = error ? "error" : "failure";
+                writer.writeStartElement(type);
+                writer.writeAttribute("message", verdict.name());
+                writer.writeAttribute("type", type);
+                writer.writeCharacters(String.format("%s: %s", verdict.name(), testCase.getComment()));
+                writer.writeEndElement();
+            }
+        }
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    /**
+     * Formats the duration the same way as the UNIT report template.
+     *
+     * @param seconds the duration in seconds
+     * @return the formatted duration
+     */
+    private static String formatTime(final double seconds) {
+        return String.format(Locale.ENGLISH, "%f", seconds);
+    }
+
+    /**
+     * {@link Callable} enabling generation of UNIT reports from TRF reports remotely.
+     */
+    private static final class GenerateUnitReportCallable extends MasterToSlaveCallable<Boolean, IOException> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<FilePath> dbFiles;
+        private final TaskListener listener;
+
+        /**
+         * Instantiates a new {@link GenerateUnitReportCallable}.
+         *
+         * @param dbFiles  the list of TRF files
+         * @param listener the listener
+         */
+        GenerateUnitReportCallable(final List<FilePath> dbFiles, final TaskListener listener) {
+            this.dbFiles = dbFiles;
+            this.listener = listener;
+        }
+
+        @Override
+        public Boolean call() throws IOException {
+            // Check all reports before writing any, so that generation can be repeated by ecu.test
+            for (final FilePath dbFile : dbFiles) {
+                try {
+                    checkVerdicts(new File(dbFile.getRemote()));
+                } catch (final MissingVerdictException e) {
+                    throw e;
+                } catch (final IOException ignored) {
+                    // reported while generating
+                }
+            }
+            boolean isGenerated = true;
+            final TTConsoleLogger logger = new TTConsoleLogger(listener);
+            for (final FilePath dbFile : dbFiles) {
+                logger.logInfo(String.format("-> Generating UNIT report: %s", dbFile.getRemote()));
+                final File outDir = new File(new File(dbFile.getRemote()).getParentFile(),
+                    JUnitPublisher.UNIT_TEMPLATE_NAME);
+                try {
+                    writeReport(new File(dbFile.getRemote()), new File(outDir, JUnitPublisher.JUNIT_REPORT_FILE));
+                } catch (final IOException e) {
+                    isGenerated = false;
+                    logger.logError(String.format("Generating UNIT report failed: %s", e.getMessage()));
+                }
+            }
+            return isGenerated;
+        }
+    }
+
+    /**
+     * Exception thrown if a TRF report does not provide the verdict data needed to generate a UNIT report.
+     */
+    public static class MissingVerdictException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Instantiates a new {@link MissingVerdictException}.
+         *
+         * @param message the message to attach to the {@link Exception}
+         */
+        public MissingVerdictException(final String message) {
+            super(message);
+        }
+    }
+}
@@ -14,6 +14,7 @@ public class ETLogAnnotation implements Serializable {
 
     private static final long serialVersionUID = 1L;
     private final int lineNumber;
+    private final long offset;
     private final String timestamp;
     private final String context;
     private final Severity severity;
@@ -30,8 +31,24 @@ public class ETLogAnnotation implements Serializable {
      */
     public ETLogAnnotation(final int lineNumber, final String timestamp, final String context,
                            final Severity severity, final String message) {
+        this(lineNumber, 0, timestamp, context, severity, message);
+    }
+
+    /**
+     * Instantiates a new {@link ETLogAnnotation}.
+     *
+     * @param lineNumber the line number
+     * @param offset     the byte offset of the line in the log file
+     * @param timestamp  the timestamp
+     * @param context    the context
+     * @param severity   the severity
+     * @param message    the message
+     */
+    public ETLogAnnotation(final int lineNumber, final long offset, final String timestamp, final String context,
+                           final Severity severity, final String message) {
         super();
         this.lineNumber = lineNumber;
+        this.offset = offset;
         this.timestamp = timestamp;
         this.context = context;
         this.severity = severity;
@@ -42,6 +59,10 @@ public class ETLogAnnotation implements Serializable {
         return lineNumber;
     }
 
+    public long getOffset() {
+        return offset;
+    }
+
     public String getTimestamp() {
         return timestamp;
     }
@@ -1,11 +1,11 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.report.log;
 
-import de.tracetronic.jenkins.plugins.ecutest.report.AbstractTestReport;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportIndex;
 import hudson.model.Action;
 import jenkins.tasks.SimpleBuildStep;
 
@@ -21,6 +21,13 @@ public class ETLogBuildAction extends AbstractETLogAction implements SimpleBuild
 
     private final List<ETLogReport> logReports = new ArrayList<>();
 
+    /**
+     * Index of all reports by their id, built lazily on first access.
+     *
+     * @since 2.47
+     */
+    private transient ReportIndex<ETLogReport> reportIndex;
+
     /**
      * Instantiates a new {@link ETLogBuildAction}.
      *
@@ -44,8 +51,9 @@ public class ETLogBuildAction extends AbstractETLogAction implements SimpleBuild
      *
      * @param report the ecu.test log report to add
      */
-    public void add(final ETLogReport report) {
+    public synchronized void add(final ETLogReport report) {
         this.logReports.add(report);
+        reportIndex = null;
     }
 
     /**
@@ -53,8 +61,9 @@ public class ETLogBuildAction extends AbstractETLogAction implements SimpleBuild
      *
      * @param reports the collection of ecu.test log reports
      */
-    public void addAll(final Collection<ETLogReport> reports) {
+    public synchronized void addAll(final Collection<ETLogReport> reports) {
         this.logReports.addAll(reports);
+        reportIndex = null;
     }
 
     /**
@@ -64,39 +73,28 @@ public class ETLogBuildAction extends AbstractETLogAction implements SimpleBuild
      * @return the {@link ETLogReport} or {@code null} if no proper report exists
      */
     public ETLogReport getDynamic(final String token) {
-        for (final ETLogReport report : getLogReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final ETLogReport potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+        return getReportIndex().get(token);
     }
 
     /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link ETLogReport} matching the given token id.
+     * Gets all reports including their sub-reports in display order.
      *
-     * @param token  the token id
-     * @param report the report
-     * @return the {@link ETLogReport} or {@code null} if no proper report exists
+     * @return the flattened report tree
+     */
+    public List<ReportIndex.Entry<ETLogReport>> getFlattenedReports() {
+        return getReportIndex().getEntries();
+    }
+
+    /**
+     * Gets the index of all reports, built on first access after adding reports or loading the build.
+     *
+     * @return the report index
      */
-    private ETLogReport traverseSubReports(final String token, final ETLogReport report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (ETLogReport) subReport;
-            } else {
-                final ETLogReport potentialReport = traverseSubReports(token, (ETLogReport) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
+    private synchronized ReportIndex<ETLogReport> getReportIndex() {
+        if (reportIndex == null) {
+            reportIndex = new ReportIndex<>(logReports);
         }
-        return null;
+        return reportIndex;
     }
 
     @Override
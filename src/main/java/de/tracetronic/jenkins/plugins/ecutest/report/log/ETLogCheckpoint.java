@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.log;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Checkpoint of an incrementally parsed ecu.test log file allowing to resume parsing at the unread tail.
+ *
+ * <p>
+ * The checkpoint always refers to the start of a line. Log messages that might still be continued by further
+ * output are not included, but parsed again when resuming. In order to detect rotated or recreated log files,
+ * the checkpoint holds a fingerprint of the leading bytes of the parsed file.
+ *
+ * @since 2.47
+ */
+public final class ETLogCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long offset;
+    private final int lineNumber;
+    private final boolean skipLineFeed;
+    private final List<ETLogAnnotation> annotations;
+    private final int warningCount;
+    private final int errorCount;
+    private final long fingerprint;
+    private final int fingerprintLength;
+
+    /**
+     * Instantiates a new {@link ETLogCheckpoint}.
+     *
+     * @param offset            the byte offset to resume parsing at
+     * @param lineNumber        the number of completely parsed lines
+     * @param skipLineFeed      specifies whether a leading line feed belongs to the last parsed line
+     * @param annotations       the completely parsed annotated log messages
+     * @param warningCount      the warning count up to the offset
+     * @param errorCount        the error count up to the offset
+     * @param fingerprint       the fingerprint of the leading bytes of the log file
+     * @param fingerprintLength the number of bytes the fingerprint is calculated from
+     */
+    ETLogCheckpoint(final long offset, final int lineNumber, final boolean skipLineFeed,
+                    final List<ETLogAnnotation> annotations, final int warningCount, final int errorCount,
+                    final long fingerprint, final int fingerprintLength) {
+        this.offset = offset;
+        this.lineNumber = lineNumber;
+        this.skipLineFeed = skipLineFeed;
+        this.annotations = Collections.unmodifiableList(annotations);
+        this.warningCount = warningCount;
+        this.errorCount = errorCount;
+        this.fingerprint = fingerprint;
+        this.fingerprintLength = fingerprintLength;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public boolean isSkipLineFeed() {
+        return skipLineFeed;
+    }
+
+    public List<ETLogAnnotation> getAnnotations() {
+        return annotations;
+    }
+
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public int getFingerprintLength() {
+        return fingerprintLength;
+    }
+}
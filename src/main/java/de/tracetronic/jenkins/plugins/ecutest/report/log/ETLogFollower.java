@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.log;
+
+import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
+import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+
+import javax.annotation.CheckForNull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Follower tailing the ecu.test log files on the node during a test execution.
+ *
+ * <p>
+ * The log files are parsed incrementally by {@link ETLogParser#follow(ETLogCheckpoint)} at a fixed interval and
+ * the resulting checkpoints are stored in the {@link ETLogFollowerAction} of the build. If a maximum number of
+ * errors is given, the test execution is interrupted as soon as this number of errors has been logged.
+ *
+ * @since 2.47
+ */
+public final class ETLogFollower implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ETLogFollower.class.getName());
+
+    /**
+     * Defines the interval in seconds to poll the log files.
+     */
+    private static final long POLL_INTERVAL = 10;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final List<FilePath> logFiles;
+    private final ETLogFollowerAction action;
+    private final int maxErrors;
+    private final int initialErrors;
+    private final Thread buildThread;
+    private final TTConsoleLogger logger;
+    private final ScheduledExecutorService executor;
+    private boolean closed;
+    private volatile boolean aborted;
+
+    /**
+     * Instantiates a new {@link ETLogFollower}.
+     *
+     * @param logFiles  the log files to follow
+     * @param action    the action to store the checkpoints in
+     * @param maxErrors the maximum number of errors before interrupting the test execution, 0 to disable
+     * @param listener  the listener
+     */
+    ETLogFollower(final List<FilePath> logFiles, final ETLogFollowerAction action, final int maxErrors,
+                  final TaskListener listener) {
+        this.logFiles = logFiles;
+        this.action = action;
+        this.maxErrors = maxErrors;
+        this.initialErrors = action.getErrorCount();
+        this.buildThread = Thread.currentThread();
+        this.logger = new TTConsoleLogger(listener);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "ETLogFollower-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts following the ecu.test log files of the tool started within the build. The test execution should be
+     * performed by the calling thread, which gets interrupted if the maximum number of errors is reached.
+     *
+     * @param run       the run
+     * @param launcher  the launcher
+     * @param listener  the listener
+     * @param maxErrors the maximum number of errors before interrupting the test execution, 0 to disable
+     * @return the started follower or {@code null} if no ecu.test instance has been started within the build
+     */
+    @CheckForNull
+    public static ETLogFollower start(final Run<?, ?> run, final Launcher launcher, final TaskListener listener,
+                                      final int maxErrors) {
+        final ToolEnvInvisibleAction toolEnvAction = run.getAction(ToolEnvInvisibleAction.class);
+        if (toolEnvAction == null || toolEnvAction.getToolSettings() == null || launcher.getChannel() == null) {
+            return null;
+        }
+        final FilePath settingsDir = new FilePath(launcher.getChannel(), toolEnvAction.getToolSettings());
+        final List<FilePath> logFiles = new ArrayList<>();
+        Stream.concat(ETLogPublisher.ERROR_LOG_NAMES.stream(), ETLogPublisher.INFO_LOG_NAMES.stream())
+            .forEach(logFileName -> logFiles.add(settingsDir.child(logFileName)));
+
+        ETLogFollowerAction action;
+        synchronized (run) {
+            action = run.getAction(ETLogFollowerAction.class);
+            if (action == null) {
+                action = new ETLogFollowerAction();
+                run.addAction(action);
+            }
+        }
+        final ETLogFollower follower = new ETLogFollower(logFiles, action, maxErrors, listener);
+        follower.start();
+        return follower;
+    }
+
+    /**
+     * Schedules polling the log files.
+     */
+    private void start() {
+        action.setFollowing(true);
+        executor.scheduleWithFixedDelay(this::poll, POLL_INTERVAL, POLL_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Parses the new output of all log files and checks the error limit.
+     */
+    void poll() {
+        for (final FilePath logFile : logFiles) {
+            try {
+                final ETLogCheckpoint checkpoint = new ETLogParser(logFile)
+                    .follow(action.getCheckpoint(logFile.getRemote()));
+                if (checkpoint != null) {
+                    action.update(logFile.getRemote(), checkpoint);
+                }
+            } catch (final IOException e) {
+                LOGGER.log(Level.FINE, String.format("Failed following log file %s: %s",
+                    logFile.getRemote(), e.getMessage()));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        checkErrors();
+    }
+
+    /**
+     * Interrupts the test execution once if the maximum number of errors has been logged since starting.
+     */
+    private synchronized void checkErrors() {
+        final int errors = action.getErrorCount() - initialErrors;
+        if (closed || aborted || maxErrors <= 0 || errors < maxErrors) {
+            return;
+        }
+        aborted = true;
+        logger.logError(String.format("-> %d error(s) found in the ecu.test logs, aborting test execution!",
+            errors));
+        buildThread.interrupt();
+    }
+
+    /**
+     * Checks whether the test execution has been interrupted because of the maximum number of errors.
+     *
+     * @return {@code true} if interrupted by this follower, {@code false} otherwise
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Stops following the log files. The remaining output is parsed by {@link ETLogPublisher} resuming at the
+     * stored checkpoints. Must be called by the thread that started the follower.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        executor.shutdownNow();
+        action.setFollowing(false);
+        if (aborted) {
+            // Clear a pending interrupt that has not been consumed by the test execution
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.log;
+
+import hudson.model.InvisibleAction;
+
+import javax.annotation.CheckForNull;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Invisible action holding the running warning and error counts of the ecu.test log files followed during the test
+ * execution and the checkpoints to resume parsing them at.
+ *
+ * <p>
+ * The checkpoints are only kept in memory, so that {@link ETLogPublisher} can parse the unread tail of the log
+ * files only, while the counts are persisted with the build.
+ *
+ * @since 2.47
+ */
+public class ETLogFollowerAction extends InvisibleAction {
+
+    private transient Map<String, ETLogCheckpoint> checkpoints = new HashMap<>();
+    private transient volatile boolean following;
+    private volatile int warningCount;
+    private volatile int errorCount;
+
+    /**
+     * Gets the checkpoint of the given log file.
+     *
+     * @param logFile the remote path of the log file
+     * @return the checkpoint or {@code null} if the log file has not been followed yet
+     */
+    @CheckForNull
+    public synchronized ETLogCheckpoint getCheckpoint(final String logFile) {
+        return checkpoints.get(normalize(logFile));
+    }
+
+    /**
+     * Updates the checkpoint of the given log file and the running counts of all followed log files.
+     *
+     * @param logFile    the remote path of the log file
+     * @param checkpoint the new checkpoint
+     */
+    public synchronized void update(final String logFile, final ETLogCheckpoint checkpoint) {
+        checkpoints.put(normalize(logFile), checkpoint);
+        warningCount = checkpoints.values().stream().mapToInt(ETLogCheckpoint::getWarningCount).sum();
+        errorCount = checkpoints.values().stream().mapToInt(ETLogCheckpoint::getErrorCount).sum();
+    }
+
+    public boolean isFollowing() {
+        return following;
+    }
+
+    void setFollowing(final boolean following) {
+        this.following = following;
+    }
+
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Normalizes the remote path independent of the path separator of the node.
+     *
+     * @param logFile the remote path of the log file
+     * @return the normalized path
+     */
+    private static String normalize(final String logFile) {
+        return logFile.replace('\\', '/');
+    }
+
+    /**
+     * Initializes the checkpoints after deserialization.
+     *
+     * @return this instance
+     */
+    protected Object readResolve() {
+        checkpoints = new HashMap<>();
+        return this;
+    }
+}
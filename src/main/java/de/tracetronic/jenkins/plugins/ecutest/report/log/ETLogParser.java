@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -7,30 +7,41 @@ package de.tracetronic.jenkins.plugins.ecutest.report.log;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogAnnotation.Severity;
 import hudson.FilePath;
-import org.apache.commons.lang.StringUtils;
+import hudson.FilePath.FileCallable;
+import hudson.Util;
+import hudson.remoting.VirtualChannel;
+import jenkins.MasterToSlaveFileCallable;
 
 import javax.annotation.CheckForNull;
-import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.LineNumberReader;
-import java.nio.charset.StandardCharsets;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 
 /**
  * Class providing a parser for the ecu.test log files.
+ *
+ * <p>
+ * The log file is parsed in a single pass on the node where it is located, collecting the annotated log messages
+ * and the total counts of warnings and errors at once. Growing log files can be followed incrementally by
+ * resuming at an {@link ETLogCheckpoint}.
  */
 public class ETLogParser {
 
     private static final Logger LOGGER = Logger.getLogger(ETLogParser.class.getName());
 
-    private static final String LOG_PATTERN = "^[^\\s]+(.*)";
-    private static final String WARNING_PATTERN = LOG_PATTERN + "WARNING:$";
-    private static final String ERROR_PATTERN = LOG_PATTERN + "ERROR:$";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FINGERPRINT_SIZE = 1024;
 
     private final FilePath logFile;
 
@@ -49,34 +60,7 @@ public class ETLogParser {
      * @return the list of annotated log messages
      */
     public List<ETLogAnnotation> parse() {
-        final List<ETLogAnnotation> logReports = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(logFile.read(), StandardCharsets.UTF_8))) {
-            String line;
-            int warnLogCount = 0;
-            int errorLogCount = 0;
-            final int maxLogCount = AbstractETLogAction.getMaxLogSize();
-            try (LineNumberReader lineReader = new LineNumberReader(reader)) {
-                while ((line = lineReader.readLine()) != null
-                        && (warnLogCount < maxLogCount || errorLogCount < maxLogCount)) {
-                    ETLogAnnotation logAnnotation = null;
-                    if (warnLogCount < maxLogCount && isWarningLog(line)) {
-                        logAnnotation = parseLine(line, lineReader, Severity.WARNING);
-                        warnLogCount++;
-                    } else if (errorLogCount < maxLogCount && isErrorLog(line)) {
-                        logAnnotation = parseLine(line, lineReader, Severity.ERROR);
-                        errorLogCount++;
-                    }
-                    if (logAnnotation != null) {
-                        logReports.add(logAnnotation);
-                    }
-                }
-            }
-        } catch (final IOException | InterruptedException e) {
-            LOGGER.log(Level.SEVERE,
-                String.format("Failed parsing log file %s: %s", logFile.getRemote(), e.getMessage()));
-        }
-        return logReports;
+        return parseLog().getAnnotations();
     }
 
     /**
@@ -86,80 +70,350 @@ public class ETLogParser {
      * @return the total log count by severity
      */
     public int parseLogCount(final Severity severity) {
-        int logCount = 0;
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(logFile.read(), StandardCharsets.UTF_8))) {
-            String line;
-            try (LineNumberReader lineReader = new LineNumberReader(reader)) {
-                while ((line = lineReader.readLine()) != null) {
-                    if (severity == Severity.WARNING && isWarningLog(line)
-                            || severity == Severity.ERROR && isErrorLog(line)) {
-                        logCount++;
-                    }
-                }
-            }
+        return parseLog().getCount(severity);
+    }
+
+    /**
+     * Parses the ecu.test log file in a single pass on the node where the log file is located.
+     *
+     * @return the parse result holding the annotated log messages and the total log counts,
+     * empty if the log file could not be parsed
+     */
+    public ParseResult parseLog() {
+        return parseLog(null);
+    }
+
+    /**
+     * Parses the ecu.test log file on the node where the log file is located, resuming at the given checkpoint so
+     * that only the unread tail has to be parsed.
+     *
+     * @param checkpoint the checkpoint of a previous incremental parse, {@code null} to parse the entire file
+     * @return the parse result holding the annotated log messages and the total log counts,
+     * empty if the log file could not be parsed
+     * @since 2.47
+     */
+    public ParseResult parseLog(@CheckForNull final ETLogCheckpoint checkpoint) {
+        try {
+            return logFile.act(new ParseLogCallable(AbstractETLogAction.getMaxLogSize(), checkpoint));
         } catch (final IOException | InterruptedException e) {
             LOGGER.log(Level.SEVERE,
                 String.format("Failed parsing log file %s: %s", logFile.getRemote(), e.getMessage()));
         }
-        return logCount;
+        return ParseResult.empty();
     }
 
     /**
-     * Parses a single log message.
+     * Parses the growing ecu.test log file incrementally on the node where the log file is located.
      *
-     * @param currentLine the current line
-     * @param lineReader  the line number reader
-     * @param severity    the severity to annotate the message.
-     * @return the annotated message, can be {@code null}
-     * @throws IOException signals that an I/O exception has occurred
+     * @param checkpoint the checkpoint of the previous call, {@code null} to start at the beginning of the file
+     * @return the updated checkpoint or the given checkpoint if the log file does not exist (yet)
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     * @since 2.47
      */
     @CheckForNull
-    private ETLogAnnotation parseLine(final String currentLine, final LineNumberReader lineReader,
-                                      final Severity severity)
-            throws IOException {
-        ETLogAnnotation logAnnotation = null;
-        if (currentLine != null) {
-            final String[] lineSplit = currentLine.split("\\s+");
-            if (lineSplit.length == 5) {
-                String line;
-                final int lineNumber = lineReader.getLineNumber();
-                final StringBuilder msg = new StringBuilder();
-                while ((line = lineReader.readLine()) != null) {
-                    if (Pattern.matches(LOG_PATTERN, line)) {
-                        if (lineReader.markSupported()) {
-                            lineReader.reset();
-                        }
-                        break;
-                    } else if (StringUtils.isNotBlank(line)) {
-                        msg.append(line.trim()).append("\n");
-                    }
-                    lineReader.mark(4096);
-                }
-                logAnnotation = new ETLogAnnotation(lineNumber, lineSplit[0] + " "
-                    + lineSplit[1], lineSplit[3], severity, msg.toString());
-            }
+    public ETLogCheckpoint follow(@CheckForNull final ETLogCheckpoint checkpoint)
+        throws IOException, InterruptedException {
+        return logFile.act(new FollowLogCallable(AbstractETLogAction.getMaxLogSize(), checkpoint));
+    }
+
+    /**
+     * Parses all ecu.test log files of a directory in a single call on the node where the directory is located.
+     *
+     * @param baseDir  the base directory
+     * @param includes the inclusion file pattern
+     * @return the parse results mapped by the log file path relative to the base directory using {@code /} as
+     * separator, empty results for log files that could not be parsed
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    public static Map<String, ParseResult> parseLogs(final FilePath baseDir, final String includes)
+        throws IOException, InterruptedException {
+        return baseDir.act(new ParseLogsCallable(includes, AbstractETLogAction.getMaxLogSize()));
+    }
+
+    /**
+     * Parses the given ecu.test log file.
+     *
+     * @param logFile     the log file
+     * @param maxLogCount the maximum number of annotated log messages per severity
+     * @return the parse result
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    static ParseResult parse(final File logFile, final int maxLogCount) throws IOException {
+        return parse(logFile, maxLogCount, null);
+    }
+
+    /**
+     * Parses the given ecu.test log file resuming at the given checkpoint.
+     *
+     * @param logFile     the log file
+     * @param maxLogCount the maximum number of annotated log messages per severity
+     * @param checkpoint  the checkpoint to resume from, {@code null} to parse the entire file
+     * @return the parse result
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    static ParseResult parse(final File logFile, final int maxLogCount,
+                             @CheckForNull final ETLogCheckpoint checkpoint) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.READ)) {
+            return scan(channel, maxLogCount, checkpoint).finish();
+        }
+    }
+
+    /**
+     * Parses the given growing ecu.test log file up to its current end.
+     *
+     * @param logFile     the log file
+     * @param maxLogCount the maximum number of annotated log messages per severity
+     * @param checkpoint  the checkpoint to resume from, {@code null} to start at the beginning of the file
+     * @return the updated checkpoint
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    static ETLogCheckpoint follow(final File logFile, final int maxLogCount,
+                                  @CheckForNull final ETLogCheckpoint checkpoint) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.READ)) {
+            final ETLogScanner scanner = scan(channel, maxLogCount, checkpoint);
+            // Bytes before the checkpoint offset are not modified anymore unless the file is rotated
+            final int fingerprintLength = (int) Math.min(FINGERPRINT_SIZE, scanner.getCheckpointOffset());
+            return scanner.checkpoint(fingerprint(channel, fingerprintLength), fingerprintLength);
+        }
+    }
+
+    /**
+     * Scans the log file from the given checkpoint to its current end.
+     *
+     * @param channel     the channel of the log file
+     * @param maxLogCount the maximum number of annotated log messages per severity
+     * @param checkpoint  the checkpoint to resume from, ignored if the log file has been rotated meanwhile
+     * @return the scanner holding the scanned state
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static ETLogScanner scan(final FileChannel channel, final int maxLogCount,
+                                     @CheckForNull final ETLogCheckpoint checkpoint) throws IOException {
+        final ETLogScanner scanner;
+        if (checkpoint != null && !isRotated(channel, checkpoint)) {
+            scanner = new ETLogScanner(maxLogCount, checkpoint);
+            channel.position(checkpoint.getOffset());
+        } else {
+            scanner = new ETLogScanner(maxLogCount);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            scanner.scan(buffer.array(), buffer.limit());
+            buffer.clear();
         }
-        return logAnnotation;
+        return scanner;
     }
 
     /**
-     * Checks whether the given log line is a warning message.
+     * Checks whether the log file has been truncated or replaced since the checkpoint was taken.
      *
-     * @param line the log line
-     * @return {@code true} if warning message, {@code false} otherwise
+     * @param channel    the channel of the log file
+     * @param checkpoint the checkpoint
+     * @return {@code true} if the log file has to be parsed from the beginning, {@code false} otherwise
+     * @throws IOException signals that an I/O exception has occurred
      */
-    private boolean isWarningLog(final String line) {
-        return Pattern.matches(WARNING_PATTERN, line);
+    private static boolean isRotated(final FileChannel channel, final ETLogCheckpoint checkpoint)
+        throws IOException {
+        return channel.size() < checkpoint.getOffset()
+            || fingerprint(channel, checkpoint.getFingerprintLength()) != checkpoint.getFingerprint();
     }
 
     /**
-     * Checks whether the given log line is an error message.
+     * Calculates the fingerprint of the leading bytes of the log file.
      *
-     * @param line the log line
-     * @return {@code true} if error message, {@code false} otherwise
+     * @param channel the channel of the log file
+     * @param length  the number of leading bytes
+     * @return the CRC32 checksum of the leading bytes
+     * @throws IOException signals that an I/O exception has occurred
      */
-    private boolean isErrorLog(final String line) {
-        return Pattern.matches(ERROR_PATTERN, line);
+    private static long fingerprint(final FileChannel channel, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        int read = 0;
+        while (buffer.hasRemaining()) {
+            final int count = channel.read(buffer, read);
+            if (count == -1) {
+                break;
+            }
+            read += count;
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, read);
+        return crc.getValue();
+    }
+
+    /**
+     * Result of parsing a single log file.
+     */
+    public static final class ParseResult implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<ETLogAnnotation> annotations;
+        private final int warningCount;
+        private final int errorCount;
+        private final long length;
+
+        /**
+         * Instantiates a new {@link ParseResult}.
+         *
+         * @param annotations  the annotated log messages
+         * @param warningCount the total warning count
+         * @param errorCount   the total error count
+         * @param length       the number of parsed bytes
+         */
+        ParseResult(final List<ETLogAnnotation> annotations, final int warningCount, final int errorCount,
+                    final long length) {
+            this.annotations = annotations;
+            this.warningCount = warningCount;
+            this.errorCount = errorCount;
+            this.length = length;
+        }
+
+        /**
+         * Creates an empty result used for log files that could not be parsed.
+         *
+         * @return the empty parse result
+         */
+        public static ParseResult empty() {
+            return new ParseResult(Collections.emptyList(), 0, 0, 0);
+        }
+
+        public List<ETLogAnnotation> getAnnotations() {
+            return annotations;
+        }
+
+        public int getWarningCount() {
+            return warningCount;
+        }
+
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * Gets the total count of log messages matching the given severity.
+         *
+         * @param severity the severity
+         * @return the total log count by severity
+         */
+        public int getCount(final Severity severity) {
+            switch (severity) {
+                case WARNING:
+                    return warningCount;
+                case ERROR:
+                    return errorCount;
+                default:
+                    return 0;
+            }
+        }
+    }
+
+    /**
+     * {@link FileCallable} parsing the log file on the node where it is located.
+     */
+    private static final class ParseLogCallable extends MasterToSlaveFileCallable<ParseResult> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxLogCount;
+        @CheckForNull
+        private final ETLogCheckpoint checkpoint;
+
+        /**
+         * Instantiates a new {@link ParseLogCallable}.
+         *
+         * @param maxLogCount the maximum number of annotated log messages per severity
+         * @param checkpoint  the checkpoint to resume from, {@code null} to parse the entire file
+         */
+        ParseLogCallable(final int maxLogCount, @CheckForNull final ETLogCheckpoint checkpoint) {
+            this.maxLogCount = maxLogCount;
+            this.checkpoint = checkpoint;
+        }
+
+        @Override
+        public ParseResult invoke(final File logFile, final VirtualChannel channel) throws IOException {
+            return parse(logFile, maxLogCount, checkpoint);
+        }
+    }
+
+    /**
+     * {@link FileCallable} parsing the growing log file incrementally on the node where it is located.
+     */
+    private static final class FollowLogCallable extends MasterToSlaveFileCallable<ETLogCheckpoint> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxLogCount;
+        @CheckForNull
+        private final ETLogCheckpoint checkpoint;
+
+        /**
+         * Instantiates a new {@link FollowLogCallable}.
+         *
+         * @param maxLogCount the maximum number of annotated log messages per severity
+         * @param checkpoint  the checkpoint of the previous call, {@code null} to start at the beginning
+         */
+        FollowLogCallable(final int maxLogCount, @CheckForNull final ETLogCheckpoint checkpoint) {
+            this.maxLogCount = maxLogCount;
+            this.checkpoint = checkpoint;
+        }
+
+        @Override
+        public ETLogCheckpoint invoke(final File logFile, final VirtualChannel channel) throws IOException {
+            if (!logFile.isFile()) {
+                return checkpoint;
+            }
+            return follow(logFile, maxLogCount, checkpoint);
+        }
+    }
+
+    /**
+     * {@link FileCallable} parsing all log files of a directory on the node where they are located.
+     */
+    private static final class ParseLogsCallable extends MasterToSlaveFileCallable<Map<String, ParseResult>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String includes;
+        private final int maxLogCount;
+
+        /**
+         * Instantiates a new {@link ParseLogsCallable}.
+         *
+         * @param includes    the inclusion file pattern
+         * @param maxLogCount the maximum number of annotated log messages per severity
+         */
+        ParseLogsCallable(final String includes, final int maxLogCount) {
+            this.includes = includes;
+            this.maxLogCount = maxLogCount;
+        }
+
+        @Override
+        public Map<String, ParseResult> invoke(final File baseDir, final VirtualChannel channel) {
+            final Map<String, ParseResult> results = new HashMap<>();
+            if (!baseDir.isDirectory()) {
+                return results;
+            }
+            for (final String includedFile : Util.createFileSet(baseDir, includes)
+                .getDirectoryScanner().getIncludedFiles()) {
+                final File logFile = new File(baseDir, includedFile);
+                ParseResult result;
+                try {
+                    result = parse(logFile, maxLogCount);
+                } catch (final IOException e) {
+                    LOGGER.log(Level.SEVERE,
+                        String.format("Failed parsing log file %s: %s", logFile, e.getMessage()));
+                    result = ParseResult.empty();
+                }
+                results.put(includedFile.replace('\\', '/'), result);
+            }
+            return results;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -8,9 +8,10 @@ package de.tracetronic.jenkins.plugins.ecutest.report.log;
 import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
+import de.tracetronic.jenkins.plugins.ecutest.report.AbstractArchiveFileReport;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
-import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogAnnotation.Severity;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportTree;
 import hudson.Extension;
 import hudson.FilePath;
 import hudson.FilePath.FileCallable;
@@ -19,20 +20,27 @@ import hudson.Util;
 import hudson.model.Result;
 import hudson.model.Run;
 import hudson.model.TaskListener;
+import hudson.remoting.Channel;
+import hudson.remoting.RemoteOutputStream;
 import hudson.remoting.VirtualChannel;
 import jenkins.MasterToSlaveFileCallable;
 import org.jenkinsci.Symbol;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Publisher parsing the ecu.test log files and providing links to saved {@link ETLogReport}s.
@@ -54,6 +62,8 @@ public class ETLogPublisher extends AbstractReportPublisher {
      */
     static final List<String> ERROR_LOG_NAMES = Arrays.asList("ecu.test_err.log", "ECU_TEST_ERR.log");
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     /**
      * Specifies hether to mark the build as unstable if warnings found.
      */
@@ -68,6 +78,12 @@ public class ETLogPublisher extends AbstractReportPublisher {
      * @since 1.10
      */
     private boolean testSpecific;
+    /**
+     * Specifies whether to store the archived log files compressed.
+     *
+     * @since 2.47
+     */
+    private boolean compressArchive;
 
     /**
      * Instantiates a new {@link ETLogPublisher}.
@@ -104,6 +120,15 @@ public class ETLogPublisher extends AbstractReportPublisher {
         this.testSpecific = testSpecific;
     }
 
+    public boolean isCompressArchive() {
+        return compressArchive;
+    }
+
+    @DataBoundSetter
+    public void setCompressArchive(final boolean compressArchive) {
+        this.compressArchive = compressArchive;
+    }
+
     @SuppressWarnings("checkstyle:cyclomaticcomplexity")
     @Override
     public void performReport(final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
@@ -129,17 +154,27 @@ public class ETLogPublisher extends AbstractReportPublisher {
                 final List<FilePath> reportDirs = getReportDirs(run, workspace, launcher);
                 for (final FilePath reportDir : reportDirs) {
                     final FilePath archiveTargetDir = archiveTarget.child(reportDir.getName());
-                    if (reportDir.exists()) {
+                    if (getReportTree(run, reportDir) != null) {
+                        final Map<String, ETLogParser.ParseResult> results;
                         try {
                             logger.logInfo(String.format("- Archiving log files: %s", reportDir));
                             final String mask = Stream.concat(ERROR_LOG_NAMES.stream(), INFO_LOG_NAMES.stream())
                                 .map(s -> String.format("**/%s", s))
                                 .reduce((s, s2) -> String.format("%s,%s", s, s2))
                                 .orElse("");
-                            final int copiedFiles = reportDir.copyRecursiveTo(mask, archiveTargetDir);
+                            results = ETLogParser.parseLogs(reportDir, mask);
+                            final int copiedFiles = results.size();
                             if (copiedFiles == 0) {
                                 continue;
-                            } else if (copiedFiles > 2) {
+                            }
+                            if (isCompressArchive()) {
+                                for (final String logFile : results.keySet()) {
+                                    compressLogFile(reportDir.child(logFile), archiveTargetDir.child(logFile));
+                                }
+                            } else {
+                                archiveFiles(run, reportDir, mask, null, archiveTargetDir);
+                            }
+                            if (copiedFiles > 2) {
                                 logger.logInfo(String.format("-> Archived %d sub-report(s).", copiedFiles / 2 - 1));
                             }
                         } catch (final IOException e) {
@@ -148,17 +183,22 @@ public class ETLogPublisher extends AbstractReportPublisher {
                             run.setResult(Result.FAILURE);
                             return;
                         }
-                        traverseReports(logReports, archiveTargetDir);
+                        traverseReports(logReports, archiveTargetDir, results);
                     }
                 }
             } else {
                 final List<FilePath> logFiles = getCompleteLogFiles(run, workspace, launcher);
+                final ETLogFollowerAction followerAction = run.getAction(ETLogFollowerAction.class);
                 for (final FilePath logFile : logFiles) {
                     final FilePath targetFile = archiveTarget.child(logFile.getName());
                     try {
                         if (logFile.exists()) {
                             logger.logInfo(String.format("- Archiving log file: %s", logFile));
-                            logFile.copyTo(targetFile);
+                            if (isCompressArchive()) {
+                                compressLogFile(logFile, targetFile);
+                            } else {
+                                logFile.copyTo(targetFile);
+                            }
                         } else {
                             if (isAllowMissing()) {
                                 continue;
@@ -175,7 +215,11 @@ public class ETLogPublisher extends AbstractReportPublisher {
                         run.setResult(Result.FAILURE);
                         return;
                     }
-                    final ETLogReport logReport = parseLogFile(logFile, logFile.getParent());
+                    // Resume parsing where the log follower stopped during the test execution
+                    final ETLogCheckpoint checkpoint = followerAction != null
+                        ? followerAction.getCheckpoint(logFile.getRemote()) : null;
+                    final ETLogReport logReport = createLogReport(logFile, logFile.getParent(),
+                        new ETLogParser(logFile).parseLog(checkpoint));
                     logReports.add(logReport);
                 }
             }
@@ -199,21 +243,57 @@ public class ETLogPublisher extends AbstractReportPublisher {
     }
 
     /**
-     * Parses the ecu.test log file.
+     * Compresses the log file on the node where it is located and stores it next to the given target file name.
+     *
+     * @param logFile    the log file
+     * @param targetFile the uncompressed target file, the compressed file gets the additional extension
+     *                   {@link AbstractArchiveFileReport#COMPRESSED_EXTENSION}
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    private static void compressLogFile(final FilePath logFile, final FilePath targetFile)
+        throws IOException, InterruptedException {
+        final FilePath compressedFile = targetFile.sibling(
+            targetFile.getName() + AbstractArchiveFileReport.COMPRESSED_EXTENSION);
+        final FilePath parent = compressedFile.getParent();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (OutputStream out = compressedFile.write()) {
+            logFile.act(new CompressFileCallable(new RemoteOutputStream(out)));
+            // Make sure all writes have been delivered before closing
+            final VirtualChannel channel = logFile.getChannel();
+            if (channel instanceof Channel) {
+                ((Channel) channel).syncIO();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the archived log file exists, either plain or compressed.
+     *
+     * @param logDir      the scanned archive directory containing the log file
+     * @param logFileName the uncompressed archived log file name
+     * @return {@code true} if the archived log file exists, {@code false} otherwise
+     */
+    private static boolean isArchived(final ReportTree logDir, final String logFileName) {
+        return logDir.hasFile(logFileName)
+            || logDir.hasFile(logFileName + AbstractArchiveFileReport.COMPRESSED_EXTENSION);
+    }
+
+    /**
+     * Creates the report of a parsed ecu.test log file.
      *
      * @param logFile          the log file
      * @param archiveTargetDir the archive target directory
-     * @return the parsed {@link ETLogReport}
+     * @param result           the parse result of the log file
+     * @return the {@link ETLogReport}
      * @throws IOException          signals that an I/O exception has occurred.
      * @throws InterruptedException if the build gets interrupted
      */
-    private ETLogReport parseLogFile(final FilePath logFile, final FilePath archiveTargetDir)
+    private ETLogReport createLogReport(final FilePath logFile, final FilePath archiveTargetDir,
+                                        final ETLogParser.ParseResult result)
         throws IOException, InterruptedException {
-        final ETLogParser logParser = new ETLogParser(logFile);
-        final List<ETLogAnnotation> logs = logParser.parse();
-        final int warningLogCount = logParser.parseLogCount(Severity.WARNING);
-        final int errorLogCount = logParser.parseLogCount(Severity.ERROR);
-
         final String logTitle;
         final String relLogFile = archiveTargetDir.toURI().relativize(logFile.toURI()).getPath();
         if (isTestSpecific() && !logFile.getParent().getParent().getName().equals(archiveTargetDir.getName())) {
@@ -221,82 +301,124 @@ public class ETLogPublisher extends AbstractReportPublisher {
         } else {
             logTitle = logFile.getName();
         }
-        return new ETLogReport(randomId(), logTitle, relLogFile, logFile.length(), logs,
-            warningLogCount, errorLogCount);
+        return new ETLogReport(randomId(), logTitle, relLogFile, result.getLength(), result.getAnnotations(),
+            result.getWarningCount(), result.getErrorCount());
     }
 
     /**
-     * Creates the main report and adds the sub-reports by traversing them recursively.
+     * Creates the main report and adds the sub-reports by traversing them recursively. The archive target
+     * directory is scanned once instead of listing and checking each sub-report directory separately.
      *
      * @param logReports       the log reports
      * @param archiveTargetDir the archive target directory
+     * @param results          the parse results mapped by the log file path relative to the report directory
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    private void traverseReports(final List<ETLogReport> logReports, final FilePath archiveTargetDir)
+    private void traverseReports(final List<ETLogReport> logReports, final FilePath archiveTargetDir,
+                                 final Map<String, ETLogParser.ParseResult> results)
         throws IOException, InterruptedException {
+        final ReportTree reportTree = ReportTree.scan(archiveTargetDir);
+        if (reportTree == null) {
+            return;
+        }
         final ETLogReport logReport = new ETLogReport(randomId(), archiveTargetDir.getName(),
-            archiveTargetDir.getName(), getDirectorySize(archiveTargetDir), Collections.emptyList(), 0, 0);
+            archiveTargetDir.getName(), reportTree.getSize(), Collections.emptyList(), 0, 0);
         logReports.add(logReport);
 
-        FilePath errorLogFile = null;
-        FilePath infoLogFile = null;
-        for (final String logFileName: ERROR_LOG_NAMES) {
-            errorLogFile = archiveTargetDir.child(logFileName);
-            if (errorLogFile.exists()) {
-                break;
-            }
-        }
-        for (final String logFileName: INFO_LOG_NAMES) {
-            infoLogFile = archiveTargetDir.child(logFileName);
-            if (infoLogFile.exists()) {
-                break;
-            }
-        }
-        if (errorLogFile != null && errorLogFile.exists() && infoLogFile != null && infoLogFile.exists()) {
-            final ETLogReport errorLogReport = parseLogFile(errorLogFile, archiveTargetDir.getParent());
+        final String errorLogName = getFirstArchived(reportTree, ERROR_LOG_NAMES);
+        final String infoLogName = getFirstArchived(reportTree, INFO_LOG_NAMES);
+        if (errorLogName != null && infoLogName != null) {
+            final FilePath errorLogFile = archiveTargetDir.child(errorLogName);
+            final ETLogReport errorLogReport = createLogReport(errorLogFile, archiveTargetDir.getParent(),
+                getResult(results, archiveTargetDir, errorLogFile));
             logReport.addSubReport(errorLogReport);
-            final ETLogReport infoLogReport = parseLogFile(infoLogFile, archiveTargetDir.getParent());
+            final FilePath infoLogFile = archiveTargetDir.child(infoLogName);
+            final ETLogReport infoLogReport = createLogReport(infoLogFile, archiveTargetDir.getParent(),
+                getResult(results, archiveTargetDir, infoLogFile));
             logReport.addSubReport(infoLogReport);
         }
 
         // Search for sub-reports
-        traverseSubReports(logReport, archiveTargetDir.getParent(), archiveTargetDir);
+        traverseSubReports(logReport, archiveTargetDir, archiveTargetDir, reportTree, results);
+    }
+
+    /**
+     * Gets the first of the given log file names that has been archived in the given directory.
+     *
+     * @param logDir       the scanned archive directory
+     * @param logFileNames the log file names to check in order
+     * @return the archived log file name or {@code null} if none is archived
+     */
+    @CheckForNull
+    private static String getFirstArchived(final ReportTree logDir, final List<String> logFileNames) {
+        for (final String logFileName : logFileNames) {
+            if (isArchived(logDir, logFileName)) {
+                return logFileName;
+            }
+        }
+        return null;
     }
 
     /**
      * Traverses the sub-report directories recursively and searches for TRF reports.
      * Includes the report files generated during separate sub-project execution.
      *
-     * @param logReport        the log report
-     * @param testReportDir    the main test report directory
-     * @param subTestReportDir the sub test report directory
+     * @param logReport         the log report
+     * @param archiveTargetDir  the archive target directory of the main test report
+     * @param subTestReportDir  the sub test report directory
+     * @param subTestReportTree the scanned sub test report directory
+     * @param results           the parse results mapped by the log file path relative to the report directory
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    private void traverseSubReports(final ETLogReport logReport, final FilePath testReportDir,
-                                    final FilePath subTestReportDir) throws IOException, InterruptedException {
-        for (final FilePath subDir : subTestReportDir.listDirectories()) {
+    private void traverseSubReports(final ETLogReport logReport, final FilePath archiveTargetDir,
+                                    final FilePath subTestReportDir, final ReportTree subTestReportTree,
+                                    final Map<String, ETLogParser.ParseResult> results)
+        throws IOException, InterruptedException {
+        final FilePath testReportDir = archiveTargetDir.getParent();
+        for (final ReportTree subTree : subTestReportTree.getDirectories()) {
+            final FilePath subDir = subTestReportDir.child(subTree.getName());
             FilePath logFile;
             for (final String logFileName: ERROR_LOG_NAMES) {
                 logFile = subDir.child(logFileName);
-                if (logFile.exists()) {
-                    final ETLogReport subReport = parseLogFile(logFile, testReportDir);
+                if (isArchived(subTree, logFileName)) {
+                    final ETLogReport subReport = createLogReport(logFile, testReportDir,
+                        getResult(results, archiveTargetDir, logFile));
                     logReport.addSubReport(subReport);
 
                 }
             }
             for (final String logFileName: INFO_LOG_NAMES) {
                 logFile = subDir.child(logFileName);
-                if (logFile.exists()) {
-                    final ETLogReport subReport = parseLogFile(logFile, testReportDir);
+                if (isArchived(subTree, logFileName)) {
+                    final ETLogReport subReport = createLogReport(logFile, testReportDir,
+                        getResult(results, archiveTargetDir, logFile));
                     logReport.addSubReport(subReport);
-                    traverseSubReports(subReport, testReportDir, subDir);
+                    traverseSubReports(subReport, archiveTargetDir, subDir, subTree, results);
                 }
             }
         }
     }
 
+    /**
+     * Gets the parse result of an archived log file.
+     *
+     * @param results          the parse results mapped by the log file path relative to the report directory
+     * @param archiveTargetDir the archive target directory of the report directory
+     * @param logFile          the uncompressed archived log file
+     * @return the parse result, empty if the log file has not been parsed
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    private static ETLogParser.ParseResult getResult(final Map<String, ETLogParser.ParseResult> results,
+                                                     final FilePath archiveTargetDir, final FilePath logFile)
+        throws IOException, InterruptedException {
+        final String relLogFile = archiveTargetDir.toURI().relativize(logFile.toURI()).getPath();
+        final ETLogParser.ParseResult result = results.get(relLogFile);
+        return result != null ? result : ETLogParser.ParseResult.empty();
+    }
+
     /**
      * Adds the {@link ETLogBuildAction} to the build holding the found {@link ETLogReport}s.
      *
@@ -415,6 +537,33 @@ public class ETLogPublisher extends AbstractReportPublisher {
         }
     }
 
+    /**
+     * {@link FileCallable} compressing a file on the node where it is located.
+     */
+    private static final class CompressFileCallable extends MasterToSlaveFileCallable<Void> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final OutputStream out;
+
+        /**
+         * Instantiates a new {@link CompressFileCallable}.
+         *
+         * @param out the remote output stream to write the compressed file to
+         */
+        CompressFileCallable(final OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public Void invoke(final File file, final VirtualChannel channel) throws IOException {
+            try (OutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE)) {
+                Files.copy(file.toPath(), gzip);
+            }
+            return null;
+        }
+    }
+
     /**
      * DescriptorImpl for {@link ETLogPublisher}.
      */
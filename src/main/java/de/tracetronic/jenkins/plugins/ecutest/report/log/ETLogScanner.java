@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.log;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogAnnotation.Severity;
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Scanner splitting the raw bytes of an ecu.test log file into lines and classifying them.
+ *
+ * <p>
+ * Lines are recognized by {@code \n}, {@code \r} or {@code \r\n} like {@link java.io.BufferedReader}.
+ * Log headers are detected on the raw bytes, since their marker characters are ASCII, so only annotated log
+ * messages have to be decoded.
+ *
+ * <p>
+ * The scanner can be resumed from an {@link ETLogCheckpoint} in order to parse growing log files incrementally.
+ */
+final class ETLogScanner {
+
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final byte[] WARNING_SUFFIX = "WARNING:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ERROR_SUFFIX = "ERROR:".getBytes(StandardCharsets.US_ASCII);
+
+    private final int maxLogCount;
+    private final List<ETLogAnnotation> annotations;
+    private int warnLogCount;
+    private int errorLogCount;
+    private int lineNumber;
+    private long offset;
+    private long lineOffset;
+    private boolean skipLineFeed;
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private AnnotationBuilder current;
+
+    /**
+     * Instantiates a new {@link ETLogScanner} starting at the beginning of the log file.
+     *
+     * @param maxLogCount the maximum number of annotated log messages per severity
+     */
+    ETLogScanner(final int maxLogCount) {
+        this.maxLogCount = maxLogCount;
+        this.annotations = new ArrayList<>();
+    }
+
+    /**
+     * Instantiates a new {@link ETLogScanner} resuming at the given checkpoint.
+     *
+     * @param maxLogCount the maximum number of annotated log messages per severity
+     * @param checkpoint  the checkpoint to resume from
+     */
+    ETLogScanner(final int maxLogCount, final ETLogCheckpoint checkpoint) {
+        this.maxLogCount = maxLogCount;
+        this.annotations = new ArrayList<>(checkpoint.getAnnotations());
+        this.warnLogCount = checkpoint.getWarningCount();
+        this.errorLogCount = checkpoint.getErrorCount();
+        this.lineNumber = checkpoint.getLineNumber();
+        this.offset = checkpoint.getOffset();
+        this.lineOffset = checkpoint.getOffset();
+        this.skipLineFeed = checkpoint.isSkipLineFeed();
+    }
+
+    /**
+     * Scans the next chunk of the log file.
+     *
+     * @param data   the data
+     * @param length the number of valid bytes
+     */
+    void scan(final byte[] data, final int length) {
+        int start = 0;
+        if (skipLineFeed && length > 0) {
+            skipLineFeed = false;
+            if (data[0] == '\n') {
+                start = 1;
+                lineOffset++;
+            }
+        }
+        for (int i = start; i < length; i++) {
+            final byte b = data[i];
+            if (b == '\n' || b == '\r') {
+                append(data, start, i - start);
+                endLine();
+                if (b == '\r') {
+                    if (i + 1 < length) {
+                        if (data[i + 1] == '\n') {
+                            i++;
+                        }
+                    } else {
+                        skipLineFeed = true;
+                    }
+                }
+                start = i + 1;
+                lineOffset = offset + start;
+            }
+        }
+        append(data, start, length - start);
+        offset += length;
+    }
+
+    /**
+     * Finishes scanning at the end of the log file.
+     *
+     * @return the parse result
+     */
+    ETLogParser.ParseResult finish() {
+        if (lineLength > 0) {
+            endLine();
+        }
+        finishAnnotation();
+        return new ETLogParser.ParseResult(annotations, warnLogCount, errorLogCount, offset);
+    }
+
+    /**
+     * Gets the offset up to which the log file is completely scanned, i.e. the start of the last unterminated line
+     * or of the last log message that might still be continued.
+     *
+     * @return the checkpoint offset
+     */
+    long getCheckpointOffset() {
+        return current != null ? current.offset : lineOffset;
+    }
+
+    /**
+     * Creates a checkpoint of the scanned log file without consuming the pending parts, which are scanned again
+     * when resuming, since they might be continued by further output.
+     *
+     * @param fingerprint       the fingerprint of the log file
+     * @param fingerprintLength the number of bytes the fingerprint is calculated from
+     * @return the checkpoint
+     */
+    ETLogCheckpoint checkpoint(final long fingerprint, final int fingerprintLength) {
+        int warnings = warnLogCount;
+        int errors = errorLogCount;
+        if (current != null) {
+            // Rewind to the header of the pending log message
+            if (current.severity == Severity.WARNING) {
+                warnings--;
+            } else {
+                errors--;
+            }
+            return new ETLogCheckpoint(current.offset, current.lineNumber - 1, false,
+                new ArrayList<>(annotations), warnings, errors, fingerprint, fingerprintLength);
+        }
+        return new ETLogCheckpoint(lineOffset, lineNumber, skipLineFeed && lineLength == 0,
+            new ArrayList<>(annotations), warnings, errors, fingerprint, fingerprintLength);
+    }
+
+    private void append(final byte[] data, final int start, final int length) {
+        if (length <= 0) {
+            return;
+        }
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(data, start, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private void endLine() {
+        lineNumber++;
+        if (!isLogLine()) {
+            if (current != null) {
+                final String text = decodeLine();
+                if (StringUtils.isNotBlank(text)) {
+                    current.append(text.trim());
+                }
+            }
+        } else {
+            finishAnnotation();
+            if (endsWith(WARNING_SUFFIX)) {
+                if (warnLogCount++ < maxLogCount) {
+                    current = AnnotationBuilder.create(decodeLine(), lineNumber, lineOffset, Severity.WARNING);
+                }
+            } else if (endsWith(ERROR_SUFFIX)) {
+                if (errorLogCount++ < maxLogCount) {
+                    current = AnnotationBuilder.create(decodeLine(), lineNumber, lineOffset, Severity.ERROR);
+                }
+            }
+        }
+        lineLength = 0;
+    }
+
+    private void finishAnnotation() {
+        if (current != null) {
+            annotations.add(current.build());
+            current = null;
+        }
+    }
+
+    /**
+     * Checks whether the current line starts a new log message, i.e. starts with a non-whitespace character.
+     *
+     * @return {@code true} if log message, {@code false} otherwise
+     */
+    private boolean isLogLine() {
+        if (lineLength == 0) {
+            return false;
+        }
+        final byte first = line[0];
+        return first != ' ' && first != '\t' && first != '\u000B' && first != '\f';
+    }
+
+    /**
+     * Checks whether the current log message has the given severity suffix.
+     *
+     * @param suffix the severity suffix
+     * @return {@code true} if log message of this severity, {@code false} otherwise
+     */
+    private boolean endsWith(final byte[] suffix) {
+        if (lineLength <= suffix.length) {
+            return false;
+        }
+        final int start = lineLength - suffix.length;
+        for (int i = 0; i < suffix.length; i++) {
+            if (line[start + i] != suffix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decodeLine() {
+        return new String(line, 0, lineLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builder collecting the message lines of an annotated log message.
+     */
+    private static final class AnnotationBuilder {
+
+        private final int lineNumber;
+        private final long offset;
+        private final String timestamp;
+        private final String context;
+        private final Severity severity;
+        private final StringBuilder msg = new StringBuilder();
+
+        /**
+         * Instantiates a new {@link AnnotationBuilder}.
+         *
+         * @param lineNumber the line number
+         * @param offset     the byte offset of the line
+         * @param timestamp  the timestamp
+         * @param context    the context
+         * @param severity   the severity
+         */
+        private AnnotationBuilder(final int lineNumber, final long offset, final String timestamp,
+                                  final String context, final Severity severity) {
+            this.lineNumber = lineNumber;
+            this.offset = offset;
+            this.timestamp = timestamp;
+            this.context = context;
+            this.severity = severity;
+        }
+
+        /**
+         * Creates a builder for the given log message header.
+         *
+         * @param line       the log message header
+         * @param lineNumber the line number
+         * @param offset     the byte offset of the line
+         * @param severity   the severity to annotate the message
+         * @return the builder or {@code null} if the header is malformed
+         */
+        @CheckForNull
+        static AnnotationBuilder create(final String line, final int lineNumber, final long offset,
+                                        final Severity severity) {
+            final String[] lineSplit = WHITESPACE_PATTERN.split(line);
+            if (lineSplit.length != 5) {
+                return null;
+            }
+            return new AnnotationBuilder(lineNumber, offset, lineSplit[0] + " " + lineSplit[1], lineSplit[3],
+                severity);
+        }
+
+        void append(final String line) {
+            msg.append(line).append("\n");
+        }
+
+        ETLogAnnotation build() {
+            return new ETLogAnnotation(lineNumber, offset, timestamp, context, severity, msg.toString());
+        }
+    }
+}
@@ -1,11 +1,12 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.report.ta;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractTestReport;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportIndex;
 import hudson.model.Action;
 import jenkins.tasks.SimpleBuildStep;
 
@@ -21,6 +22,13 @@ public class TraceAnalysisBuildAction extends AbstractTraceAnalysisAction implem
 
     private final List<TraceAnalysisReport> taReports = new ArrayList<>();
 
+    /**
+     * Index of all reports by their id, built lazily on first access.
+     *
+     * @since 2.47
+     */
+    private transient ReportIndex<TraceAnalysisReport> reportIndex;
+
     /**
      * Instantiates a new {@link TraceAnalysisBuildAction}.
      *
@@ -44,8 +52,9 @@ public class TraceAnalysisBuildAction extends AbstractTraceAnalysisAction implem
      *
      * @param report the trace analysis report to add
      */
-    public void add(final TraceAnalysisReport report) {
+    public synchronized void add(final TraceAnalysisReport report) {
         taReports.add(report);
+        reportIndex = null;
     }
 
     /**
@@ -53,8 +62,9 @@ public class TraceAnalysisBuildAction extends AbstractTraceAnalysisAction implem
      *
      * @param reports the collection of trace analysis reports
      */
-    public void addAll(final Collection<TraceAnalysisReport> reports) {
+    public synchronized void addAll(final Collection<TraceAnalysisReport> reports) {
         this.taReports.addAll(reports);
+        reportIndex = null;
     }
 
     /**
@@ -64,39 +74,28 @@ public class TraceAnalysisBuildAction extends AbstractTraceAnalysisAction implem
      * @return the {@link TraceAnalysisReport} or {@code null} if no proper report exists
      */
     public AbstractTestReport getDynamic(final String token) {
-        for (final TraceAnalysisReport report : getTraceAnalysisReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final TraceAnalysisReport potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+        return getReportIndex().get(token);
     }
 
     /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link TraceAnalysisReport} matching the given token id.
+     * Gets all reports including their sub-reports in display order.
      *
-     * @param token  the token id
-     * @param report the report
-     * @return the {@link TraceAnalysisReport} or {@code null} if no proper report exists
+     * @return the flattened report tree
+     */
+    public List<ReportIndex.Entry<TraceAnalysisReport>> getFlattenedReports() {
+        return getReportIndex().getEntries();
+    }
+
+    /**
+     * Gets the index of all reports, built on first access after adding reports or loading the build.
+     *
+     * @return the report index
      */
-    private TraceAnalysisReport traverseSubReports(final String token, final TraceAnalysisReport report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (TraceAnalysisReport) subReport;
-            } else {
-                final TraceAnalysisReport potentialReport = traverseSubReports(token, (TraceAnalysisReport) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
+    private synchronized ReportIndex<TraceAnalysisReport> getReportIndex() {
+        if (reportIndex == null) {
+            reportIndex = new ReportIndex<>(taReports);
         }
-        return null;
+        return reportIndex;
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -9,6 +9,7 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractToolPublisher;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportArchiveSession;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.validation.TestValidator;
@@ -198,6 +199,8 @@ public class TraceAnalysisPublisher extends AbstractToolPublisher {
             final TraceAnalysisRunner runner = new TraceAnalysisRunner();
             final List<FilePath> reportFiles = runner.runAnalysis(jobFiles, isCreateReportDir(),
                 getParsedTimeout(), launcher, listener);
+            // Analysis reports are written into the report directories
+            ReportArchiveSession.get(run).invalidateReportTrees();
 
             if (reportFiles.isEmpty() && !isAllowMissing()) {
                 logger.logError("-> Empty analysis results are not allowed, setting build status to FAILURE!");
@@ -275,7 +278,7 @@ public class TraceAnalysisPublisher extends AbstractToolPublisher {
     private void archiveReport(final FilePath reportFile, final FilePath archiveTarget, final Run<?, ?> run,
                                final TTConsoleLogger logger) throws IOException, InterruptedException {
         if (reportFile.exists()) {
-            reportFile.copyTo(archiveTarget.child(reportFile.getName()));
+            archiveFiles(run, reportFile.getParent(), reportFile.getName(), null, archiveTarget);
         } else if (!isAllowMissing()) {
             logger.logError(String.format("-> Specified report file '%s' does not exist.",
                 reportFile.getName()));
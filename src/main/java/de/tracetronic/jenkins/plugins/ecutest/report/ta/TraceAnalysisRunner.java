@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -8,9 +8,11 @@ package de.tracetronic.jenkins.plugins.ecutest.report.ta;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.AnalysisEnvironment;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.AnalysisExecutionInfo;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ExecutionWatcher;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.TaskListener;
@@ -96,26 +98,18 @@ public class TraceAnalysisRunner {
             final List<FilePath> reportFiles = new ArrayList<>();
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId);
                  AnalysisEnvironment analysisEnv = (AnalysisEnvironment) comClient.getAnalysisEnvironment()) {
                 for (final FilePath jobFile : jobFiles) {
                     logger.logInfo(String.format("- Running trace analysis: %s", jobFile.getRemote()));
                     final AnalysisExecutionInfo execInfo =
                         (AnalysisExecutionInfo) analysisEnv.executeJob(jobFile.getRemote(), createReportDir);
-                    int tickCounter = 0;
-                    final long endTimeMillis = System.currentTimeMillis() + (long) timeout * 1000L;
-                    while ("RUNNING".equals(execInfo.getState())) {
-                        if (tickCounter % 60 == 0) {
-                            logger.logInfo("-- tick...");
-                        }
-                        if (timeout > 0 && System.currentTimeMillis() > endTimeMillis) {
-                            logger.logWarn(String.format("-> Analysis execution timeout of %d seconds reached! "
-                                + "Aborting trace analysis now...", timeout));
-                            execInfo.abort();
-                            break;
-                        }
-                        Thread.sleep(1000L);
-                        tickCounter++;
+                    final ExecutionWatcher watcher = new ExecutionWatcher(execInfo::getState, timeout)
+                        .withTickListener(() -> logger.logInfo("-- tick..."));
+                    if (!watcher.await()) {
+                        logger.logWarn(String.format("-> Analysis execution timeout of %d seconds reached! "
+                            + "Aborting trace analysis now...", timeout));
+                        execInfo.abort();
                     }
                     getTestInfo(execInfo, logger);
                     reportFiles.add(jobFile.child(execInfo.getReportDb()));
@@ -171,7 +165,7 @@ public class TraceAnalysisRunner {
             boolean isMerged;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId);
                  AnalysisEnvironment analysisEnv = (AnalysisEnvironment) comClient.getAnalysisEnvironment()) {
                 final List<String> jobFiles = getJobFiles(jobReports);
                 logger.logInfo(String.format("- Merging analysis reports into main report: %s",
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -12,9 +12,10 @@ import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFReport;
 import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTMSClient;
 import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -116,7 +117,7 @@ public class TMSReportUploader extends AbstractTMSClient {
             boolean isUploaded = true;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 for (final FilePath reportFile : reportFiles) {
                     logger.logInfo(String.format("-> Publishing TRF report: %s", reportFile.getRemote()));
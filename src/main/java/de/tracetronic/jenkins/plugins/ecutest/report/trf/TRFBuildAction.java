@@ -1,11 +1,12 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.report.trf;
 
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractTestReport;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportIndex;
 import hudson.model.Action;
 import jenkins.tasks.SimpleBuildStep;
 
@@ -21,6 +22,13 @@ public class TRFBuildAction extends AbstractTRFAction implements SimpleBuildStep
 
     private final List<TRFReport> trfReports = new ArrayList<>();
 
+    /**
+     * Index of all reports by their id, built lazily on first access.
+     *
+     * @since 2.47
+     */
+    private transient ReportIndex<TRFReport> reportIndex;
+
     /**
      * Instantiates a new {@link TRFBuildAction}.
      *
@@ -44,8 +52,9 @@ public class TRFBuildAction extends AbstractTRFAction implements SimpleBuildStep
      *
      * @param report the TRF report to add
      */
-    public void add(final TRFReport report) {
+    public synchronized void add(final TRFReport report) {
         this.trfReports.add(report);
+        reportIndex = null;
     }
 
     /**
@@ -53,8 +62,9 @@ public class TRFBuildAction extends AbstractTRFAction implements SimpleBuildStep
      *
      * @param reports the collection of TRF reports
      */
-    public void addAll(final Collection<TRFReport> reports) {
+    public synchronized void addAll(final Collection<TRFReport> reports) {
         this.trfReports.addAll(reports);
+        reportIndex = null;
     }
 
     /**
@@ -64,39 +74,28 @@ public class TRFBuildAction extends AbstractTRFAction implements SimpleBuildStep
      * @return the {@link TRFReport} or {@code null} if no proper report exists
      */
     public AbstractTestReport getDynamic(final String token) {
-        for (final TRFReport report : getTRFReports()) {
-            if (token.equals(report.getId())) {
-                return report;
-            } else {
-                final TRFReport potentialReport = traverseSubReports(token, report);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
-        }
-        return null;
+        return getReportIndex().get(token);
     }
 
     /**
-     * Traverses the sub-reports recursively and searches
-     * for the {@link TRFReport} matching the given token id.
+     * Gets all reports including their sub-reports in display order.
      *
-     * @param token  the token id
-     * @param report the report
-     * @return the {@link TRFReport} or {@code null} if no proper report exists
+     * @return the flattened report tree
+     */
+    public List<ReportIndex.Entry<TRFReport>> getFlattenedReports() {
+        return getReportIndex().getEntries();
+    }
+
+    /**
+     * Gets the index of all reports, built on first access after adding reports or loading the build.
+     *
+     * @return the report index
      */
-    private TRFReport traverseSubReports(final String token, final TRFReport report) {
-        for (final AbstractTestReport subReport : report.getSubReports()) {
-            if (token.equals(subReport.getId())) {
-                return (TRFReport) subReport;
-            } else {
-                final TRFReport potentialReport = traverseSubReports(token, (TRFReport) subReport);
-                if (potentialReport != null) {
-                    return potentialReport;
-                }
-            }
+    private synchronized ReportIndex<TRFReport> getReportIndex() {
+        if (reportIndex == null) {
+            reportIndex = new ReportIndex<>(trfReports);
         }
-        return null;
+        return reportIndex;
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -9,6 +9,7 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportDescriptor;
 import de.tracetronic.jenkins.plugins.ecutest.report.AbstractReportPublisher;
+import de.tracetronic.jenkins.plugins.ecutest.report.ReportTree;
 import hudson.Extension;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -95,8 +96,10 @@ public class TRFPublisher extends AbstractReportPublisher {
             }
             for (final FilePath reportDir : reportDirs) {
                 final FilePath archiveTargetDir = archiveTarget.child(reportDir.getName());
-                final FilePath reportFile = getFirstReportFile(reportDir);
-                if (reportDir.list(PRF_PATTERN).length > 0) {
+                final ReportTree reportTree = getReportTree(run, reportDir);
+                final String reportFileName = reportTree != null ? reportTree.getFirstReportFile() : null;
+                final FilePath reportFile = reportFileName != null ? reportDir.child(reportFileName) : null;
+                if (reportTree != null && reportTree.containsFiles(PRF_PATTERN)) {
                     logger.logWarn(String.format("Found a .prf file in report folder %s. Due to the deprecation of "
                             + "this plugin it does not support this new file format. Consider migrating to the ecu.test"
                             + " execution plugin or deactivate the creation of .prf files. Skipping this report "
@@ -104,10 +107,10 @@ public class TRFPublisher extends AbstractReportPublisher {
                         reportDir));
                     continue;
                 }
-                if (reportFile != null && reportFile.exists()) {
+                if (reportFile != null) {
                     try {
                         logger.logInfo(String.format("- Archiving TRF report: %s", reportFile));
-                        final int copiedFiles = reportDir.copyRecursiveTo(TRF_INCLUDES, TRF_EXCLUDES,
+                        final int copiedFiles = archiveFiles(run, reportDir, TRF_INCLUDES, TRF_EXCLUDES,
                             archiveTargetDir);
                         if (copiedFiles == 0) {
                             continue;
@@ -144,7 +147,8 @@ public class TRFPublisher extends AbstractReportPublisher {
     }
 
     /**
-     * Creates the main report and adds the sub-reports by traversing them recursively.
+     * Creates the main report and adds the sub-reports by traversing them recursively. The archive target
+     * directory is scanned once instead of listing and checking each sub-report directory separately.
      *
      * @param trfReports       the TRF reports
      * @param archiveTargetDir the archive target directory
@@ -153,15 +157,16 @@ public class TRFPublisher extends AbstractReportPublisher {
      */
     private void traverseReports(final List<TRFReport> trfReports, final FilePath archiveTargetDir)
         throws IOException, InterruptedException {
-        final FilePath trfFile = getFirstReportFile(archiveTargetDir);
-        if (trfFile != null && trfFile.exists()) {
-            final String relFilePath = archiveTargetDir.getParent().toURI().relativize(trfFile.toURI()).getPath();
-            final TRFReport trfReport = new TRFReport(randomId(), trfFile.getParent().getName(),
-                relFilePath, trfFile.length());
+        final ReportTree reportTree = ReportTree.scan(archiveTargetDir);
+        final String trfFile = reportTree != null ? reportTree.getFirstReportFile() : null;
+        if (trfFile != null) {
+            final String relFilePath = String.format("%s/%s", reportTree.getName(), trfFile);
+            final TRFReport trfReport = new TRFReport(randomId(), reportTree.getName(),
+                relFilePath, reportTree.getFileSize(trfFile));
             trfReports.add(trfReport);
 
             // Search for sub-reports
-            traverseSubReports(trfReport, archiveTargetDir.getParent(), archiveTargetDir);
+            traverseSubReports(trfReport, reportTree, reportTree);
         }
     }
 
@@ -172,17 +177,16 @@ public class TRFPublisher extends AbstractReportPublisher {
      * @param trfReport        the TRF report
      * @param testReportDir    the main test report directory
      * @param subTestReportDir the sub test report directory
-     * @throws IOException          signals that an I/O exception has occurred
-     * @throws InterruptedException if the build gets interrupted
      */
-    private void traverseSubReports(final TRFReport trfReport, final FilePath testReportDir,
-                                    final FilePath subTestReportDir) throws IOException, InterruptedException {
-        for (final FilePath subDir : subTestReportDir.listDirectories()) {
-            final FilePath reportFile = getFirstReportFile(subDir);
-            if (reportFile != null && reportFile.exists()) {
-                final String relFilePath = testReportDir.toURI().relativize(reportFile.toURI()).getPath();
-                final TRFReport subReport = new TRFReport(randomId(), reportFile.getParent()
-                    .getName().replaceFirst("^Report\\s", ""), relFilePath, reportFile.length());
+    private void traverseSubReports(final TRFReport trfReport, final ReportTree testReportDir,
+                                    final ReportTree subTestReportDir) {
+        for (final ReportTree subDir : subTestReportDir.getDirectories()) {
+            final String reportFile = subDir.getFirstReportFile();
+            if (reportFile != null) {
+                final String relFilePath = String.format("%s/%s/%s", testReportDir.getName(), subDir.getPath(),
+                    reportFile);
+                final TRFReport subReport = new TRFReport(randomId(), subDir.getName()
+                    .replaceFirst("^Report\\s", ""), relFilePath, subDir.getFileSize(reportFile));
                 trfReport.addSubReport(subReport);
                 traverseSubReports(subReport, testReportDir, subDir);
             }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf.reader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Forward-only cursor iterating the rows of a TRF query without materializing the whole result.
+ *
+ * <p>
+ * The cursor has to be closed after use, the underlying prepared statement stays cached by the {@link TRFReader}.
+ * Database errors while iterating are thrown as {@link UncheckedIOException}.
+ *
+ * @param <T> the row type
+ */
+public class TRFCursor<T> implements Iterator<T>, Iterable<T>, AutoCloseable {
+
+    private final ResultSet resultSet;
+    private final RowMapper<T> mapper;
+    private Boolean hasNext;
+
+    /**
+     * Instantiates a new {@link TRFCursor}.
+     *
+     * @param resultSet the result set to iterate
+     * @param mapper    the mapper converting a row
+     */
+    TRFCursor(final ResultSet resultSet, final RowMapper<T> mapper) {
+        this.resultSet = resultSet;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasNext == null) {
+            try {
+                hasNext = resultSet.next();
+            } catch (final SQLException e) {
+                throw new UncheckedIOException(new IOException(e));
+            }
+        }
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        hasNext = null;
+        try {
+            return mapper.map(resultSet);
+        } catch (final SQLException e) {
+            throw new UncheckedIOException(new IOException(e));
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            resultSet.close();
+        } catch (final SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Maps the current row of a result set.
+     *
+     * @param <T> the row type
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+
+        /**
+         * Maps the current row.
+         *
+         * @param resultSet the result set positioned at the row
+         * @return the mapped row
+         * @throws SQLException in case of a SQL exception
+         */
+        T map(ResultSet resultSet) throws SQLException;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf.reader;
+
+import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction.TestType;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.sqlite.SQLiteConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Read-only reader for TRF reports, which are SQLite databases written by ecu.test.
+ *
+ * <p>
+ * The reader keeps a single connection open for its whole lifetime and caches every prepared statement, so reading
+ * the report info and the test cases of one report does not reconnect or re-prepare any query. Test cases are
+ * streamed by {@link TRFCursor}s instead of being loaded at once.
+ *
+ * <p>
+ * Only the tables and columns known from reports written by ecu.test are read:
+ * <ul>
+ * <li>{@code info}: execution time and duration</li>
+ * <li>{@code prj}: project name, {@value #PACKAGE_PROJECT} for package reports</li>
+ * <li>{@code pkg}: package names in execution order</li>
+ * </ul>
+ * Verdicts, timings and the report item hierarchy of the packages are not read, so test cases have no verdict.
+ *
+ * <p>
+ * A reader and its cursors are not thread-safe. Executing the same query again closes a cursor that is still open
+ * for that query.
+ */
+public class TRFReader implements AutoCloseable {
+
+    /**
+     * Defines the project name used by ecu.test for package reports.
+     */
+    public static final String PACKAGE_PROJECT = "$$$_PACKAGE_$$$";
+
+    private static final String EXECUTION_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    private static final String QUERY_INFO = "SELECT execution_time, duration FROM info";
+    private static final String QUERY_PRJ = "SELECT name FROM prj";
+    private static final String QUERY_PKG = "SELECT name FROM pkg ORDER BY rowid";
+    private static final String QUERY_TEST_CASES = "SELECT rowid, name FROM pkg ORDER BY rowid";
+
+    private final String trfFile;
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private TRFReportInfo reportInfo;
+
+    /**
+     * Instantiates a new {@link TRFReader} and opens a read-only connection to the given TRF report.
+     *
+     * @param trfFile the TRF file
+     * @throws IOException in case the TRF report cannot be opened
+     */
+    public TRFReader(final File trfFile) throws IOException {
+        if (!trfFile.isFile()) {
+            throw new IOException(String.format("TRF report %s does not exist!", trfFile));
+        }
+        this.trfFile = trfFile.getAbsolutePath();
+        try {
+            Class.forName("org.sqlite.JDBC");
+            final SQLiteConfig config = new SQLiteConfig();
+            config.setReadOnly(true);
+            connection = DriverManager.getConnection("jdbc:sqlite:" + this.trfFile, config.toProperties());
+        } catch (final ClassNotFoundException | SQLException e) {
+            throw new IOException(String.format("Could not open TRF report %s!", this.trfFile), e);
+        }
+    }
+
+    /**
+     * Gets the general report information. The information is read only once per reader.
+     *
+     * @return the report info
+     * @throws IOException in case the TRF report cannot be read
+     */
+    public TRFReportInfo getReportInfo() throws IOException {
+        if (reportInfo == null) {
+            try {
+                reportInfo = readReportInfo();
+            } catch (final SQLException | ParseException e) {
+                throw new IOException(String.format("Could not read TRF report %s!", trfFile), e);
+            }
+        }
+        return reportInfo;
+    }
+
+    /**
+     * Streams all test cases, i.e. all executed packages, in execution order. The test cases have no verdict and
+     * timing, because these are not read from the TRF report.
+     *
+     * @return the test case cursor, has to be closed after use
+     * @throws IOException in case the TRF report cannot be read
+     */
+    public TRFCursor<TRFTestCase> getTestCases() throws IOException {
+        return query(QUERY_TEST_CASES, rs -> new TRFTestCase(rs.getLong(1), rs.getString(2),
+            TRFVerdict.NONE, 0.0, 0.0, ""));
+    }
+
+    @Override
+    public void close() throws IOException {
+        SQLException exception = null;
+        for (final PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                exception = e;
+            }
+        }
+        statements.clear();
+        try {
+            connection.close();
+        } catch (final SQLException e) {
+            exception = e;
+        }
+        if (exception != null) {
+            throw new IOException(exception);
+        }
+    }
+
+    /**
+     * Reads the report info from the {@code info}, {@code prj} and {@code pkg} tables.
+     *
+     * @return the report info
+     * @throws SQLException   in case of a SQL exception or if the report info or the project is missing
+     * @throws ParseException in case the execution time cannot be parsed
+     */
+    private TRFReportInfo readReportInfo() throws SQLException, ParseException {
+        final long executionTime;
+        final long duration;
+        try (ResultSet rs = prepare(QUERY_INFO).executeQuery()) {
+            if (!rs.next()) {
+                throw new SQLException("Missing report info");
+            }
+            final SimpleDateFormat format = new SimpleDateFormat(EXECUTION_TIME_FORMAT, Locale.ENGLISH);
+            executionTime = format.parse(rs.getString("execution_time")).getTime();
+            duration = (long) (rs.getDouble("duration") * 1000.0);
+        }
+
+        final String prjName = queryFirstName(QUERY_PRJ);
+        if (prjName == null) {
+            throw new SQLException("Missing project");
+        }
+        if (PACKAGE_PROJECT.equals(prjName)) {
+            final String pkgName = queryFirstName(QUERY_PKG);
+            if (pkgName == null) {
+                throw new SQLException("Missing package");
+            }
+            return new TRFReportInfo(pkgName, TestType.PACKAGE, executionTime, duration);
+        }
+        return new TRFReportInfo(prjName, TestType.PROJECT, executionTime, duration);
+    }
+
+    /**
+     * Queries the first name column of given statement.
+     *
+     * @param sql the SQL statement
+     * @return the first name or {@code null} if there are no rows
+     * @throws SQLException in case of a SQL exception
+     */
+    private String queryFirstName(final String sql) throws SQLException {
+        try (ResultSet rs = prepare(sql).executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    /**
+     * Executes a cached prepared statement and wraps its result set in a cursor.
+     *
+     * @param sql        the SQL statement
+     * @param mapper     the row mapper
+     * @param parameters the statement parameters
+     * @param <T>        the row type
+     * @return the cursor
+     * @throws IOException in case of a SQL exception
+     */
+    private <T> TRFCursor<T> query(final String sql, final TRFCursor.RowMapper<T> mapper,
+                                   final Object... parameters) throws IOException {
+        try {
+            final PreparedStatement statement = prepare(sql);
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            return new TRFCursor<>(statement.executeQuery(), mapper);
+        } catch (final SQLException e) {
+            throw new IOException(String.format("Could not read TRF report %s!", trfFile), e);
+        }
+    }
+
+    /**
+     * Gets the cached prepared statement for given SQL statement or prepares a new one.
+     *
+     * @param sql the SQL statement
+     * @return the prepared statement
+     * @throws SQLException in case of a SQL exception
+     */
+    @SuppressFBWarnings(value = "SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING",
+                        justification = "Constant query statements used only")
+    private PreparedStatement prepare(final String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf.reader;
+
+import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction.TestType;
+
+import java.io.Serializable;
+
+/**
+ * General information about a TRF report.
+ */
+public class TRFReportInfo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final TestType testType;
+    private final long executionTime;
+    private final long duration;
+
+    /**
+     * Instantiates a new {@link TRFReportInfo}.
+     *
+     * @param name          the name of the executed package or project
+     * @param testType      the test type
+     * @param executionTime the starting execution time in milliseconds since epoch
+     * @param duration      the execution duration in milliseconds
+     */
+    public TRFReportInfo(final String name, final TestType testType, final long executionTime, final long duration) {
+        this.name = name;
+        this.testType = testType;
+        this.executionTime = executionTime;
+        this.duration = duration;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TestType getTestType() {
+        return testType;
+    }
+
+    public long getExecutionTime() {
+        return executionTime;
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the finishing execution time.
+     *
+     * @return the finishing execution time in milliseconds since epoch
+     */
+    public long getEndTime() {
+        return executionTime + duration;
+    }
+}
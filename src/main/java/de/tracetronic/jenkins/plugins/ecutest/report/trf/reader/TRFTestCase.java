@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf.reader;
+
+/**
+ * Test case of a TRF report, which is an executed package either standalone or as part of a project.
+ */
+public class TRFTestCase {
+
+    private final long id;
+    private final String name;
+    private final TRFVerdict verdict;
+    private final double timestamp;
+    private final double duration;
+    private final String comment;
+
+    /**
+     * Instantiates a new {@link TRFTestCase}.
+     *
+     * @param id        the package id
+     * @param name      the package name
+     * @param verdict   the package verdict
+     * @param timestamp the relative start time in seconds
+     * @param duration  the duration in seconds
+     * @param comment   the verdict comment, may be empty
+     */
+    public TRFTestCase(final long id, final String name, final TRFVerdict verdict, final double timestamp,
+                       final double duration, final String comment) {
+        this.id = id;
+        this.name = name;
+        this.verdict = verdict;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.comment = comment;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TRFVerdict getVerdict() {
+        return verdict;
+    }
+
+    public double getTimestamp() {
+        return timestamp;
+    }
+
+    public double getDuration() {
+        return duration;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+}
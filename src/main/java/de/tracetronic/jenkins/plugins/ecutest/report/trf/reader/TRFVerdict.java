@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf.reader;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Defines the verdicts stored in a TRF report, ordered by severity.
+ */
+public enum TRFVerdict {
+    /**
+     * No verdict, e.g. not executed.
+     */
+    NONE,
+
+    /**
+     * Test passed.
+     */
+    SUCCESS,
+
+    /**
+     * Test result is inconclusive.
+     */
+    INCONCLUSIVE,
+
+    /**
+     * Test failed.
+     */
+    FAILED,
+
+    /**
+     * Test execution error.
+     */
+    ERROR;
+
+    /**
+     * Parses the verdict stored in a TRF report.
+     *
+     * @param value the stored verdict
+     * @return the verdict, {@link #NONE} if empty or unknown
+     */
+    public static TRFVerdict parse(final String value) {
+        if (StringUtils.isBlank(value)) {
+            return NONE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+        } catch (final IllegalArgumentException e) {
+            return NONE;
+        }
+    }
+
+    /**
+     * Returns the more severe of this and the given verdict.
+     *
+     * @param other the other verdict
+     * @return the worse verdict
+     */
+    public TRFVerdict worst(final TRFVerdict other) {
+        return other.compareTo(this) > 0 ? other : this;
+    }
+}
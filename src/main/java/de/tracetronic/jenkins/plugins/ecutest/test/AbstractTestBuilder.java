@@ -9,6 +9,7 @@ import de.tracetronic.jenkins.plugins.ecutest.ETPlugin;
 import de.tracetronic.jenkins.plugins.ecutest.ETPluginException;
 import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
+import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogFollower;
 import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTestClient;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExecutionConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
@@ -88,7 +89,25 @@ public abstract class AbstractTestBuilder extends AbstractTestHelper implements
 
         try {
             ProcessUtil.checkOS(launcher);
-            final boolean performed = performTest(run, workspace, launcher, listener);
+            final ETLogFollower logFollower = ETLogFollower.start(run, launcher, listener,
+                getExecutionConfig().getMaxLogErrors());
+            boolean performed;
+            try {
+                performed = performTest(run, workspace, launcher, listener);
+            } catch (final InterruptedException e) {
+                // Interrupted by the log follower after reaching the maximum number of logged errors
+                if (logFollower == null || !logFollower.isAborted()) {
+                    throw e;
+                }
+                performed = false;
+            } finally {
+                if (logFollower != null) {
+                    logFollower.close();
+                }
+            }
+            if (logFollower != null && logFollower.isAborted()) {
+                performed = false;
+            }
             if (!performed) {
                 if (getExecutionConfig().isStopOnError()) {
                     logger.logInfo("- Closing running ecu.test and Tool-Server instances...");
@@ -148,7 +167,7 @@ public abstract class AbstractTestBuilder extends AbstractTestHelper implements
             expPkgDir = null;
         } else {
             // Determine packages directory by COM API
-            final String packageDir = getPackagesDir(launcher, listener);
+            final String packageDir = getPackagesDir(run, workspace, launcher, listener);
 
             // Absolute packages directory, if not absolute assume relative to ecu.test workspace
             expPkgDir = PathUtil.makeAbsolutePath(packageDir, workspace);
@@ -173,7 +192,7 @@ public abstract class AbstractTestBuilder extends AbstractTestHelper implements
             final String tcfFile = expTestConfig.getTcfFile();
             if (!IOUtils.isAbsolute(tbcFile) || !IOUtils.isAbsolute(tcfFile)) {
                 // Determine configuration directory by COM API
-                final String configDir = getConfigDir(launcher, listener);
+                final String configDir = getConfigDir(run, workspace, launcher, listener);
 
                 // Absolutize configuration directory, if not absolute assume relative to ecu.test workspace
                 final String expConfigDir = PathUtil.makeAbsolutePath(configDir, workspace);
@@ -1,25 +1,31 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.test;
 
 import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction;
+import de.tracetronic.jenkins.plugins.ecutest.env.ToolEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.ETClient;
 import de.tracetronic.jenkins.plugins.ecutest.tool.client.TSClient;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
+import de.tracetronic.jenkins.plugins.ecutest.tool.client.ToolInfo;
+import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import hudson.FilePath;
 import hudson.Launcher;
+import hudson.model.Computer;
 import hudson.model.Run;
 import hudson.model.TaskListener;
 import hudson.remoting.Callable;
 import hudson.tasks.Builder;
 import jenkins.security.MasterToSlaveCallable;
 
+import javax.annotation.CheckForNull;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
@@ -166,6 +172,91 @@ public abstract class AbstractTestHelper extends Builder {
         return configFilePath;
     }
 
+    /**
+     * Gets the configuration directory of the current ecu.test workspace. The setting gathered when ecu.test was
+     * started within this build is reused, otherwise it is queried via COM.
+     *
+     * @param run       the run
+     * @param workspace the workspace
+     * @param launcher  the launcher
+     * @param listener  the listener
+     * @return the configuration directory
+     * @throws InterruptedException if the current thread is interrupted while waiting for the completion
+     */
+    protected String getConfigDir(final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
+                                  final TaskListener listener) throws InterruptedException {
+        final String configDir = getStartedSetting(run, workspace, launcher, "configPath");
+        return configDir != null ? configDir : getConfigDir(launcher, listener);
+    }
+
+    /**
+     * Gets the packages directory of the current ecu.test workspace. The setting gathered when ecu.test was
+     * started within this build is reused, otherwise it is queried via COM.
+     *
+     * @param run       the run
+     * @param workspace the workspace
+     * @param launcher  the launcher
+     * @param listener  the listener
+     * @return the package directory
+     * @throws InterruptedException if the current thread is interrupted while waiting for the completion
+     */
+    protected String getPackagesDir(final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
+                                    final TaskListener listener) throws InterruptedException {
+        final String packagesDir = getStartedSetting(run, workspace, launcher, "packagePath");
+        return packagesDir != null ? packagesDir : getPackagesDir(launcher, listener);
+    }
+
+    /**
+     * Gets a workspace setting of the ecu.test instance that was last started on the node of the workspace within
+     * this build. The setting is only reused as long as this very ecu.test process is still running, since it may
+     * have been stopped or restarted with another workspace in the meantime.
+     *
+     * @param run         the run
+     * @param workspace   the workspace
+     * @param launcher    the launcher
+     * @param settingName the setting name
+     * @return the setting value or {@code null} if not available
+     * @throws InterruptedException if the current thread is interrupted while waiting for the completion
+     */
+    @CheckForNull
+    private static String getStartedSetting(final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
+                                            final String settingName) throws InterruptedException {
+        final Computer computer = workspace.toComputer();
+        if (computer == null) {
+            return null;
+        }
+        final List<ToolEnvInvisibleAction> toolEnvActions = run.getActions(ToolEnvInvisibleAction.class);
+        for (int i = toolEnvActions.size() - 1; i >= 0; i--) {
+            final ToolEnvInvisibleAction toolEnvAction = toolEnvActions.get(i);
+            if (computer.getName().equals(toolEnvAction.getNodeName())) {
+                final ToolInfo toolInfo = toolEnvAction.getToolInfo();
+                final String settingValue = toolInfo != null ? toolInfo.getSetting(settingName) : null;
+                return settingValue != null && isRunning(toolInfo, launcher) ? settingValue : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the ecu.test process of the given tool information is still running.
+     *
+     * @param toolInfo the tool information
+     * @param launcher the launcher
+     * @return {@code true} if the process is still running, {@code false} otherwise
+     * @throws InterruptedException if the current thread is interrupted while waiting for the completion
+     */
+    private static boolean isRunning(final ToolInfo toolInfo, final Launcher launcher) throws InterruptedException {
+        if (toolInfo.getProcessId() < 0) {
+            return false;
+        }
+        try {
+            return launcher.getChannel().call(
+                new CheckRunningCallable(toolInfo.getProcessId(), toolInfo.getProcessStart()));
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
     /**
      * Gets the configuration directory of the current ecu.test workspace by querying the settings file via COM.
      *
@@ -206,6 +297,33 @@ public abstract class AbstractTestHelper extends Builder {
         return packagesDir;
     }
 
+    /**
+     * {@link Callable} providing remote access to check whether a certain ecu.test process is still running.
+     */
+    private static final class CheckRunningCallable extends MasterToSlaveCallable<Boolean, IOException> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long processId;
+        private final long processStart;
+
+        /**
+         * Instantiates a new {@link CheckRunningCallable}.
+         *
+         * @param processId    the process id
+         * @param processStart the start time of the process in epoch milliseconds
+         */
+        CheckRunningCallable(final long processId, final long processStart) {
+            this.processId = processId;
+            this.processStart = processStart;
+        }
+
+        @Override
+        public Boolean call() {
+            return ProcessUtil.isRunning(processId, processStart);
+        }
+    }
+
     /**
      * {@link Callable} providing remote access to get a ecu.test workspace setting value via COM.
      */
@@ -228,7 +346,7 @@ public abstract class AbstractTestHelper extends Builder {
         public String call() throws IOException {
             final String settingValue;
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 settingValue = comClient.getSetting(settingName);
                 if ("None".equals(settingValue)) {
                     throw new IOException("Setting is not defined: " + settingName);
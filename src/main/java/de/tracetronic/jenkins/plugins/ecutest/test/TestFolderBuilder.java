@@ -5,15 +5,20 @@
  */
 package de.tracetronic.jenkins.plugins.ecutest.test;
 
+import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
+import de.tracetronic.jenkins.plugins.ecutest.test.client.AbstractTestClient;
 import de.tracetronic.jenkins.plugins.ecutest.test.client.PackageClient;
 import de.tracetronic.jenkins.plugins.ecutest.test.client.ProjectClient;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExecutionConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.PackageConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
-import de.tracetronic.jenkins.plugins.ecutest.test.scan.TestPackageScanner;
-import de.tracetronic.jenkins.plugins.ecutest.test.scan.TestProjectScanner;
+import de.tracetronic.jenkins.plugins.ecutest.test.parallel.WorkStealingScheduler;
+import de.tracetronic.jenkins.plugins.ecutest.test.parallel.WorkStealingScheduler.Outcome;
+import de.tracetronic.jenkins.plugins.ecutest.test.scan.TestFileWalker;
+import de.tracetronic.jenkins.plugins.ecutest.test.scan.TestFolderScanner;
+import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import hudson.EnvVars;
 import hudson.Extension;
 import hudson.FilePath;
@@ -22,6 +27,7 @@ import hudson.model.Run;
 import hudson.model.TaskListener;
 import hudson.util.FormValidation;
 import hudson.util.ListBoxModel;
+import org.apache.commons.lang.StringUtils;
 import org.jenkinsci.Symbol;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
@@ -32,7 +38,11 @@ import javax.annotation.Nonnull;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Builder providing the execution of ecu.test packages and projects inside of a test folder.
@@ -48,6 +58,10 @@ public class TestFolderBuilder extends AbstractTestBuilder {
     private ScanMode scanMode = DEFAULT_SCANMODE;
     private boolean recursiveScan;
     private boolean failFast = true;
+    // Parallel settings
+    private int parallelism = 1;
+    @Nonnull
+    private String instances = "";
     // Test settings
     @Nonnull
     private PackageConfig packageConfig = PackageConfig.newInstance();
@@ -92,6 +106,30 @@ public class TestFolderBuilder extends AbstractTestBuilder {
         this.failFast = failFast;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @DataBoundSetter
+    public void setParallelism(final int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Nonnull
+    public String getInstances() {
+        return instances;
+    }
+
+    /**
+     * Sets the ecu.test installations used for parallel execution.
+     *
+     * @param instances the installation names separated by comma or line breaks
+     */
+    @DataBoundSetter
+    public void setInstances(@CheckForNull final String instances) {
+        this.instances = StringUtils.trimToEmpty(instances);
+    }
+
     @Nonnull
     public PackageConfig getPackageConfig() {
         return packageConfig;
@@ -140,18 +178,52 @@ public class TestFolderBuilder extends AbstractTestBuilder {
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
         logger.logInfo("Executing test folder...");
         logger.logInfo(String.format("- Scanning test folder: %s", testFolder));
-        final List<String> pkgFiles = scanPackages(testFolder, launcher, listener);
-        final List<String> prjFiles = scanProjects(testFolder, launcher, listener);
+        final TestFolderScanner.ScanResult scanResult = scanTestFolder(testFolder, launcher, listener);
+        final List<String> pkgFiles = scanResult.getTestFiles(TestFileWalker.PACKAGE_EXTENSION);
+        final List<String> prjFiles = scanResult.getTestFiles(TestFileWalker.PROJECT_EXTENSION);
 
         // Expand package configuration
         final EnvVars buildEnv = run.getEnvironment(listener);
         final PackageConfig packageConfig = getPackageConfig().expand(buildEnv);
 
+        // Estimate test durations by the previous build
+        final Map<String, Long> previousDurations = getPreviousDurations(run);
+
+        // Run tests in parallel on multiple ecu.test instances
+        if (parallelism > 1) {
+            final List<String> progIds = getInstanceProgIds(buildEnv);
+            if (progIds.size() > 1) {
+                final ProjectConfig projectConfig = getProjectConfig().expand(buildEnv);
+                final List<AbstractTestClient> pkgClients = new ArrayList<>();
+                for (final String pkgFile : pkgFiles) {
+                    final PackageClient testClient = new PackageClient(pkgFile, testConfig, packageConfig,
+                        executionConfig);
+                    testClient.setExpectedDuration(previousDurations.getOrDefault(pkgFile, 0L));
+                    pkgClients.add(testClient);
+                }
+                final List<AbstractTestClient> prjClients = new ArrayList<>();
+                for (final String prjFile : prjFiles) {
+                    final ProjectClient testClient = new ProjectClient(prjFile, testConfig, projectConfig,
+                        executionConfig);
+                    testClient.setExpectedDuration(previousDurations.getOrDefault(prjFile, 0L));
+                    prjClients.add(testClient);
+                }
+                // Keep the sequential order by running all packages before all projects
+                final List<String> shardProgIds = progIds.subList(0, Math.min(parallelism, progIds.size()));
+                return runTestsParallel(pkgClients, shardProgIds, run, workspace, launcher, listener)
+                    && runTestsParallel(prjClients, shardProgIds, run, workspace, launcher, listener);
+            } else {
+                logger.logWarn("Parallel execution requires at least two ecu.test installations with different "
+                    + "programmatic identifiers, tests will be executed sequentially.");
+            }
+        }
+
         // Run packages
         for (final String pkgFile : pkgFiles) {
             final PackageClient testClient = new PackageClient(pkgFile, testConfig, packageConfig, executionConfig);
+            testClient.setExpectedDuration(previousDurations.getOrDefault(pkgFile, 0L));
             logger.logInfo(String.format("Executing package %s...", pkgFile));
-            if (testClient.runTestCase(run, workspace, launcher, listener)) {
+            if (runTestCase(testClient, run, workspace, launcher, listener)) {
                 addBuildAction(run, testClient);
                 if (testClient.isAborted()) {
                     logger.logWarn("Package execution aborted!");
@@ -175,8 +247,9 @@ public class TestFolderBuilder extends AbstractTestBuilder {
         // Run projects
         for (final String prjFile : prjFiles) {
             final ProjectClient testClient = new ProjectClient(prjFile, testConfig, projectConfig, executionConfig);
+            testClient.setExpectedDuration(previousDurations.getOrDefault(prjFile, 0L));
             logger.logInfo(String.format("Executing project %s...", prjFile));
-            if (testClient.runTestCase(run, workspace, launcher, listener)) {
+            if (runTestCase(testClient, run, workspace, launcher, listener)) {
                 addBuildAction(run, testClient);
                 if (testClient.isAborted()) {
                     logger.logWarn("Project execution aborted!");
@@ -198,55 +271,191 @@ public class TestFolderBuilder extends AbstractTestBuilder {
     }
 
     /**
-     * Scans for ecu.test packages.
+     * Runs the given tests on multiple ecu.test instances in parallel.
      *
-     * @param testFolder the test folder
+     * <p>
+     * The tests are scheduled longest-expected-first based on their expected durations. Build actions are
+     * added in scan order after all instances completed, so the test ids do not depend on the execution order.
+     *
+     * @param testClients the test clients of one test type in scan order
+     * @param progIds     the programmatic identifiers of the ecu.test instances
+     * @param run         the run
+     * @param workspace   the workspace
+     * @param launcher    the launcher
+     * @param listener    the listener
+     * @return {@code true} if the test execution should be continued, {@code false} if it was aborted or failed in
+     * fail fast mode
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the build gets interrupted
+     */
+    private boolean runTestsParallel(final List<AbstractTestClient> testClients, final List<String> progIds,
+                                     final Run<?, ?> run, final FilePath workspace, final Launcher launcher,
+                                     final TaskListener listener) throws IOException, InterruptedException {
+        if (testClients.isEmpty()) {
+            return true;
+        }
+        final TTConsoleLogger logger = new TTConsoleLogger(listener);
+        logger.logInfo(String.format("- Executing %d test(s) on %d ecu.test instances in parallel: %s",
+            testClients.size(), progIds.size(), progIds));
+
+        final WorkStealingScheduler<AbstractTestClient> scheduler =
+            new WorkStealingScheduler<>(progIds.size(), failFast);
+        final List<Outcome> outcomes = scheduler.schedule(testClients,
+            AbstractTestClient::getExpectedDuration,
+            (shard, testClient) -> {
+                final String testType = testClient instanceof PackageClient ? "package" : "project";
+                testClient.setProgId(progIds.get(shard));
+                logger.logInfo(String.format("Executing %s %s on %s...", testType,
+                    testClient.getTestFile(), testClient.getProgId()));
+                if (!runTestCase(testClient, run, workspace, launcher, listener)) {
+                    logger.logError(String.format("Executing %s %s failed!", testType,
+                        testClient.getTestFile()));
+                    return Outcome.FAILED;
+                } else if (testClient.isAborted()) {
+                    logger.logWarn(String.format("%s execution of %s aborted!", StringUtils.capitalize(testType),
+                        testClient.getTestFile()));
+                    return Outcome.ABORTED;
+                }
+                logger.logInfo(String.format("%s %s executed successfully.", StringUtils.capitalize(testType),
+                    testClient.getTestFile()));
+                return Outcome.PASSED;
+            });
+
+        // Merge results in scan order
+        boolean isPassed = true;
+        int skipped = 0;
+        for (int i = 0; i < testClients.size(); i++) {
+            switch (outcomes.get(i)) {
+                case PASSED:
+                    addBuildAction(run, testClients.get(i));
+                    break;
+                case ABORTED:
+                    addBuildAction(run, testClients.get(i));
+                    isPassed = false;
+                    break;
+                case FAILED:
+                    isPassed &= !failFast;
+                    break;
+                default:
+                    skipped++;
+                    break;
+            }
+        }
+        if (skipped > 0) {
+            logger.logWarn(String.format("-> %d test(s) skipped due to aborted execution or enabled fail fast mode.",
+                skipped));
+        } else if (!failFast && outcomes.contains(Outcome.FAILED)) {
+            logger.logWarn("Test execution continued due to disabled fail fast mode.");
+        }
+        return isPassed;
+    }
+
+    /**
+     * Runs the test case and records its execution duration.
+     *
+     * @param testClient the test client
+     * @param run        the run
+     * @param workspace  the workspace
      * @param launcher   the launcher
      * @param listener   the listener
-     * @return the list of found packages
+     * @return {@code true} if the test case was executed, {@code false} otherwise
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    private List<String> scanPackages(final String testFolder, final Launcher launcher, final TaskListener listener)
+    private boolean runTestCase(final AbstractTestClient testClient, final Run<?, ?> run, final FilePath workspace,
+                                final Launcher launcher, final TaskListener listener)
         throws IOException, InterruptedException {
-        List<String> pkgFiles = new ArrayList<>();
-        final TTConsoleLogger logger = new TTConsoleLogger(listener);
-        if (scanMode.equals(ScanMode.PACKAGES_ONLY) || scanMode.equals(ScanMode.PACKAGES_AND_PROJECTS)) {
-            final TestPackageScanner scanner = new TestPackageScanner(testFolder, isRecursiveScan(), launcher);
-            pkgFiles = scanner.scanTestFiles();
-            if (pkgFiles.isEmpty()) {
-                logger.logInfo("-> No packages found!");
-            } else {
-                logger.logInfo(String.format("-> Found %d package(s).", pkgFiles.size()));
+        final long startTime = System.currentTimeMillis();
+        try {
+            return testClient.runTestCase(run, workspace, launcher, listener);
+        } finally {
+            testClient.setTestDuration(System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * Gets the programmatic identifiers of the configured ecu.test installations used for parallel execution.
+     *
+     * @param buildEnv the build environment
+     * @return the distinct programmatic identifiers
+     */
+    private List<String> getInstanceProgIds(final EnvVars buildEnv) {
+        final Set<String> progIds = new LinkedHashSet<>();
+        for (final String name : buildEnv.expand(instances).split("[,\\r\\n]+")) {
+            final ETInstallation installation = ETInstallation.get(StringUtils.trim(name));
+            if (installation != null) {
+                progIds.add(installation.getProgId());
             }
         }
-        return pkgFiles;
+        return new ArrayList<>(progIds);
     }
 
     /**
-     * Scan for ecu.test projects.
+     * Gets the test durations of the previous build to estimate the expected duration of each test.
+     *
+     * @param run the run
+     * @return the map of test file to duration in milliseconds
+     */
+    private static Map<String, Long> getPreviousDurations(final Run<?, ?> run) {
+        final Map<String, Long> durations = new HashMap<>();
+        final Run<?, ?> previousRun = run.getPreviousBuild();
+        if (previousRun != null) {
+            for (final TestEnvInvisibleAction action : previousRun.getActions(TestEnvInvisibleAction.class)) {
+                if (action.getTestDuration() > 0) {
+                    durations.put(action.getTestFile(), action.getTestDuration());
+                }
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * Scans the test folder for ecu.test packages and/or projects in a single pass.
      *
      * @param testFolder the test folder
      * @param launcher   the launcher
      * @param listener   the listener
-     * @return the list of found projects
+     * @return the scan result holding the found packages and projects
      * @throws IOException          signals that an I/O exception has occurred
      * @throws InterruptedException if the build gets interrupted
      */
-    private List<String> scanProjects(final String testFolder, final Launcher launcher, final TaskListener listener)
+    private TestFolderScanner.ScanResult scanTestFolder(final String testFolder, final Launcher launcher,
+                                                        final TaskListener listener)
         throws IOException, InterruptedException {
-        List<String> prjFiles = new ArrayList<>();
         final TTConsoleLogger logger = new TTConsoleLogger(listener);
-        if (scanMode.equals(ScanMode.PROJECTS_ONLY) || scanMode.equals(ScanMode.PACKAGES_AND_PROJECTS)) {
-            final TestProjectScanner prjScanner = new TestProjectScanner(testFolder, isRecursiveScan(), launcher);
-            prjFiles = prjScanner.scanTestFiles();
-            if (prjFiles.isEmpty()) {
+        final boolean scanPackages = scanMode.equals(ScanMode.PACKAGES_ONLY)
+            || scanMode.equals(ScanMode.PACKAGES_AND_PROJECTS);
+        final boolean scanProjects = scanMode.equals(ScanMode.PROJECTS_ONLY)
+            || scanMode.equals(ScanMode.PACKAGES_AND_PROJECTS);
+        final List<String> extensions = new ArrayList<>();
+        if (scanPackages) {
+            extensions.add(TestFileWalker.PACKAGE_EXTENSION);
+        }
+        if (scanProjects) {
+            extensions.add(TestFileWalker.PROJECT_EXTENSION);
+        }
+
+        final TestFolderScanner scanner = new TestFolderScanner(testFolder, isRecursiveScan(), launcher);
+        final TestFolderScanner.ScanResult scanResult = scanner.scan(extensions.toArray(new String[0]));
+        logger.logDebug(String.format("Scanned %d directories, %d reused from index.",
+            scanResult.getListedCount() + scanResult.getReusedCount(), scanResult.getReusedCount()));
+        if (scanPackages) {
+            final int pkgCount = scanResult.getTestFiles(TestFileWalker.PACKAGE_EXTENSION).size();
+            if (pkgCount == 0) {
+                logger.logInfo("-> No packages found!");
+            } else {
+                logger.logInfo(String.format("-> Found %d package(s).", pkgCount));
+            }
+        }
+        if (scanProjects) {
+            final int prjCount = scanResult.getTestFiles(TestFileWalker.PROJECT_EXTENSION).size();
+            if (prjCount == 0) {
                 logger.logInfo("-> No projects found!");
             } else {
-                logger.logInfo(String.format("-> Found %d project(s).", prjFiles.size()));
+                logger.logInfo(String.format("-> Found %d project(s).", prjCount));
             }
         }
-        return prjFiles;
+        return scanResult;
     }
 
     /**
@@ -301,6 +510,16 @@ public class TestFolderBuilder extends AbstractTestBuilder {
             return items;
         }
 
+        /**
+         * Validates the parallelism.
+         *
+         * @param value the parallelism
+         * @return the form validation
+         */
+        public FormValidation doCheckParallelism(@QueryParameter final String value) {
+            return FormValidation.validatePositiveInteger(value);
+        }
+
         /**
          * Validates the test folder.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -9,9 +9,10 @@ import com.cloudbees.plugins.credentials.common.StandardUsernamePasswordCredenti
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
 import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -106,7 +107,7 @@ public abstract class AbstractTMSClient {
 
             // Check ecu.test version and TMS module
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final String comVersion = comClient.getVersion();
                 final ToolVersion comToolVersion = ToolVersion.parse(comVersion);
                 if (comToolVersion.compareTo(minVersion) < 0) {
@@ -155,7 +156,7 @@ public abstract class AbstractTMSClient {
                 logger.logError("-> No credentials provided!");
             } else {
                 final String progId = ETComProperty.getInstance().getProgId();
-                try (ETComClient comClient = new ETComClient(progId)) {
+                try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                     final TestManagement tm = (TestManagement) comClient.getTestManagement();
                     logger.logInfo("-- Authenticating with user name: " + credentials.getUsername());
                     if (isLogin = tm.login(credentials.getUsername(), credentials.getPassword().getPlainText())) {
@@ -195,7 +196,7 @@ public abstract class AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Log out from test management system...");
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 if (isLogout = tm.logout()) {
                     logger.logInfo("-> Logged out successfully.");
@@ -14,11 +14,13 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.GlobalConstant;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.AbstractTestObject;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Package;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComApplication;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.Plugin;
@@ -51,6 +53,9 @@ public abstract class AbstractTestClient implements TestClient {
     private String testReportDir;
     private String testResult;
     private boolean isAborted;
+    private String progId;
+    private long testDuration;
+    private long expectedDuration;
 
     /**
      * Instantiates a new {@link AbstractTestClient}.
@@ -128,6 +133,61 @@ public abstract class AbstractTestClient implements TestClient {
         this.isAborted = isAborted;
     }
 
+    /**
+     * Gets the programmatic identifier of the ecu.test instance executing the test.
+     *
+     * @return the programmatic identifier, {@code null} if the instance of the current installation is used
+     */
+    @CheckForNull
+    public String getProgId() {
+        return progId;
+    }
+
+    /**
+     * Sets the programmatic identifier of the ecu.test instance executing the test.
+     *
+     * @param progId the programmatic identifier, {@code null} to use the instance of the current installation
+     */
+    public void setProgId(@CheckForNull final String progId) {
+        this.progId = progId;
+    }
+
+    /**
+     * Gets the duration of the test execution.
+     *
+     * @return the test duration in milliseconds, 0 if not measured
+     */
+    public long getTestDuration() {
+        return testDuration;
+    }
+
+    public void setTestDuration(final long testDuration) {
+        this.testDuration = testDuration;
+    }
+
+    /**
+     * Gets the expected duration of the test execution, e.g. measured in the previous build.
+     *
+     * @return the expected duration in milliseconds, 0 if unknown
+     */
+    public long getExpectedDuration() {
+        return expectedDuration;
+    }
+
+    public void setExpectedDuration(final long expectedDuration) {
+        this.expectedDuration = expectedDuration;
+    }
+
+    /**
+     * Resolves the programmatic identifier on the agent, falling back to the one of the current installation.
+     *
+     * @param progId the programmatic identifier, may be {@code null}
+     * @return the resolved programmatic identifier
+     */
+    protected static String resolveProgId(@CheckForNull final String progId) {
+        return StringUtils.isBlank(progId) ? ETComProperty.getInstance().getProgId() : progId;
+    }
+
     /**
      * Records test file checks as Warnings NG issues.
      *
@@ -150,8 +210,9 @@ public abstract class AbstractTestClient implements TestClient {
 
         boolean hasErrors = false;
         if (StringUtils.isNotBlank(testInfo.warningsIssues)) {
-            final String issueFileName = "issues.json";
-            final FilePath issuesFile = workspace.child(issueFileName);
+            // Use unique file name as tests might be executed in parallel within the same workspace
+            final FilePath issuesFile = workspace.createTempFile("issues", ".json");
+            final String issueFileName = issuesFile.getName();
             try {
                 issuesFile.write(testInfo.getWarningsIssues(), "UTF-8");
 
@@ -173,6 +234,7 @@ public abstract class AbstractTestClient implements TestClient {
         private final String testFile;
         private final ExpandableConfig testFileConfig;
         private final ExecutionConfig executionConfig;
+        private final String progId;
         private final TaskListener listener;
 
         /**
@@ -181,13 +243,16 @@ public abstract class AbstractTestClient implements TestClient {
          * @param testFile        the test file
          * @param testFileConfig  the test file configuration
          * @param executionConfig the execution configuration
+         * @param progId          the programmatic identifier
          * @param listener        the listener
          */
         public OpenTestFileCallable(final String testFile, final ExpandableConfig testFileConfig,
-                                    final ExecutionConfig executionConfig, final TaskListener listener) {
+                                    final ExecutionConfig executionConfig, final String progId,
+                                    final TaskListener listener) {
             this.testFile = testFile;
             this.testFileConfig = testFileConfig;
             this.executionConfig = executionConfig;
+            this.progId = progId;
             this.listener = listener;
         }
 
@@ -203,6 +268,15 @@ public abstract class AbstractTestClient implements TestClient {
             return executionConfig;
         }
 
+        /**
+         * Gets the resolved programmatic identifier.
+         *
+         * @return the programmatic identifier
+         */
+        public String getProgId() {
+            return resolveProgId(progId);
+        }
+
         public TaskListener getListener() {
             return listener;
         }
@@ -211,7 +285,7 @@ public abstract class AbstractTestClient implements TestClient {
         public abstract TestInfoHolder call() throws IOException;
 
         @CheckForNull
-        protected TestInfoHolder checkTestFile(final AbstractTestObject testObject, final ETComClient comClient,
+        protected TestInfoHolder checkTestFile(final AbstractTestObject testObject, final ComApplication comClient,
                                                final TTConsoleLogger logger) throws ETComException {
             TestInfoHolder testInfo = new TestInfoHolder(testObject.getName(), testObject.getDescription());
             final String testType = testObject instanceof Package ? "package" : "project";
@@ -270,16 +344,19 @@ public abstract class AbstractTestClient implements TestClient {
         private static final long serialVersionUID = 1L;
 
         private final TestConfig testConfig;
+        private final String progId;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link LoadConfigCallable}.
          *
          * @param testConfig the test configuration
+         * @param progId     the programmatic identifier
          * @param listener   the listener
          */
-        public LoadConfigCallable(final TestConfig testConfig, final TaskListener listener) {
+        public LoadConfigCallable(final TestConfig testConfig, final String progId, final TaskListener listener) {
             this.testConfig = testConfig;
+            this.progId = progId;
             this.listener = listener;
         }
 
@@ -291,8 +368,7 @@ public abstract class AbstractTestClient implements TestClient {
             final List<GlobalConstant> constants = testConfig.getConstants();
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
 
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(resolveProgId(progId))) {
                 final String tbcName = getConfigName(tbcFile);
                 final String tcfName = getConfigName(tcfFile);
                 logger.logInfo(String.format("- Loading configurations: TBC=%s TCF=%s", tbcName, tcfName));
@@ -369,7 +445,7 @@ public abstract class AbstractTestClient implements TestClient {
          * @param constantMap the constants to set
          * @throws ETComException in case of a COM exception
          */
-        private void setGlobalConstants(final ETComClient comClient, final Map<String, String> constantMap)
+        private void setGlobalConstants(final ComApplication comClient, final Map<String, String> constantMap)
             throws ETComException {
             final TestConfiguration testConfig = (TestConfiguration) comClient.getCurrentTestConfiguration();
             for (final Entry<String, String> newConstant : constantMap.entrySet()) {
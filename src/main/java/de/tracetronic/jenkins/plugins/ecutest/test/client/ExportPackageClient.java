@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -11,9 +11,10 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ExportPackageAttribute
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ExportPackageConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TMSConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -161,7 +162,7 @@ public class ExportPackageClient extends AbstractTMSClient {
             logger.logInfo(String.format("- Exporting package %s to test management system...",
                 exportConfig.getFilePath()));
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 if (isExported = tm.exportPackage(exportConfig.getFilePath(), exportConfig.getExportPath(),
                     exportConfig.isCreateNewPath(), exportConfig.getParsedTimeout())) {
@@ -203,7 +204,7 @@ public class ExportPackageClient extends AbstractTMSClient {
             logger.logInfo(String.format("- Exporting attributes of package %s to test management system...",
                 exportConfig.getFilePath()));
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 if (isExported = tm.exportPackageAttributes(exportConfig.getFilePath(),
                     exportConfig.getParsedTimeout())) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -12,9 +12,10 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportPackageConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportPackageDirConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TMSConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -181,7 +182,7 @@ public class ImportPackageClient extends AbstractTMSClient {
             logger.logInfo(String.format("- Importing package %s from test management system...",
                 importConfig.getTmsPath()));
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 if (isImported = tm.importPackage(importConfig.getTmsPath(), importConfig.getImportPath(),
                     importConfig.getParsedTimeout())) {
@@ -223,7 +224,7 @@ public class ImportPackageClient extends AbstractTMSClient {
             logger.logInfo(String.format("- Importing package directory %s from test management system...",
                 importConfig.getTmsPath()));
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 if (isImported = tm.importPackageDirectory(importConfig.getTmsPath(), importConfig.getImportPath(),
                     importConfig.getParsedTimeout())) {
@@ -265,7 +266,7 @@ public class ImportPackageClient extends AbstractTMSClient {
             logger.logInfo(String.format("- Importing attributes of package %s from test management system...",
                 importConfig.getFilePath()));
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 if (isImported = tm.importPackageAttributes(importConfig.getFilePath(),
                     importConfig.getParsedTimeout())) {
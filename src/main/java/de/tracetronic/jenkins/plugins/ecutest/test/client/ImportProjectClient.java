@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -13,9 +13,10 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ImportProjectDirConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TMSConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestManagement;
 import hudson.FilePath;
 import hudson.Launcher;
@@ -204,7 +205,7 @@ public class ImportProjectClient extends AbstractTMSClient {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo(String.format("- Importing project from archive %s...", importConfig.getTmsPath()));
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 if (isImported = comClient.importProject(importConfig.getTmsPath(), importConfig.getImportPath(),
                     importConfig.getImportConfigPath(), importConfig.isReplaceFiles())) {
                     logger.logInfo(String.format("-> Project imported successfully to target directory %s.",
@@ -243,7 +244,7 @@ public class ImportProjectClient extends AbstractTMSClient {
             boolean isImported = false;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 if (importConfig.getTmProjectId().equals("")) {
                     logger.logInfo(String.format("- Importing project %s from test management system...",
@@ -295,7 +296,7 @@ public class ImportProjectClient extends AbstractTMSClient {
             logger.logInfo(String.format("- Importing project directory %s from test management system...",
                 importConfig.getTmsPath()));
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 if (isImported = tm.importProjectDirectory(importConfig.getTmsPath(), importConfig.getImportPath(),
                     importConfig.getParsedTimeout())) {
@@ -337,7 +338,7 @@ public class ImportProjectClient extends AbstractTMSClient {
             logger.logInfo(String.format("- Importing attributes of project %s from test management system...",
                 importConfig.getFilePath()));
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final TestManagement tm = (TestManagement) comClient.getTestManagement();
                 if (isImported = tm.importProjectAttributes(importConfig.getFilePath(),
                     importConfig.getParsedTimeout())) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -13,12 +13,14 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.PackageOutputParameter
 import de.tracetronic.jenkins.plugins.ecutest.test.config.PackageParameter;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ExecutionWatcher;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Package;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestExecutionInfo;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComApplication;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Run;
@@ -98,7 +100,7 @@ public class PackageClient extends AbstractTestClient {
 
         // Load test configuration
         if (!getTestConfig().isKeepConfig() && !launcher.getChannel().call(
-            new LoadConfigCallable(getTestConfig(), listener))) {
+            new LoadConfigCallable(getTestConfig(), getProgId(), listener))) {
             return false;
         }
 
@@ -113,7 +115,8 @@ public class PackageClient extends AbstractTestClient {
 
         // Open and check package
         final TestInfoHolder pkgInfo = launcher.getChannel().call(
-            new OpenPackageCallable(getTestFile(), getPackageConfig(), getExecutionConfig(), listener));
+            new OpenPackageCallable(getTestFile(), getPackageConfig(), getExecutionConfig(),
+                getProgId(), listener));
 
         // Set package information
         if (pkgInfo != null) {
@@ -130,7 +133,8 @@ public class PackageClient extends AbstractTestClient {
         try {
             // Run package
             final PackageExecutioInfoHolder testInfo = launcher.getChannel().call(
-                new RunPackageCallable(getTestFile(), getPackageConfig(), getExecutionConfig(), listener));
+                new RunPackageCallable(getTestFile(), getPackageConfig(), getExecutionConfig(),
+                    getProgId(), getExpectedDuration(), listener));
 
             // Set test result information
             if (testInfo != null) {
@@ -147,7 +151,7 @@ public class PackageClient extends AbstractTestClient {
         }
 
         // Close package
-        return launcher.getChannel().call(new ClosePackageCallable(getTestFile(), listener));
+        return launcher.getChannel().call(new ClosePackageCallable(getTestFile(), getProgId(), listener));
     }
 
 
@@ -164,11 +168,13 @@ public class PackageClient extends AbstractTestClient {
          * @param packageFile     the package file
          * @param packageConfig   the package configuration
          * @param executionConfig the execution configuration
+         * @param progId          the programmatic identifier
          * @param listener        the listener
          */
         OpenPackageCallable(final String packageFile, final PackageConfig packageConfig,
-                            final ExecutionConfig executionConfig, final TaskListener listener) {
-            super(packageFile, packageConfig, executionConfig, listener);
+                            final ExecutionConfig executionConfig, final String progId,
+                            final TaskListener listener) {
+            super(packageFile, packageConfig, executionConfig, progId, listener);
         }
 
         @Override
@@ -176,8 +182,8 @@ public class PackageClient extends AbstractTestClient {
             TestInfoHolder testInfo = null;
             final TTConsoleLogger logger = new TTConsoleLogger(getListener());
             logger.logInfo("- Opening package...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
+            final String progId = getProgId();
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId);
                  Package pkg = (Package) comClient.openPackage(getTestFile())) {
                 logger.logInfo("-> Package opened successfully.");
                 testInfo = checkTestFile(pkg, comClient, logger);
@@ -199,21 +205,28 @@ public class PackageClient extends AbstractTestClient {
         private final String packageFile;
         private final PackageConfig packageConfig;
         private final ExecutionConfig executionConfig;
+        private final String progId;
+        private final long expectedDuration;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link RunPackageCallable}.
          *
-         * @param packageFile     the package file
-         * @param packageConfig   the package configuration
-         * @param executionConfig the execution configuration
-         * @param listener        the listener
+         * @param packageFile      the package file
+         * @param packageConfig    the package configuration
+         * @param executionConfig  the execution configuration
+         * @param progId           the programmatic identifier
+         * @param expectedDuration the expected execution duration in milliseconds, 0 if unknown
+         * @param listener         the listener
          */
         RunPackageCallable(final String packageFile, final PackageConfig packageConfig,
-                           final ExecutionConfig executionConfig, final TaskListener listener) {
+                           final ExecutionConfig executionConfig, final String progId, final long expectedDuration,
+                           final TaskListener listener) {
             this.packageFile = packageFile;
             this.packageConfig = packageConfig;
             this.executionConfig = executionConfig;
+            this.progId = progId;
+            this.expectedDuration = expectedDuration;
             this.listener = listener;
         }
 
@@ -236,27 +249,20 @@ public class PackageClient extends AbstractTestClient {
             if (!outParamList.isEmpty()) {
                 logger.logInfo("-> With output parameters: " + outParamList.toString());
             }
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
+            final String progId = resolveProgId(this.progId);
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId);
                  TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
                  TestExecutionInfo execInfo = (TestExecutionInfo) testEnv.executePackage(packageFile,
                      runTraceAnalysis, runTest, paramMap)) {
                 boolean isAborted = false;
-                int tickCounter = 0;
-                final long endTimeMillis = System.currentTimeMillis() + (long) timeout * 1000L;
-                while ("RUNNING".equals(execInfo.getState())) {
-                    if (tickCounter % 60 == 0) {
-                        logger.logInfo("-- tick...");
-                    }
-                    if (timeout > 0 && System.currentTimeMillis() > endTimeMillis) {
-                        logger.logWarn(String.format("-> Test execution timeout of %d seconds reached! "
-                            + "Aborting package now...", timeout));
-                        isAborted = true;
-                        execInfo.abort();
-                        break;
-                    }
-                    Thread.sleep(1000L);
-                    tickCounter++;
+                final ExecutionWatcher watcher = new ExecutionWatcher(execInfo::getState, timeout)
+                    .withExpectedDuration(expectedDuration)
+                    .withTickListener(() -> logger.logInfo("-- tick..."));
+                if (!watcher.await()) {
+                    logger.logWarn(String.format("-> Test execution timeout of %d seconds reached! "
+                        + "Aborting package now...", timeout));
+                    isAborted = true;
+                    execInfo.abort();
                 }
                 testInfo = getExecutionInfo(execInfo, isAborted, logger, outParamList);
                 postExecution(timeout, comClient, logger);
@@ -327,7 +333,7 @@ public class PackageClient extends AbstractTestClient {
                                                              final TTConsoleLogger logger,
                                                              final List<String> outParamList) {
             PackageExecutioInfoHolder testInfo = null;
-            try (ETComClient comClient = new ETComClient(progId);
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId);
                  TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
                  TestExecutionInfo execInfo = (TestExecutionInfo) testEnv.getTestExecutionInfo()) {
                 logger.logWarn("-> Build interrupted! Aborting test exection...");
@@ -348,7 +354,7 @@ public class PackageClient extends AbstractTestClient {
          * @param logger    the logger
          * @throws ETComException in case of a COM exception
          */
-        private void postExecution(final int timeout, final ETComClient comClient, final TTConsoleLogger logger)
+        private void postExecution(final int timeout, final ComApplication comClient, final TTConsoleLogger logger)
             throws ETComException {
             if (!comClient.waitForIdle(timeout)) {
                 logger.logWarn(String.format("-> Post-execution timeout of %d seconds reached!", timeout));
@@ -364,16 +370,19 @@ public class PackageClient extends AbstractTestClient {
         private static final long serialVersionUID = 1L;
 
         private final String packageFile;
+        private final String progId;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link ClosePackageCallable}.
          *
          * @param packageFile the package file
+         * @param progId      the programmatic identifier
          * @param listener    the listener
          */
-        ClosePackageCallable(final String packageFile, final TaskListener listener) {
+        ClosePackageCallable(final String packageFile, final String progId, final TaskListener listener) {
             this.packageFile = packageFile;
+            this.progId = progId;
             this.listener = listener;
         }
 
@@ -382,8 +391,8 @@ public class PackageClient extends AbstractTestClient {
             boolean isClosed = false;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Closing package...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            final String progId = resolveProgId(this.progId);
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 if (comClient.closePackage(packageFile)) {
                     isClosed = true;
                     logger.logInfo("-> Package closed successfully.");
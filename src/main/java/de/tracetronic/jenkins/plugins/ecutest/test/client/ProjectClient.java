@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -10,12 +10,14 @@ import de.tracetronic.jenkins.plugins.ecutest.test.config.ExecutionConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.ProjectConfig;
 import de.tracetronic.jenkins.plugins.ecutest.test.config.TestConfig;
 import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ExecutionWatcher;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Project;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestEnvironment;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestExecutionInfo;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComApplication;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.Run;
@@ -65,13 +67,14 @@ public class ProjectClient extends AbstractTestClient {
 
         // Load test configuration
         if (!getTestConfig().isKeepConfig() && !launcher.getChannel().call(
-            new LoadConfigCallable(getTestConfig(), listener))) {
+            new LoadConfigCallable(getTestConfig(), getProgId(), listener))) {
             return false;
         }
 
         // Open and check project
         final TestInfoHolder prjInfo = launcher.getChannel().call(
-            new OpenProjectCallable(getTestFile(), getProjectConfig(), getExecutionConfig(), listener));
+            new OpenProjectCallable(getTestFile(), getProjectConfig(), getExecutionConfig(),
+                getProgId(), listener));
 
         // Set project information
         if (prjInfo != null) {
@@ -88,7 +91,8 @@ public class ProjectClient extends AbstractTestClient {
         try {
             // Run project
             final ExecutionInfoHolder testInfo = launcher.getChannel().call(
-                new RunProjectCallable(getTestFile(), getProjectConfig(), getExecutionConfig(), listener));
+                new RunProjectCallable(getTestFile(), getProjectConfig(), getExecutionConfig(),
+                    getProgId(), getExpectedDuration(), listener));
 
             // Set project information
             if (testInfo != null) {
@@ -104,7 +108,7 @@ public class ProjectClient extends AbstractTestClient {
         }
 
         // Close project
-        return launcher.getChannel().call(new CloseProjectCallable(getTestFile(), listener));
+        return launcher.getChannel().call(new CloseProjectCallable(getTestFile(), getProgId(), listener));
     }
 
     /**
@@ -120,11 +124,13 @@ public class ProjectClient extends AbstractTestClient {
          * @param projectFile     the project file
          * @param projectConfig   the project configurations
          * @param executionConfig the execution configurations
+         * @param progId          the programmatic identifier
          * @param listener        the listener
          */
         OpenProjectCallable(final String projectFile, final ProjectConfig projectConfig,
-                            final ExecutionConfig executionConfig, final TaskListener listener) {
-            super(projectFile, projectConfig, executionConfig, listener);
+                            final ExecutionConfig executionConfig, final String progId,
+                            final TaskListener listener) {
+            super(projectFile, projectConfig, executionConfig, progId, listener);
         }
 
         @Override
@@ -132,8 +138,8 @@ public class ProjectClient extends AbstractTestClient {
             TestInfoHolder testInfo = null;
             final TTConsoleLogger logger = new TTConsoleLogger(getListener());
             logger.logInfo("- Opening project...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
+            final String progId = getProgId();
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId);
                  Project prj = (Project) comClient.openProject(getTestFile(),
                      ((ProjectConfig) getTestFileConfig()).isExecInCurrentPkgDir(),
                      ((ProjectConfig) getTestFileConfig()).getFilterExpression())) {
@@ -156,21 +162,28 @@ public class ProjectClient extends AbstractTestClient {
         private final String projectFile;
         private final ProjectConfig projectConfig;
         private final ExecutionConfig executionConfig;
+        private final String progId;
+        private final long expectedDuration;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link RunProjectCallable}.
          *
-         * @param projectFile     the project file
-         * @param projectConfig   the project configuration
-         * @param executionConfig the execution configuration
-         * @param listener        the listener
+         * @param projectFile      the project file
+         * @param projectConfig    the project configuration
+         * @param executionConfig  the execution configuration
+         * @param progId           the programmatic identifier
+         * @param expectedDuration the expected execution duration in milliseconds, 0 if unknown
+         * @param listener         the listener
          */
         RunProjectCallable(final String projectFile, final ProjectConfig projectConfig,
-                           final ExecutionConfig executionConfig, final TaskListener listener) {
+                           final ExecutionConfig executionConfig, final String progId, final long expectedDuration,
+                           final TaskListener listener) {
             this.projectFile = projectFile;
             this.projectConfig = projectConfig;
             this.executionConfig = executionConfig;
+            this.progId = progId;
+            this.expectedDuration = expectedDuration;
             this.listener = listener;
         }
 
@@ -181,27 +194,20 @@ public class ProjectClient extends AbstractTestClient {
             ExecutionInfoHolder testInfo = null;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Running project...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
+            final String progId = resolveProgId(this.progId);
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId);
                  TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
                  TestExecutionInfo execInfo = (TestExecutionInfo) testEnv.executeProject(projectFile, true,
                      jobExecutionMode)) {
                 boolean isAborted = false;
-                int tickCounter = 0;
-                final long endTimeMillis = System.currentTimeMillis() + (long) timeout * 1000L;
-                while ("RUNNING".equals(execInfo.getState())) {
-                    if (tickCounter % 60 == 0) {
-                        logger.logInfo("-- tick...");
-                    }
-                    if (timeout > 0 && System.currentTimeMillis() > endTimeMillis) {
-                        logger.logWarn(String.format("-> Test execution timeout of %d seconds reached! "
-                            + "Aborting project now...", timeout));
-                        isAborted = true;
-                        execInfo.abortAfterCurrentProjectStep(ExecutionConfig.getDefaultTimeout());
-                        break;
-                    }
-                    Thread.sleep(1000L);
-                    tickCounter++;
+                final ExecutionWatcher watcher = new ExecutionWatcher(execInfo::getState, timeout)
+                    .withExpectedDuration(expectedDuration)
+                    .withTickListener(() -> logger.logInfo("-- tick..."));
+                if (!watcher.await()) {
+                    logger.logWarn(String.format("-> Test execution timeout of %d seconds reached! "
+                        + "Aborting project now...", timeout));
+                    isAborted = true;
+                    execInfo.abortAfterCurrentProjectStep(ExecutionConfig.getDefaultTimeout());
                 }
                 testInfo = getTestInfo(execInfo, isAborted, logger);
                 postExecution(timeout, comClient, logger);
@@ -224,7 +230,7 @@ public class ProjectClient extends AbstractTestClient {
         private ExecutionInfoHolder abortTestExecution(final int timeout, final String progId,
                                                        final TTConsoleLogger logger) {
             ExecutionInfoHolder testInfo = null;
-            try (ETComClient comClient = new ETComClient(progId);
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId);
                  TestEnvironment testEnv = (TestEnvironment) comClient.getTestEnvironment();
                  TestExecutionInfo execInfo = (TestExecutionInfo) testEnv.getTestExecutionInfo()) {
                 logger.logWarn("-> Build interrupted! Aborting test exection...");
@@ -264,7 +270,7 @@ public class ProjectClient extends AbstractTestClient {
          * @param logger    the logger
          * @throws ETComException in case of a COM exception
          */
-        private void postExecution(final int timeout, final ETComClient comClient, final TTConsoleLogger logger)
+        private void postExecution(final int timeout, final ComApplication comClient, final TTConsoleLogger logger)
             throws ETComException {
             if (!comClient.waitForIdle(timeout)) {
                 logger.logWarn(String.format("-> Post-execution timeout of %d seconds reached!", timeout));
@@ -280,16 +286,19 @@ public class ProjectClient extends AbstractTestClient {
         private static final long serialVersionUID = 1L;
 
         private final String projectFile;
+        private final String progId;
         private final TaskListener listener;
 
         /**
          * Instantiates a new {@link CloseProjectCallable}.
          *
          * @param projectFile the project file
+         * @param progId      the programmatic identifier
          * @param listener    the listener
          */
-        CloseProjectCallable(final String projectFile, final TaskListener listener) {
+        CloseProjectCallable(final String projectFile, final String progId, final TaskListener listener) {
             this.projectFile = projectFile;
+            this.progId = progId;
             this.listener = listener;
         }
 
@@ -298,8 +307,8 @@ public class ProjectClient extends AbstractTestClient {
             boolean isClosed = false;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logInfo("- Closing project...");
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            final String progId = resolveProgId(this.progId);
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 if (comClient.closeProject(projectFile)) {
                     isClosed = true;
                     logger.logInfo("-> Project closed successfully.");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -52,6 +52,14 @@ public class ExecutionConfig extends AbstractDescribableImpl<ExecutionConfig>
      */
     private final boolean recordWarnings;
 
+    /**
+     * Specifies the maximum number of errors logged by ecu.test during the test execution before aborting it,
+     * 0 to disable it.
+     *
+     * @since 2.47
+     */
+    private final int maxLogErrors;
+
     /**
      * Instantiates a new {@link ExecutionConfig}.
      *
@@ -59,15 +67,30 @@ public class ExecutionConfig extends AbstractDescribableImpl<ExecutionConfig>
      * @param stopOnError   specifies whether to stop ecu.test and Tool-Server instances if an error occurred
      * @param checkTestFile specifies whether to check the test file
      * @param recordWarnings specifies whether to record returned test file checks as Warnings NG issues
+     * @param maxLogErrors  the maximum number of logged errors before aborting the test execution, 0 to disable
      */
     @DataBoundConstructor
     public ExecutionConfig(final String timeout, final boolean stopOnError, final boolean checkTestFile,
-                           final boolean recordWarnings) {
+                           final boolean recordWarnings, final int maxLogErrors) {
         super();
         this.timeout = StringUtils.defaultIfBlank(timeout, String.valueOf(DEFAULT_TIMEOUT));
         this.stopOnError = stopOnError;
         this.checkTestFile = checkTestFile;
         this.recordWarnings = recordWarnings;
+        this.maxLogErrors = Math.max(0, maxLogErrors);
+    }
+
+    /**
+     * Instantiates a new {@link ExecutionConfig}.
+     *
+     * @param timeout       the timeout to run the test
+     * @param stopOnError   specifies whether to stop ecu.test and Tool-Server instances if an error occurred
+     * @param checkTestFile specifies whether to check the test file
+     * @param recordWarnings specifies whether to record returned test file checks as Warnings NG issues
+     */
+    public ExecutionConfig(final String timeout, final boolean stopOnError, final boolean checkTestFile,
+                           final boolean recordWarnings) {
+        this(timeout, stopOnError, checkTestFile, recordWarnings, 0);
     }
 
     /**
@@ -131,11 +154,15 @@ public class ExecutionConfig extends AbstractDescribableImpl<ExecutionConfig>
         return recordWarnings;
     }
 
+    public int getMaxLogErrors() {
+        return maxLogErrors;
+    }
+
     @Override
     public ExecutionConfig expand(final EnvVars envVars) {
         final String expTimeout = EnvUtil.expandEnvVar(getTimeout(), envVars,
                 String.valueOf(DEFAULT_TIMEOUT));
-        return new ExecutionConfig(expTimeout, isStopOnError(), isCheckTestFile(), recordWarnings);
+        return new ExecutionConfig(expTimeout, isStopOnError(), isCheckTestFile(), recordWarnings, maxLogErrors);
     }
 
     @Override
@@ -146,7 +173,8 @@ public class ExecutionConfig extends AbstractDescribableImpl<ExecutionConfig>
             result = Objects.equals(timeout, that.timeout)
                     && stopOnError == that.stopOnError
                     && checkTestFile == that.checkTestFile
-                    && recordWarnings == that.recordWarnings;
+                    && recordWarnings == that.recordWarnings
+                    && maxLogErrors == that.maxLogErrors;
         }
         return result;
     }
@@ -154,7 +182,7 @@ public class ExecutionConfig extends AbstractDescribableImpl<ExecutionConfig>
     @Override
     public final int hashCode() {
         return new HashCodeBuilder(17, 31).append(timeout).append(stopOnError).append(checkTestFile)
-                .append(recordWarnings).toHashCode();
+                .append(recordWarnings).append(maxLogErrors).toHashCode();
     }
 
     /**
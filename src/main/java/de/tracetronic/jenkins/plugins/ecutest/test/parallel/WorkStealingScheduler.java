@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.parallel;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+/**
+ * Scheduler distributing test items across a fixed number of shards, each backed by its own test instance.
+ *
+ * <p>
+ * Items are initially assigned longest-expected-first to the shard with the least expected load. Each shard processes
+ * its own queue from the head; a shard running out of work steals from the tail of the shard with the highest
+ * remaining load. An aborted item, or a failed item in fail fast mode, stops all shards from picking up further items.
+ * If the scheduling thread is interrupted, all shards are cancelled and joined before returning.
+ * The scheduler itself has no knowledge about how items are executed, so that it can be used with simulated instances.
+ *
+ * @param <T> the item type
+ */
+public class WorkStealingScheduler<T> {
+
+    private final int shardCount;
+    private final boolean failFast;
+    private final List<Deque<Integer>> queues = new ArrayList<>();
+    private long[] loads;
+    private long[] durations;
+
+    /**
+     * Instantiates a new {@link WorkStealingScheduler}.
+     *
+     * @param shardCount the number of shards
+     * @param failFast   specifies whether the first failed item stops all shards
+     */
+    public WorkStealingScheduler(final int shardCount, final boolean failFast) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1!");
+        }
+        this.shardCount = shardCount;
+        this.failFast = failFast;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Executes the given items on all shards and waits for their completion.
+     *
+     * @param items            the items to execute
+     * @param expectedDuration the expected duration of an item in milliseconds, 0 or less if unknown
+     * @param executor         the executor performing a single item on a shard
+     * @return the outcomes in the order of the given items
+     * @throws IOException          signals that an I/O exception has occurred while executing an item
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public List<Outcome> schedule(final List<T> items, final ToLongFunction<T> expectedDuration,
+                                  final ItemExecutor<T> executor) throws IOException, InterruptedException {
+        final Outcome[] outcomes = new Outcome[items.size()];
+        Arrays.fill(outcomes, Outcome.SKIPPED);
+        if (items.isEmpty()) {
+            return Arrays.asList(outcomes);
+        }
+        assign(items, expectedDuration);
+
+        final AtomicBoolean stopped = new AtomicBoolean();
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService service = Executors.newFixedThreadPool(shardCount, runnable -> {
+            final Thread thread = new Thread(runnable, "WorkStealingScheduler-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final List<Future<Void>> futures = new ArrayList<>();
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                final int shardIndex = shard;
+                futures.add(service.submit(() -> {
+                    runShard(shardIndex, items, executor, outcomes, stopped);
+                    return null;
+                }));
+            }
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            stopped.set(true);
+            service.shutdownNow();
+            awaitShards(service);
+        }
+        return Arrays.asList(outcomes);
+    }
+
+    /**
+     * Waits until all shard threads of the given service terminated, preserving the interrupt status.
+     *
+     * @param service the cancelled executor service
+     */
+    private static void awaitShards(final ExecutorService service) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (service.awaitTermination(1L, TimeUnit.MINUTES)) {
+                    break;
+                }
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Assigns the item indices longest-expected-first to the shard with the least expected load.
+     *
+     * @param items            the items
+     * @param expectedDuration the expected duration of an item
+     */
+    private synchronized void assign(final List<T> items, final ToLongFunction<T> expectedDuration) {
+        queues.clear();
+        loads = new long[shardCount];
+        durations = new long[items.size()];
+        for (int shard = 0; shard < shardCount; shard++) {
+            queues.add(new ArrayDeque<>());
+        }
+
+        // Unknown durations are estimated by the average of the known ones
+        long knownSum = 0;
+        int knownCount = 0;
+        for (int i = 0; i < items.size(); i++) {
+            durations[i] = expectedDuration.applyAsLong(items.get(i));
+            if (durations[i] > 0) {
+                knownSum += durations[i];
+                knownCount++;
+            }
+        }
+        final long estimate = knownCount > 0 ? Math.max(1L, knownSum / knownCount) : 1L;
+        final List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (durations[i] <= 0) {
+                durations[i] = estimate;
+            }
+            order.add(i);
+        }
+        // Stable sort keeps the scan order for equal durations
+        order.sort(Comparator.comparingLong((Integer i) -> durations[i]).reversed());
+
+        for (final Integer index : order) {
+            int target = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (loads[shard] < loads[target]) {
+                    target = shard;
+                }
+            }
+            queues.get(target).addLast(index);
+            loads[target] += durations[index];
+        }
+    }
+
+    /**
+     * Processes the queue of the given shard and steals from other shards until no work is left.
+     *
+     * @param shard    the shard index
+     * @param items    the items
+     * @param executor the item executor
+     * @param outcomes the outcomes to fill
+     * @param stopped  the flag signaling all shards to stop
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the current thread is interrupted
+     */
+    private void runShard(final int shard, final List<T> items, final ItemExecutor<T> executor,
+                          final Outcome[] outcomes, final AtomicBoolean stopped)
+        throws IOException, InterruptedException {
+        Integer index;
+        while (!stopped.get() && (index = nextIndex(shard)) != null) {
+            final Outcome outcome;
+            try {
+                outcome = executor.execute(shard, items.get(index));
+            } catch (final IOException | InterruptedException | RuntimeException e) {
+                stopped.set(true);
+                throw e;
+            }
+            outcomes[index] = outcome;
+            if (outcome == Outcome.ABORTED || outcome == Outcome.FAILED && failFast) {
+                stopped.set(true);
+            }
+        }
+    }
+
+    /**
+     * Takes the next item index from the head of the own queue or steals from the tail of the most loaded shard.
+     *
+     * @param shard the shard index
+     * @return the next item index, {@code null} if no work is left
+     */
+    private synchronized Integer nextIndex(final int shard) {
+        Integer index = queues.get(shard).pollFirst();
+        int owner = shard;
+        if (index == null) {
+            int victim = -1;
+            for (int other = 0; other < shardCount; other++) {
+                if (!queues.get(other).isEmpty() && (victim < 0 || loads[other] > loads[victim])) {
+                    victim = other;
+                }
+            }
+            if (victim >= 0) {
+                index = queues.get(victim).pollLast();
+                owner = victim;
+            }
+        }
+        if (index != null) {
+            loads[owner] -= durations[index];
+        }
+        return index;
+    }
+
+    /**
+     * Defines the outcomes of a scheduled item.
+     */
+    public enum Outcome {
+        /**
+         * Item executed successfully.
+         */
+        PASSED,
+
+        /**
+         * Item execution failed.
+         */
+        FAILED,
+
+        /**
+         * Item execution aborted, which stops all shards.
+         */
+        ABORTED,
+
+        /**
+         * Item not executed because the schedule was stopped.
+         */
+        SKIPPED
+    }
+
+    /**
+     * Executor performing a single item on the instance backing a shard.
+     *
+     * @param <T> the item type
+     */
+    @FunctionalInterface
+    public interface ItemExecutor<T> {
+
+        /**
+         * Executes the given item.
+         *
+         * @param shard the index of the executing shard
+         * @param item  the item to execute
+         * @return the outcome of the execution
+         * @throws IOException          signals that an I/O exception has occurred
+         * @throws InterruptedException if the execution gets interrupted
+         */
+        Outcome execute(int shard, T item) throws IOException, InterruptedException;
+    }
+}
@@ -6,17 +6,14 @@
 package de.tracetronic.jenkins.plugins.ecutest.test.scan;
 
 import hudson.Launcher;
-import hudson.remoting.Callable;
-import jenkins.security.MasterToSlaveCallable;
-import org.apache.tools.ant.DirectoryScanner;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Common base class for the {@link TestPackageScanner} and {@link TestProjectScanner}.
+ *
+ * @see TestFolderScanner
  */
 public abstract class AbstractTestScanner {
 
@@ -54,11 +51,12 @@ public abstract class AbstractTestScanner {
      * @throws InterruptedException if the current thread is interrupted while waiting for the completion
      */
     public List<String> scanTestFiles() throws IOException, InterruptedException {
-        return launcher.getChannel().call(new ScanTestCallable(inputDir, getFilePattern()));
+        final TestFolderScanner scanner = new TestFolderScanner(inputDir, recursive, launcher);
+        return scanner.scan(getFileExtension()).getTestFiles(getFileExtension());
     }
 
     /**
-     * Gets the file pattern.
+     * Gets the Ant-style file pattern matching the scanned test files.
      *
      * @return the file pattern
      */
@@ -78,42 +76,4 @@ public abstract class AbstractTestScanner {
      * @return the file extension
      */
     protected abstract String getFileExtension();
-
-    /**
-     * {@link Callable} providing remote access to scan a directory with a include file pattern.
-     */
-    private static final class ScanTestCallable extends MasterToSlaveCallable<List<String>, IOException> {
-
-        private static final long serialVersionUID = 1L;
-
-        private final String inputDir;
-        private final String filePattern;
-
-        /**
-         * Instantiates a new {@link ScanTestCallable}.
-         *
-         * @param inputDir    the input directory
-         * @param filePattern the file pattern
-         */
-        ScanTestCallable(final String inputDir, final String filePattern) {
-            this.inputDir = inputDir;
-            this.filePattern = filePattern;
-        }
-
-        @Override
-        public List<String> call() throws IOException {
-            final List<String> includeFiles = new ArrayList<>();
-            final DirectoryScanner scanner = new DirectoryScanner();
-            scanner.setBasedir(inputDir);
-            scanner.setIncludes(new String[]{filePattern});
-            scanner.scan();
-
-            final String[] fileNames = scanner.getIncludedFiles();
-            for (final String fileName : fileNames) {
-                includeFiles.add(new File(inputDir, fileName).getAbsolutePath());
-            }
-
-            return includeFiles;
-        }
-    }
 }
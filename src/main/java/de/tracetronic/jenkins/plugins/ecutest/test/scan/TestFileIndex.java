@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.scan;
+
+import hudson.Util;
+
+import javax.annotation.CheckForNull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Agent-side index of a test folder storing the test files of each directory together with the directory
+ * modification time.
+ *
+ * <p>
+ * Adding, removing or renaming an entry changes the modification time of its parent directory, so a directory
+ * with unchanged modification time does not need to be listed again on subsequent scans. The index is persisted per
+ * test folder in the temporary directory of the agent.
+ */
+public class TestFileIndex {
+
+    /**
+     * System property to disable the persisted index, e.g. for file systems without reliable directory timestamps.
+     */
+    public static final String DISABLE_PROPERTY = "ecutest.disableScanIndex";
+
+    private static final Logger LOGGER = Logger.getLogger(TestFileIndex.class.getName());
+    private static final int FORMAT_VERSION = 1;
+    private static final String INDEX_DIR = "ecu.test-scan-index";
+
+    private final File indexFile;
+    private final Map<String, DirectoryEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new empty {@link TestFileIndex}.
+     *
+     * @param indexFile the file to persist the index, {@code null} to keep it in memory only
+     */
+    public TestFileIndex(@CheckForNull final File indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Loads the persisted index of the given test folder.
+     *
+     * @param testFolder the test folder
+     * @return the loaded index, an empty index if not available or disabled
+     */
+    public static TestFileIndex load(final Path testFolder) {
+        if (Boolean.getBoolean(DISABLE_PROPERTY)) {
+            return new TestFileIndex(null);
+        }
+        final File indexDir = new File(System.getProperty("java.io.tmpdir"), INDEX_DIR);
+        final String key = Util.getDigestOf(testFolder.toAbsolutePath().normalize().toString());
+        return load(new File(indexDir, key + ".idx"));
+    }
+
+    /**
+     * Loads the index from the given file.
+     *
+     * @param indexFile the index file
+     * @return the loaded index, an empty index if the file does not exist or is invalid
+     */
+    static TestFileIndex load(final File indexFile) {
+        final TestFileIndex index = new TestFileIndex(indexFile);
+        if (indexFile.isFile()) {
+            try (InputStream in = Files.newInputStream(indexFile.toPath());
+                 DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+                index.read(data);
+            } catch (final IOException e) {
+                LOGGER.log(Level.FINE, String.format("Discarding invalid scan index %s", indexFile), e);
+                index.entries.clear();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the entry of the given directory.
+     *
+     * @param relativePath the directory path relative to the test folder
+     * @return the directory entry, {@code null} if not indexed
+     */
+    @CheckForNull
+    public DirectoryEntry get(final String relativePath) {
+        return entries.get(relativePath);
+    }
+
+    /**
+     * Puts the entry of the given directory.
+     *
+     * @param relativePath the directory path relative to the test folder
+     * @param entry        the directory entry
+     */
+    public void put(final String relativePath, final DirectoryEntry entry) {
+        entries.put(relativePath, entry);
+    }
+
+    /**
+     * Retains only the given directories, e.g. after a full walk to drop deleted directories.
+     *
+     * @param relativePaths the directory paths to retain
+     */
+    public void retain(final Set<String> relativePaths) {
+        entries.keySet().retainAll(relativePaths);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Persists the index atomically, so that concurrent scans always read a consistent index.
+     */
+    public void save() {
+        if (indexFile == null) {
+            return;
+        }
+        try {
+            final Path indexDir = indexFile.getParentFile().toPath();
+            Files.createDirectories(indexDir);
+            final Path tempFile = Files.createTempFile(indexDir, indexFile.getName(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tempFile);
+                     DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out))) {
+                    write(data);
+                }
+                Files.move(tempFile, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, String.format("Could not save scan index %s", indexFile), e);
+        }
+    }
+
+    /**
+     * Reads the index entries.
+     *
+     * @param data the input stream
+     * @throws IOException in case of an invalid or incompatible index
+     */
+    private void read(final DataInputStream data) throws IOException {
+        if (data.readInt() != FORMAT_VERSION) {
+            throw new IOException("Incompatible scan index format");
+        }
+        final int dirCount = data.readInt();
+        for (int i = 0; i < dirCount; i++) {
+            final String path = data.readUTF();
+            final long lastModified = data.readLong();
+            final int fileCount = data.readInt();
+            final List<FileEntry> files = new ArrayList<>(fileCount);
+            for (int j = 0; j < fileCount; j++) {
+                files.add(new FileEntry(data.readUTF(), data.readLong(), data.readLong()));
+            }
+            final int subDirCount = data.readInt();
+            final List<String> subDirs = new ArrayList<>(subDirCount);
+            for (int j = 0; j < subDirCount; j++) {
+                subDirs.add(data.readUTF());
+            }
+            entries.put(path, new DirectoryEntry(lastModified, files, subDirs));
+        }
+    }
+
+    /**
+     * Writes the index entries.
+     *
+     * @param data the output stream
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private void write(final DataOutputStream data) throws IOException {
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(entries.size());
+        for (final Map.Entry<String, DirectoryEntry> entry : entries.entrySet()) {
+            final DirectoryEntry dirEntry = entry.getValue();
+            data.writeUTF(entry.getKey());
+            data.writeLong(dirEntry.getLastModified());
+            data.writeInt(dirEntry.getFiles().size());
+            for (final FileEntry file : dirEntry.getFiles()) {
+                data.writeUTF(file.getName());
+                data.writeLong(file.getSize());
+                data.writeLong(file.getLastModified());
+            }
+            data.writeInt(dirEntry.getSubDirs().size());
+            for (final String subDir : dirEntry.getSubDirs()) {
+                data.writeUTF(subDir);
+            }
+        }
+    }
+
+    /**
+     * Indexed directory holding its test files and sub directories.
+     */
+    public static final class DirectoryEntry {
+
+        private final long lastModified;
+        private final List<FileEntry> files;
+        private final List<String> subDirs;
+
+        /**
+         * Instantiates a new {@link DirectoryEntry}.
+         *
+         * @param lastModified the directory modification time
+         * @param files        the test files
+         * @param subDirs      the names of the sub directories
+         */
+        public DirectoryEntry(final long lastModified, final List<FileEntry> files, final List<String> subDirs) {
+            this.lastModified = lastModified;
+            this.files = Collections.unmodifiableList(files);
+            this.subDirs = Collections.unmodifiableList(subDirs);
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public List<FileEntry> getFiles() {
+            return files;
+        }
+
+        public List<String> getSubDirs() {
+            return subDirs;
+        }
+    }
+
+    /**
+     * Indexed test file.
+     */
+    public static final class FileEntry {
+
+        private final String name;
+        private final long size;
+        private final long lastModified;
+
+        /**
+         * Instantiates a new {@link FileEntry}.
+         *
+         * @param name         the file name
+         * @param size         the file size
+         * @param lastModified the file modification time
+         */
+        public FileEntry(final String name, final long size, final long lastModified) {
+            this.name = name;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+    }
+}
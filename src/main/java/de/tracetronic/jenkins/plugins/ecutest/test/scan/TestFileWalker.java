@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.scan;
+
+import de.tracetronic.jenkins.plugins.ecutest.test.scan.TestFileIndex.DirectoryEntry;
+import de.tracetronic.jenkins.plugins.ecutest.test.scan.TestFileIndex.FileEntry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Single-pass walker collecting ecu.test packages and projects of a test folder.
+ *
+ * <p>
+ * Directories are walked in parallel using a {@link ForkJoinPool}. Directories whose modification time matches the
+ * {@link TestFileIndex} are not listed again, only their indexed test files and sub directories are reused.
+ */
+public class TestFileWalker {
+
+    /**
+     * Defines the package file extension.
+     */
+    public static final String PACKAGE_EXTENSION = ".pkg";
+
+    /**
+     * Defines the project file extension.
+     */
+    public static final String PROJECT_EXTENSION = ".prj";
+
+    /**
+     * Defines the file extensions of all test files stored in the index.
+     */
+    public static final List<String> TEST_FILE_EXTENSIONS = Collections.unmodifiableList(
+        Arrays.asList(PACKAGE_EXTENSION, PROJECT_EXTENSION));
+
+    /**
+     * Default number of parallel walker threads, walking is mostly I/O bound especially on network shares.
+     */
+    public static final int DEFAULT_PARALLELISM = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Maximum number of symbolic links followed within a path, equals the default of Ant's directory scanner.
+     */
+    private static final int MAX_SYMLINK_LEVELS = 5;
+
+    /**
+     * Directories excluded by default, equals the version control directories of Ant's default excludes.
+     */
+    private static final Set<String> DEFAULT_EXCLUDED_DIRS = new HashSet<>(Arrays.asList(
+        ".git", ".svn", ".hg", ".bzr", "CVS", "SCCS", "_darcs", ".arch-ids", "{arch}"));
+
+    /**
+     * Time in milliseconds a directory modification time must lie in the past to be trusted for the index, as the
+     * timestamp resolution of some file systems could hide changes done right after listing.
+     */
+    private static final long MODIFICATION_GRACE_PERIOD = 2000L;
+
+    private static final Logger LOGGER = Logger.getLogger(TestFileWalker.class.getName());
+
+    private final Path root;
+    private final boolean recursive;
+    private final TestFileIndex index;
+    private final int parallelism;
+    private final AtomicInteger listedCount = new AtomicInteger();
+    private final AtomicInteger reusedCount = new AtomicInteger();
+
+    /**
+     * Instantiates a new {@link TestFileWalker}.
+     *
+     * @param root        the test folder
+     * @param recursive   specifies whether to walk sub directories
+     * @param index       the index of the test folder
+     * @param parallelism the number of parallel walker threads
+     */
+    public TestFileWalker(final Path root, final boolean recursive, final TestFileIndex index,
+                          final int parallelism) {
+        this.root = root.toAbsolutePath().normalize();
+        this.recursive = recursive;
+        this.index = index;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Returns the number of directories listed by the last walk.
+     *
+     * @return the listed directory count
+     */
+    public int getListedCount() {
+        return listedCount.get();
+    }
+
+    /**
+     * Returns the number of directories reused from the index by the last walk.
+     *
+     * @return the reused directory count
+     */
+    public int getReusedCount() {
+        return reusedCount.get();
+    }
+
+    /**
+     * Walks the test folder and collects the test files with the given extensions.
+     *
+     * @param extensions the file extensions to collect
+     * @return the sorted absolute file paths per extension
+     * @throws IOException signals that an I/O exception has occurred while reading the test folder
+     */
+    public Map<String, List<String>> walk(final Collection<String> extensions) throws IOException {
+        listedCount.set(0);
+        reusedCount.set(0);
+        final Queue<Path> files = new ConcurrentLinkedQueue<>();
+        final Set<String> visited = ConcurrentHashMap.newKeySet();
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new DirectoryTask("", 0, files, visited));
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        if (recursive) {
+            // Drop deleted directories, non-recursive walks keep sub directories of previous recursive walks
+            index.retain(visited);
+        }
+
+        final Map<String, List<String>> result = new LinkedHashMap<>();
+        for (final String extension : extensions) {
+            result.put(extension, new ArrayList<>());
+        }
+        for (final Path file : files) {
+            final String fileName = file.getFileName().toString();
+            for (final String extension : extensions) {
+                if (fileName.endsWith(extension)) {
+                    result.get(extension).add(file.toString());
+                }
+            }
+        }
+        result.values().forEach(Collections::sort);
+        return result;
+    }
+
+    /**
+     * Lists the test files and sub directories of the given directory.
+     *
+     * @param dir          the directory
+     * @param lastModified the directory modification time
+     * @return the directory entry
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private DirectoryEntry listDirectory(final Path dir, final long lastModified) throws IOException {
+        final List<FileEntry> files = new ArrayList<>();
+        final List<String> subDirs = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (final Path entry : stream) {
+                final String name = entry.getFileName().toString();
+                if (isTestFile(name)) {
+                    try {
+                        final BasicFileAttributes attrs = Files.readAttributes(entry, BasicFileAttributes.class);
+                        if (attrs.isRegularFile()) {
+                            files.add(new FileEntry(name, attrs.size(), attrs.lastModifiedTime().toMillis()));
+                            continue;
+                        }
+                    } catch (final NoSuchFileException e) {
+                        continue;
+                    }
+                }
+                // Sub directories are indexed for non-recursive walks as well to reuse the entry in recursive ones
+                if (!DEFAULT_EXCLUDED_DIRS.contains(name) && Files.isDirectory(entry)) {
+                    subDirs.add(name);
+                }
+            }
+        }
+        // Do not trust modification times close to the listing, changes in the same time slot would be missed
+        final boolean isStable = System.currentTimeMillis() - lastModified > MODIFICATION_GRACE_PERIOD;
+        return new DirectoryEntry(isStable ? lastModified : Long.MIN_VALUE, files, subDirs);
+    }
+
+    /**
+     * Checks whether the given file name denotes a test file to be indexed.
+     *
+     * @param name the file name
+     * @return {@code true} if test file, {@code false} otherwise
+     */
+    private static boolean isTestFile(final String name) {
+        if (name.startsWith("._") || name.startsWith(".#")) {
+            return false;
+        }
+        for (final String extension : TEST_FILE_EXTENSIONS) {
+            if (name.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@link RecursiveAction} walking a single directory and forking tasks for its sub directories.
+     */
+    private final class DirectoryTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String relativePath;
+        private final int symlinkLevel;
+        private final transient Queue<Path> files;
+        private final transient Set<String> visited;
+
+        /**
+         * Instantiates a new {@link DirectoryTask}.
+         *
+         * @param relativePath the directory path relative to the test folder
+         * @param symlinkLevel the number of symbolic links followed so far
+         * @param files        the collected test files
+         * @param visited      the visited directory paths
+         */
+        DirectoryTask(final String relativePath, final int symlinkLevel, final Queue<Path> files,
+                      final Set<String> visited) {
+            this.relativePath = relativePath;
+            this.symlinkLevel = symlinkLevel;
+            this.files = files;
+            this.visited = visited;
+        }
+
+        @Override
+        protected void compute() {
+            final Path dir = relativePath.isEmpty() ? root : root.resolve(relativePath);
+            final DirectoryEntry entry;
+            int level = symlinkLevel;
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(dir, BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS);
+                if (attrs.isSymbolicLink()) {
+                    if (++level > MAX_SYMLINK_LEVELS) {
+                        return;
+                    }
+                    attrs = Files.readAttributes(dir, BasicFileAttributes.class);
+                }
+                if (!attrs.isDirectory()) {
+                    return;
+                }
+                final long lastModified = attrs.lastModifiedTime().toMillis();
+                final DirectoryEntry indexed = index.get(relativePath);
+                if (indexed != null && indexed.getLastModified() == lastModified) {
+                    entry = indexed;
+                    reusedCount.incrementAndGet();
+                } else {
+                    entry = listDirectory(dir, lastModified);
+                    index.put(relativePath, entry);
+                    listedCount.incrementAndGet();
+                }
+            } catch (final IOException e) {
+                if (relativePath.isEmpty()) {
+                    throw new UncheckedIOException(e);
+                }
+                // Skip unreadable or concurrently deleted sub directories like Ant's directory scanner
+                LOGGER.log(Level.FINE, String.format("Skipping directory %s", dir), e);
+                return;
+            }
+            visited.add(relativePath);
+            for (final FileEntry file : entry.getFiles()) {
+                files.add(dir.resolve(file.getName()));
+            }
+            if (recursive) {
+                final List<DirectoryTask> subTasks = new ArrayList<>();
+                for (final String subDir : entry.getSubDirs()) {
+                    final String subPath = relativePath.isEmpty() ? subDir : relativePath + "/" + subDir;
+                    subTasks.add(new DirectoryTask(subPath, level, files, visited));
+                }
+                invokeAll(subTasks);
+            }
+        }
+    }
+}
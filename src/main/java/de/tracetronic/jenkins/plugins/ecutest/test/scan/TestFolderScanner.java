@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.scan;
+
+import hudson.Launcher;
+import hudson.remoting.Callable;
+import jenkins.security.MasterToSlaveCallable;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Directory scanner searching for ecu.test packages and projects in a single pass.
+ *
+ * <p>
+ * The scan is performed on the agent by the {@link TestFileWalker} using the persisted {@link TestFileIndex} of the
+ * test folder, so subsequent scans only list directories that changed since the previous scan.
+ */
+public class TestFolderScanner {
+
+    private final String inputDir;
+    private final boolean recursive;
+    private final transient Launcher launcher;
+
+    /**
+     * Instantiates a new {@link TestFolderScanner}.
+     *
+     * @param inputDir  the input directory to scan
+     * @param recursive specifies whether to scan recursively
+     * @param launcher  the launcher
+     */
+    public TestFolderScanner(final String inputDir, final boolean recursive, final Launcher launcher) {
+        this.inputDir = inputDir;
+        this.recursive = recursive;
+        this.launcher = launcher;
+    }
+
+    public String getInputDir() {
+        return inputDir;
+    }
+
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * Scans the test files with the given file extensions.
+     *
+     * @param extensions the file extensions, e.g. {@link TestFileWalker#PACKAGE_EXTENSION}
+     * @return the scan result
+     * @throws IOException          signals that an I/O exception has occurred
+     * @throws InterruptedException if the current thread is interrupted while waiting for the completion
+     */
+    public ScanResult scan(final String... extensions) throws IOException, InterruptedException {
+        return launcher.getChannel().call(new ScanTestFilesCallable(inputDir, recursive, Arrays.asList(extensions)));
+    }
+
+    /**
+     * Result of a test folder scan holding the found test files per file extension.
+     */
+    public static final class ScanResult implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Map<String, List<String>> testFiles;
+        private final int listedCount;
+        private final int reusedCount;
+
+        /**
+         * Instantiates a new {@link ScanResult}.
+         *
+         * @param testFiles   the test files per file extension
+         * @param listedCount the number of listed directories
+         * @param reusedCount the number of directories reused from the index
+         */
+        public ScanResult(final Map<String, List<String>> testFiles, final int listedCount, final int reusedCount) {
+            this.testFiles = testFiles;
+            this.listedCount = listedCount;
+            this.reusedCount = reusedCount;
+        }
+
+        /**
+         * Gets the found test files with the given file extension.
+         *
+         * @param extension the file extension
+         * @return the absolute test file paths, empty if not scanned
+         */
+        public List<String> getTestFiles(final String extension) {
+            final List<String> files = testFiles.get(extension);
+            return files == null ? new ArrayList<>() : files;
+        }
+
+        public int getListedCount() {
+            return listedCount;
+        }
+
+        public int getReusedCount() {
+            return reusedCount;
+        }
+    }
+
+    /**
+     * {@link Callable} providing remote access to scan a directory for test files.
+     */
+    private static final class ScanTestFilesCallable extends MasterToSlaveCallable<ScanResult, IOException> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String inputDir;
+        private final boolean recursive;
+        private final List<String> extensions;
+
+        /**
+         * Instantiates a new {@link ScanTestFilesCallable}.
+         *
+         * @param inputDir   the input directory
+         * @param recursive  specifies whether to scan recursively
+         * @param extensions the file extensions
+         */
+        ScanTestFilesCallable(final String inputDir, final boolean recursive, final List<String> extensions) {
+            this.inputDir = inputDir;
+            this.recursive = recursive;
+            this.extensions = extensions;
+        }
+
+        @Override
+        public ScanResult call() throws IOException {
+            if (extensions.isEmpty()) {
+                return new ScanResult(Collections.emptyMap(), 0, 0);
+            }
+            final Path testFolder = Paths.get(inputDir);
+            final TestFileIndex index = TestFileIndex.load(testFolder);
+            final TestFileWalker walker = new TestFileWalker(testFolder, recursive, index,
+                TestFileWalker.DEFAULT_PARALLELISM);
+            final Map<String, List<String>> testFiles = walker.walk(extensions);
+            index.save();
+            return new ScanResult(testFiles, walker.getListedCount(), walker.getReusedCount());
+        }
+    }
+}
@@ -15,7 +15,7 @@ public class TestPackageScanner extends AbstractTestScanner {
     /**
      * Defines the package file extension.
      */
-    private static final String FILE_EXTENSION = ".pkg";
+    private static final String FILE_EXTENSION = TestFileWalker.PACKAGE_EXTENSION;
 
     /**
      * Instantiates a new {@link TestPackageScanner}.
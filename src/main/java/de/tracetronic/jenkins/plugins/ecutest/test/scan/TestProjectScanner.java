@@ -15,7 +15,7 @@ public class TestProjectScanner extends AbstractTestScanner {
     /**
      * Defines the project file extension.
      */
-    private static final String FILE_EXTENSION = ".prj";
+    private static final String FILE_EXTENSION = TestFileWalker.PROJECT_EXTENSION;
 
     /**
      * Instantiates a new {@link TestProjectScanner}.
@@ -19,6 +19,7 @@ import hudson.Extension;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.Util;
+import hudson.model.Computer;
 import hudson.model.Project;
 import hudson.model.Run;
 import hudson.model.TaskListener;
@@ -182,7 +183,9 @@ public class StartETBuilder extends AbstractToolBuilder {
 
             // Add action for injecting environment variables
             final int toolId = getToolId(run);
-            final ToolEnvInvisibleAction envAction = new ToolEnvInvisibleAction(toolId, etClient);
+            final Computer computer = workspace.toComputer();
+            final ToolEnvInvisibleAction envAction = new ToolEnvInvisibleAction(toolId, etClient,
+                computer != null ? computer.getName() : null);
             run.addAction(envAction);
         }
     }
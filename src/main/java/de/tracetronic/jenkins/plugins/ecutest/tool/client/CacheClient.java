@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -12,9 +12,10 @@ import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Cache;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Caches;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.Caches.CacheType;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import hudson.FilePath;
 import hudson.Launcher;
 import hudson.model.TaskListener;
@@ -161,7 +162,7 @@ public class CacheClient {
         public Boolean call() throws IOException {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient client = new ETComClient(progId)) {
+            try (ETComSession client = ETComSessionPool.getInstance().lease(progId)) {
                 final Caches caches = (Caches) client.getCaches();
                 final Cache cache = caches.getCacheByType(type);
                 final String cacheType = type.name();
@@ -209,7 +210,7 @@ public class CacheClient {
             final String progId = ETComProperty.getInstance().getProgId();
 
             // Check ecu.test version and cache module
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final String comVersion = comClient.getVersion();
                 final ToolVersion comToolVersion = ToolVersion.parse(comVersion);
                 if (comToolVersion.compareTo(minVersion) < 0) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -7,15 +7,16 @@ package de.tracetronic.jenkins.plugins.ecutest.tool.client;
 
 import de.tracetronic.jenkins.plugins.ecutest.ETPlugin;
 import de.tracetronic.jenkins.plugins.ecutest.log.TTConsoleLogger;
-import de.tracetronic.jenkins.plugins.ecutest.test.AbstractTestHelper;
 import de.tracetronic.jenkins.plugins.ecutest.tool.StartETBuilder;
 import de.tracetronic.jenkins.plugins.ecutest.tool.installation.ETInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.util.DllUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
 import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
-import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComClient;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComInfoCache;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComProperty;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSession;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComSessionPool;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestBenchConfiguration;
 import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.TestConfiguration;
 import hudson.FilePath;
@@ -26,16 +27,42 @@ import hudson.util.ArgumentListBuilder;
 import jenkins.security.MasterToSlaveCallable;
 import org.apache.commons.lang.StringUtils;
 
+import javax.annotation.CheckForNull;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Client to start and stop ecu.test by either COM or XML-RPC communication.
  */
 public class ETClient extends AbstractToolClient {
 
+    /**
+     * Defines the workspace settings gathered after starting ecu.test.
+     */
+    private static final List<String> SETTING_NAMES = Arrays.asList(
+            "workspacePath",
+            "settingsPath",
+            "configPath",
+            "packagePath",
+            "reportPath",
+            "templatePath",
+            "generatorPath",
+            "parameterPath",
+            "traceStepPath",
+            "userPyModulesPath",
+            "utilityPath",
+            "offlineModelPath",
+            "offlineSgbdPath",
+            "offlineFiuPath",
+            "logFile",
+            "errorLogFile",
+            "language");
+
     private final String workspaceDir;
     private final String settingsDir;
     private final boolean debugMode;
@@ -43,6 +70,7 @@ public class ETClient extends AbstractToolClient {
     private String lastTbc;
     private String lastTcf;
     private boolean licenseCheck;
+    private ToolInfo toolInfo;
 
     /**
      * Instantiates a new {@link ETClient}.
@@ -170,6 +198,16 @@ public class ETClient extends AbstractToolClient {
         return lastTcf;
     }
 
+    /**
+     * Gets the information gathered after starting ecu.test.
+     *
+     * @return the tool information or {@code null} if ecu.test has not been started by this client
+     */
+    @CheckForNull
+    public ToolInfo getToolInfo() {
+        return toolInfo;
+    }
+
     public boolean isLicenseCheck() {
         return licenseCheck;
     }
@@ -216,7 +254,9 @@ public class ETClient extends AbstractToolClient {
             logger.logError("Could not load JACOB library!");
             return false;
         }
-        final String comVersion = launcher.getChannel().call(new StartCallable(getTimeout(), listener));
+        // Gather all tool information at once
+        final ToolInfo startedToolInfo = launcher.getChannel().call(new ToolInfoCallable(getTimeout(), listener));
+        final String comVersion = startedToolInfo.getVersion();
         if (comVersion.isEmpty()) {
             logger.logError("Could not determine ecu.test COM version!");
             return false;
@@ -242,13 +282,11 @@ public class ETClient extends AbstractToolClient {
             return false;
         }
 
-        // Query additional tool information
-        queryLoadedPatches(launcher, listener, comToolVersion);
-        querySettings(launcher, logger);
-        if (comToolVersion.compareWithoutMicroTo(new ToolVersion(7, 0, 0)) >= 0) {
-            lastTbc = launcher.getChannel().call(new LastTbcCallable(listener));
-            lastTcf = launcher.getChannel().call(new LastTcfCallable(listener));
-        }
+        // Log additional tool information
+        toolInfo = startedToolInfo;
+        lastTbc = toolInfo.getLastTbc();
+        lastTcf = toolInfo.getLastTcf();
+        logToolInfo(logger, comToolVersion);
 
         logger.logInfo(String.format("%s started successfully.", getToolName()));
         return true;
@@ -363,68 +401,34 @@ public class ETClient extends AbstractToolClient {
     }
 
     /**
-     * Queries all available workspace settings and logs them as debug messages.
+     * Logs the loaded patches, the workspace settings and the last loaded configurations as debug messages.
      *
-     * @param launcher the launcher
-     * @param logger   the logger
-     */
-    private void querySettings(final Launcher launcher, final TTConsoleLogger logger) {
-        if (Boolean.getBoolean("ecutest.debugLog")) {
-            final List<String> settings = Arrays.asList(
-                    "workspacePath",
-                    "settingsPath",
-                    "configPath",
-                    "packagePath",
-                    "reportPath",
-                    "templatePath",
-                    "generatorPath",
-                    "parameterPath",
-                    "traceStepPath",
-                    "userPyModulesPath",
-                    "utilityPath",
-                    "offlineModelPath",
-                    "offlineSgbdPath",
-                    "offlineFiuPath",
-                    "logFile",
-                    "errorLogFile",
-                    "language");
-            logger.logDebug("Workspace settings:");
-            settings.forEach(setting -> {
-                try {
-                    logger.logDebug(String.format("- %s: %s", setting,
-                            launcher.getChannel().call(new AbstractTestHelper.GetSettingCallable(setting))));
-                } catch (IOException | InterruptedException e) {
-                    logger.logDebug(String.format("- %s: not available", setting));
-                }
-            });
-        }
-    }
-
-    /**
-     * Queries the loaded patches and and logs them as debug messages.
-     *
-     * @param launcher       the launcher
-     * @param listener       the listener
+     * @param logger         the logger
      * @param comToolVersion the COM version
      */
-    private void queryLoadedPatches(final Launcher launcher, final TaskListener listener,
-                                    final ToolVersion comToolVersion) {
-        if (Boolean.getBoolean("ecutest.debugLog")
-                && comToolVersion.compareWithoutMicroTo(new ToolVersion(7, 1, 0)) >= 0) {
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            try {
-                final List<String> loadedPatches = launcher.getChannel().call(new GetLoadedPatchesCallable(listener));
-                logger.logDebug("Loaded patches: " + loadedPatches);
-            } catch (IOException | InterruptedException e) {
-                logger.logDebug("Loaded patches: not available");
-            }
+    private void logToolInfo(final TTConsoleLogger logger, final ToolVersion comToolVersion) {
+        if (!Boolean.getBoolean("ecutest.debugLog")) {
+            return;
+        }
+        if (comToolVersion.compareWithoutMicroTo(new ToolVersion(7, 1, 0)) >= 0) {
+            logger.logDebug("Loaded patches: " + toolInfo.getLoadedPatches());
+        }
+        logger.logDebug("Workspace settings:");
+        SETTING_NAMES.forEach(setting -> {
+            final String value = toolInfo.getSetting(setting);
+            logger.logDebug(String.format("- %s: %s", setting, value != null ? value : "not available"));
+        });
+        if (comToolVersion.compareWithoutMicroTo(new ToolVersion(7, 0, 0)) >= 0) {
+            logger.logDebug("Last loaded TBC: " + lastTbc);
+            logger.logDebug("Last loaded TCF: " + lastTcf);
         }
     }
 
     /**
-     * {@link Callable} providing remote access to establish a COM connection.
+     * {@link Callable} providing remote access to establish a COM connection and to gather the version, the loaded
+     * patches, the workspace settings and the last loaded configurations within a single COM session.
      */
-    private static final class StartCallable extends MasterToSlaveCallable<String, IOException> {
+    private static final class ToolInfoCallable extends MasterToSlaveCallable<ToolInfo, IOException> {
 
         private static final long serialVersionUID = 1L;
 
@@ -432,29 +436,72 @@ public class ETClient extends AbstractToolClient {
         private final TaskListener listener;
 
         /**
-         * Instantiates a new {@link StartCallable}.
+         * Instantiates a new {@link ToolInfoCallable}.
          *
          * @param timeout  the timeout
          * @param listener the listener
          */
-        StartCallable(final int timeout, final TaskListener listener) {
+        ToolInfoCallable(final int timeout, final TaskListener listener) {
             this.timeout = timeout;
             this.listener = listener;
         }
 
         @Override
-        public String call() throws IOException {
+        public ToolInfo call() throws IOException {
             String version = "";
+            final List<String> loadedPatches = new ArrayList<>();
+            final Map<String, String> settings = new LinkedHashMap<>();
+            String tbcFilePath = "";
+            String tcfFilePath = "";
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId, timeout)) {
-                if (comClient.isApplicationRunning()) {
-                    version = comClient.getVersion();
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId, timeout)) {
+                if (!comClient.isApplicationRunning()) {
+                    return new ToolInfo(version, loadedPatches, settings, tbcFilePath, tcfFilePath);
+                }
+                version = comClient.getVersion();
+                final ToolVersion toolVersion = comClient.getToolVersion();
+                if (toolVersion.compareWithoutMicroTo(new ToolVersion(7, 1, 0)) >= 0) {
+                    loadedPatches.addAll(comClient.getLoadedPatches());
+                }
+                for (final String settingName : SETTING_NAMES) {
+                    final String settingValue = getSetting(comClient, settingName);
+                    if (settingValue != null) {
+                        settings.put(settingName, settingValue);
+                    }
+                }
+                if (toolVersion.compareWithoutMicroTo(new ToolVersion(7, 0, 0)) >= 0) {
+                    try (TestBenchConfiguration tbc = (TestBenchConfiguration)
+                            comClient.getCurrentTestBenchConfiguration()) {
+                        tbcFilePath = StringUtils.trimToEmpty(tbc.getFileName());
+                    }
+                    try (TestConfiguration tcf = (TestConfiguration) comClient.getCurrentTestConfiguration()) {
+                        tcfFilePath = StringUtils.trimToEmpty(tcf.getFileName());
+                    }
                 }
             } catch (final ETComException e) {
                 logger.logComException(e);
             }
-            return version;
+            final Optional<ProcessHandle> process = ProcessUtil.findETProcess();
+            return new ToolInfo(version, loadedPatches, settings, tbcFilePath, tcfFilePath,
+                process.map(ProcessHandle::pid).orElse(-1L), process.map(ProcessUtil::getStartTime).orElse(-1L));
+        }
+
+        /**
+         * Gets the value of a workspace setting.
+         *
+         * @param comClient   the COM session
+         * @param settingName the setting name
+         * @return the setting value or {@code null} if the setting is not defined or not available
+         */
+        @CheckForNull
+        private static String getSetting(final ETComSession comClient, final String settingName) {
+            try {
+                final String settingValue = comClient.getSetting(settingName);
+                return "None".equals(settingValue) ? null : settingValue;
+            } catch (final ETComException e) {
+                return null;
+            }
         }
     }
 
@@ -487,7 +534,7 @@ public class ETClient extends AbstractToolClient {
             boolean isTerminated = false;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId, timeout)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId, timeout)) {
                 if (comClient.isApplicationRunning()) {
                     isTerminated = quit(progId, logger) || exit(progId, logger);
                 } else {
@@ -496,6 +543,8 @@ public class ETClient extends AbstractToolClient {
             } catch (final ETComException e) {
                 logger.logComException(e);
             } finally {
+                ETComSessionPool.getInstance().evict(progId);
+                ETComInfoCache.getInstance().invalidate(progId);
                 if (checkProcesses) {
                     final List<String> foundProcesses = ProcessUtil.checkETProcesses(true);
                     if (!foundProcesses.isEmpty()) {
@@ -516,7 +565,7 @@ public class ETClient extends AbstractToolClient {
          */
         private boolean quit(final String progId, final TTConsoleLogger logger) {
             boolean isTerminated = false;
-            try (ETComClient comClient = new ETComClient(progId, timeout)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId, timeout)) {
                 isTerminated = comClient.quit(timeout);
             } catch (ETComException e) {
                 logger.logStackTrace(e);
@@ -533,7 +582,7 @@ public class ETClient extends AbstractToolClient {
          */
         private boolean exit(final String progId, final TTConsoleLogger logger) {
             boolean isTerminated = false;
-            try (ETComClient comClient = new ETComClient(progId, timeout)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId, timeout)) {
                 isTerminated = comClient.exit(timeout);
             } catch (ETComException e) {
                 logger.logStackTrace(e);
@@ -566,6 +615,10 @@ public class ETClient extends AbstractToolClient {
         @Override
         public List<String> call() throws IOException {
             final List<String> procs = ProcessUtil.checkETProcesses(kill);
+            if (kill && !procs.isEmpty()) {
+                ETComSessionPool.getInstance().shutdown();
+                ETComInfoCache.getInstance().invalidate();
+            }
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             logger.logDebug("Found open processes: " + procs);
             return procs;
@@ -595,7 +648,7 @@ public class ETClient extends AbstractToolClient {
             ToolVersion toolVersion = null;
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 final String comVersion = comClient.getVersion();
                 toolVersion = ToolVersion.parse(comVersion);
             } catch (final ETComException e) {
@@ -605,75 +658,6 @@ public class ETClient extends AbstractToolClient {
         }
     }
 
-    /**
-     * {@link Callable} providing remote access to request the last loaded TBC of currently running ecu.test instance.
-     */
-    private static final class LastTbcCallable extends MasterToSlaveCallable<String, IOException> {
-
-        private static final long serialVersionUID = 1L;
-
-        private final TaskListener listener;
-
-        /**
-         * Instantiates a new {@link LastTbcCallable}.
-         *
-         * @param listener the listener
-         */
-        LastTbcCallable(final TaskListener listener) {
-            this.listener = listener;
-        }
-
-        @Override
-        public String call() throws IOException {
-            String tbcFilePath = "";
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 TestBenchConfiguration tbc = (TestBenchConfiguration)
-                         comClient.getCurrentTestBenchConfiguration()) {
-                tbcFilePath = StringUtils.trimToEmpty(tbc.getFileName());
-                logger.logDebug("Last loaded TBC: " + tbcFilePath);
-            } catch (final ETComException e) {
-                logger.logComException(e);
-            }
-            return tbcFilePath;
-        }
-    }
-
-    /**
-     * {@link Callable} providing remote access to request the last loaded TCF of currently running ecu.test instance.
-     */
-    private static final class LastTcfCallable extends MasterToSlaveCallable<String, IOException> {
-
-        private static final long serialVersionUID = 1L;
-
-        private final TaskListener listener;
-
-        /**
-         * Instantiates a new {@link LastTcfCallable}.
-         *
-         * @param listener the listener
-         */
-        LastTcfCallable(final TaskListener listener) {
-            this.listener = listener;
-        }
-
-        @Override
-        public String call() throws IOException {
-            String tcfFilePath = "";
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId);
-                 TestConfiguration tcf = (TestConfiguration) comClient.getCurrentTestConfiguration()) {
-                tcfFilePath = StringUtils.trimToEmpty(tcf.getFileName());
-                logger.logDebug("Last loaded TCF: " + tcfFilePath);
-            } catch (final ETComException e) {
-                logger.logComException(e);
-            }
-            return tcfFilePath;
-        }
-    }
-
     /**
      * {@link Callable} providing remote access to check architecture of ecu.test process against JVM architecture.
      */
@@ -724,7 +708,7 @@ public class ETClient extends AbstractToolClient {
         public Boolean call() throws IOException {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
                 return comClient.updateUserLibraries();
             } catch (final ETComException e) {
                 logger.logComException(e);
@@ -755,9 +739,8 @@ public class ETClient extends AbstractToolClient {
         public Boolean call() throws IOException {
             final TTConsoleLogger logger = new TTConsoleLogger(listener);
             final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                final String comVersion = comClient.getVersion();
-                final ToolVersion toolVersion = ToolVersion.parse(comVersion);
+            try (ETComSession comClient = ETComSessionPool.getInstance().lease(progId)) {
+                final ToolVersion toolVersion = comClient.getToolVersion();
                 if (toolVersion.compareWithoutMicroTo(new ToolVersion(8, 0, 0)) >= 0) {
                     return comClient.isStarted();
                 } else {
@@ -770,36 +753,4 @@ public class ETClient extends AbstractToolClient {
             return false;
         }
     }
-
-    /**
-     * {@link Callable} providing remote access to get the list of loaded patches.
-     */
-    private static final class GetLoadedPatchesCallable extends MasterToSlaveCallable<List<String>, IOException> {
-
-        private static final long serialVersionUID = 1L;
-
-        private final TaskListener listener;
-
-        /**
-         * Instantiates a new {@link GetLoadedPatchesCallable}.
-         *
-         * @param listener the listener
-         */
-        GetLoadedPatchesCallable(final TaskListener listener) {
-            this.listener = listener;
-        }
-
-        @Override
-        public List<String> call() throws IOException {
-            final List<String> loadedPatches = new ArrayList<>();
-            final TTConsoleLogger logger = new TTConsoleLogger(listener);
-            final String progId = ETComProperty.getInstance().getProgId();
-            try (ETComClient comClient = new ETComClient(progId)) {
-                loadedPatches.addAll(comClient.getLoadedPatches());
-            } catch (final ETComException e) {
-                logger.logComException(e);
-            }
-            return loadedPatches;
-        }
-    }
 }
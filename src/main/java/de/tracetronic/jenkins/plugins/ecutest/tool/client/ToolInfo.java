@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.tool.client;
+
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the information of a running ecu.test instance, gathered by a single remote call after
+ * starting ecu.test.
+ *
+ * @since 2.47
+ */
+public final class ToolInfo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String version;
+    private final List<String> loadedPatches;
+    private final Map<String, String> settings;
+    private final String lastTbc;
+    private final String lastTcf;
+    private final long processId;
+    private final long processStart;
+
+    /**
+     * Instantiates a new {@link ToolInfo} without information about the ecu.test process.
+     *
+     * @param version       the COM version, empty if not available
+     * @param loadedPatches the loaded patches
+     * @param settings      the defined workspace settings mapped by their names
+     * @param lastTbc       the last loaded test bench configuration file, empty if not available
+     * @param lastTcf       the last loaded test configuration file, empty if not available
+     */
+    public ToolInfo(final String version, final List<String> loadedPatches, final Map<String, String> settings,
+                    final String lastTbc, final String lastTcf) {
+        this(version, loadedPatches, settings, lastTbc, lastTcf, -1L, -1L);
+    }
+
+    /**
+     * Instantiates a new {@link ToolInfo}.
+     *
+     * @param version       the COM version, empty if not available
+     * @param loadedPatches the loaded patches
+     * @param settings      the defined workspace settings mapped by their names
+     * @param lastTbc       the last loaded test bench configuration file, empty if not available
+     * @param lastTcf       the last loaded test configuration file, empty if not available
+     * @param processId     the id of the ecu.test process, {@code -1} if not available
+     * @param processStart  the start time of the ecu.test process in epoch milliseconds, {@code -1} if not available
+     */
+    public ToolInfo(final String version, final List<String> loadedPatches, final Map<String, String> settings,
+                    final String lastTbc, final String lastTcf, final long processId, final long processStart) {
+        this.version = StringUtils.trimToEmpty(version);
+        this.loadedPatches = new ArrayList<>(loadedPatches);
+        this.settings = new LinkedHashMap<>(settings);
+        this.lastTbc = StringUtils.trimToEmpty(lastTbc);
+        this.lastTcf = StringUtils.trimToEmpty(lastTcf);
+        this.processId = processId;
+        this.processStart = processStart;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<String> getLoadedPatches() {
+        return Collections.unmodifiableList(loadedPatches);
+    }
+
+    public Map<String, String> getSettings() {
+        return Collections.unmodifiableMap(settings);
+    }
+
+    /**
+     * Gets the value of a workspace setting.
+     *
+     * @param settingName the setting name
+     * @return the setting value or {@code null} if the setting is not defined
+     */
+    @CheckForNull
+    public String getSetting(final String settingName) {
+        return settings.get(settingName);
+    }
+
+    public String getLastTbc() {
+        return lastTbc;
+    }
+
+    public String getLastTcf() {
+        return lastTcf;
+    }
+
+    public long getProcessId() {
+        return processId;
+    }
+
+    public long getProcessStart() {
+        return processStart;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -12,8 +12,8 @@ import hudson.util.Secret;
 import org.apache.commons.lang.StringUtils;
 
 import javax.annotation.CheckForNull;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -22,6 +22,27 @@ import java.util.Map.Entry;
  */
 public final class ATXUtil {
 
+    private static final String DEFAULT_TEST_NAME = "DefaultTestName";
+
+    /**
+     * Maximum number of recently converted test names to cache.
+     */
+    private static final int VALID_NAME_CACHE_SIZE = 1024;
+
+    /**
+     * Least recently used cache of converted test names, since the same names are requested repeatedly when
+     * traversing the sub-reports of a project.
+     */
+    private static final Map<String, String> VALID_NAME_CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<String, String>(VALID_NAME_CACHE_SIZE, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Entry<String, String> eldest) {
+                return size() > VALID_NAME_CACHE_SIZE;
+            }
+        });
+
     /**
      * Instantiates a new {@link ATXUtil}.
      */
@@ -36,51 +57,77 @@ public final class ATXUtil {
      * @return the ATX compliant test name
      */
     public static String getValidATXName(final String testName) {
-        String validATXName = "DefaultTestName";
-        if (testName != null && StringUtils.countMatches(testName, "_") != testName.length()) {
-            validATXName = testName;
-
-            final Map<String, String> specialCharMap = new HashMap<>();
-            specialCharMap.put("ä", "ae");
-            specialCharMap.put("Ä", "Ae");
-            specialCharMap.put("ö", "oe");
-            specialCharMap.put("Ö", "Oe");
-            specialCharMap.put("ü", "ue");
-            specialCharMap.put("Ü", "Ue");
-            specialCharMap.put("ß", "ss");
-            specialCharMap.put("-", "_");
-            specialCharMap.put("\\.", "_");
-            specialCharMap.put(" ", "");
-
-            // Replace special chars
-            for (final Entry<String, String> specialChar : specialCharMap.entrySet()) {
-                validATXName = validATXName.replaceAll(specialChar.getKey(), specialChar.getValue());
-            }
-
-            // Remove coherent underscores
-            validATXName = removeCoherentUnderscores(validATXName);
-
-            // Add 'i' char if test name starts with digit
-            if (Character.isDigit(validATXName.charAt(0))) {
-                validATXName = String.format("i%s", validATXName);
-            }
+        if (testName == null) {
+            return DEFAULT_TEST_NAME;
+        }
+        String validATXName = VALID_NAME_CACHE.get(testName);
+        if (validATXName == null) {
+            validATXName = toValidATXName(testName);
+            VALID_NAME_CACHE.put(testName, validATXName);
         }
         return validATXName;
     }
 
     /**
-     * Removes the coherent underscores.
+     * Normalizes the test name in a single pass. Umlauts are transliterated, spaces are removed and dashes, dots and
+     * underscores are replaced by a single underscore per coherent sequence. Names starting with a digit are prefixed
+     * with an 'i' char.
      *
      * @param testName the test name
-     * @return the string without coherent underscores
+     * @return the ATX compliant test name
      */
-    private static String removeCoherentUnderscores(final String testName) {
-        final String validATXName = testName.replace("__", "_");
-        if (validATXName.equals(testName)) {
-            return validATXName;
-        } else {
-            return removeCoherentUnderscores(validATXName);
+    private static String toValidATXName(final String testName) {
+        final StringBuilder validATXName = new StringBuilder(testName.length() + 1);
+        boolean onlyUnderscores = true;
+        for (int i = 0; i < testName.length(); i++) {
+            final char c = testName.charAt(i);
+            if (c != '_') {
+                onlyUnderscores = false;
+            }
+            switch (c) {
+                case 'ä':
+                    validATXName.append("ae");
+                    break;
+                case 'Ä':
+                    validATXName.append("Ae");
+                    break;
+                case 'ö':
+                    validATXName.append("oe");
+                    break;
+                case 'Ö':
+                    validATXName.append("Oe");
+                    break;
+                case 'ü':
+                    validATXName.append("ue");
+                    break;
+                case 'Ü':
+                    validATXName.append("Ue");
+                    break;
+                case 'ß':
+                    validATXName.append("ss");
+                    break;
+                case ' ':
+                    break;
+                case '-':
+                case '.':
+                case '_':
+                    // Remove coherent underscores
+                    if (validATXName.length() == 0 || validATXName.charAt(validATXName.length() - 1) != '_') {
+                        validATXName.append('_');
+                    }
+                    break;
+                default:
+                    validATXName.append(c);
+                    break;
+            }
         }
+        if (onlyUnderscores) {
+            return DEFAULT_TEST_NAME;
+        }
+
+        // Add 'i' char if test name starts with digit
+        final String name = validATXName.toString();
+        return Character.isDigit(name.charAt(0)) ? "i" + name : name;
     }
 
     /**
@@ -95,14 +142,12 @@ public final class ATXUtil {
     public static String getBaseUrl(final ATXConfig config, final EnvVars envVars) {
         String fullServerUrl = null;
         if (config != null && envVars != null) {
-            final List<ATXSetting<?>> uploadSettings = config.getSettingsByGroup(ATXSetting.SettingsGroup.CONNECTION);
-            final Object useHttpsConnection = config.getSettingValueBySettings("useHttpsConnection", uploadSettings);
-            final String serverUrl = envVars.expand((String) config.getSettingValueBySettings("serverURL",
-                uploadSettings));
-            final String serverPort = envVars.expand((String) config.getSettingValueBySettings("serverPort",
-                uploadSettings));
-            final String contextPath = envVars.expand((String) config.getSettingValueBySettings("serverContextPath",
-                uploadSettings));
+            final ATXSetting.SettingsGroup group = ATXSetting.SettingsGroup.CONNECTION;
+            final Object useHttpsConnection = config.getSettingValueByGroup("useHttpsConnection", group);
+            final String serverUrl = envVars.expand((String) config.getSettingValueByGroup("serverURL", group));
+            final String serverPort = envVars.expand((String) config.getSettingValueByGroup("serverPort", group));
+            final String contextPath = envVars.expand((String) config.getSettingValueByGroup("serverContextPath",
+                group));
             if (serverUrl != null && serverPort != null && useHttpsConnection != null) {
                 fullServerUrl = getBaseUrl(serverUrl, serverPort, contextPath, (boolean) useHttpsConnection);
             }
@@ -143,12 +188,12 @@ public final class ATXUtil {
         String proxyUrl = null;
         if (config != null && envVars != null) {
             final Secret secretProxyUrl;
-            final List<ATXSetting<?>> uploadSettings = config.getSettingsByGroup(ATXSetting.SettingsGroup.CONNECTION);
-            final Object useHttpsConnection = config.getSettingValueBySettings("useHttpsConnection", uploadSettings);
+            final ATXSetting.SettingsGroup group = ATXSetting.SettingsGroup.CONNECTION;
+            final Object useHttpsConnection = config.getSettingValueByGroup("useHttpsConnection", group);
             if (useHttpsConnection != null && (boolean) useHttpsConnection) {
-                secretProxyUrl = (Secret) config.getSettingValueBySettings("httpsProxy", uploadSettings);
+                secretProxyUrl = (Secret) config.getSettingValueByGroup("httpsProxy", group);
             } else {
-                secretProxyUrl = (Secret) config.getSettingValueBySettings("httpProxy", uploadSettings);
+                secretProxyUrl = (Secret) config.getSettingValueByGroup("httpProxy", group);
             }
             if (secretProxyUrl != null) {
                 proxyUrl = envVars.expand(secretProxyUrl.getPlainText());
@@ -167,8 +212,8 @@ public final class ATXUtil {
     public static String getProjectId(final ATXConfig config, final EnvVars envVars) {
         String projectId = null;
         if (config != null && envVars != null) {
-            final List<ATXSetting<?>> uploadSettings = config.getSettingsByGroup(ATXSetting.SettingsGroup.CONNECTION);
-            final Object projectIdSetting = config.getSettingValueBySettings("projectId", uploadSettings);
+            final Object projectIdSetting = config.getSettingValueByGroup("projectId",
+                ATXSetting.SettingsGroup.CONNECTION);
             if (projectIdSetting != null) {
                 projectId = envVars.expand((String) projectIdSetting);
             }
@@ -185,9 +230,8 @@ public final class ATXUtil {
     public static boolean isSingleTestplanMap(final ATXConfig config) {
         boolean isMapEnabled = true;
         if (config != null) {
-            final List<ATXSetting<?>> specialSettings = config.getSettingsByGroup(ATXSetting.SettingsGroup.SPECIAL);
-            final Object settingValue = config.getSettingValueBySettings("mapSeparateProjectExecutionAsSingleTestplan",
-                specialSettings);
+            final Object settingValue = config.getSettingValueByGroup("mapSeparateProjectExecutionAsSingleTestplan",
+                ATXSetting.SettingsGroup.SPECIAL);
             if (settingValue != null) {
                 isMapEnabled = (boolean) settingValue;
             }
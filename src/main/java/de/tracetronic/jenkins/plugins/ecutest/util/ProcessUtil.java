@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -14,10 +14,13 @@ import org.jvnet.winp.WinpException;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Utility class providing process and system operations.
@@ -62,6 +65,67 @@ public final class ProcessUtil {
         return checkProcesses(TS_PROCS, kill);
     }
 
+    /**
+     * Finds a running ecu.test process.
+     *
+     * @return the first found ecu.test process, empty if none is running
+     */
+    public static Optional<ProcessHandle> findETProcess() {
+        return ProcessHandle.allProcesses()
+            .filter(process -> process.info().command().map(ProcessUtil::isETCommand).orElse(false))
+            .findFirst();
+    }
+
+    /**
+     * Finds all running ecu.test processes.
+     *
+     * @return the found ecu.test processes, empty if none is running
+     */
+    public static List<ProcessHandle> findETProcesses() {
+        return ProcessHandle.allProcesses()
+            .filter(process -> process.info().command().map(ProcessUtil::isETCommand).orElse(false))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks whether the process with the given id is still running. The start time distinguishes the process from
+     * a later process reusing the same id.
+     *
+     * @param processId    the process id
+     * @param processStart the start time of the process in epoch milliseconds, {@code -1} if not known
+     * @return {@code true} if the process is still running, {@code false} otherwise
+     */
+    public static boolean isRunning(final long processId, final long processStart) {
+        if (processId < 0) {
+            return false;
+        }
+        return ProcessHandle.of(processId)
+            .filter(ProcessHandle::isAlive)
+            .map(process -> processStart < 0 || processStart == getStartTime(process))
+            .orElse(false);
+    }
+
+    /**
+     * Gets the start time of the given process.
+     *
+     * @param process the process
+     * @return the start time in epoch milliseconds, {@code -1} if not available
+     */
+    public static long getStartTime(final ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(-1L);
+    }
+
+    /**
+     * Checks whether the given executable path belongs to ecu.test.
+     *
+     * @param command the executable path of a process
+     * @return {@code true} if the executable is ecu.test, {@code false} otherwise
+     */
+    private static boolean isETCommand(final String command) {
+        final String fileName = command.substring(Math.max(command.lastIndexOf('\\'), command.lastIndexOf('/')) + 1);
+        return ET_PROCS.stream().anyMatch(fileName::equalsIgnoreCase);
+    }
+
     /**
      * Checks a list of processes and kills them if appropriate.
      *
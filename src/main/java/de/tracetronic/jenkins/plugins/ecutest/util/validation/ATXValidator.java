@@ -1,11 +1,12 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.util.validation;
 
 import de.tracetronic.jenkins.plugins.ecutest.ETPlugin;
+import de.tracetronic.jenkins.plugins.ecutest.report.atx.ATXHttpClient;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXConfig;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXInstallation;
 import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.Messages;
@@ -17,28 +18,14 @@ import net.sf.json.JSONObject;
 import net.sf.json.groovy.JsonSlurper;
 import org.apache.commons.lang.StringUtils;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
-import java.net.Authenticator;
 import java.net.HttpURLConnection;
-import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
-import java.net.PasswordAuthentication;
-import java.net.Proxy;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.net.URLDecoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.X509Certificate;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -71,44 +58,6 @@ public class ATXValidator extends AbstractValidator {
         return true;
     }
 
-    /**
-     * Ignores SSL certification errors by trusting all certificates and host names.
-     *
-     * @param connection the current connection
-     * @throws NoSuchAlgorithmException the no such algorithm exception
-     * @throws KeyManagementException   the key management exception
-     */
-    public static void ignoreSSLIssues(final HttpsURLConnection connection)
-        throws NoSuchAlgorithmException, KeyManagementException {
-        // Create a trust manager that does not validate certificate chains
-        final TrustManager[] trustAllCerts = new TrustManager[]{new X509TrustManager() {
-
-            @Override
-            public X509Certificate[] getAcceptedIssuers() {
-                return new X509Certificate[0];
-            }
-
-            @Override
-            public void checkClientTrusted(final X509Certificate[] certs, final String authType) {
-            }
-
-            @Override
-            public void checkServerTrusted(final X509Certificate[] certs, final String authType) {
-            }
-        } };
-
-        // Install the all-trusting trust manager
-        final SSLContext sslContext = SSLContext.getInstance("SSL");
-        sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-        connection.setSSLSocketFactory(sslContext.getSocketFactory());
-
-        // Create all-trusting host name verifier
-        final HostnameVerifier allHostsValid = (hostname, session) -> true;
-
-        // Install the all-trusting host verifier
-        connection.setHostnameVerifier(allHostsValid);
-    }
-
     /**
      * Validates the test.guide name.
      *
@@ -382,87 +331,31 @@ public class ATXValidator extends AbstractValidator {
             "<span style=\"font-weight: bold; color: #208CA3\">%s</span>",
             Messages.ATXInstallation_ValidConnection(baseUrl)));
 
-        HttpURLConnection connection = null;
         try {
             final String appVersionUrl = String.format("%s/api/app-version-info", baseUrl);
-            final URL url = new URL(appVersionUrl);
+            final HttpRequest request = ATXHttpClient.newRequest(appVersionUrl).build();
+            final HttpResponse<String> response = ATXHttpClient.get(proxyUrl, ignoreSSL)
+                .send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
 
-            // Handle proxy setting
-            final Proxy proxy = configureProxy(proxyUrl);
-
-            // Handle SSL connection
-            if (appVersionUrl.startsWith("https://")) {
-                connection = (HttpsURLConnection) url.openConnection(proxy);
-                if (ignoreSSL) {
-                    ignoreSSLIssues((HttpsURLConnection) connection);
-                }
-            } else {
-                connection = (HttpURLConnection) url.openConnection(proxy);
-            }
-
-            // Check URL connection
-            connection.setConnectTimeout(30000);
-            connection.setReadTimeout(30000);
-            connection.setUseCaches(false);
-            connection.setRequestMethod("GET");
-            connection.connect();
-
-            final int httpResponse = connection.getResponseCode();
+            final int httpResponse = response.statusCode();
             if (httpResponse != HttpURLConnection.HTTP_OK) {
                 returnValue = FormValidation.error(Messages.ATXInstallation_ServerNotReachable(baseUrl,
                     "Status code: " + httpResponse));
             } else {
-                try (BufferedReader in = new BufferedReader(new InputStreamReader(
-                    connection.getInputStream(), StandardCharsets.UTF_8))) {
-                    final String content = in.readLine();
-                    returnValue = Optional.ofNullable(parseServerInfo(content, baseUrl)).orElse(returnValue);
-                }
+                final String content = response.body().lines().findFirst().orElse(null);
+                returnValue = Optional.ofNullable(parseServerInfo(content, baseUrl)).orElse(returnValue);
             }
         } catch (final MalformedURLException e) {
             returnValue = FormValidation.error(Messages.ATXInstallation_InvalidServerUrl(baseUrl));
-        } catch (final IOException | NoSuchAlgorithmException | KeyManagementException e) {
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            returnValue = FormValidation.error(Messages.ATXInstallation_ServerNotReachable(baseUrl, e.getMessage()));
+        } catch (final IOException | IllegalArgumentException e) {
             returnValue = FormValidation.error(Messages.ATXInstallation_ServerNotReachable(baseUrl, e.getMessage()));
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
-            Authenticator.setDefault(null);
         }
         return returnValue;
     }
 
-    /**
-     * Configures a HTTP proxy based on given proxy URL.
-     * Extracts user name and password from URL and sets as the default {@link Authenticator}.
-     *
-     * @param proxyUrl the proxy URL
-     * @return the proxy instance or direct connection if proxy URL is empty
-     */
-    private Proxy configureProxy(final String proxyUrl) throws MalformedURLException, UnsupportedEncodingException {
-        if (StringUtils.isBlank(proxyUrl)) {
-            return Proxy.NO_PROXY;
-        }
-
-        final URL url = new URL(proxyUrl);
-        final Proxy proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(url.getHost(), url.getPort()));
-        final String userInfo = url.getUserInfo();
-        if (StringUtils.isNotBlank(userInfo)) {
-            final String userName;
-            final String password;
-            int delimiter = userInfo.indexOf(':');
-            if (delimiter == -1) {
-                userName = URLDecoder.decode(userInfo, StandardCharsets.UTF_8.name());
-                password = "";
-            } else {
-                userName = URLDecoder.decode(userInfo.substring(0, delimiter++), StandardCharsets.UTF_8.name());
-                password = URLDecoder.decode(userInfo.substring(delimiter), StandardCharsets.UTF_8.name());
-            }
-
-            Authenticator.setDefault(new ProxyAuthenticator(userName, password));
-        }
-        return proxy;
-    }
-
     /**
      * Parses the test.guide server information from JSON response.
      * Checks for valid license content and minimum supported test.guide version.
@@ -495,28 +388,4 @@ public class ATXValidator extends AbstractValidator {
         }
         return returnValue;
     }
-
-    /**
-     * Authenticator class for authentication with proxied network connections using user name and password.
-     */
-    private static final class ProxyAuthenticator extends Authenticator {
-
-        private final String userName;
-        private final String password;
-
-        /**
-         * Instantiates a {@link ProxyAuthenticator}.
-         *
-         * @param userName the proxy user name
-         * @param password the proxy password
-         */
-        private ProxyAuthenticator(final String userName, final String password) {
-            this.userName = userName;
-            this.password = password;
-        }
-
-        public PasswordAuthentication getPasswordAuthentication() {
-            return new PasswordAuthentication(userName, password.toCharArray());
-        }
-    }
 }
@@ -34,7 +34,7 @@ public class AnalysisEnvironment extends ETComDispatch implements ComAnalysisEnv
 
     @Override
     public ComAnalysisExecutionInfo getAnalysisExecutionInfo() throws ETComException {
-        return new AnalysisExecutionInfo(performRequest("GetAnalysisExecutionInfo").toDispatch(), useTimeout());
+        return bind(new AnalysisExecutionInfo(performRequest("GetAnalysisExecutionInfo").toDispatch(), useTimeout()));
     }
 
     /**
@@ -51,8 +51,8 @@ public class AnalysisEnvironment extends ETComDispatch implements ComAnalysisEnv
     @Override
     public ComAnalysisExecutionInfo executeJob(final String jobFile, final boolean createReportDir)
         throws ETComException {
-        return new AnalysisExecutionInfo(performRequest("ExecuteJob", new Variant(jobFile),
-            new Variant(createReportDir)).toDispatch(), useTimeout());
+        return bind(new AnalysisExecutionInfo(performRequest("ExecuteJob", new Variant(jobFile),
+            new Variant(createReportDir)).toDispatch(), useTimeout()));
     }
 
     @Override
@@ -80,26 +80,26 @@ public class Caches extends ETComDispatch implements ComCaches {
 
     @Override
     public ComCache getA2lCache() throws ETComException {
-        return new Cache(performRequest("GetA2lCache").toDispatch(), useTimeout(), CacheType.A2L);
+        return bind(new Cache(performRequest("GetA2lCache").toDispatch(), useTimeout(), CacheType.A2L));
     }
 
     @Override
     public ComCache getElfCache() throws ETComException {
-        return new Cache(performRequest("GetElfCache").toDispatch(), useTimeout(), CacheType.ELF);
+        return bind(new Cache(performRequest("GetElfCache").toDispatch(), useTimeout(), CacheType.ELF));
     }
 
     @Override
     public ComCache getBusCache() throws ETComException {
-        return new Cache(performRequest("GetBusCache").toDispatch(), useTimeout(), CacheType.BUS);
+        return bind(new Cache(performRequest("GetBusCache").toDispatch(), useTimeout(), CacheType.BUS));
     }
 
     @Override
     public ComCache getModelCache() throws ETComException {
-        return new Cache(performRequest("GetModelCache").toDispatch(), useTimeout(), CacheType.MODEL);
+        return bind(new Cache(performRequest("GetModelCache").toDispatch(), useTimeout(), CacheType.MODEL));
     }
 
     @Override
     public ComCache getServiceCache() throws ETComException {
-        return new Cache(performRequest("GetServiceCache").toDispatch(), useTimeout(), CacheType.SERVICE);
+        return bind(new Cache(performRequest("GetServiceCache").toDispatch(), useTimeout(), CacheType.SERVICE));
     }
 }
@@ -36,12 +36,12 @@ public class Constants extends ETComDispatch implements ComConstants {
 
     @Override
     public ComConstant item(final int id) throws ETComException {
-        return new Constant(performRequest("Item", new Variant(id)).toDispatch(), useTimeout());
+        return bind(new Constant(performRequest("Item", new Variant(id)).toDispatch(), useTimeout()));
     }
 
     @Override
     public ComConstant item(final String name) throws ETComException {
-        return new Constant(performRequest("Item", new Variant(name)).toDispatch(), useTimeout());
+        return bind(new Constant(performRequest("Item", new Variant(name)).toDispatch(), useTimeout()));
     }
 
 }
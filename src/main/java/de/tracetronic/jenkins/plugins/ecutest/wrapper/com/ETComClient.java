@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -43,12 +43,12 @@ public class ETComClient implements ComApplication, AutoCloseable {
     /**
      * The COMApplication dispatch.
      */
-    private ETComDispatch dispatch;
+    private volatile ETComDispatch dispatch;
 
     /**
      * Holds the status when to release the dispatch.
      */
-    private boolean releaseDispatch;
+    private volatile boolean releaseDispatch;
 
     /**
      * Specifies whether to apply the configured COM timeout.
@@ -104,6 +104,30 @@ public class ETComClient implements ComApplication, AutoCloseable {
         waitForConnection(timeout);
     }
 
+    /**
+     * Instantiates a new {@link ETComClient} by initializing the {@link ETComDispatch} with given programmatic
+     * identifier and waits for connection within the given timeout.
+     *
+     * <p>
+     * A shared client always keeps its dispatch alive in a dedicated multi-threaded COM thread, so that it can be
+     * used from any other MTA thread as long as it is pooled by {@link ETComSessionPool}. Therefore it is only
+     * created if the configured COM timeout is enabled, otherwise the single-threaded mode is used.
+     *
+     * @param progId  the programmatic identifier
+     * @param timeout the timeout waiting for a connection
+     * @param shared  specifies whether this client is shared across threads
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     */
+    ETComClient(final String progId, final int timeout, final boolean shared) throws ETComException {
+        if (shared) {
+            useTimeout = true;
+            initMTA(progId, true);
+        } else {
+            initDispatch(progId);
+        }
+        waitForConnection(timeout);
+    }
+
     /**
      * Initializes the a single-threaded {@link ComThread} and sets the {@link ETComDispatch} instance using the default
      * program id returned from the {@link ActiveXComponent}.
@@ -119,7 +143,7 @@ public class ETComClient implements ComApplication, AutoCloseable {
             initSTA(progId);
         } else {
             useTimeout = true;
-            initMTA(progId);
+            initMTA(progId, false);
         }
     }
 
@@ -133,9 +157,9 @@ public class ETComClient implements ComApplication, AutoCloseable {
     private void initSTA(final String progId) throws ETComException {
         try {
             ComThread.InitSTA();
-            final ActiveXComponent component = new ActiveXComponent(StringUtils.isEmpty(progId)
-                ? ETComProperty.DEFAULT_PROG_ID : progId);
-            dispatch = new ETComDispatch(component.getObject(), false);
+            final String comProgId = StringUtils.isEmpty(progId) ? ETComProperty.DEFAULT_PROG_ID : progId;
+            final ActiveXComponent component = new ActiveXComponent(comProgId);
+            dispatch = new ETComDispatch(component.getObject(), comProgId, false);
         } catch (final JacobException e) {
             throw new ETComException(e.getMessage(), e);
         }
@@ -146,15 +170,17 @@ public class ETComClient implements ComApplication, AutoCloseable {
      * program id returned from the {@link ActiveXComponent}.
      *
      * @param progId the programmatic identifier
+     * @param daemon specifies whether the dispatch thread should not prevent the JVM from exiting
      * @throws ETComException in case of a COM exception
      */
-    private void initMTA(final String progId) throws ETComException {
+    private void initMTA(final String progId, final boolean daemon) throws ETComException {
         try {
             ComThread.InitMTA();
             releaseDispatch = false;
             final InitDispatch initDispatch = new InitDispatch(progId);
             final InitDispatchExceptionHandler exceptionHandler = new InitDispatchExceptionHandler();
             initDispatch.setUncaughtExceptionHandler(exceptionHandler);
+            initDispatch.setDaemon(daemon);
             initDispatch.start();
 
             final int timeout = ETComProperty.DEFAULT_CONNECTION_TIMEOUT;
@@ -258,32 +284,35 @@ public class ETComClient implements ComApplication, AutoCloseable {
 
     @Override
     public ComTestEnvironment start() throws ETComException {
-        return new TestEnvironment(dispatch.performDirectRequest("Start").toDispatch(), useTimeout);
+        return dispatch.bind(new TestEnvironment(dispatch.performDirectRequest("Start").toDispatch(), useTimeout));
     }
 
     @Override
     public ComTestEnvironment stop() throws ETComException {
-        return new TestEnvironment(dispatch.performDirectRequest("Stop").toDispatch(), useTimeout);
+        return dispatch.bind(new TestEnvironment(dispatch.performDirectRequest("Stop").toDispatch(), useTimeout));
     }
 
     @Override
     public ComTestEnvironment getTestEnvironment() throws ETComException {
-        return new TestEnvironment(dispatch.performRequest("GetTestEnvironment").toDispatch(), useTimeout);
+        return dispatch.bind(new TestEnvironment(dispatch.performRequest("GetTestEnvironment").toDispatch(),
+            useTimeout));
     }
 
     @Override
     public ComAnalysisEnvironment getAnalysisEnvironment() throws ETComException {
-        return new AnalysisEnvironment(dispatch.performRequest("GetAnalysisEnvironment").toDispatch(), useTimeout);
+        return dispatch.bind(new AnalysisEnvironment(dispatch.performRequest("GetAnalysisEnvironment").toDispatch(),
+            useTimeout));
     }
 
     @Override
     public ComTestManagement getTestManagement() throws ETComException {
-        return new TestManagement(dispatch.performRequest("GetTestManagementModule").toDispatch(), useTimeout);
+        return dispatch.bind(new TestManagement(dispatch.performRequest("GetTestManagementModule").toDispatch(),
+            useTimeout));
     }
 
     @Override
     public ComCaches getCaches() throws ETComException {
-        return new Caches(dispatch.performRequest("Caches").toDispatch(), useTimeout);
+        return dispatch.bind(new Caches(dispatch.performRequest("Caches").toDispatch(), useTimeout));
     }
 
     @Override
@@ -321,7 +350,8 @@ public class ETComClient implements ComApplication, AutoCloseable {
 
     @Override
     public boolean quit(final int timeout) throws ETComException {
-        if (ToolVersion.parse(getVersion()).compareWithoutMicroTo(new ToolVersion(8, 0, 0)) >= 0) {
+        final ToolVersion toolVersion = ETComInfoCache.getInstance().getToolVersion(dispatch.getProgId(), this);
+        if (toolVersion.compareWithoutMicroTo(new ToolVersion(8, 0, 0)) >= 0) {
             return dispatch.performRequest("Quit", new Variant(timeout)).getBoolean();
         } else {
             return quit();
@@ -342,7 +372,8 @@ public class ETComClient implements ComApplication, AutoCloseable {
 
     @Override
     public boolean exit(final int timeout) throws ETComException {
-        if (ToolVersion.parse(getVersion()).compareWithoutMicroTo(new ToolVersion(8, 0, 0)) >= 0) {
+        final ToolVersion toolVersion = ETComInfoCache.getInstance().getToolVersion(dispatch.getProgId(), this);
+        if (toolVersion.compareWithoutMicroTo(new ToolVersion(8, 0, 0)) >= 0) {
             return dispatch.performRequest("Exit", new Variant(timeout)).getBoolean();
         } else {
             return exit();
@@ -351,7 +382,8 @@ public class ETComClient implements ComApplication, AutoCloseable {
 
     @Override
     public ComPackage openPackage(final String path) throws ETComException {
-        return new Package(dispatch.performRequest("OpenPackage", new Variant(path)).toDispatch(), useTimeout);
+        return dispatch.bind(new Package(dispatch.performRequest("OpenPackage", new Variant(path)).toDispatch(),
+            useTimeout));
     }
 
     @Override
@@ -374,8 +406,8 @@ public class ETComClient implements ComApplication, AutoCloseable {
     @Override
     public ComProject openProject(final String path, final boolean execInCurrentPkgDir,
                                   final String filterExpression) throws ETComException {
-        return new Project(dispatch.performRequest("OpenProject", new Variant(path),
-            new Variant(execInCurrentPkgDir), new Variant(filterExpression)).toDispatch(), useTimeout);
+        return dispatch.bind(new Project(dispatch.performRequest("OpenProject", new Variant(path),
+            new Variant(execInCurrentPkgDir), new Variant(filterExpression)).toDispatch(), useTimeout));
     }
 
     @Override
@@ -402,14 +434,14 @@ public class ETComClient implements ComApplication, AutoCloseable {
 
     @Override
     public ComTestConfiguration getCurrentTestConfiguration() throws ETComException {
-        return new TestConfiguration(dispatch.performRequest("GetCurrentTestConfiguration").toDispatch(),
-            useTimeout);
+        return dispatch.bind(new TestConfiguration(dispatch.performRequest("GetCurrentTestConfiguration").toDispatch(),
+            useTimeout));
     }
 
     @Override
     public ComTestBenchConfiguration getCurrentTestBenchConfiguration() throws ETComException {
-        return new TestBenchConfiguration(dispatch.performRequest("GetCurrentTestbenchConfiguration").toDispatch(),
-            useTimeout);
+        return dispatch.bind(new TestBenchConfiguration(
+            dispatch.performRequest("GetCurrentTestbenchConfiguration").toDispatch(), useTimeout));
     }
 
     @Override
@@ -455,7 +487,7 @@ public class ETComClient implements ComApplication, AutoCloseable {
             try {
                 ComThread.InitMTA();
                 component = new ActiveXComponent(progId);
-                dispatch = new ETComDispatch(component.getObject(), true);
+                dispatch = new ETComDispatch(component.getObject(), progId, true);
                 while (!dispatch.isAttached()) {
                     sleep(100L);
                 }
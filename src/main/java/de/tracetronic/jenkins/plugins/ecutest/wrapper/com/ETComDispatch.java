@@ -12,12 +12,6 @@ import com.jacob.com.Variant;
 import org.apache.commons.lang.StringUtils;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 /**
@@ -33,6 +27,11 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
 
     private final boolean useTimeout;
 
+    /**
+     * The programmatic identifier of the COM server this dispatch belongs to.
+     */
+    private volatile String progId;
+
     /**
      * Instantiates a new {@link ETComDispatch} with default programmatic identifier.
      *
@@ -41,6 +40,7 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
     public ETComDispatch(final boolean useTimeout) {
         super(ETComProperty.getInstance().getProgId());
         this.useTimeout = useTimeout;
+        this.progId = ETComProperty.getInstance().getProgId();
     }
 
     /**
@@ -54,8 +54,21 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
      * @param useTimeout specifies whether to apply timeout
      */
     public ETComDispatch(final Dispatch dispatch, final boolean useTimeout) {
+        this(dispatch, ETComProperty.getInstance().getProgId(), useTimeout);
+    }
+
+    /**
+     * Instantiates a new {@link ETComDispatch} belonging to the COM server with given programmatic identifier.
+     *
+     * @param dispatch   the dispatch
+     * @param progId     the programmatic identifier
+     * @param useTimeout specifies whether to apply timeout
+     * @since 2.47
+     */
+    ETComDispatch(final Dispatch dispatch, final String progId, final boolean useTimeout) {
         super(dispatch);
         this.useTimeout = useTimeout;
+        this.progId = progId;
     }
 
     /**
@@ -67,6 +80,31 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
         return useTimeout;
     }
 
+    /**
+     * Returns the programmatic identifier of the COM server this dispatch belongs to.
+     *
+     * @return the programmatic identifier
+     * @since 2.47
+     */
+    public String getProgId() {
+        return progId;
+    }
+
+    /**
+     * Binds the given dispatch returned by this {@link ETComDispatch} to the same COM server, so that its timed
+     * requests are performed by the same {@link ETComDispatcher}.
+     *
+     * @param dispatch the returned dispatch
+     * @param <T>      the dispatch type
+     * @return the given dispatch
+     * @since 2.47
+     */
+    protected <T extends ETComDispatch> T bind(final T dispatch) {
+        final ETComDispatch boundDispatch = dispatch;
+        boundDispatch.progId = progId;
+        return dispatch;
+    }
+
     /**
      * Performs a request on this {@link ETComDispatch}, invoking the given method.
      *
@@ -107,6 +145,9 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
      * Performs a request on this {@link ETComDispatch}, invoking the given method with parameters.
      * Respects the given timeout and aborts the dispatch call if timeout exceeded.
      *
+     * <p>
+     * Timed requests are performed by the shared {@link ETComDispatcher} of the COM server this dispatch belongs to.
+     *
      * @param method  the parameterized COM API method name
      * @param timeout the timeout in seconds
      * @param params  the parameters for the method
@@ -119,18 +160,8 @@ public class ETComDispatch extends Dispatch implements AutoCloseable {
             return performDirectRequest(method, params);
         }
 
-        final ExecutorService executor = Executors.newSingleThreadExecutor();
-        final Future<Variant> future = executor.submit(new DispatchCallable(method, params));
-        try {
-            return future.get(timeout, TimeUnit.SECONDS);
-        } catch (final TimeoutException e) {
-            future.cancel(true);
-            throw new ETComTimeoutException(String.format("Request timeout of %d seconds exceeded!", timeout), e);
-        } catch (ExecutionException | InterruptedException e) {
-            throw new ETComException(String.format("Error while performing request: %s", e.getMessage()), e);
-        } finally {
-            executor.shutdownNow();
-        }
+        final ETComDispatcher dispatcher = ETComDispatcher.getInstance(progId);
+        return dispatcher.invoke(new DispatchCallable(method, params), timeout);
     }
 
     /**
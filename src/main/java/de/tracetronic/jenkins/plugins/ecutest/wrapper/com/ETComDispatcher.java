@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Dedicated dispatcher thread performing COM requests with timeout for one COM session.
+ *
+ * <p>
+ * All {@link ETComDispatch}es of the same programmatic identifier, i.e. of the same COM server instance, share one
+ * dispatcher, so that timed requests do not spawn a new thread per call while requests to different instances do not
+ * wait for each other. Requests are queued in a bounded work queue and executed sequentially by a single daemon worker
+ * thread. The timeout of a request starts when the worker picks it up, so that healthy requests waiting behind others
+ * do not time out; a saturated queue is reported by rejecting new requests instead. If a request exceeds its timeout
+ * the request is cancelled and the worker is interrupted; a worker still blocked in the native call is retired and
+ * replaced, so that following requests are not stuck behind it. Idle workers terminate after a keep-alive period.
+ */
+public final class ETComDispatcher {
+
+    /**
+     * Default capacity of the work queue.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    /**
+     * Default time in seconds an idle worker waits for new requests before terminating.
+     */
+    public static final long DEFAULT_KEEP_ALIVE = 60L;
+
+    private static final Logger LOGGER = Logger.getLogger(ETComDispatcher.class.getName());
+    private static final Map<String, ETComDispatcher> DISPATCHERS = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final long keepAlive;
+    private final BlockingQueue<DispatchTask<?>> queue;
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicInteger workerCount = new AtomicInteger();
+    private Worker worker;
+
+    /**
+     * Instantiates a new {@link ETComDispatcher}.
+     *
+     * @param name          the name used for the worker threads
+     * @param queueCapacity the capacity of the work queue
+     * @param keepAlive     the time in seconds an idle worker waits for new requests
+     */
+    ETComDispatcher(final String name, final int queueCapacity, final long keepAlive) {
+        this.name = name;
+        this.keepAlive = keepAlive;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Returns the shared dispatcher of the given programmatic identifier.
+     *
+     * @param progId the programmatic identifier
+     * @return the dispatcher instance
+     */
+    public static ETComDispatcher getInstance(final String progId) {
+        final String key = StringUtils.defaultIfBlank(progId, ETComProperty.DEFAULT_PROG_ID);
+        return DISPATCHERS.computeIfAbsent(key, k ->
+            new ETComDispatcher("ETComDispatcher-" + k, DEFAULT_QUEUE_CAPACITY, DEFAULT_KEEP_ALIVE));
+    }
+
+    /**
+     * Performs the given request on the dispatcher thread and waits for the result within the given timeout, which
+     * starts as soon as the request is picked up from the work queue.
+     *
+     * @param request the request to perform
+     * @param timeout the timeout in seconds
+     * @param <T>     the result type
+     * @return the result of the request
+     * @throws ETComException        in case of an error while performing the request, if the work queue is full or if
+     *                               interrupted
+     * @throws ETComTimeoutException if the timeout is exceeded
+     */
+    public <T> T invoke(final Callable<T> request, final int timeout) throws ETComException {
+        final DispatchTask<T> task = new DispatchTask<>(request);
+        if (!queue.offer(task)) {
+            throw new ETComException(String.format("Request queue capacity of %d exceeded!",
+                queue.size() + queue.remainingCapacity()));
+        }
+        ensureWorker();
+        try {
+            task.awaitStart();
+            return task.get(timeout, TimeUnit.SECONDS);
+        } catch (final TimeoutException e) {
+            timedOutCount.incrementAndGet();
+            abandon(task);
+            LOGGER.fine(String.format("%s: request timed out (queued: %d, in-flight: %d, timed out: %d)",
+                name, getQueuedCount(), getInFlightCount(), getTimedOutCount()));
+            throw new ETComTimeoutException(String.format("Request timeout of %d seconds exceeded!", timeout), e);
+        } catch (final InterruptedException e) {
+            abandon(task);
+            Thread.currentThread().interrupt();
+            throw new ETComException(String.format("Error while performing request: %s", e.getMessage()), e);
+        } catch (final ExecutionException | CancellationException e) {
+            throw new ETComException(String.format("Error while performing request: %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Returns the number of requests waiting in the work queue.
+     *
+     * @return the queued request count
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of requests currently being performed.
+     *
+     * @return the in-flight request count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    /**
+     * Returns the total number of completed requests.
+     *
+     * @return the completed request count
+     */
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * Returns the total number of timed out requests.
+     *
+     * @return the timed out request count
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    /**
+     * Returns the total number of started worker threads.
+     *
+     * @return the worker count
+     */
+    public int getWorkerCount() {
+        return workerCount.get();
+    }
+
+    /**
+     * Starts a new worker if there is no current one.
+     */
+    private synchronized void ensureWorker() {
+        if (worker == null) {
+            worker = new Worker(name + "-" + workerCount.incrementAndGet());
+            worker.start();
+        }
+    }
+
+    /**
+     * Cancels the given task and retires its worker if the task is still blocking it.
+     *
+     * @param task the task to abandon
+     */
+    private void abandon(final DispatchTask<?> task) {
+        task.cancel(true);
+        queue.remove(task);
+        final Worker runner = task.getRunner();
+        if (runner != null && runner.isRunning(task)) {
+            runner.retire();
+            synchronized (this) {
+                if (worker == runner) {
+                    worker = null;
+                }
+            }
+            if (!queue.isEmpty()) {
+                ensureWorker();
+            }
+        }
+    }
+
+    /**
+     * Terminates the given worker if no more requests are queued.
+     *
+     * @param idleWorker the idle worker
+     * @return {@code true} if the worker should terminate, {@code false} otherwise
+     */
+    private synchronized boolean terminateIdle(final Worker idleWorker) {
+        if (queue.isEmpty() && worker == idleWorker) {
+            worker = null;
+            return true;
+        }
+        return worker != idleWorker;
+    }
+
+    /**
+     * {@link FutureTask} remembering the worker it runs on and signaling its start.
+     *
+     * @param <T> the result type
+     */
+    private static final class DispatchTask<T> extends FutureTask<T> {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile Worker runner;
+
+        /**
+         * Instantiates a new {@link DispatchTask}.
+         *
+         * @param callable the request to perform
+         */
+        DispatchTask(final Callable<T> callable) {
+            super(callable);
+        }
+
+        /**
+         * Runs this task on the given worker.
+         *
+         * @param worker the worker
+         */
+        void runOn(final Worker worker) {
+            runner = worker;
+            started.countDown();
+            run();
+        }
+
+        /**
+         * Waits until a worker picked up this task. Since each running task is bounded by its own timeout and a
+         * blocked worker is replaced, queued tasks are picked up eventually.
+         *
+         * @throws InterruptedException if the current thread was interrupted while waiting
+         */
+        void awaitStart() throws InterruptedException {
+            started.await();
+        }
+
+        Worker getRunner() {
+            return runner;
+        }
+
+        @Override
+        protected void set(final T result) {
+            if (!isCancelled()) {
+                runner.countCompleted();
+            }
+            super.set(result);
+        }
+
+        @Override
+        protected void setException(final Throwable throwable) {
+            if (!isCancelled()) {
+                runner.countCompleted();
+            }
+            super.setException(throwable);
+        }
+    }
+
+    /**
+     * Daemon worker thread performing the queued requests sequentially.
+     */
+    private final class Worker extends Thread {
+
+        private volatile boolean retired;
+        private volatile DispatchTask<?> current;
+
+        /**
+         * Instantiates a new {@link Worker}.
+         *
+         * @param threadName the thread name
+         */
+        Worker(final String threadName) {
+            super(threadName);
+            setDaemon(true);
+        }
+
+        /**
+         * Retires this worker, which terminates after finishing its current request.
+         */
+        void retire() {
+            retired = true;
+        }
+
+        boolean isRunning(final DispatchTask<?> task) {
+            return current == task;
+        }
+
+        /**
+         * Counts a completed request before its result is published, so that waiting callers see the count.
+         */
+        void countCompleted() {
+            completedCount.incrementAndGet();
+        }
+
+        @Override
+        public void run() {
+            while (!retired) {
+                final DispatchTask<?> task;
+                try {
+                    task = queue.poll(keepAlive, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    continue;
+                }
+                if (task == null) {
+                    if (terminateIdle(this)) {
+                        return;
+                    }
+                    continue;
+                }
+                current = task;
+                inFlightCount.incrementAndGet();
+                try {
+                    task.runOn(this);
+                } finally {
+                    current = null;
+                    inFlightCount.decrementAndGet();
+                    // clear interrupt status possibly set by cancellation
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+}
@@ -1,10 +1,14 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
 
+import com.jacob.com.ComException;
+
+import java.util.Set;
+
 /**
  * Exception thrown if an error occurs while communicating with a COM instance.
  */
@@ -12,6 +16,20 @@ public class ETComException extends Exception {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * HRESULT codes reported by COM if the connection to the server is broken.
+     */
+    private static final Set<Integer> CONNECTION_FAILURES = Set.of(
+        0x800706BA, // RPC_S_SERVER_UNAVAILABLE
+        0x800706BE, // RPC_S_CALL_FAILED
+        0x80010007, // RPC_E_SERVER_DIED
+        0x80010012, // RPC_E_SERVER_DIED_DNE
+        0x80010108, // RPC_E_DISCONNECTED
+        0x80010114, // RPC_E_INVALID_OBJECT
+        0x800401FD, // CO_E_OBJNOTCONNECTED
+        0x80080005  // CO_E_SERVER_EXEC_FAILURE
+    );
+
     /**
      * Instantiates a new {@link ETComException}.
      *
@@ -46,4 +64,20 @@ public class ETComException extends Exception {
     public ETComException() {
         super();
     }
+
+    /**
+     * Checks whether this exception is caused by a broken connection to the COM server, i.e. an unavailable or
+     * disconnected RPC server, in contrast to an error reported by the COM API itself.
+     *
+     * @return {@code true} if the connection to the COM server failed, {@code false} otherwise
+     * @since 2.47
+     */
+    public boolean isConnectionFailure() {
+        for (Throwable cause = getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ComException && CONNECTION_FAILURES.contains(((ComException) cause).getHResult())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
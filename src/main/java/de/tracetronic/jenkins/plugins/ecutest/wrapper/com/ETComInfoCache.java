@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
+import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComApplication;
+import org.apache.commons.lang.StringUtils;
+
+import javax.annotation.CheckForNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Agent-side cache of the immutable facts of the running ecu.test instances.
+ *
+ * <p>
+ * The version and the workspace settings of an ecu.test instance do not change while its process is running, so
+ * they are queried via COM only once per programmatic identifier. Since the COM server process of a programmatic
+ * identifier cannot be determined, the cached facts are bound to all ecu.test processes running when caching, each
+ * identified by its process id and start time, and are discarded once any of these processes has exited. Thus,
+ * running several instances never returns the facts of another instance. If no ecu.test process is running, all
+ * requests are passed through to the application and the process lookup is skipped for a short period.
+ *
+ * @since 2.47
+ */
+public final class ETComInfoCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ETComInfoCache.class.getName());
+
+    /**
+     * Defines the period in milliseconds to skip looking up the processes again after no ecu.test process was found.
+     */
+    private static final long MISS_TIMEOUT = 5000L;
+
+    private final Supplier<List<ProcessHandle>> processFinder;
+    private final long missTimeout;
+    private final Map<String, ProcessInfo> processInfos = new ConcurrentHashMap<>();
+    private volatile long missedUntil;
+
+    /**
+     * Instantiates a new {@link ETComInfoCache}.
+     *
+     * @param processFinder the finder of the running ecu.test processes
+     * @param missTimeout   the period in milliseconds to remember that no ecu.test process was found
+     */
+    ETComInfoCache(final Supplier<List<ProcessHandle>> processFinder, final long missTimeout) {
+        this.processFinder = processFinder;
+        this.missTimeout = missTimeout;
+    }
+
+    /**
+     * Returns the agent-wide instance of {@link ETComInfoCache}.
+     *
+     * @return the singleton instance
+     */
+    public static ETComInfoCache getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+
+    /**
+     * Gets the version of the running ecu.test instance.
+     *
+     * @param progId      the programmatic identifier of the ecu.test instance
+     * @param application the application to query if not cached yet
+     * @return the COM version
+     * @throws ETComException in case of a COM exception
+     */
+    public String getVersion(final String progId, final ComApplication application) throws ETComException {
+        final ProcessInfo info = getProcessInfo(progId);
+        if (info == null) {
+            return application.getVersion();
+        }
+        String version = info.version;
+        if (version == null) {
+            version = application.getVersion();
+            info.version = version;
+        }
+        return version;
+    }
+
+    /**
+     * Gets the parsed version of the running ecu.test instance.
+     *
+     * @param progId      the programmatic identifier of the ecu.test instance
+     * @param application the application to query if not cached yet
+     * @return the parsed COM version
+     * @throws ETComException in case of a COM exception
+     */
+    public ToolVersion getToolVersion(final String progId, final ComApplication application) throws ETComException {
+        final ProcessInfo info = getProcessInfo(progId);
+        if (info == null) {
+            return ToolVersion.parse(application.getVersion());
+        }
+        ToolVersion toolVersion = info.toolVersion;
+        if (toolVersion == null) {
+            toolVersion = ToolVersion.parse(getVersion(progId, application));
+            info.toolVersion = toolVersion;
+        }
+        return toolVersion;
+    }
+
+    /**
+     * Gets a workspace setting of the running ecu.test instance.
+     *
+     * @param progId      the programmatic identifier of the ecu.test instance
+     * @param application the application to query if not cached yet
+     * @param settingName the setting name
+     * @return the setting value
+     * @throws ETComException in case of a COM exception
+     */
+    public String getSetting(final String progId, final ComApplication application, final String settingName)
+        throws ETComException {
+        final ProcessInfo info = getProcessInfo(progId);
+        if (info == null) {
+            return application.getSetting(settingName);
+        }
+        String settingValue = info.settings.get(settingName);
+        if (settingValue == null) {
+            settingValue = application.getSetting(settingName);
+            if (settingValue != null) {
+                info.settings.put(settingName, settingValue);
+            }
+        }
+        return settingValue;
+    }
+
+    /**
+     * Discards the cached facts of the given ecu.test instance, e.g. when it is being stopped.
+     *
+     * @param progId the programmatic identifier of the ecu.test instance
+     */
+    public void invalidate(final String progId) {
+        processInfos.remove(getKey(progId));
+    }
+
+    /**
+     * Discards the cached facts of all ecu.test instances, e.g. when their processes are killed.
+     */
+    public void invalidate() {
+        processInfos.clear();
+        missedUntil = 0L;
+    }
+
+    /**
+     * Gets the cached facts of the running ecu.test instance. The processes are only looked up again if any of the
+     * previously cached processes has exited and no ecu.test process has been missed recently.
+     *
+     * @param progId the programmatic identifier of the ecu.test instance
+     * @return the cached facts or {@code null} if no ecu.test process is running
+     */
+    @CheckForNull
+    private ProcessInfo getProcessInfo(final String progId) {
+        final String key = getKey(progId);
+        final ProcessInfo info = processInfos.get(key);
+        if (info != null && info.isAlive()) {
+            return info;
+        }
+        if (System.currentTimeMillis() < missedUntil) {
+            processInfos.remove(key);
+            return null;
+        }
+        final List<ProcessHandle> processes = processFinder.get();
+        synchronized (this) {
+            if (processes.isEmpty()) {
+                missedUntil = System.currentTimeMillis() + missTimeout;
+                processInfos.remove(key);
+                return null;
+            }
+            final ProcessInfo current = processInfos.get(key);
+            if (current != null && current.isAlive()) {
+                return current;
+            }
+            final ProcessInfo newInfo = new ProcessInfo(processes);
+            LOGGER.fine(String.format("Caching tool information of %s bound to %d ecu.test process(es)...", key,
+                processes.size()));
+            processInfos.put(key, newInfo);
+            return newInfo;
+        }
+    }
+
+    /**
+     * Gets the cache key of the given programmatic identifier.
+     *
+     * @param progId the programmatic identifier
+     * @return the cache key, the default programmatic identifier if blank
+     */
+    private static String getKey(final String progId) {
+        return StringUtils.defaultIfBlank(progId, ETComProperty.DEFAULT_PROG_ID);
+    }
+
+    /**
+     * Facts of a single ecu.test instance bound to the ecu.test processes running when caching.
+     */
+    private static final class ProcessInfo {
+
+        private final List<ProcessHandle> processes;
+        private final Map<String, String> settings = new ConcurrentHashMap<>();
+        private volatile String version;
+        private volatile ToolVersion toolVersion;
+
+        /**
+         * Instantiates a new {@link ProcessInfo}.
+         *
+         * @param processes the running ecu.test processes
+         */
+        ProcessInfo(final List<ProcessHandle> processes) {
+            this.processes = new ArrayList<>(processes);
+        }
+
+        /**
+         * Checks whether all bound processes are still alive. A process handle is never alive again after its
+         * process has exited, even if the process id is reused.
+         *
+         * @return {@code true} if all processes are alive, {@code false} otherwise
+         */
+        boolean isAlive() {
+            return processes.stream().allMatch(ProcessHandle::isAlive);
+        }
+    }
+
+    /**
+     * Initializes and holds the singleton for this class.
+     */
+    private static final class SingletonHolder {
+
+        private static final ETComInfoCache INSTANCE = new ETComInfoCache(ProcessUtil::findETProcesses, MISS_TIMEOUT);
+
+        /**
+         * Private constructor.
+         */
+        private SingletonHolder() {
+            throw new UnsupportedOperationException("Singleton class");
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComAnalysisEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComApplication;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComCaches;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComPackage;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComProject;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestBenchConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestConfiguration;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestEnvironment;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestManagement;
+
+import java.util.List;
+
+/**
+ * Lease of a pooled COM session obtained by {@link ETComSessionPool#lease(String, int)}.
+ *
+ * <p>
+ * All requests are delegated to the pooled {@link ComApplication}. An {@link ETComException} raised by a request
+ * evicts the underlying session from the pool only if it indicates a broken connection, see
+ * {@link ETComException#isConnectionFailure()}, whereas ordinary API errors keep the session. Closing the lease
+ * returns the session to the pool but keeps the COM connection alive.
+ */
+public class ETComSession implements ComApplication, AutoCloseable {
+
+    private final ETComSessionPool pool;
+    private final ETComSessionPool.PooledSession session;
+    private boolean closed;
+
+    /**
+     * Instantiates a new {@link ETComSession}.
+     *
+     * @param pool    the owning pool
+     * @param session the leased session
+     */
+    ETComSession(final ETComSessionPool pool, final ETComSessionPool.PooledSession session) {
+        this.pool = pool;
+        this.session = session;
+    }
+
+    /**
+     * Returns the programmatic identifier of the leased session.
+     *
+     * @return the programmatic identifier
+     */
+    public String getProgId() {
+        return session.getProgId();
+    }
+
+    /**
+     * Performs the given request on the pooled application and evicts the session on connection failures.
+     *
+     * @param request the request to perform
+     * @param <T>     the result type
+     * @return the result of the request
+     * @throws ETComException in case of a COM exception
+     */
+    private <T> T perform(final ComRequest<T> request) throws ETComException {
+        if (closed) {
+            throw new ETComException("COM session lease is already closed!");
+        }
+        try {
+            return request.perform(session.getApplication());
+        } catch (final ETComException e) {
+            if (e.isConnectionFailure()) {
+                pool.invalidate(session);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public ComTestEnvironment start() throws ETComException {
+        return perform(ComApplication::start);
+    }
+
+    @Override
+    public ComTestEnvironment stop() throws ETComException {
+        return perform(ComApplication::stop);
+    }
+
+    @Override
+    public ComTestEnvironment getTestEnvironment() throws ETComException {
+        return perform(ComApplication::getTestEnvironment);
+    }
+
+    @Override
+    public ComAnalysisEnvironment getAnalysisEnvironment() throws ETComException {
+        return perform(ComApplication::getAnalysisEnvironment);
+    }
+
+    @Override
+    public ComTestManagement getTestManagement() throws ETComException {
+        return perform(ComApplication::getTestManagement);
+    }
+
+    @Override
+    public ComCaches getCaches() throws ETComException {
+        return perform(ComApplication::getCaches);
+    }
+
+    @Override
+    public boolean isApplicationRunning() throws ETComException {
+        return perform(ComApplication::isApplicationRunning);
+    }
+
+    @Override
+    public String getVersion() throws ETComException {
+        return perform(app -> ETComInfoCache.getInstance().getVersion(getProgId(), app));
+    }
+
+    /**
+     * Gets the parsed version of the application, which is cached as long as the ecu.test process is running.
+     *
+     * @return the parsed COM version
+     * @throws ETComException in case of a COM exception
+     */
+    public ToolVersion getToolVersion() throws ETComException {
+        return perform(app -> ETComInfoCache.getInstance().getToolVersion(getProgId(), app));
+    }
+
+    @Override
+    public String getSetting(final String settingName) throws ETComException {
+        return perform(app -> ETComInfoCache.getInstance().getSetting(getProgId(), app, settingName));
+    }
+
+    @Override
+    public List<String> getLoadedPatches() throws ETComException {
+        return perform(ComApplication::getLoadedPatches);
+    }
+
+    /**
+     * Exits the application softly and evicts the session from the pool unless the COM API reported an error.
+     *
+     * @param timeout the timeout in seconds before giving up to wait for application shutdown
+     * @return {@code true} if successful
+     * @throws ETComException in case of a COM exception
+     */
+    @Override
+    public boolean quit(final int timeout) throws ETComException {
+        final boolean result = perform(app -> app.quit(timeout));
+        pool.invalidate(session);
+        return result;
+    }
+
+    /**
+     * Exits the application hardly and evicts the session from the pool unless the COM API reported an error.
+     *
+     * @param timeout the timeout in seconds before giving up to wait for application shutdown
+     * @return {@code true} if successful
+     * @throws ETComException in case of a COM exception
+     */
+    @Override
+    public boolean exit(final int timeout) throws ETComException {
+        final boolean result = perform(app -> app.exit(timeout));
+        pool.invalidate(session);
+        return result;
+    }
+
+    @Override
+    public ComPackage openPackage(final String path) throws ETComException {
+        return perform(app -> app.openPackage(path));
+    }
+
+    @Override
+    public boolean closePackage(final String path) throws ETComException {
+        return perform(app -> app.closePackage(path));
+    }
+
+    @Override
+    public ComProject openProject(final String path, final boolean execInCurrentPkgDir,
+                                  final String filterExpression) throws ETComException {
+        return perform(app -> app.openProject(path, execInCurrentPkgDir, filterExpression));
+    }
+
+    @Override
+    public boolean closeProject(final String path) throws ETComException {
+        return perform(app -> app.closeProject(path));
+    }
+
+    @Override
+    public boolean importProject(final String path, final String importPath, final String importConfigPath,
+                                 final boolean replaceFiles) throws ETComException {
+        return perform(app -> app.importProject(path, importPath, importConfigPath, replaceFiles));
+    }
+
+    @Override
+    public boolean openTestbenchConfiguration(final String path) throws ETComException {
+        return perform(app -> app.openTestbenchConfiguration(path));
+    }
+
+    @Override
+    public boolean openTestConfiguration(final String path) throws ETComException {
+        return perform(app -> app.openTestConfiguration(path));
+    }
+
+    @Override
+    public ComTestConfiguration getCurrentTestConfiguration() throws ETComException {
+        return perform(ComApplication::getCurrentTestConfiguration);
+    }
+
+    @Override
+    public ComTestBenchConfiguration getCurrentTestBenchConfiguration() throws ETComException {
+        return perform(ComApplication::getCurrentTestBenchConfiguration);
+    }
+
+    @Override
+    public boolean isStarted() throws ETComException {
+        return perform(ComApplication::isStarted);
+    }
+
+    @Override
+    public boolean waitForIdle(final int timeout) throws ETComException {
+        return perform(app -> app.waitForIdle(timeout));
+    }
+
+    @Override
+    public boolean updateUserLibraries() throws ETComException {
+        return perform(ComApplication::updateUserLibraries);
+    }
+
+    /**
+     * Returns the leased session to the pool.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            pool.release(session);
+        }
+    }
+
+    /**
+     * Request performed on the pooled {@link ComApplication}.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    private interface ComRequest<T> {
+
+        /**
+         * Performs the request.
+         *
+         * @param application the pooled application
+         * @return the result of the request
+         * @throws ETComException in case of a COM exception
+         */
+        T perform(ComApplication application) throws ETComException;
+    }
+}
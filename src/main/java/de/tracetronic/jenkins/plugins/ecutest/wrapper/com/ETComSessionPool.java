@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import com.jacob.com.ComThread;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComApplication;
+import org.apache.commons.lang.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Agent-side pool holding one long-lived COM session per programmatic identifier.
+ *
+ * <p>
+ * Establishing a COM connection requires initializing the COM thread, attaching the dispatch and waiting for the
+ * application to be ready. Instead of paying this handshake for every remoting call, the pool keeps the attached
+ * session (and its owning COM thread) alive for the lifetime of the ecu.test process and hands out leases
+ * ({@link ETComSession}) to the callers. Idle sessions are health-checked before they are leased again and any
+ * {@link ETComException} raised through a lease evicts the underlying session.
+ *
+ * <p>
+ * Sharing a session across threads requires a multi-threaded COM dispatch. If the configured COM timeout is disabled,
+ * which selects the single-threaded apartment mode, each lease gets its own session that is disposed on close.
+ */
+public final class ETComSessionPool {
+
+    /**
+     * Default interval in milliseconds after which an idle session is health-checked before being leased again.
+     */
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL = 10_000L;
+
+    private static final Logger LOGGER = Logger.getLogger(ETComSessionPool.class.getName());
+
+    private final SessionFactory factory;
+    private final long healthCheckInterval;
+    private final Map<String, PooledSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new {@link ETComSessionPool}.
+     *
+     * @param factory             the factory creating the backend applications
+     * @param healthCheckInterval the interval in milliseconds after which idle sessions are health-checked
+     */
+    ETComSessionPool(final SessionFactory factory, final long healthCheckInterval) {
+        this.factory = factory;
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    /**
+     * Returns the agent-wide instance of {@link ETComSessionPool}.
+     *
+     * @return the singleton instance
+     */
+    public static ETComSessionPool getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+
+    /**
+     * Same as {@link #lease(String, int)} but with the default connection timeout.
+     *
+     * @param progId the programmatic identifier
+     * @return the leased session
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     * @see #lease(String, int)
+     */
+    public ETComSession lease(final String progId) throws ETComException {
+        return lease(progId, ETComProperty.DEFAULT_CONNECTION_TIMEOUT);
+    }
+
+    /**
+     * Leases a session for the given programmatic identifier. An existing healthy session is reused, otherwise a new
+     * session is created and waits for a connection within the given timeout.
+     *
+     * <p>
+     * The returned lease must be closed after use, preferably by a try-with-resources statement.
+     *
+     * @param progId  the programmatic identifier
+     * @param timeout the timeout waiting for a connection
+     * @return the leased session
+     * @throws ETComException in case of a COM exception or if the timeout is reached
+     */
+    public ETComSession lease(final String progId, final int timeout) throws ETComException {
+        final String key = StringUtils.defaultIfBlank(progId, ETComProperty.DEFAULT_PROG_ID);
+        if (!factory.isShareable()) {
+            final PooledSession session = new PooledSession(key, factory.create(key, timeout), false);
+            session.acquire();
+            session.invalidate();
+            return new ETComSession(this, session);
+        }
+        factory.attach();
+        try {
+            synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+                while (true) {
+                    PooledSession session = sessions.get(key);
+                    if (session != null && !isHealthy(session)) {
+                        evict(key);
+                        session = null;
+                    }
+                    if (session == null) {
+                        LOGGER.fine(String.format("Creating pooled COM session for %s...", key));
+                        session = new PooledSession(key, factory.create(key, timeout), true);
+                        sessions.put(key, session);
+                    }
+                    if (session.acquire()) {
+                        return new ETComSession(this, session);
+                    }
+                }
+            }
+        } catch (final ETComException | RuntimeException e) {
+            factory.detach();
+            throw e;
+        }
+    }
+
+    /**
+     * Evicts the session of the given programmatic identifier. The underlying application is disposed as soon as
+     * all outstanding leases are closed.
+     *
+     * @param progId the programmatic identifier
+     */
+    public void evict(final String progId) {
+        final String key = StringUtils.defaultIfBlank(progId, ETComProperty.DEFAULT_PROG_ID);
+        final PooledSession session = sessions.remove(key);
+        if (session != null) {
+            LOGGER.fine(String.format("Evicting pooled COM session for %s...", key));
+            invalidate(session);
+        }
+    }
+
+    /**
+     * Evicts all pooled sessions.
+     */
+    public void shutdown() {
+        final List<String> keys = new ArrayList<>(sessions.keySet());
+        keys.forEach(this::evict);
+    }
+
+    /**
+     * Returns the number of currently pooled sessions.
+     *
+     * @return the session count
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Marks the given session as invalid, removes it from the pool and disposes it if no longer leased.
+     *
+     * @param session the pooled session
+     */
+    void invalidate(final PooledSession session) {
+        sessions.remove(session.getProgId(), session);
+        if (session.invalidate()) {
+            factory.dispose(session.getApplication());
+        }
+    }
+
+    /**
+     * Releases a lease of the given session and disposes the session if it is invalid and no longer leased.
+     *
+     * @param session the pooled session
+     */
+    void release(final PooledSession session) {
+        try {
+            if (session.release()) {
+                factory.dispose(session.getApplication());
+            }
+        } finally {
+            if (session.isShared()) {
+                factory.detach();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given session is still usable. Sessions that were idle longer than the health check interval
+     * are probed by querying the application state.
+     *
+     * @param session the pooled session
+     * @return {@code true} if the session is healthy, {@code false} otherwise
+     */
+    private boolean isHealthy(final PooledSession session) {
+        if (!session.isValid()) {
+            return false;
+        }
+        if (!session.isIdleLongerThan(healthCheckInterval)) {
+            return true;
+        }
+        try {
+            return session.getApplication().isApplicationRunning();
+        } catch (final ETComException e) {
+            LOGGER.fine(String.format("Health check of pooled COM session for %s failed: %s",
+                session.getProgId(), e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Backend creating and disposing the pooled {@link ComApplication}s.
+     */
+    public interface SessionFactory {
+
+        /**
+         * Creates a new connected application.
+         *
+         * @param progId  the programmatic identifier
+         * @param timeout the timeout waiting for a connection
+         * @return the connected application
+         * @throws ETComException in case of a COM exception or if the timeout is reached
+         */
+        ComApplication create(String progId, int timeout) throws ETComException;
+
+        /**
+         * Checks whether the created applications can be shared across threads and thus be pooled.
+         *
+         * @return {@code true} if shareable, {@code false} if each lease needs its own application
+         */
+        boolean isShareable();
+
+        /**
+         * Prepares the calling thread to access pooled applications. Each call is paired with {@link #detach()}
+         * once the lease is returned.
+         */
+        void attach();
+
+        /**
+         * Releases the preparation of the calling thread done by {@link #attach()}.
+         */
+        void detach();
+
+        /**
+         * Disposes the given application that is not leased anymore.
+         *
+         * @param application the application to dispose
+         */
+        void dispose(ComApplication application);
+    }
+
+    /**
+     * Default {@link SessionFactory} creating {@link ETComClient}s that keep their dispatch alive in a dedicated
+     * multi-threaded COM thread. If the configured COM timeout is disabled, single-threaded clients bound to the
+     * leasing thread are created instead.
+     */
+    static final class ComSessionFactory implements SessionFactory {
+
+        @Override
+        public ComApplication create(final String progId, final int timeout) throws ETComException {
+            return isShareable() ? new ETComClient(progId, timeout, true) : new ETComClient(progId, timeout);
+        }
+
+        @Override
+        public boolean isShareable() {
+            return ETComProperty.getInstance().getTimeout() != 0;
+        }
+
+        @Override
+        public void attach() {
+            ComThread.InitMTA();
+        }
+
+        @Override
+        public void detach() {
+            ComThread.Release();
+        }
+
+        @Override
+        public void dispose(final ComApplication application) {
+            ((ETComClient) application).close();
+        }
+    }
+
+    /**
+     * Pooled application with its lease and validity state.
+     */
+    static final class PooledSession {
+
+        private final String progId;
+        private final ComApplication application;
+        private final boolean shared;
+        private int leaseCount;
+        private boolean valid = true;
+        private long lastReleaseMillis = System.currentTimeMillis();
+
+        /**
+         * Instantiates a new {@link PooledSession}.
+         *
+         * @param progId      the programmatic identifier
+         * @param application the connected application
+         * @param shared      specifies whether the application is shared by the pool
+         */
+        PooledSession(final String progId, final ComApplication application, final boolean shared) {
+            this.progId = progId;
+            this.application = application;
+            this.shared = shared;
+        }
+
+        public String getProgId() {
+            return progId;
+        }
+
+        public ComApplication getApplication() {
+            return application;
+        }
+
+        public boolean isShared() {
+            return shared;
+        }
+
+        synchronized boolean isValid() {
+            return valid;
+        }
+
+        synchronized boolean isIdleLongerThan(final long interval) {
+            return leaseCount == 0 && System.currentTimeMillis() - lastReleaseMillis >= interval;
+        }
+
+        /**
+         * Acquires one lease.
+         *
+         * @return {@code true} if the session is still valid and leased, {@code false} otherwise
+         */
+        synchronized boolean acquire() {
+            if (!valid) {
+                return false;
+            }
+            leaseCount++;
+            return true;
+        }
+
+        /**
+         * Releases one lease.
+         *
+         * @return {@code true} if the session is invalid and no longer leased, {@code false} otherwise
+         */
+        synchronized boolean release() {
+            leaseCount--;
+            lastReleaseMillis = System.currentTimeMillis();
+            return !valid && leaseCount == 0;
+        }
+
+        /**
+         * Invalidates this session.
+         *
+         * @return {@code true} if the session was valid before and is no longer leased, {@code false} otherwise
+         */
+        synchronized boolean invalidate() {
+            final boolean wasValid = valid;
+            valid = false;
+            return wasValid && leaseCount == 0;
+        }
+    }
+
+    /**
+     * Initializes and holds the singleton for this class.
+     */
+    private static final class SingletonHolder {
+
+        private static final ETComSessionPool INSTANCE =
+            new ETComSessionPool(new ComSessionFactory(), DEFAULT_HEALTH_CHECK_INTERVAL);
+
+        /**
+         * Private constructor.
+         */
+        private SingletonHolder() {
+            throw new UnsupportedOperationException("Singleton class");
+        }
+    }
+}
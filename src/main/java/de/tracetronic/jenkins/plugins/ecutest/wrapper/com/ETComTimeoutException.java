@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -46,4 +46,14 @@ public class ETComTimeoutException extends ETComException {
     public ETComTimeoutException() {
         super();
     }
+
+    /**
+     * A timed out call leaves the COM server in an unknown state and is therefore treated as connection failure.
+     *
+     * @return always {@code true}
+     */
+    @Override
+    public boolean isConnectionFailure() {
+        return true;
+    }
 }
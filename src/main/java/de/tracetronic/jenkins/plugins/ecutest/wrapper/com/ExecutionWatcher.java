@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Watches a running test or analysis execution until it leaves the {@code RUNNING} state.
+ *
+ * <p>
+ * The execution state is polled with an adaptive backoff: right after start and near the expected duration, e.g. the
+ * duration of the previous build, the state is polled with a short interval, in between the interval grows up to a
+ * maximum. Backends supporting push-style notifications can report state changes via
+ * {@link #notifyStateChanged(String)}, which wakes up the watcher immediately.
+ */
+public class ExecutionWatcher {
+
+    /**
+     * The state of a running execution.
+     */
+    public static final String STATE_RUNNING = "RUNNING";
+
+    /**
+     * Default minimum polling interval in milliseconds.
+     */
+    public static final long DEFAULT_MIN_INTERVAL = 250L;
+
+    /**
+     * Default maximum polling interval in milliseconds.
+     */
+    public static final long DEFAULT_MAX_INTERVAL = 1000L;
+
+    /**
+     * Duration in milliseconds after start, and around the expected duration, in which the state is polled fast.
+     */
+    public static final long FAST_PHASE = 2000L;
+
+    /**
+     * Interval in milliseconds in which the tick listener is notified.
+     */
+    public static final long TICK_INTERVAL = 60_000L;
+
+    private final StateProvider stateProvider;
+    private final int timeout;
+    private final long minInterval;
+    private final long maxInterval;
+    private final Object monitor = new Object();
+    private long expectedDuration;
+    private Runnable tickListener;
+    private String pushedState;
+    private final AtomicInteger pollCount = new AtomicInteger();
+
+    /**
+     * Instantiates a new {@link ExecutionWatcher} with default polling intervals.
+     *
+     * @param stateProvider the provider of the current execution state
+     * @param timeout       the execution timeout in seconds, 0 to wait without timeout
+     */
+    public ExecutionWatcher(final StateProvider stateProvider, final int timeout) {
+        this(stateProvider, timeout, DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * Instantiates a new {@link ExecutionWatcher}.
+     *
+     * @param stateProvider the provider of the current execution state
+     * @param timeout       the execution timeout in seconds, 0 to wait without timeout
+     * @param minInterval   the minimum polling interval in milliseconds
+     * @param maxInterval   the maximum polling interval in milliseconds
+     */
+    public ExecutionWatcher(final StateProvider stateProvider, final int timeout,
+                            final long minInterval, final long maxInterval) {
+        this.stateProvider = stateProvider;
+        this.timeout = timeout;
+        this.minInterval = minInterval;
+        this.maxInterval = Math.max(minInterval, maxInterval);
+    }
+
+    /**
+     * Sets the expected execution duration, e.g. known from previous runs, to poll fast around it.
+     *
+     * @param expectedDuration the expected duration in milliseconds, 0 if unknown
+     * @return this watcher
+     */
+    public ExecutionWatcher withExpectedDuration(final long expectedDuration) {
+        this.expectedDuration = expectedDuration;
+        return this;
+    }
+
+    /**
+     * Sets the listener notified at start and then every {@link #TICK_INTERVAL} while the execution is running.
+     *
+     * @param tickListener the tick listener
+     * @return this watcher
+     */
+    public ExecutionWatcher withTickListener(final Runnable tickListener) {
+        this.tickListener = tickListener;
+        return this;
+    }
+
+    /**
+     * Returns the number of performed state requests.
+     *
+     * @return the poll count
+     */
+    public int getPollCount() {
+        return pollCount.get();
+    }
+
+    /**
+     * Notifies this watcher about a state change pushed by the backend and wakes up the waiting thread.
+     *
+     * @param state the new execution state
+     */
+    public void notifyStateChanged(final String state) {
+        synchronized (monitor) {
+            pushedState = state;
+            monitor.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until the execution is not running anymore or the timeout is reached.
+     *
+     * @return {@code true} if the execution completed, {@code false} if the timeout is reached while still running
+     * @throws ETComException       in case of a COM exception
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean await() throws ETComException, InterruptedException {
+        final long startMillis = System.currentTimeMillis();
+        final long endTimeMillis = startMillis + (long) timeout * 1000L;
+        long nextTickMillis = startMillis;
+        long interval = minInterval;
+        String state = pollState();
+        while (STATE_RUNNING.equals(state)) {
+            final long now = System.currentTimeMillis();
+            if (tickListener != null && now >= nextTickMillis) {
+                tickListener.run();
+                nextTickMillis += TICK_INTERVAL;
+            }
+            if (timeout > 0 && now > endTimeMillis) {
+                return false;
+            }
+            interval = nextInterval(now - startMillis, interval);
+            if (timeout > 0) {
+                interval = Math.max(1L, Math.min(interval, endTimeMillis - now + 1L));
+            }
+            state = waitForState(interval);
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the next polling interval based on the elapsed execution time.
+     *
+     * @param elapsed  the elapsed time in milliseconds
+     * @param previous the previous polling interval in milliseconds
+     * @return the next polling interval in milliseconds
+     */
+    long nextInterval(final long elapsed, final long previous) {
+        if (elapsed < FAST_PHASE || isNearExpectedDuration(elapsed)) {
+            return minInterval;
+        }
+        return Math.min(maxInterval, Math.max(minInterval, previous * 2));
+    }
+
+    /**
+     * Checks whether the elapsed time is close to the expected duration.
+     *
+     * @param elapsed the elapsed time in milliseconds
+     * @return {@code true} if close to the expected duration, {@code false} otherwise or if unknown
+     */
+    private boolean isNearExpectedDuration(final long elapsed) {
+        if (expectedDuration <= 0) {
+            return false;
+        }
+        final long window = Math.max(FAST_PHASE, expectedDuration / 10);
+        return Math.abs(expectedDuration - elapsed) <= window;
+    }
+
+    /**
+     * Waits for a pushed state change within the given interval and polls the state otherwise.
+     *
+     * @param interval the polling interval in milliseconds
+     * @return the current execution state
+     * @throws ETComException       in case of a COM exception
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    private String waitForState(final long interval) throws ETComException, InterruptedException {
+        synchronized (monitor) {
+            if (pushedState == null) {
+                TimeUnit.MILLISECONDS.timedWait(monitor, interval);
+            }
+            if (pushedState != null) {
+                final String state = pushedState;
+                pushedState = null;
+                if (!STATE_RUNNING.equals(state)) {
+                    return state;
+                }
+            }
+        }
+        return pollState();
+    }
+
+    /**
+     * Requests the current execution state from the backend.
+     *
+     * @return the current execution state
+     * @throws ETComException in case of a COM exception
+     */
+    private String pollState() throws ETComException {
+        pollCount.incrementAndGet();
+        return stateProvider.getState();
+    }
+
+    /**
+     * Provides the current state of an execution, e.g. {@link
+     * de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestExecutionInfo#getState()}.
+     */
+    @FunctionalInterface
+    public interface StateProvider {
+
+        /**
+         * Returns the current execution state.
+         *
+         * @return the execution state
+         * @throws ETComException in case of a COM exception
+         */
+        String getState() throws ETComException;
+    }
+}
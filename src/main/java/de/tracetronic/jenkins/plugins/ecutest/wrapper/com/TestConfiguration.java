@@ -66,7 +66,7 @@ public class TestConfiguration extends ETComDispatch implements ComTestConfigura
 
     @Override
     public ComConstants getGlobalConstants() throws ETComException {
-        return new Constants(performRequest("GetGlobalConstants").toDispatch(), useTimeout());
+        return bind(new Constants(performRequest("GetGlobalConstants").toDispatch(), useTimeout()));
     }
 
     @Override
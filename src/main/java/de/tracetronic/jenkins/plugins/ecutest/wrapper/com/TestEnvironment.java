@@ -37,7 +37,7 @@ public class TestEnvironment extends ETComDispatch implements ComTestEnvironment
 
     @Override
     public ComTestExecutionInfo getTestExecutionInfo() throws ETComException {
-        return new TestExecutionInfo(performRequest("GetTestExecutionInfo").toDispatch(), useTimeout());
+        return bind(new TestExecutionInfo(performRequest("GetTestExecutionInfo").toDispatch(), useTimeout()));
     }
 
     /**
@@ -72,8 +72,8 @@ public class TestEnvironment extends ETComDispatch implements ComTestEnvironment
                                                final boolean runTest, final Map<String, String> parameters)
         throws ETComException {
         final Object[][] params = getArrayFromMap(parameters, true);
-        return new TestExecutionInfo(performRequest("ExecutePackage", new Variant(path),
-            new Variant(runTraceAnalysis), new Variant(runTest), params).toDispatch(), useTimeout());
+        return bind(new TestExecutionInfo(performRequest("ExecutePackage", new Variant(path),
+            new Variant(runTraceAnalysis), new Variant(runTest), params).toDispatch(), useTimeout()));
     }
 
     /**
@@ -90,8 +90,8 @@ public class TestEnvironment extends ETComDispatch implements ComTestEnvironment
     @Override
     public ComTestExecutionInfo executeProject(final String path, final boolean closeProgressDialog,
                                                final int jobExecutionMode) throws ETComException {
-        return new TestExecutionInfo(performRequest("ExecuteProject", new Variant(path),
-            new Variant(closeProgressDialog), new Variant(jobExecutionMode)).toDispatch(), useTimeout());
+        return bind(new TestExecutionInfo(performRequest("ExecuteProject", new Variant(path),
+            new Variant(closeProgressDialog), new Variant(jobExecutionMode)).toDispatch(), useTimeout()));
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -85,6 +85,7 @@ public class ReportPublisherDslExtensionIT extends AbstractDslExtensionIT {
         assertTrue(publisher.isRunOnFailed());
         assertFalse(publisher.isArchiving());
         assertFalse(publisher.isKeepAll());
+        assertFalse(publisher.isCacheZipDownload());
     }
 
     @Test
@@ -98,6 +99,8 @@ public class ReportPublisherDslExtensionIT extends AbstractDslExtensionIT {
         assertTrue(publisher.isRunOnFailed());
         assertFalse(publisher.isArchiving());
         assertFalse(publisher.isKeepAll());
+        assertTrue(publisher.isCacheZipDownload());
+        assertTrue(publisher.isDeduplicateArchive());
     }
 
     @Test
@@ -110,6 +113,7 @@ public class ReportPublisherDslExtensionIT extends AbstractDslExtensionIT {
         assertThat(publisher.getToolName(), is("ecu.test"));
         assertEquals(0, Double.compare(15, publisher.getUnstableThreshold()));
         assertEquals(0, Double.compare(30, publisher.getFailedThreshold()));
+        assertThat(publisher.getGenerationMode(), is(JUnitPublisher.GenerationMode.TRF));
         assertTrue(publisher.isAllowMissing());
         assertTrue(publisher.isRunOnFailed());
         assertFalse(publisher.isArchiving());
@@ -125,6 +129,7 @@ public class ReportPublisherDslExtensionIT extends AbstractDslExtensionIT {
         assertNotNull("ecu.test log publisher should exist", publisher);
         assertTrue(publisher.isUnstableOnWarning());
         assertTrue(publisher.isFailedOnError());
+        assertTrue(publisher.isCompressArchive());
         assertTrue(publisher.isAllowMissing());
         assertTrue(publisher.isRunOnFailed());
         assertFalse(publisher.isArchiving());
@@ -107,6 +107,8 @@ public class TestBuilderDslExtensionIT extends AbstractDslExtensionIT {
         final TestFolderBuilder builder = builders.get(TestFolderBuilder.class);
         assertNotNull("Test folder builder should exist", builder);
         assertThat(builder.getTestFile(), is("test"));
+        assertThat(builder.getParallelism(), is(2));
+        assertThat(builder.getInstances(), is("ecu.test 1, ecu.test 2"));
         testConfigWithDsl(builder.getTestConfig());
         testPackageConfigWithDsl(builder.getPackageConfig());
         testProjectConfigWithDsl(builder.getProjectConfig());
@@ -192,6 +194,7 @@ public class TestBuilderDslExtensionIT extends AbstractDslExtensionIT {
         assertFalse(config.isStopOnError());
         assertFalse(config.isCheckTestFile());
         assertTrue(config.isRecordWarnings());
+        assertThat(config.getMaxLogErrors(), is(5));
     }
 
     private void testProjectConfigWithDsl(final ProjectConfig config) throws Exception {
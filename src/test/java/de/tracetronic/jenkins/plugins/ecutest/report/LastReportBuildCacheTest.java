@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFBuildAction;
+import hudson.model.Action;
+import hudson.model.Job;
+import hudson.model.Run;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link LastReportBuildCache}.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class LastReportBuildCacheTest {
+
+    private static final int BUILD_COUNT = 500;
+
+    private Job job;
+    private final Map<Integer, Run> builds = new HashMap<>();
+    private final Map<Integer, List<Action>> actions = new HashMap<>();
+    private final Map<Integer, Boolean> building = new HashMap<>();
+    private final AtomicInteger loadedBuilds = new AtomicInteger();
+    private int lastNumber;
+
+    @Before
+    public void setUp() throws Exception {
+        job = mock(Job.class);
+        when(job.getLastBuild()).thenAnswer(invocation -> lastNumber > 0 ? loadBuild(lastNumber) : null);
+        when(job.getBuildByNumber(anyInt())).thenAnswer(invocation -> {
+            final int number = invocation.getArgument(0);
+            return builds.containsKey(number) ? loadBuild(number) : null;
+        });
+        for (int i = 1; i <= BUILD_COUNT; i++) {
+            build(i);
+        }
+    }
+
+    @Test
+    public void testHistoryIsScannedOnce() {
+        actions.get(1).add(new TRFBuildAction(false));
+
+        assertSame(builds.get(1), LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+        assertEquals(BUILD_COUNT, loadedBuilds.get());
+
+        loadedBuilds.set(0);
+        assertSame(builds.get(1), LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+        assertEquals("Only the last and the cached build should be loaded", 2, loadedBuilds.get());
+    }
+
+    @Test
+    public void testMissingReportIsCached() {
+        assertNull(LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+
+        loadedBuilds.set(0);
+        assertNull(LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+        assertEquals(1, loadedBuilds.get());
+    }
+
+    @Test
+    public void testCompletedBuildUpdatesCache() {
+        actions.get(10).add(new TRFBuildAction(false));
+        LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class);
+
+        final Run newBuild = build(BUILD_COUNT + 1);
+        actions.get(BUILD_COUNT + 1).add(new TRFBuildAction(false));
+        LastReportBuildCache.onCompleted(newBuild);
+
+        loadedBuilds.set(0);
+        assertSame(newBuild, LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+        assertEquals(2, loadedBuilds.get());
+    }
+
+    @Test
+    public void testRunningBuildIsFound() {
+        actions.get(10).add(new TRFBuildAction(false));
+        LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class);
+
+        final Run runningBuild = build(BUILD_COUNT + 1);
+        building.put(BUILD_COUNT + 1, true);
+        actions.get(BUILD_COUNT + 1).add(new TRFBuildAction(false));
+
+        assertSame(runningBuild, LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+    }
+
+    @Test
+    public void testDeletedBuildInvalidatesCache() {
+        actions.get(5).add(new TRFBuildAction(false));
+        actions.get(10).add(new TRFBuildAction(false));
+        assertSame(builds.get(10), LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+
+        final Run deletedBuild = builds.remove(10);
+        actions.get(10).clear();
+        LastReportBuildCache.onDeleted(deletedBuild);
+
+        assertSame(builds.get(5), LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+    }
+
+    @Test
+    public void testRemovedReportIsRescanned() {
+        actions.get(5).add(new TRFBuildAction(false));
+        actions.get(10).add(new TRFBuildAction(true));
+        assertSame(builds.get(10), LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+
+        actions.get(10).clear();
+
+        assertSame(builds.get(5), LastReportBuildCache.getLastReportBuild(job, TRFBuildAction.class));
+    }
+
+    private Run loadBuild(final int number) {
+        loadedBuilds.incrementAndGet();
+        return builds.get(number);
+    }
+
+    private Run build(final int number) {
+        final List<Action> buildActions = new ArrayList<>();
+        final Run build = mock(Run.class);
+        when(build.getNumber()).thenReturn(number);
+        when(build.getParent()).thenReturn(job);
+        when(build.isBuilding()).thenAnswer(invocation -> building.getOrDefault(number, false));
+        doAnswer(invocation -> buildActions.stream()
+            .filter(((Class<?>) invocation.getArgument(0))::isInstance).findFirst().orElse(null))
+            .when(build).getAction(any(Class.class));
+        when(build.getPreviousBuild()).thenAnswer(invocation -> {
+            for (int i = number - 1; i > 0; i--) {
+                if (builds.containsKey(i)) {
+                    return loadBuild(i);
+                }
+            }
+            return null;
+        });
+        builds.put(number, build);
+        actions.put(number, buildActions);
+        lastNumber = Math.max(lastNumber, number);
+        return build;
+    }
+}
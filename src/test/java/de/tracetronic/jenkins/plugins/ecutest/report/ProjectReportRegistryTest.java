@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.atx.ATXBuildAction;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFBuildAction;
+import hudson.model.Action;
+import hudson.model.Job;
+import hudson.model.Run;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ProjectReportRegistry} using a synthetic job with a large build history.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ProjectReportRegistryTest {
+
+    private static final int BUILD_COUNT = 5000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Job job;
+    private final Map<Integer, Run> builds = new HashMap<>();
+    private final Map<Integer, List<Action>> actions = new HashMap<>();
+    private final AtomicInteger loadedBuilds = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        job = mock(Job.class);
+        when(job.getRootDir()).thenReturn(folder.getRoot());
+        when(job.getFullName()).thenReturn("synthetic");
+        when(job.getBuildByNumber(anyInt())).thenAnswer(invocation -> loadBuild(invocation.getArgument(0)));
+    }
+
+    @Test
+    public void testFirstReplacementMigratesHistory() throws Exception {
+        addAction(10, new TRFBuildAction(true));
+        addAction(4000, new TRFBuildAction(true));
+        addAction(4500, new TRFBuildAction(false));
+
+        final int scanned = ProjectReportRegistry.replaceOwner(build(BUILD_COUNT), TRFBuildAction.class);
+
+        assertEquals(BUILD_COUNT - 1, scanned);
+        assertTrue(actions.get(10).isEmpty());
+        assertTrue(actions.get(4000).isEmpty());
+        assertFalse("Build level reports must be kept", actions.get(4500).isEmpty());
+        assertEquals(Integer.valueOf(BUILD_COUNT), owner(TRFBuildAction.class));
+    }
+
+    @Test
+    public void testReplacementLoadsPreviousOwnerOnly() throws Exception {
+        ProjectReportRegistry.replaceOwner(build(BUILD_COUNT), TRFBuildAction.class);
+        addAction(BUILD_COUNT, new TRFBuildAction(true));
+        loadedBuilds.set(0);
+
+        final long start = System.nanoTime();
+        final int scanned = ProjectReportRegistry.replaceOwner(build(BUILD_COUNT + 1), TRFBuildAction.class);
+        final long elapsed = System.nanoTime() - start;
+
+        assertEquals(1, scanned);
+        assertEquals("Only the previous owner should be loaded", 1, loadedBuilds.get());
+        assertTrue(actions.get(BUILD_COUNT).isEmpty());
+        verify(build(BUILD_COUNT)).save();
+        assertEquals(Integer.valueOf(BUILD_COUNT + 1), owner(TRFBuildAction.class));
+        assertTrue("Replacement should not depend on the history size", elapsed < 1_000_000_000L);
+    }
+
+    @Test
+    public void testReportTypesAreIndependent() throws Exception {
+        ProjectReportRegistry.replaceOwner(build(2), TRFBuildAction.class);
+
+        assertNull(owner(ATXBuildAction.class));
+        assertEquals(Integer.valueOf(2), owner(TRFBuildAction.class));
+    }
+
+    @Test
+    public void testOlderRunReplacesOwner() throws Exception {
+        ProjectReportRegistry.replaceOwner(build(5), TRFBuildAction.class);
+        addAction(5, new TRFBuildAction(true));
+
+        assertEquals(1, ProjectReportRegistry.replaceOwner(build(4), TRFBuildAction.class));
+        assertTrue(actions.get(5).isEmpty());
+        assertEquals(Integer.valueOf(4), owner(TRFBuildAction.class));
+    }
+
+    @Test
+    public void testSameOwnerIsKept() throws Exception {
+        ProjectReportRegistry.replaceOwner(build(5), TRFBuildAction.class);
+        addAction(5, new TRFBuildAction(true));
+
+        assertEquals(0, ProjectReportRegistry.replaceOwner(build(5), TRFBuildAction.class));
+        assertFalse(actions.get(5).isEmpty());
+        verify(build(5), never()).save();
+        assertEquals(Integer.valueOf(5), owner(TRFBuildAction.class));
+    }
+
+    @Test
+    public void testDeletedOwner() throws Exception {
+        ProjectReportRegistry.replaceOwner(build(3), TRFBuildAction.class);
+        when(job.getBuildByNumber(3)).thenReturn(null);
+
+        assertEquals(1, ProjectReportRegistry.replaceOwner(build(4), TRFBuildAction.class));
+        assertEquals(Integer.valueOf(4), owner(TRFBuildAction.class));
+    }
+
+    private Integer owner(final Class<?> clazz) throws Exception {
+        final Properties owners = new Properties();
+        final File registryFile = new File(folder.getRoot(), ProjectReportRegistry.REGISTRY_FILE);
+        if (registryFile.isFile()) {
+            try (InputStream in = Files.newInputStream(registryFile.toPath())) {
+                owners.load(in);
+            }
+        }
+        final String owner = owners.getProperty(clazz.getName());
+        return owner != null ? Integer.valueOf(owner) : null;
+    }
+
+    private void addAction(final int number, final Action action) throws Exception {
+        build(number);
+        actions.get(number).add(action);
+    }
+
+    private Run loadBuild(final int number) throws Exception {
+        loadedBuilds.incrementAndGet();
+        return build(number);
+    }
+
+    private Run build(final int number) throws Exception {
+        Run build = builds.get(number);
+        if (build == null) {
+            final List<Action> buildActions = new ArrayList<>();
+            build = mock(Run.class);
+            when(build.getNumber()).thenReturn(number);
+            when(build.getParent()).thenReturn(job);
+            when(build.getActions()).thenReturn(buildActions);
+            doAnswer(invocation -> buildActions.stream()
+                .filter(((Class<?>) invocation.getArgument(0))::isInstance).findFirst().orElse(null))
+                .when(build).getAction(any(Class.class));
+            when(build.getPreviousBuild()).thenAnswer(invocation -> number > 1 ? loadBuild(number - 1) : null);
+            builds.put(number, build);
+            actions.put(number, buildActions);
+        }
+        return build;
+    }
+}
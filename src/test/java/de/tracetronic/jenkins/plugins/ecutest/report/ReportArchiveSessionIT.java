@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import de.tracetronic.jenkins.plugins.ecutest.IntegrationTestBase;
+import hudson.FilePath;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.slaves.DumbSlave;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Integration tests for {@link ReportArchiveSession}.
+ */
+public class ReportArchiveSessionIT extends IntegrationTestBase {
+
+    @Test
+    public void testTransferOnlyOnce() throws Exception {
+        final DumbSlave agent = jenkins.createOnlineSlave();
+        final FilePath reportDir = agent.getRootPath().child("workspace/Report");
+        reportDir.child("Report.trf").write("report", StandardCharsets.UTF_8.name());
+        reportDir.child("Sub/Report Sub.trf").write("sub-report", StandardCharsets.UTF_8.name());
+        reportDir.child("Sub/ecu.test_out.log").write("log", StandardCharsets.UTF_8.name());
+        reportDir.child("style.css").write("log", StandardCharsets.UTF_8.name());
+
+        final FreeStyleProject project = jenkins.createFreeStyleProject();
+        final FreeStyleBuild run = jenkins.buildAndAssertSuccess(project);
+        final ReportArchiveSession session = ReportArchiveSession.get(run);
+        final File stagingDir = new File(run.getRootDir(), ReportArchiveSession.STAGING_DIR_NAME);
+
+        final List<ReportArchiveSession.ArchiveFile> trfFiles = session.fetch(reportDir, "**/*.trf", null, false);
+        assertThat(trfFiles.size(), is(2));
+        assertThat(stagingDir.list(), arrayWithSize(2));
+
+        // Both files have the same content, so that only one is transferred
+        final List<ReportArchiveSession.ArchiveFile> otherFiles =
+            session.fetch(reportDir, "**/*.trf,**/*.log,**/*.css", null, false);
+        assertThat(otherFiles.size(), is(4));
+        assertThat(stagingDir.list(), arrayWithSize(3));
+
+        final File targetDir = new File(run.getRootDir(), "trf-report/Report");
+        assertThat(session.copy(otherFiles, targetDir), is(4));
+        assertThat(new String(Files.readAllBytes(new File(targetDir, "Sub/Report Sub.trf").toPath()),
+            StandardCharsets.UTF_8), is("sub-report"));
+        assertThat(new String(Files.readAllBytes(new File(targetDir, "style.css").toPath()),
+            StandardCharsets.UTF_8), is("log"));
+
+        ReportArchiveSession.close(run);
+        assertThat(stagingDir.exists(), is(false));
+        assertThat(new File(targetDir, "Report.trf").isFile(), is(true));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.FilePath;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Unit tests for {@link ReportArchiveStore}.
+ */
+public class ReportArchiveStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ReportArchiveStore store;
+    private File reportDir;
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue(ReportArchiveStore.isSupported());
+        store = new ReportArchiveStore(folder.newFolder("store"));
+        reportDir = folder.newFolder("workspace", "Report");
+        write(new File(reportDir, "Report.trf"), "report");
+        write(new File(reportDir, "Sub/Report Sub.trf"), "sub-report");
+        write(new File(reportDir, "library.html"), "library");
+    }
+
+    @Test
+    public void testDeduplicateAcrossBuilds() throws Exception {
+        final File run1 = folder.newFolder("builds", "1");
+        assertEquals(2, archive(run1));
+
+        write(new File(reportDir, "Report.trf"), "changed report");
+        final File run2 = folder.newFolder("builds", "2");
+        assertEquals(2, archive(run2));
+
+        final File unchanged1 = new File(run1, "trf-report/Report/Sub/Report Sub.trf");
+        final File unchanged2 = new File(run2, "trf-report/Report/Sub/Report Sub.trf");
+        assertEquals(getInode(unchanged1), getInode(unchanged2));
+        assertEquals(3, getLinkCount(unchanged1));
+
+        final File changed1 = new File(run1, "trf-report/Report/Report.trf");
+        final File changed2 = new File(run2, "trf-report/Report/Report.trf");
+        assertNotEquals(getInode(changed1), getInode(changed2));
+        assertArrayEquals("report".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(changed1.toPath()));
+        assertArrayEquals("changed report".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(changed2.toPath()));
+        assertFalse("Excluded files should not be archived",
+            new File(run1, "trf-report/Report/library.html").exists());
+    }
+
+    @Test
+    public void testReleaseCollectsGarbage() throws Exception {
+        final File run1 = folder.newFolder("builds", "1");
+        archive(run1);
+        write(new File(reportDir, "Report.trf"), "changed report");
+        final File run2 = folder.newFolder("builds", "2");
+        archive(run2);
+        assertEquals(3, countBlobs());
+
+        store.release(run1);
+        assertFalse(new File(run1, ReportArchiveStore.MANIFEST_NAME).exists());
+        assertFalse(new File(run1, "trf-report/Report/Report.trf").exists());
+        assertEquals("Only blobs of the released build should be collected", 2, countBlobs());
+        assertTrue(new File(run2, "trf-report/Report/Sub/Report Sub.trf").isFile());
+
+        store.release(run2);
+        assertEquals(0, countBlobs());
+    }
+
+    @Test
+    public void testCollectGarbageOfDeletedJob() throws Exception {
+        final File run1 = folder.newFolder("builds", "1");
+        archive(run1);
+        write(new File(reportDir, "Report.trf"), "changed report");
+        final File run2 = folder.newFolder("builds", "2");
+        archive(run2);
+        assertEquals(3, countBlobs());
+
+        assertEquals("Linked blobs should not be collected", 0, store.collectGarbage());
+        FileUtils.deleteDirectory(run1);
+        assertEquals(1, store.collectGarbage());
+        assertEquals(2, countBlobs());
+        assertTrue(new File(run2, "trf-report/Report/Report.trf").isFile());
+    }
+
+    private int archive(final File runDir) throws IOException, InterruptedException {
+        final List<ReportArchiveSession.ArchiveFile> files = new ReportArchiveSession(new File(runDir, "session"))
+            .fetch(new FilePath(reportDir), "**/*", "**/*.html", true);
+        return store.archive(files, runDir, new File(runDir, "trf-report/Report"));
+    }
+
+    private int countBlobs() throws IOException {
+        try (Stream<Path> files = Files.walk(folder.getRoot().toPath().resolve("store"))) {
+            return (int) files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static Object getInode(final File file) throws IOException {
+        return Files.getAttribute(file.toPath(), "unix:ino");
+    }
+
+    private static int getLinkCount(final File file) throws IOException {
+        return (Integer) Files.getAttribute(file.toPath(), "unix:nlink");
+    }
+
+    private static void write(final File file, final String content) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFBuildAction;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.TRFReport;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for {@link ReportIndex}.
+ */
+public class ReportIndexTest {
+
+    @Test
+    public void testDisplayOrder() {
+        final TRFReport root = new TRFReport("1", "root", "root.trf", 0);
+        final TRFReport sub = new TRFReport("2", "sub", "sub.trf", 0);
+        final TRFReport subSub = new TRFReport("3", "subSub", "subSub.trf", 0);
+        final TRFReport sub2 = new TRFReport("4", "sub2", "sub2.trf", 0);
+        final TRFReport root2 = new TRFReport("5", "root2", "root2.trf", 0);
+        sub.addSubReport(subSub);
+        root.addSubReport(sub);
+        root.addSubReport(sub2);
+
+        final List<ReportIndex.Entry<TRFReport>> entries =
+            new ReportIndex<TRFReport>(Arrays.asList(root, root2)).getEntries();
+        assertEquals(5, entries.size());
+        final TRFReport[] reports = {root, sub, subSub, sub2, root2};
+        final int[] depths = {0, 1, 2, 1, 0};
+        for (int i = 0; i < reports.length; i++) {
+            assertSame(reports[i], entries.get(i).getReport());
+            assertEquals(depths[i], entries.get(i).getDepth());
+        }
+    }
+
+    @Test
+    public void testLookupInDeepTree() {
+        final TRFReport root = new TRFReport("root", "root", "root.trf", 0);
+        TRFReport parent = root;
+        for (int i = 0; i < 10000; i++) {
+            final TRFReport subReport = new TRFReport("id" + i, "sub" + i, "sub.trf", 0);
+            parent.addSubReport(subReport);
+            parent = subReport;
+        }
+
+        final ReportIndex<TRFReport> index = new ReportIndex<>(Collections.singletonList(root));
+        assertEquals(10001, index.size());
+        assertSame(parent, index.get("id9999"));
+        assertEquals(10000, index.getEntries().get(10000).getDepth());
+        assertNull(index.get("unknown"));
+    }
+
+    @Test
+    public void testFirstDuplicateWins() {
+        final TRFReport first = new TRFReport("dup", "first", "first.trf", 0);
+        final TRFReport root = new TRFReport("root", "root", "root.trf", 0);
+        root.addSubReport(new TRFReport("dup", "second", "second.trf", 0));
+
+        final ReportIndex<TRFReport> index = new ReportIndex<>(Arrays.asList(first, root));
+        assertSame(first, index.get("dup"));
+    }
+
+    @Test
+    public void testBuildActionIndexIsRebuiltOnAdd() {
+        final TRFBuildAction action = new TRFBuildAction(false);
+        final TRFReport report = new TRFReport("1", "report", "report.trf", 0);
+        action.add(report);
+        assertSame(report, action.getDynamic("1"));
+        assertNull(action.getDynamic("2"));
+
+        final TRFReport other = new TRFReport("2", "other", "other.trf", 0);
+        action.addAll(Collections.singletonList(other));
+        assertSame(other, action.getDynamic("2"));
+        assertEquals(2, action.getFlattenedReports().size());
+    }
+}
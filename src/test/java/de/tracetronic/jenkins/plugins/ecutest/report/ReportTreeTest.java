@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import hudson.FilePath;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ReportTree}.
+ */
+public class ReportTreeTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testScan() throws Exception {
+        final File reportDir = folder.newFolder("Report");
+        write(new File(reportDir, "Job_Analysis.trf"), "job");
+        write(new File(reportDir, "Report.trf"), "report");
+        write(new File(reportDir, "Report Sub/Report Sub.trf"), "sub-report");
+        write(new File(reportDir, "Report Sub/ecu.test_out.log"), "log");
+        write(new File(reportDir, "Report Sub/Report Nested/Report Nested.trf"), "nested");
+
+        final ReportTree reportTree = ReportTree.scan(new FilePath(reportDir));
+        assertNotNull(reportTree);
+        assertEquals("Report", reportTree.getName());
+        assertEquals("", reportTree.getPath());
+        assertEquals(28, reportTree.getSize());
+        assertEquals("Report.trf", reportTree.getFirstReportFile());
+        assertEquals(6, reportTree.getFileSize("Report.trf"));
+
+        final List<ReportTree> subDirs = reportTree.getDirectories();
+        assertEquals(1, subDirs.size());
+        final ReportTree subDir = subDirs.get(0);
+        assertEquals("Report Sub", subDir.getPath());
+        assertEquals(19, subDir.getSize());
+        assertTrue(subDir.hasFile("ecu.test_out.log"));
+        assertFalse(subDir.hasFile("ecu.test_err.log"));
+        assertEquals("Report Sub/Report Nested", subDir.getDirectories().get(0).getPath());
+    }
+
+    @Test
+    public void testContainsFiles() throws Exception {
+        final File reportDir = folder.newFolder("Report");
+        write(new File(reportDir, "Sub/Report.prf"), "prf");
+
+        final ReportTree reportTree = ReportTree.scan(new FilePath(reportDir));
+        assertNotNull(reportTree);
+        assertNull(reportTree.getFirstReportFile());
+        assertTrue(reportTree.containsFiles("**/*.prf"));
+        assertFalse(reportTree.containsFiles("**/*.trf"));
+    }
+
+    @Test
+    public void testScanMissingDirectory() throws Exception {
+        assertNull(ReportTree.scan(new FilePath(new File(folder.getRoot(), "missing"))));
+    }
+
+    private static void write(final File file, final String content) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report;
+
+import jenkins.util.VirtualFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ReportZipWriter} and {@link ReportZipCache}.
+ */
+public class ReportZipWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testStoredExtensions() {
+        assertTrue(ReportZipWriter.isStored("report.trf"));
+        assertTrue(ReportZipWriter.isStored("sub/Report.TRF"));
+        assertTrue(ReportZipWriter.isStored("images/plot.png"));
+        assertTrue(ReportZipWriter.isStored("logs.zip"));
+        assertFalse(ReportZipWriter.isStored("report.html"));
+        assertFalse(ReportZipWriter.isStored("ecu.test_out.log"));
+        assertFalse(ReportZipWriter.isStored("README"));
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        final File archiveDir = createArchiveDir("trf-report");
+        final File zipFile = folder.newFile("download.zip");
+        try (OutputStream out = Files.newOutputStream(zipFile.toPath())) {
+            ReportZipWriter.write(VirtualFile.forFile(archiveDir), out);
+        }
+
+        assertZip(archiveDir, zipFile, ZipEntry.DEFLATED);
+    }
+
+    @Test
+    public void testWriteFile() throws Exception {
+        final File archiveDir = createArchiveDir("trf-report");
+        final File zipFile = folder.newFile("cached.zip");
+        ReportZipWriter.write(VirtualFile.forFile(archiveDir), zipFile);
+
+        assertZip(archiveDir, zipFile, ZipEntry.STORED);
+    }
+
+    private static void assertZip(final File archiveDir, final File zipFile, final int trfMethod) throws IOException {
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            assertEquals(2, zip.size());
+            final ZipEntry trfEntry = zip.getEntry("sub/report.trf");
+            assertNotNull(trfEntry);
+            assertEquals(trfMethod, trfEntry.getMethod());
+            assertArrayEquals(Files.readAllBytes(new File(archiveDir, "sub/report.trf").toPath()),
+                read(zip, trfEntry));
+
+            final ZipEntry htmlEntry = zip.getEntry("index.html");
+            assertNotNull(htmlEntry);
+            assertEquals(ZipEntry.DEFLATED, htmlEntry.getMethod());
+            assertArrayEquals(Files.readAllBytes(new File(archiveDir, "index.html").toPath()),
+                read(zip, htmlEntry));
+        }
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        final File archiveDir = createArchiveDir("trf-report");
+        assertNull(ReportZipCache.getCachedZip(archiveDir));
+
+        ReportZipCache.invalidate(archiveDir);
+        ReportZipCache.create(archiveDir, 0);
+        assertNull("Invalidated archive should not be cached", ReportZipCache.getCachedZip(archiveDir));
+
+        ReportZipCache.invalidate(archiveDir);
+        ReportZipCache.schedule(archiveDir);
+        File cachedZip = null;
+        for (int i = 0; i < 100 && cachedZip == null; i++) {
+            Thread.sleep(50);
+            cachedZip = ReportZipCache.getCachedZip(archiveDir);
+        }
+        assertNotNull("Archive should be cached", cachedZip);
+        try (ZipFile zip = new ZipFile(cachedZip)) {
+            assertEquals(2, zip.size());
+        }
+        assertEquals("No temporary files should remain", 2, folder.getRoot().list().length);
+
+        ReportZipCache.invalidate(archiveDir);
+        assertNull(ReportZipCache.getCachedZip(archiveDir));
+    }
+
+    @Test
+    public void testByteRange() {
+        assertNull(ByteRange.parse(null, 100));
+        assertNull(ByteRange.parse("items=0-10", 100));
+        assertNull(ByteRange.parse("bytes=0-10,20-30", 100));
+        assertNull(ByteRange.parse("bytes=20-10", 100));
+        assertNull(ByteRange.parse("bytes=a-b", 100));
+
+        assertRange(ByteRange.parse("bytes=10-19", 100), 10, 19);
+        assertRange(ByteRange.parse("bytes=90-", 100), 90, 99);
+        assertRange(ByteRange.parse("bytes=90-200", 100), 90, 99);
+        assertRange(ByteRange.parse("bytes=-30", 100), 70, 99);
+        assertRange(ByteRange.parse("bytes=-300", 100), 0, 99);
+
+        final ByteRange range = ByteRange.parse("bytes=100-", 100);
+        assertNotNull(range);
+        assertFalse(range.isSatisfiable());
+    }
+
+    private static void assertRange(final ByteRange range, final long start, final long end) {
+        assertNotNull(range);
+        assertTrue(range.isSatisfiable());
+        assertEquals(start, range.getStart());
+        assertEquals(end, range.getEnd());
+        assertEquals(end - start + 1, range.getLength());
+    }
+
+    private File createArchiveDir(final String name) throws IOException {
+        final File archiveDir = folder.newFolder(name);
+        final File subDir = new File(archiveDir, "sub");
+        assertTrue(subDir.mkdir());
+        final byte[] trfContent = new byte[512 * 1024];
+        new Random(42).nextBytes(trfContent);
+        Files.write(new File(subDir, "report.trf").toPath(), trfContent);
+        final StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            html.append("<tr><td>Test case ").append(i).append("</td></tr>\n");
+        }
+        Files.write(new File(archiveDir, "index.html").toPath(), html.toString().getBytes(StandardCharsets.UTF_8));
+        return archiveDir;
+    }
+
+    private static byte[] read(final ZipFile zip, final ZipEntry entry) throws IOException {
+        try (InputStream in = zip.getInputStream(entry)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
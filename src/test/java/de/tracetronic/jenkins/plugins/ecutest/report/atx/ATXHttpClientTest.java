@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.atx;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link ATXHttpClient} using a local HTTP server as stand-in for test.guide.
+ */
+public class ATXHttpClientTest {
+
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+    private HttpServer server;
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/upload", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/reports?dateFrom=1&dateTo=2&testexecplan=Test");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            maxActiveRequests.accumulateAndGet(activeRequests.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                activeRequests.decrementAndGet();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = String.format("http://%s:%d", server.getAddress().getHostString(), server.getAddress().getPort());
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testSharedClient() throws MalformedURLException {
+        assertSame(ATXHttpClient.get("", false), ATXHttpClient.get(null, false));
+        assertNotSame(ATXHttpClient.get("", false), ATXHttpClient.get("", true));
+    }
+
+    @Test
+    public void testInvalidate() throws MalformedURLException {
+        final ATXHttpClient client = ATXHttpClient.get("", false);
+        ATXHttpClient.invalidate();
+        assertNotSame(client, ATXHttpClient.get("", false));
+    }
+
+    @Test
+    public void testResolveRedirect() throws Exception {
+        final URL location = ATXHttpClient.get("", false).resolveRedirectAsync(baseUrl + "/upload").get();
+        assertEquals(baseUrl + "/reports?dateFrom=1&dateTo=2&testexecplan=Test", location.toString());
+    }
+
+    @Test
+    public void testMissingRedirectLocation() throws Exception {
+        try {
+            ATXHttpClient.get("", false).resolveRedirectAsync(baseUrl + "/missing").get();
+            fail("Expected missing redirect location");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof MalformedURLException);
+        }
+    }
+
+    @Test(expected = MalformedURLException.class)
+    public void testMalformedUrl() throws Exception {
+        ATXHttpClient.get("", false).resolveRedirectAsync("invalid");
+    }
+
+    @Test
+    public void testBoundedConcurrency() throws Exception {
+        final ATXHttpClient client = ATXHttpClient.get("", false);
+        final List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+        for (int i = 0; i < 3 * ATXHttpClient.MAX_CONCURRENT_REQUESTS; i++) {
+            responses.add(client.sendAsync(ATXHttpClient.newRequest(baseUrl + "/slow").build(),
+                HttpResponse.BodyHandlers.discarding()));
+        }
+        for (final CompletableFuture<HttpResponse<Void>> response : responses) {
+            assertEquals(200, response.get().statusCode());
+        }
+        assertTrue("Concurrent requests must be bounded",
+            maxActiveRequests.get() <= ATXHttpClient.MAX_CONCURRENT_REQUESTS);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.atx;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link ATXLinkTemplate}.
+ */
+public class ATXLinkTemplateTest {
+
+    @Test
+    public void testExpand() {
+        final ATXLinkTemplate template = ATXLinkTemplate.compile(
+            "{0}/reports?dateFrom={1}&dateTo={2}&testexecplan={3}&plannedTestCaseFolder={4}*");
+        assertEquals(String.format("%s/reports?dateFrom=%s&dateTo=%s&testexecplan=%s&plannedTestCaseFolder=%s*",
+                "http://localhost:8085", 1L, 2L, "Project", "Sub_Test"),
+            template.expand("http://localhost:8085", 1L, 2L, "Project", "Sub_Test"));
+    }
+
+    @Test
+    public void testExpandNullValue() {
+        final ATXLinkTemplate template = ATXLinkTemplate.compile("{0}/reports?testcase={1}");
+        assertEquals(String.format("%s/reports?testcase=%s", "base", null), template.expand("base", null));
+    }
+
+    @Test
+    public void testAppendTo() {
+        final StringBuilder builder = ATXLinkTemplate.compile("{0}/{1}={0}").appendTo(new StringBuilder("-"), "a", "b");
+        ATXLinkTemplate.compile("&projectId={0}").appendTo(builder, 1);
+        assertEquals("-a/b=a&projectId=1", builder.toString());
+    }
+
+    @Test
+    public void testLiteralOnly() {
+        assertEquals("reports", ATXLinkTemplate.compile("reports").expand());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingValues() {
+        ATXLinkTemplate.compile("{0}/{1}").expand("base");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnclosedPlaceholder() {
+        ATXLinkTemplate.compile("{0}/{1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPlaceholder() {
+        ATXLinkTemplate.compile("{base}/reports");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.atx;
+
+import com.sun.net.httpserver.HttpServer;
+import de.tracetronic.jenkins.plugins.ecutest.report.atx.installation.ATXConfig;
+import hudson.EnvVars;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link ATXRedirectResolver} using a local HTTP server as stand-in for test.guide.
+ */
+public class ATXRedirectResolverTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private String baseUrl;
+    private ATXRedirectResolver resolver;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/upload", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final String id = exchange.getRequestURI().getPath().substring("/upload/".length());
+            exchange.getResponseHeaders().add("Location",
+                "/reports?dateFrom=" + id + "&dateTo=2&testexecplan=Test");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = String.format("http://%s:%d", server.getAddress().getHostString(), server.getAddress().getPort());
+        resolver = new ATXRedirectResolver(new ATXConfig(), new EnvVars());
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testResolve() throws Exception {
+        final URL location = resolver.resolve(baseUrl + "/upload/1").get();
+        assertEquals(baseUrl + "/reports?dateFrom=1&dateTo=2&testexecplan=Test", location.toString());
+    }
+
+    @Test
+    public void testDeduplicateRedirects() throws Exception {
+        final CompletableFuture<URL> first = resolver.resolve(baseUrl + "/upload/1");
+        final CompletableFuture<URL> second = resolver.resolve(baseUrl + "/upload/1");
+        assertSame(first, second);
+        assertEquals(first.get(), resolver.resolve(baseUrl + "/upload/1").get());
+        assertEquals(1, requests.get());
+        assertEquals(1, resolver.getRedirectCount());
+    }
+
+    @Test
+    public void testResolveConcurrently() throws Exception {
+        final int redirectCount = 3 * ATXHttpClient.MAX_CONCURRENT_REQUESTS;
+        final List<CompletableFuture<URL>> locations = new ArrayList<>();
+        for (int i = 0; i < 2 * redirectCount; i++) {
+            locations.add(resolver.resolve(baseUrl + "/upload/" + i % redirectCount));
+        }
+        CompletableFuture.allOf(locations.toArray(new CompletableFuture[0])).get();
+        for (int i = 0; i < locations.size(); i++) {
+            assertTrue(locations.get(i).get().getQuery().startsWith("dateFrom=" + i % redirectCount + "&"));
+        }
+        assertEquals(redirectCount, requests.get());
+        assertEquals(redirectCount, resolver.getRedirectCount());
+    }
+
+    @Test
+    public void testMissingRedirectLocation() throws Exception {
+        try {
+            resolver.resolve(baseUrl + "/missing").get();
+            fail("Expected missing redirect location");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof MalformedURLException);
+        }
+    }
+
+    @Test
+    public void testMalformedRedirect() throws Exception {
+        try {
+            resolver.resolve("invalid").get();
+            fail("Expected malformed redirect");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof MalformedURLException);
+        }
+    }
+}
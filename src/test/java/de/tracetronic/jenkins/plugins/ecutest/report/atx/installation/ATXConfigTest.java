@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -19,6 +19,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -134,4 +135,70 @@ public class ATXConfigTest {
         config.setSettingValueByName("uploadToServer", true);
         assertThat(config.getSettingValueByName("uploadToServer"), is(true));
     }
+
+    @Test
+    public void testIndexedLookupsMatchSettings() {
+        final ATXConfig config = new ATXConfig();
+        for (final ATXSetting<?> setting : config.getSettings()) {
+            assertThat(config.getSettingByName(setting.getName()).orElse(null),
+                sameInstance(config.getSettings().stream()
+                    .filter(s -> s.getName().equals(setting.getName())).findFirst().orElse(null)));
+            assertThat(config.getSettingValueByGroup(setting.getName(), setting.getGroup()),
+                is(config.getSettingValueBySettings(setting.getName(), config.getSettingsByGroup(setting.getGroup()))));
+        }
+        for (final ATXSetting.SettingsGroup group : ATXSetting.SettingsGroup.values()) {
+            final List<ATXSetting<?>> expected = new ArrayList<>();
+            config.getSettings().stream().filter(setting -> group.equals(setting.getGroup())).forEach(expected::add);
+            assertEquals(expected, config.getSettingsByGroup(group));
+        }
+    }
+
+    @Test
+    public void testIndexAfterSettingValueByName() {
+        final ATXConfig config = new ATXConfig();
+        config.setSettingValueByName("serverPort", "8086");
+        assertThat(config.getSettingValueByGroup("serverPort", ATXSetting.SettingsGroup.CONNECTION), is("8086"));
+        assertThat(config.getSettingValueByGroup("serverPort", ATXSetting.SettingsGroup.UPLOAD), nullValue());
+    }
+
+    @Test
+    public void testIndexAfterClone() {
+        final ATXConfig config = new ATXConfig();
+        final ATXConfig clone = config.clone();
+        clone.setSettingValueByName("serverPort", "8086");
+        assertThat(config.getSettingValueByName("serverPort"), is("8085"));
+        assertThat(clone.getSettingValueByName("serverPort"), is("8086"));
+        assertThat(clone.getSettingByName("serverPort").orElse(null),
+            not(sameInstance(config.getSettingByName("serverPort").orElse(null))));
+    }
+
+    @Test
+    public void testIndexAfterSettingsChanged() {
+        final ATXConfig config = new ATXConfig();
+        config.getSettingByName("serverPort");
+        config.setSettings(new ArrayList<>(Collections.singletonList(
+            new ATXTextSetting("serverPort", ATXSetting.SettingsGroup.CONNECTION, "9090"))));
+        assertThat(config.getSettingValueByName("serverPort"), is("9090"));
+        assertFalse(config.getSettingByName("serverURL").isPresent());
+
+        config.getSettings().add(new ATXTextSetting("serverURL", ATXSetting.SettingsGroup.CONNECTION, "localhost"));
+        assertThat(config.getSettingValueByGroup("serverURL", ATXSetting.SettingsGroup.CONNECTION), is("localhost"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableSettingsByGroup() {
+        final ATXConfig config = new ATXConfig();
+        config.getSettingsByGroup(ATXSetting.SettingsGroup.CONNECTION).clear();
+    }
+
+    @Test
+    public void testIndependentDefaultConfigs() {
+        final ATXConfig config = new ATXConfig();
+        final ATXConfig otherConfig = new ATXConfig();
+        config.setSettingValueByName("serverPort", "8086");
+        assertThat(otherConfig.getSettingValueByName("serverPort"), is("8085"));
+        assertThat(new ATXConfig().getSettingValueByName("serverPort"), is("8085"));
+        assertThat(config.getSettingByName("serverPort").orElse(null),
+            not(sameInstance(otherConfig.getSettingByName("serverPort").orElse(null))));
+    }
 }
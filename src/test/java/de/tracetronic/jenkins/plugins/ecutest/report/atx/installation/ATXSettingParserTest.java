@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.atx.installation;
+
+import org.junit.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ATXSettingParser}.
+ */
+public class ATXSettingParserTest {
+
+    private static final String CONFIG = "<REPORT-CONFIG><SETTINGS>"
+        + "<!-- Spezielle Einstellungen -->"
+        + "<SETTING name=\"special\" default=\"True\"/>"
+        + "<!-- Unbekannte Einstellungen -->"
+        + "<SETTING name=\"unknown\" default=\"\"/>"
+        + "<!-- Verbindungseinstellungen -->"
+        + "<SETTING name=\"serverURL\" default=\" 127.0.0.1 \">"
+        + "<DESCRIPTION><MULTILANGDATA>"
+        + "<ELEMENT dkey=\"en_US\"><DVALUE>Server\n    URL</DVALUE></ELEMENT>"
+        + "<ELEMENT dkey=\"de_DE\"><DVALUE>Server-URL</DVALUE></ELEMENT>"
+        + "</MULTILANGDATA></DESCRIPTION></SETTING>"
+        + "<SETTING name=\"httpProxy\" default=\"\"/>"
+        + "</SETTINGS></REPORT-CONFIG>";
+
+    @Test
+    public void testParseSettings() throws XMLStreamException {
+        final List<ATXSetting<?>> settings = ATXSettingParser.parseSettings(
+            new ByteArrayInputStream(CONFIG.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, settings.size());
+        final ATXSetting<?> serverUrl = settings.get(0);
+        assertEquals("serverURL", serverUrl.getName());
+        assertEquals(ATXSetting.SettingsGroup.CONNECTION, serverUrl.getGroup());
+        assertEquals("127.0.0.1", serverUrl.getValue());
+        assertEquals("Server URL", serverUrl.getDescEnglish());
+        assertEquals("Server-URL", serverUrl.getDescGerman());
+        assertTrue(settings.get(1).isSecret());
+        assertEquals(ATXSetting.SettingsGroup.SPECIAL, settings.get(2).getGroup());
+        assertTrue(settings.get(2).isCheckbox());
+    }
+
+    @Test
+    public void testParseTemplateConfig() throws XMLStreamException, IOException {
+        try (InputStream configFile = ATXConfig.class.getResourceAsStream("config.xml")) {
+            final List<ATXSetting<?>> settings = ATXSettingParser.parseSettings(configFile);
+            assertFalse(settings.isEmpty());
+            for (final ATXSetting.SettingsGroup group : ATXSetting.SettingsGroup.values()) {
+                assertTrue("Missing settings of group " + group,
+                    settings.stream().anyMatch(setting -> setting.getGroup() == group));
+            }
+        }
+    }
+}
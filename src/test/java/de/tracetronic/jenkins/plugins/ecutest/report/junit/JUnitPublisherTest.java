@@ -32,6 +32,7 @@ public class JUnitPublisherTest {
         final JUnitPublisher publisher = new JUnitPublisher(null);
         publisher.setUnstableThreshold(0);
         publisher.setFailedThreshold(0);
+        publisher.setGenerationMode(null);
         publisher.setAllowMissing(false);
         publisher.setRunOnFailed(false);
         publisher.setArchiving(true);
@@ -75,6 +76,7 @@ public class JUnitPublisherTest {
         assertNotNull(publisher.getToolName());
         assertEquals(0, Double.compare(0, publisher.getUnstableThreshold()));
         assertEquals(0, Double.compare(0, publisher.getFailedThreshold()));
+        assertEquals(JUnitPublisher.GenerationMode.TOOL, publisher.getGenerationMode());
         assertFalse(publisher.isAllowMissing());
         assertFalse(publisher.isRunOnFailed());
         assertTrue(publisher.isArchiving());
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.junit;
+
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.reader.TRFFixture;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.reader.TRFTestCase;
+import de.tracetronic.jenkins.plugins.ecutest.report.trf.reader.TRFVerdict;
+import hudson.tasks.junit.CaseResult;
+import hudson.tasks.junit.SuiteResult;
+import hudson.tasks.junit.TestResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Unit tests for {@link TRFJUnitReportGenerator}.
+ *
+ * <p>
+ * Parity with the UNIT report template of ecu.test can only be verified against UNIT reports that ecu.test generated
+ * from the very same TRF reports. Such report pairs are not kept in the test resources, so the parity test is only
+ * run if the system property {@value #PARITY_DIR_PROPERTY} points to a directory containing one sub-directory per
+ * TRF report with the UNIT report generated by ecu.test in its {@code UNIT} folder.
+ */
+public class TRFJUnitReportGeneratorTest {
+
+    private static final String PARITY_DIR_PROPERTY = "ecutest.unit.parityDir";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testVerdicts() throws Exception {
+        final List<TRFTestCase> testCases = Arrays.asList(
+            new TRFTestCase(1, "TestCase001", TRFVerdict.FAILED, 0.0, 0.195, "Action, UTILITY"),
+            new TRFTestCase(2, "TestCase002", TRFVerdict.SUCCESS, 0.2, 1.158, ""),
+            new TRFTestCase(3, "TestCase003", TRFVerdict.NONE, 0.0, 0.0, ""),
+            new TRFTestCase(4, "TestCase004", TRFVerdict.ERROR, 1.4, 0.1, "Python error"));
+        final File xmlFile = new File(folder.newFolder(JUnitPublisher.UNIT_TEMPLATE_NAME),
+            JUnitPublisher.JUNIT_REPORT_FILE);
+        TRFJUnitReportGenerator.writeReport(testCases.iterator(), xmlFile);
+        final TestResult testResult = parse(xmlFile);
+
+        assertEquals(4, testResult.getTotalCount());
+        assertEquals(1, testResult.getPassCount());
+        assertEquals(2, testResult.getFailCount());
+        assertEquals(1, testResult.getSkipCount());
+
+        final List<SuiteResult> suites = new ArrayList<>(testResult.getSuites());
+        assertEquals(4, suites.size());
+        assertEquals("TestCase001", suites.get(0).getName());
+        assertEquals(0.195, suites.get(0).getDuration(), 1e-6);
+        final CaseResult failedCase = suites.get(0).getCases().get(0);
+        assertEquals("TestCase001", failedCase.getName());
+        assertEquals(0.195, failedCase.getDuration(), 1e-6);
+        assertEquals("FAILED", failedCase.getErrorDetails());
+        assertEquals("FAILED: Action, UTILITY", failedCase.getErrorStackTrace());
+
+        final CaseResult passedCase = suites.get(1).getCases().get(0);
+        assertEquals("TestCase002", passedCase.getName());
+        assertEquals(1.158, passedCase.getDuration(), 1e-6);
+        assertFalse(passedCase.isSkipped());
+        assertNull(passedCase.getErrorDetails());
+
+        final CaseResult skippedCase = suites.get(2).getCases().get(0);
+        assertEquals("TestCase003", skippedCase.getName());
+        assertTrue(skippedCase.isSkipped());
+        assertEquals(0, suites.get(2).getDuration(), 0);
+        assertTrue("Skipped test cases should be counted in tests",
+            new String(Files.readAllBytes(xmlFile.toPath()), StandardCharsets.UTF_8)
+                .contains("name=\"TestCase003\" skipped=\"1\" tests=\"1\""));
+
+        final CaseResult errorCase = suites.get(3).getCases().get(0);
+        assertEquals("ERROR", errorCase.getErrorDetails());
+        assertEquals("ERROR: Python error", errorCase.getErrorStackTrace());
+    }
+
+    @Test
+    public void testMissingVerdicts() throws Exception {
+        final File trfFile = TRFFixture.create(folder.newFile("report.trf"), TRFFixture.PROJECT_REPORT);
+        final File xmlFile = new File(new File(folder.getRoot(), JUnitPublisher.UNIT_TEMPLATE_NAME),
+            JUnitPublisher.JUNIT_REPORT_FILE);
+        try {
+            TRFJUnitReportGenerator.writeReport(trfFile, xmlFile);
+            fail("Expected MissingVerdictException");
+        } catch (final TRFJUnitReportGenerator.MissingVerdictException e) {
+            assertFalse("No UNIT report should be written without verdicts", xmlFile.exists());
+        }
+    }
+
+    @Test
+    public void testParity() throws Exception {
+        final String parityDir = System.getProperty(PARITY_DIR_PROPERTY);
+        assumeTrue(parityDir != null);
+        final File[] reportDirs = new File(parityDir).listFiles(File::isDirectory);
+        assertNotNull(reportDirs);
+        for (final File reportDir : reportDirs) {
+            assertParity(reportDir);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMissingReport() throws Exception {
+        TRFJUnitReportGenerator.writeReport(new File(folder.getRoot(), "missing.trf"),
+            new File(folder.getRoot(), JUnitPublisher.JUNIT_REPORT_FILE));
+    }
+
+    /**
+     * Asserts that the test result generated from the TRF report equals the one generated by ecu.test.
+     *
+     * @param reportDir the test report directory containing the TRF report and the UNIT report of ecu.test
+     * @throws Exception in case of errors
+     */
+    private void assertParity(final File reportDir) throws Exception {
+        final File[] trfFiles = reportDir.listFiles((dir, name) -> name.endsWith(".trf"));
+        assertNotNull(trfFiles);
+        assertEquals("Expected a single TRF report in " + reportDir, 1, trfFiles.length);
+        final TestResult expected = parse(new File(new File(reportDir, JUnitPublisher.UNIT_TEMPLATE_NAME),
+            JUnitPublisher.JUNIT_REPORT_FILE));
+
+        final File trfFile = new File(folder.newFolder(reportDir.getName()), trfFiles[0].getName());
+        Files.copy(trfFiles[0].toPath(), trfFile.toPath());
+        final TestResult actual = generate(trfFile);
+
+        assertEquals(expected.getTotalCount(), actual.getTotalCount());
+        assertEquals(expected.getPassCount(), actual.getPassCount());
+        assertEquals(expected.getFailCount(), actual.getFailCount());
+        assertEquals(expected.getSkipCount(), actual.getSkipCount());
+
+        final List<SuiteResult> expectedSuites = new ArrayList<>(expected.getSuites());
+        final List<SuiteResult> actualSuites = new ArrayList<>(actual.getSuites());
+        assertEquals(expectedSuites.size(), actualSuites.size());
+        for (int i = 0; i < expectedSuites.size(); i++) {
+            assertSuite(expectedSuites.get(i), actualSuites.get(i));
+        }
+    }
+
+    private void assertSuite(final SuiteResult expected, final SuiteResult actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDuration(), actual.getDuration(), 1e-3);
+        assertEquals(expected.getCases().size(), actual.getCases().size());
+        for (int i = 0; i < expected.getCases().size(); i++) {
+            final CaseResult expectedCase = expected.getCases().get(i);
+            final CaseResult actualCase = actual.getCases().get(i);
+            assertEquals(expectedCase.getName(), actualCase.getName());
+            assertEquals(expectedCase.getDuration(), actualCase.getDuration(), 1e-3);
+            assertEquals(expectedCase.isSkipped(), actualCase.isSkipped());
+            assertEquals(expectedCase.getErrorDetails(), actualCase.getErrorDetails());
+            assertEquals(expectedCase.getErrorStackTrace(), actualCase.getErrorStackTrace());
+        }
+    }
+
+    private TestResult generate(final File trfFile) throws Exception {
+        final File xmlFile = new File(new File(trfFile.getParentFile(), JUnitPublisher.UNIT_TEMPLATE_NAME),
+            JUnitPublisher.JUNIT_REPORT_FILE);
+        TRFJUnitReportGenerator.writeReport(trfFile, xmlFile);
+        return parse(xmlFile);
+    }
+
+    private TestResult parse(final File xmlFile) throws Exception {
+        final TestResult testResult = new TestResult(false);
+        testResult.parse(xmlFile, null);
+        testResult.tally();
+        return testResult;
+    }
+}
@@ -8,24 +8,36 @@ package de.tracetronic.jenkins.plugins.ecutest.report.log;
 import de.tracetronic.jenkins.plugins.ecutest.report.junit.JUnitTestResultParser;
 import de.tracetronic.jenkins.plugins.ecutest.report.log.ETLogAnnotation.Severity;
 import hudson.FilePath;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Integration tests for {@link JUnitTestResultParser}.
  */
 public class ETLogParserTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testMissingLog() throws Exception {
         final List<ETLogAnnotation> annotations = parseResults("");
@@ -78,6 +90,169 @@ public class ETLogParserTest {
         assertEquals(2, warningLogCount);
     }
 
+    @Test
+    public void testSinglePass() throws Exception {
+        final ETLogParser.ParseResult result = getLogParser("ECU_TEST_ERR.log").parseLog();
+        assertEquals(2, result.getAnnotations().size());
+        assertEquals(0, result.getWarningCount());
+        assertEquals(2, result.getErrorCount());
+    }
+
+    @Test
+    public void testMissingLogResult() throws Exception {
+        final ETLogParser.ParseResult result = getLogParser("").parseLog();
+        assertEquals(0, result.getAnnotations().size());
+        assertEquals(0, result.getWarningCount());
+        assertEquals(0, result.getErrorCount());
+    }
+
+    @Test
+    public void testCappedAnnotationsWithExactCounts() throws Exception {
+        final int maxLogCount = AbstractETLogAction.getMaxLogSize();
+        final StringBuilder log = new StringBuilder("LOG: ECU_TEST_OUT.log\n\n");
+        for (int i = 0; i < maxLogCount * 3; i++) {
+            log.append("2015-09-01 18:00:00.000 7416 MainThread WARNING:\n")
+                .append("                        Warning message ").append(i).append('\n')
+                .append("2015-09-01 18:00:00.000 7416 MainThread ERROR:\n")
+                .append("                        Error message ").append(i).append('\n')
+                .append("                        continued\n\n");
+        }
+        final File logFile = folder.newFile("ECU_TEST_OUT.log");
+        Files.write(logFile.toPath(), log.toString().getBytes(StandardCharsets.UTF_8));
+
+        final ETLogParser.ParseResult result = new ETLogParser(new FilePath(logFile)).parseLog();
+        assertEquals(maxLogCount * 2, result.getAnnotations().size());
+        assertEquals(maxLogCount * 3, result.getWarningCount());
+        assertEquals(maxLogCount * 3, result.getErrorCount());
+
+        final ETLogAnnotation error = result.getAnnotations().get(1);
+        assertThat(error.getLineNumber(), is(5));
+        assertThat(error.getSeverity(), is(Severity.ERROR));
+        assertThat(error.getMessage(), is("Error message 0\ncontinued\n"));
+    }
+
+    @Test
+    public void testByteOffsets() throws Exception {
+        final String header = "2015-09-01 18:00:00.000 7416 MainThread ERROR:";
+        final String log = "LOG: Ung\u00fcltig\r\n\r\n" + header + "\r\n    Fehler \u00e4\u00f6\u00fc\r\n"
+            + header + "\r\n";
+        final File logFile = folder.newFile("ECU_TEST_ERR.log");
+        final byte[] bytes = log.getBytes(StandardCharsets.UTF_8);
+        Files.write(logFile.toPath(), bytes);
+
+        final ETLogParser.ParseResult result = new ETLogParser(new FilePath(logFile)).parseLog();
+        assertEquals(bytes.length, result.getLength());
+        assertEquals(2, result.getAnnotations().size());
+        for (final ETLogAnnotation annotation : result.getAnnotations()) {
+            final String line = new String(bytes, (int) annotation.getOffset(), header.length(),
+                StandardCharsets.UTF_8);
+            assertEquals(header, line);
+        }
+        assertThat(result.getAnnotations().get(0).getMessage(), is("Fehler \u00e4\u00f6\u00fc\n"));
+        assertThat(result.getAnnotations().get(1).getLineNumber(), is(5));
+    }
+
+    @Test
+    public void testParseLogs() throws Exception {
+        final URL url = this.getClass().getResource("ECU_TEST_ERR.log");
+        final File subDir = folder.newFolder("Report", "Sub");
+        Files.copy(new File(url.getFile()).toPath(), new File(folder.getRoot(), "Report/ECU_TEST_ERR.log").toPath());
+        Files.copy(new File(url.getFile()).toPath(), new File(subDir, "ECU_TEST_ERR.log").toPath());
+
+        final Map<String, ETLogParser.ParseResult> results = ETLogParser.parseLogs(
+            new FilePath(folder.getRoot()).child("Report"), "**/ECU_TEST_ERR.log");
+        assertEquals(2, results.size());
+        assertEquals(2, results.get("ECU_TEST_ERR.log").getErrorCount());
+        assertEquals(2, results.get("Sub/ECU_TEST_ERR.log").getAnnotations().size());
+    }
+
+    @Test
+    public void testFollowMissingLog() throws Exception {
+        final ETLogParser parser = new ETLogParser(new FilePath(new File(folder.getRoot(), "ECU_TEST_OUT.log")));
+        assertNull(parser.follow(null));
+    }
+
+    @Test
+    public void testResumeAtEverySplit() throws Exception {
+        final byte[] bytes = createFollowLog().getBytes(StandardCharsets.UTF_8);
+        final File logFile = folder.newFile("ECU_TEST_ERR.log");
+        final ETLogParser parser = new ETLogParser(new FilePath(logFile));
+        Files.write(logFile.toPath(), bytes);
+        final ETLogParser.ParseResult expected = parser.parseLog();
+        assertEquals(2, expected.getErrorCount());
+
+        for (int split = 0; split <= bytes.length; split++) {
+            Files.write(logFile.toPath(), Arrays.copyOf(bytes, split));
+            final ETLogCheckpoint checkpoint = parser.follow(null);
+            Files.write(logFile.toPath(), bytes);
+            assertResult("Split at " + split, expected, parser.parseLog(checkpoint));
+        }
+    }
+
+    @Test
+    public void testFollowIncrementally() throws Exception {
+        final byte[] bytes = createFollowLog().getBytes(StandardCharsets.UTF_8);
+        final File logFile = folder.newFile("ECU_TEST_ERR.log");
+        final ETLogParser parser = new ETLogParser(new FilePath(logFile));
+
+        ETLogCheckpoint checkpoint = null;
+        for (int offset = 0; offset < bytes.length; offset += 7) {
+            Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, offset, Math.min(offset + 7, bytes.length)),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            checkpoint = parser.follow(checkpoint);
+            assertTrue(checkpoint.getErrorCount() <= 2);
+        }
+        assertEquals(1, checkpoint.getWarningCount());
+        assertEquals(1, checkpoint.getErrorCount());
+        assertEquals(2, checkpoint.getAnnotations().size());
+        assertResult("Incremental", parser.parseLog(), parser.parseLog(checkpoint));
+    }
+
+    @Test
+    public void testFollowRotatedLog() throws Exception {
+        final String header = "2015-09-01 18:00:00.000 7416 MainThread ERROR:\n";
+        final File logFile = folder.newFile("ECU_TEST_ERR.log");
+        final ETLogParser parser = new ETLogParser(new FilePath(logFile));
+        Files.write(logFile.toPath(),
+            ("LOG: first\n\n" + header + "    First\nEND\n").getBytes(StandardCharsets.UTF_8));
+        final ETLogCheckpoint checkpoint = parser.follow(null);
+        assertEquals(1, checkpoint.getErrorCount());
+
+        // Recreated log file with the same size, but different content
+        Files.write(logFile.toPath(),
+            ("LOG: other\n\n" + header + "    Other\nEND\n").getBytes(StandardCharsets.UTF_8));
+        final ETLogParser.ParseResult rotated = parser.parseLog(checkpoint);
+        assertEquals(1, rotated.getErrorCount());
+        assertThat(rotated.getAnnotations().get(0).getMessage(), is("Other\n"));
+
+        // Truncated log file
+        Files.write(logFile.toPath(), "LOG: empty\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(0, parser.parseLog(checkpoint).getErrorCount());
+    }
+
+    private static String createFollowLog() {
+        final String error = "2015-09-01 18:00:00.000 7416 MainThread ERROR:";
+        final String warning = "2015-09-01 18:00:00.000 7416 MainThread WARNING:";
+        return "LOG: Ung\u00fcltig\r\n\r\n" + warning + "\r\n    Warnung\r\n\r\n" + error
+            + "\n    Fehler \u00e4\u00f6\u00fc\r    continued\r\n\r" + error + "\r\n    Last";
+    }
+
+    private static void assertResult(final String message, final ETLogParser.ParseResult expected,
+                                     final ETLogParser.ParseResult actual) {
+        assertEquals(message, expected.getLength(), actual.getLength());
+        assertEquals(message, expected.getWarningCount(), actual.getWarningCount());
+        assertEquals(message, expected.getErrorCount(), actual.getErrorCount());
+        assertEquals(message, expected.getAnnotations().size(), actual.getAnnotations().size());
+        for (int i = 0; i < expected.getAnnotations().size(); i++) {
+            final ETLogAnnotation expectedAnnotation = expected.getAnnotations().get(i);
+            final ETLogAnnotation actualAnnotation = actual.getAnnotations().get(i);
+            assertEquals(message, expectedAnnotation.getLineNumber(), actualAnnotation.getLineNumber());
+            assertEquals(message, expectedAnnotation.getOffset(), actualAnnotation.getOffset());
+            assertEquals(message, expectedAnnotation.getSeverity(), actualAnnotation.getSeverity());
+            assertEquals(message, expectedAnnotation.getMessage(), actualAnnotation.getMessage());
+        }
+    }
+
     private ETLogParser getLogParser(final String fileName) {
         final URL url = this.getClass().getResource(fileName);
         final FilePath logFile = new FilePath(new File(url.getFile()));
@@ -32,6 +32,10 @@ import java.net.URL;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Integration tests for {@link ETLogPublisher}.
@@ -68,7 +72,7 @@ public class ETLogPublisherIT extends IntegrationTestBase {
 
         final ETLogPublisher after = jenkins.configRoundtrip(before);
         jenkins.assertEqualBeans(before, after,
-            "unstableOnWarning,failedOnError,testSpecific,allowMissing,runOnFailed,archiving,keepAll");
+            "unstableOnWarning,failedOnError,testSpecific,compressArchive,allowMissing,runOnFailed,archiving,keepAll");
     }
 
     @Test
@@ -78,6 +82,7 @@ public class ETLogPublisherIT extends IntegrationTestBase {
         publisher.setUnstableOnWarning(true);
         publisher.setFailedOnError(true);
         publisher.setTestSpecific(true);
+        publisher.setCompressArchive(true);
         publisher.setAllowMissing(true);
         publisher.setRunOnFailed(true);
         publisher.setArchiving(true);
@@ -90,6 +95,7 @@ public class ETLogPublisherIT extends IntegrationTestBase {
         jenkins.assertXPath(page, "//input[@name='_.unstableOnWarning' and @checked='true']");
         jenkins.assertXPath(page, "//input[@name='_.failedOnError' and @checked='true']");
         jenkins.assertXPath(page, "//input[@name='_.testSpecific' and @checked='true']");
+        jenkins.assertXPath(page, "//input[@name='_.compressArchive' and @checked='true']");
         jenkins.assertXPath(page, "//input[@name='_.allowMissing' and @checked='true']");
         jenkins.assertXPath(page, "//input[@name='_.runOnFailed' and @checked='true']");
         jenkins.assertXPath(page, "//input[@name='_.archiving']");
@@ -159,6 +165,33 @@ public class ETLogPublisherIT extends IntegrationTestBase {
         jenkins.assertBuildStatus(Result.FAILURE, build);
     }
 
+    @Test
+    public void testCompressArchive() throws Exception {
+        final FreeStyleProject project = jenkins.createFreeStyleProject();
+        final URL url = this.getClass().getResource("ECU_TEST_ERR.log");
+        final FilePath logFile = new FilePath(new File(url.getFile()));
+        project.setCustomWorkspace(logFile.getParent().getRemote());
+
+        final ETLogPublisher publisher = new ETLogPublisher();
+        publisher.setFailedOnError(true);
+        publisher.setCompressArchive(true);
+        project.getPublishersList().add(publisher);
+
+        final FreeStyleBuild build = project.scheduleBuild2(0).get();
+        jenkins.assertBuildStatus(Result.FAILURE, build);
+        final File archiveDir = new File(build.getRootDir(), ETLogPublisher.URL_NAME);
+        assertTrue("Compressed log file should be archived", new File(archiveDir, "ECU_TEST_ERR.log.gz").exists());
+        assertFalse("Plain log file should not be archived", new File(archiveDir, "ECU_TEST_ERR.log").exists());
+
+        final ETLogBuildAction action = build.getAction(ETLogBuildAction.class);
+        assertNotNull(action);
+        final ETLogReport report = action.getLogReports().stream()
+            .filter(r -> "ECU_TEST_ERR.log".equals(r.getFileName())).findFirst().orElse(null);
+        assertNotNull("Report should refer to the uncompressed file name", report);
+        assertEquals(2, report.getErrorLogCount());
+        assertEquals(logFile.length(), report.getFileSize());
+    }
+
     @Test
     public void testPipelineStep() throws Exception {
         assertPipelineStep("classicStep.groovy", true);
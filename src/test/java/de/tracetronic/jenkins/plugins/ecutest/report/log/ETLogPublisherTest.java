@@ -65,6 +65,7 @@ public class ETLogPublisherTest {
         assertFalse(publisher.isUnstableOnWarning());
         assertFalse(publisher.isFailedOnError());
         assertFalse(publisher.isTestSpecific());
+        assertFalse(publisher.isCompressArchive());
         assertFalse(publisher.isAllowMissing());
         assertFalse(publisher.isRunOnFailed());
         assertTrue(publisher.isArchiving());
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf.reader;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Creates TRF fixtures from SQL scripts, because binary TRF reports are not kept in the test resources.
+ */
+public final class TRFFixture {
+
+    /**
+     * Defines the package report fixture containing the failed package "TestCase001".
+     */
+    public static final String PACKAGE_REPORT = "PackageReport.sql";
+
+    /**
+     * Defines the project report fixture "TestProject" containing three packages.
+     */
+    public static final String PROJECT_REPORT = "ProjectReport.sql";
+
+    /**
+     * Defines the invalid report fixture without project.
+     */
+    public static final String NO_PROJECT_REPORT = "NoProjectReport.sql";
+
+    /**
+     * Defines the TRF schema containing the tables and columns known from reports written by ecu.test.
+     */
+    public static final String SCHEMA = "TRFSchema.sql";
+
+    /**
+     * Instantiates a new {@link TRFFixture}.
+     */
+    private TRFFixture() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Creates a TRF report from the schema and given fixture script.
+     *
+     * @param trfFile the TRF file to create
+     * @param fixture the fixture script name
+     * @return the created TRF file
+     * @throws Exception in case the TRF report cannot be created
+     */
+    public static File create(final File trfFile, final String fixture) throws Exception {
+        Class.forName("org.sqlite.JDBC");
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + trfFile.getAbsolutePath());
+             Statement statement = connection.createStatement()) {
+            execute(statement, SCHEMA);
+            execute(statement, fixture);
+        }
+        return trfFile;
+    }
+
+    private static void execute(final Statement statement, final String script) throws IOException, SQLException {
+        try (InputStream in = TRFFixture.class.getResourceAsStream(script)) {
+            if (in == null) {
+                throw new IOException("Missing fixture " + script);
+            }
+            for (final String sql : IOUtils.toString(in, StandardCharsets.UTF_8).split(";")) {
+                final String trimmed = sql.replaceAll("(?m)^--.*$", "").trim();
+                if (!trimmed.isEmpty()) {
+                    statement.executeUpdate(trimmed);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.report.trf.reader;
+
+import de.tracetronic.jenkins.plugins.ecutest.env.TestEnvInvisibleAction.TestType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link TRFReader}.
+ */
+public class TRFReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(expected = IOException.class)
+    public void testMissingReport() throws Exception {
+        new TRFReader(new File(folder.getRoot(), "missing.trf")).close();
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidReport() throws Exception {
+        final File trfFile = folder.newFile("invalid.trf");
+        try (TRFReader reader = new TRFReader(trfFile)) {
+            reader.getReportInfo();
+        }
+    }
+
+    @Test
+    public void testPackageReportInfo() throws Exception {
+        try (TRFReader reader = new TRFReader(createReport(TRFFixture.PACKAGE_REPORT))) {
+            final TRFReportInfo info = reader.getReportInfo();
+
+            assertEquals("TestCase001", info.getName());
+            assertEquals(TestType.PACKAGE, info.getTestType());
+            assertEquals(195L, info.getDuration());
+            assertEquals(info.getExecutionTime() + 195L, info.getEndTime());
+            assertSame("Report info should be read once", info, reader.getReportInfo());
+        }
+    }
+
+    @Test
+    public void testProjectReportInfo() throws Exception {
+        try (TRFReader reader = new TRFReader(createReport(TRFFixture.PROJECT_REPORT))) {
+            final TRFReportInfo info = reader.getReportInfo();
+
+            assertEquals("TestProject", info.getName());
+            assertEquals(TestType.PROJECT, info.getTestType());
+            assertEquals(1500L, info.getDuration());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMissingProject() throws Exception {
+        try (TRFReader reader = new TRFReader(createReport(TRFFixture.NO_PROJECT_REPORT))) {
+            reader.getReportInfo();
+        }
+    }
+
+    @Test
+    public void testTestCases() throws Exception {
+        final List<TRFTestCase> testCases = new ArrayList<>();
+        try (TRFReader reader = new TRFReader(createReport(TRFFixture.PROJECT_REPORT));
+             TRFCursor<TRFTestCase> cursor = reader.getTestCases()) {
+            cursor.forEach(testCases::add);
+        }
+
+        assertEquals(3, testCases.size());
+        assertEquals("TestCase001", testCases.get(0).getName());
+        assertEquals("TestCase002", testCases.get(1).getName());
+        assertEquals("TestCase003", testCases.get(2).getName());
+        for (final TRFTestCase testCase : testCases) {
+            assertEquals(TRFVerdict.NONE, testCase.getVerdict());
+        }
+    }
+
+    @Test
+    public void testCachedStatementsAreReusable() throws Exception {
+        try (TRFReader reader = new TRFReader(createReport(TRFFixture.PROJECT_REPORT))) {
+            for (int i = 0; i < 3; i++) {
+                int count = 0;
+                try (TRFCursor<TRFTestCase> cursor = reader.getTestCases()) {
+                    while (cursor.hasNext()) {
+                        assertTrue(cursor.hasNext());
+                        cursor.next();
+                        count++;
+                    }
+                }
+                assertEquals(3, count);
+            }
+        }
+    }
+
+    @Test
+    public void testVerdictParsing() {
+        assertEquals(TRFVerdict.SUCCESS, TRFVerdict.parse("success"));
+        assertEquals(TRFVerdict.NONE, TRFVerdict.parse(null));
+        assertEquals(TRFVerdict.NONE, TRFVerdict.parse("unknown"));
+        assertEquals(TRFVerdict.ERROR, TRFVerdict.FAILED.worst(TRFVerdict.ERROR));
+        assertEquals(TRFVerdict.FAILED, TRFVerdict.FAILED.worst(TRFVerdict.SUCCESS));
+    }
+
+    private File createReport(final String fixture) throws Exception {
+        return TRFFixture.create(new File(folder.getRoot(), "report.trf"), fixture);
+    }
+}
@@ -62,6 +62,8 @@ public class TestFolderBuilderTest {
         assertFalse(builder.isRecursiveScan());
         assertEquals(TestFolderBuilder.DEFAULT_SCANMODE, builder.getScanMode());
         assertTrue(builder.isFailFast());
+        assertEquals(1, builder.getParallelism());
+        assertTrue(builder.getInstances().isEmpty());
         assertNotNull(builder.getTestConfig().getTbcFile());
         assertTrue(builder.getTestConfig().getTbcFile().isEmpty());
         assertNotNull(builder.getTestConfig().getTcfFile());
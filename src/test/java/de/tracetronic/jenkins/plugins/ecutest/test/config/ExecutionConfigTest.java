@@ -26,6 +26,15 @@ public class ExecutionConfigTest {
         assertTrue(config.isStopOnError());
         assertTrue(config.isCheckTestFile());
         assertFalse(config.isRecordWarnings());
+        assertThat(config.getMaxLogErrors(), is(0));
+    }
+
+    @Test
+    public void testMaxLogErrors() {
+        final ExecutionConfig config = new ExecutionConfig("60", true, true, false, 5);
+        assertThat(config.getMaxLogErrors(), is(5));
+        assertThat(config.expand(new EnvVars()).getMaxLogErrors(), is(5));
+        assertThat(new ExecutionConfig("60", true, true, false, -1).getMaxLogErrors(), is(0));
     }
 
     @Test
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.parallel;
+
+import de.tracetronic.jenkins.plugins.ecutest.test.parallel.WorkStealingScheduler.Outcome;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComDispatcher;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.ETComException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link WorkStealingScheduler} using simulated test instances.
+ */
+public class WorkStealingSchedulerTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidShardCount() {
+        new WorkStealingScheduler<String>(0, true);
+    }
+
+    @Test
+    public void testEmptyItems() throws Exception {
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(2, true);
+        assertTrue(scheduler.schedule(Collections.emptyList(), item -> 0L, (shard, item) -> Outcome.PASSED)
+            .isEmpty());
+    }
+
+    @Test
+    public void testAllItemsExecutedOnce() throws Exception {
+        final List<String> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add("test" + i + ".pkg");
+        }
+        final Map<String, Integer> executions = new ConcurrentHashMap<>();
+        final Map<Integer, Integer> shardUsage = new ConcurrentHashMap<>();
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(3, true);
+        final List<Outcome> outcomes = scheduler.schedule(items, item -> 0L, (shard, item) -> {
+            executions.merge(item, 1, Integer::sum);
+            shardUsage.merge(shard, 1, Integer::sum);
+            TimeUnit.MILLISECONDS.sleep(5L);
+            return Outcome.PASSED;
+        });
+        assertEquals(items.size(), outcomes.size());
+        assertTrue(outcomes.stream().allMatch(outcome -> outcome == Outcome.PASSED));
+        assertEquals(items.size(), executions.size());
+        assertTrue(executions.values().stream().allMatch(count -> count == 1));
+        assertEquals("All simulated instances should be used", 3, shardUsage.size());
+    }
+
+    @Test
+    public void testLongestExpectedFirst() throws Exception {
+        final Map<String, Long> durations = new HashMap<>();
+        durations.put("short.pkg", 10L);
+        durations.put("long.pkg", 1000L);
+        durations.put("medium.pkg", 100L);
+        final List<String> started = Collections.synchronizedList(new ArrayList<>());
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(1, true);
+        scheduler.schedule(Arrays.asList("short.pkg", "long.pkg", "medium.pkg"), durations::get,
+            (shard, item) -> {
+                started.add(item);
+                return Outcome.PASSED;
+            });
+        assertEquals(Arrays.asList("long.pkg", "medium.pkg", "short.pkg"), started);
+    }
+
+    @Test
+    public void testStableOrderWithoutHistory() throws Exception {
+        final List<String> items = Arrays.asList("a.pkg", "b.pkg", "c.pkg", "d.prj");
+        final List<String> started = Collections.synchronizedList(new ArrayList<>());
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(1, true);
+        scheduler.schedule(items, item -> 0L, (shard, item) -> {
+            started.add(item);
+            return Outcome.PASSED;
+        });
+        assertEquals(items, started);
+    }
+
+    @Test
+    public void testWorkStealing() throws Exception {
+        // Expected durations are wrong: the first shard gets blocked by one slow test, the other shard
+        // has to steal the remaining work of it
+        final List<String> items = Arrays.asList("slow.pkg", "a.pkg", "b.pkg", "c.pkg", "d.pkg", "e.pkg");
+        final Map<Integer, List<String>> executed = new ConcurrentHashMap<>();
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(2, true);
+        scheduler.schedule(items, item -> 10L, (shard, item) -> {
+            executed.computeIfAbsent(shard, k -> Collections.synchronizedList(new ArrayList<>())).add(item);
+            TimeUnit.MILLISECONDS.sleep("slow.pkg".equals(item) ? 500L : 10L);
+            return Outcome.PASSED;
+        });
+        final int slowShard = executed.get(0).contains("slow.pkg") ? 0 : 1;
+        assertEquals("Shard blocked by slow test should not execute others", 1, executed.get(slowShard).size());
+        assertEquals(items.size() - 1, executed.get(1 - slowShard).size());
+    }
+
+    @Test
+    public void testShardsProgressConcurrently() throws Exception {
+        // Each shard performs its COM requests on its own ecu.test instance, so both requests have to be in progress
+        // at the same time to pass the barrier
+        final List<String> progIds = Arrays.asList("ecu.test.Application.Shard1", "ecu.test.Application.Shard2");
+        final CyclicBarrier barrier = new CyclicBarrier(progIds.size());
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(progIds.size(), true);
+        final List<Outcome> outcomes = scheduler.schedule(Arrays.asList("a.pkg", "b.pkg"), item -> 1L,
+            (shard, item) -> {
+                try {
+                    return ETComDispatcher.getInstance(progIds.get(shard)).invoke(() -> {
+                        barrier.await(5L, TimeUnit.SECONDS);
+                        return Outcome.PASSED;
+                    }, 10);
+                } catch (final ETComException e) {
+                    return Outcome.FAILED;
+                }
+            });
+        assertEquals(Arrays.asList(Outcome.PASSED, Outcome.PASSED), outcomes);
+    }
+
+    @Test
+    public void testFailFastStopsAllShards() throws Exception {
+        final List<String> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add("test" + i + ".pkg");
+        }
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(2, true);
+        final List<Outcome> outcomes = scheduler.schedule(items, item -> 0L, (shard, item) -> {
+            TimeUnit.MILLISECONDS.sleep(20L);
+            return "test0.pkg".equals(item) ? Outcome.FAILED : Outcome.PASSED;
+        });
+        assertEquals(Outcome.FAILED, outcomes.get(0));
+        assertTrue("Remaining tests should be skipped", outcomes.contains(Outcome.SKIPPED));
+    }
+
+    @Test
+    public void testContinueWithoutFailFast() throws Exception {
+        final List<String> items = Arrays.asList("a.pkg", "b.pkg", "c.pkg", "d.pkg");
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(2, false);
+        final List<Outcome> outcomes = scheduler.schedule(items, item -> 0L,
+            (shard, item) -> "a.pkg".equals(item) ? Outcome.FAILED : Outcome.PASSED);
+        assertEquals(Arrays.asList(Outcome.FAILED, Outcome.PASSED, Outcome.PASSED, Outcome.PASSED), outcomes);
+    }
+
+    @Test
+    public void testAbortStopsAllShards() throws Exception {
+        final List<String> items = Arrays.asList("a.pkg", "b.pkg", "c.pkg", "d.pkg", "e.pkg", "f.pkg");
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(2, false);
+        final List<Outcome> outcomes = scheduler.schedule(items, item -> 0L, (shard, item) -> {
+            TimeUnit.MILLISECONDS.sleep(20L);
+            return "a.pkg".equals(item) ? Outcome.ABORTED : Outcome.PASSED;
+        });
+        assertEquals(Outcome.ABORTED, outcomes.get(0));
+        assertTrue(outcomes.contains(Outcome.SKIPPED));
+    }
+
+    @Test
+    public void testInterruptJoinsShards() throws Exception {
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(2, false);
+        final CountDownLatch started = new CountDownLatch(2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final AtomicInteger runningOnReturn = new AtomicInteger(-1);
+        final Thread caller = new Thread(() -> {
+            try {
+                scheduler.schedule(Arrays.asList("a.pkg", "b.pkg"), item -> 0L, (shard, item) -> {
+                    running.incrementAndGet();
+                    started.countDown();
+                    try {
+                        TimeUnit.MINUTES.sleep(1L);
+                    } catch (final InterruptedException e) {
+                        // Simulate the cleanup of an aborted test
+                        TimeUnit.MILLISECONDS.sleep(200L);
+                        throw e;
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                    return Outcome.PASSED;
+                });
+            } catch (final IOException | InterruptedException e) {
+                interrupted.set(e instanceof InterruptedException);
+                runningOnReturn.set(running.get());
+            }
+        });
+        caller.start();
+        assertTrue(started.await(5L, TimeUnit.SECONDS));
+        caller.interrupt();
+        caller.join(5000L);
+        assertTrue(interrupted.get());
+        assertEquals("Shards should be joined before returning", 0, runningOnReturn.get());
+    }
+
+    @Test(expected = IOException.class)
+    public void testExceptionPropagation() throws Exception {
+        final WorkStealingScheduler<String> scheduler = new WorkStealingScheduler<>(2, false);
+        scheduler.schedule(Arrays.asList("a.pkg", "b.pkg"), item -> 0L, (shard, item) -> {
+            throw new IOException("Agent channel closed");
+        });
+    }
+}
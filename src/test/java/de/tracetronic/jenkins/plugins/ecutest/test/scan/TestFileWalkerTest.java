@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.test.scan;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link TestFileWalker} and {@link TestFileIndex}.
+ */
+public class TestFileWalkerTest {
+
+    private static final List<String> EXTENSIONS = Arrays.asList(TestFileWalker.PACKAGE_EXTENSION,
+        TestFileWalker.PROJECT_EXTENSION);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSinglePass() throws IOException {
+        final Path root = createTestFolder();
+        final TestFileWalker walker = new TestFileWalker(root, true, new TestFileIndex(null), 4);
+        final Map<String, List<String>> result = walker.walk(EXTENSIONS);
+        assertEquals(Arrays.asList(path(root, "a.pkg"), path(root, "sub/b.pkg"), path(root, "sub/deep/c.pkg")),
+            result.get(TestFileWalker.PACKAGE_EXTENSION));
+        assertEquals(Arrays.asList(path(root, "sub/d.prj")), result.get(TestFileWalker.PROJECT_EXTENSION));
+        assertEquals(3, walker.getListedCount());
+    }
+
+    @Test
+    public void testNonRecursive() throws IOException {
+        final Path root = createTestFolder();
+        final TestFileWalker walker = new TestFileWalker(root, false, new TestFileIndex(null), 4);
+        final Map<String, List<String>> result = walker.walk(EXTENSIONS);
+        assertEquals(Arrays.asList(path(root, "a.pkg")), result.get(TestFileWalker.PACKAGE_EXTENSION));
+        assertTrue(result.get(TestFileWalker.PROJECT_EXTENSION).isEmpty());
+        assertEquals(1, walker.getListedCount());
+    }
+
+    @Test
+    public void testDefaultExcludes() throws IOException {
+        final Path root = createTestFolder();
+        Files.createDirectories(root.resolve(".git"));
+        Files.createFile(root.resolve(".git/e.pkg"));
+        Files.createFile(root.resolve("._a.pkg"));
+        final TestFileWalker walker = new TestFileWalker(root, true, new TestFileIndex(null), 1);
+        assertEquals(3, walker.walk(EXTENSIONS).get(TestFileWalker.PACKAGE_EXTENSION).size());
+    }
+
+    @Test
+    public void testIncrementalScan() throws IOException {
+        final Path root = createTestFolder();
+        final File indexFile = new File(folder.newFolder(), "test.idx");
+        setPastModificationTimes(root);
+
+        final TestFileWalker walker = new TestFileWalker(root, true, TestFileIndex.load(indexFile), 4);
+        walker.walk(EXTENSIONS);
+        assertEquals(3, walker.getListedCount());
+        walker.walk(EXTENSIONS);
+        assertEquals("Unchanged directories should not be listed again", 0, walker.getListedCount());
+        assertEquals(3, walker.getReusedCount());
+
+        // Persisted index is reused by a new walker
+        final TestFileIndex index = TestFileIndex.load(indexFile);
+        assertEquals(0, index.size());
+        final TestFileWalker persisted = new TestFileWalker(root, true, index, 4);
+        persisted.walk(EXTENSIONS);
+        index.save();
+        final TestFileIndex reloaded = TestFileIndex.load(indexFile);
+        assertEquals(3, reloaded.size());
+        final TestFileWalker incremental = new TestFileWalker(root, true, reloaded, 4);
+        Files.createFile(root.resolve("sub/deep/e.pkg"));
+        final Map<String, List<String>> result = incremental.walk(EXTENSIONS);
+        assertEquals("Only the changed directory should be listed", 1, incremental.getListedCount());
+        assertEquals(4, result.get(TestFileWalker.PACKAGE_EXTENSION).size());
+        assertTrue(result.get(TestFileWalker.PACKAGE_EXTENSION).contains(path(root, "sub/deep/e.pkg")));
+    }
+
+    @Test
+    public void testDeletedDirectory() throws IOException {
+        final Path root = createTestFolder();
+        setPastModificationTimes(root);
+        final TestFileIndex index = new TestFileIndex(null);
+        new TestFileWalker(root, true, index, 4).walk(EXTENSIONS);
+        assertEquals(3, index.size());
+
+        Files.delete(root.resolve("sub/deep/c.pkg"));
+        Files.delete(root.resolve("sub/deep"));
+        final Map<String, List<String>> result = new TestFileWalker(root, true, index, 4).walk(EXTENSIONS);
+        assertEquals(2, result.get(TestFileWalker.PACKAGE_EXTENSION).size());
+        assertEquals("Deleted directory should be removed from index", 2, index.size());
+    }
+
+    @Test
+    public void testNonRecursiveKeepsSubDirectories() throws IOException {
+        final Path root = createTestFolder();
+        setPastModificationTimes(root);
+        final TestFileIndex index = new TestFileIndex(null);
+        new TestFileWalker(root, false, index, 1).walk(EXTENSIONS);
+        final TestFileWalker walker = new TestFileWalker(root, true, index, 1);
+        final Map<String, List<String>> result = walker.walk(EXTENSIONS);
+        assertEquals(3, result.get(TestFileWalker.PACKAGE_EXTENSION).size());
+        assertEquals(1, walker.getReusedCount());
+    }
+
+    @Test
+    public void testInvalidIndexFile() throws IOException {
+        final File indexFile = folder.newFile("invalid.idx");
+        Files.write(indexFile.toPath(), new byte[]{1, 2, 3});
+        assertEquals(0, TestFileIndex.load(indexFile).size());
+    }
+
+    @Test(expected = IOException.class)
+    public void testMissingTestFolder() throws IOException {
+        final Path root = folder.getRoot().toPath().resolve("missing");
+        new TestFileWalker(root, true, new TestFileIndex(null), 1).walk(EXTENSIONS);
+    }
+
+    /**
+     * Creates a test folder with packages and projects in nested directories.
+     *
+     * @return the test folder
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private Path createTestFolder() throws IOException {
+        final Path root = folder.newFolder("tests").toPath();
+        Files.createDirectories(root.resolve("sub/deep"));
+        Files.createFile(root.resolve("a.pkg"));
+        Files.createFile(root.resolve("readme.txt"));
+        Files.createFile(root.resolve("sub/b.pkg"));
+        Files.createFile(root.resolve("sub/d.prj"));
+        Files.createFile(root.resolve("sub/deep/c.pkg"));
+        return root;
+    }
+
+    /**
+     * Moves the modification times of all directories into the past, so that they are trusted by the index.
+     *
+     * @param root the test folder
+     * @throws IOException signals that an I/O exception has occurred
+     */
+    private static void setPastModificationTimes(final Path root) throws IOException {
+        final FileTime past = FileTime.fromMillis(System.currentTimeMillis() - 60_000L);
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (final Path path : (Iterable<Path>) paths::iterator) {
+                if (Files.isDirectory(path)) {
+                    Files.setLastModifiedTime(path, past);
+                }
+            }
+        }
+    }
+
+    private static String path(final Path root, final String relativePath) {
+        return root.toAbsolutePath().normalize().resolve(relativePath).toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.tool.client;
+
+import de.tracetronic.jenkins.plugins.ecutest.util.ProcessUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ToolInfo}.
+ */
+public class ToolInfoTest {
+
+    @Test
+    public void testNullValues() {
+        final ToolInfo toolInfo = new ToolInfo(null, Collections.emptyList(), Collections.emptyMap(), null, null);
+        assertEquals("", toolInfo.getVersion());
+        assertEquals("", toolInfo.getLastTbc());
+        assertEquals("", toolInfo.getLastTcf());
+        assertNull(toolInfo.getSetting("packagePath"));
+    }
+
+    @Test
+    public void testSnapshot() {
+        final List<String> patches = new ArrayList<>();
+        patches.add("patch-1");
+        final Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("packagePath", "C:\\Data\\Packages");
+        final ToolInfo toolInfo = new ToolInfo("2024.1.0", patches, settings, " test.tbc ", "test.tcf");
+
+        patches.add("patch-2");
+        settings.put("configPath", "C:\\Data\\Configurations");
+
+        assertEquals("2024.1.0", toolInfo.getVersion());
+        assertEquals(Collections.singletonList("patch-1"), toolInfo.getLoadedPatches());
+        assertEquals("C:\\Data\\Packages", toolInfo.getSetting("packagePath"));
+        assertNull("Snapshot should not reflect later changes", toolInfo.getSetting("configPath"));
+        assertEquals("test.tbc", toolInfo.getLastTbc());
+        assertEquals("test.tcf", toolInfo.getLastTcf());
+    }
+
+    @Test
+    public void testProcess() {
+        final ToolInfo unknownProcess = new ToolInfo("2024.1.0", Collections.emptyList(), Collections.emptyMap(),
+            "", "");
+        assertFalse(ProcessUtil.isRunning(unknownProcess.getProcessId(), unknownProcess.getProcessStart()));
+
+        final ProcessHandle process = ProcessHandle.current();
+        final ToolInfo toolInfo = new ToolInfo("2024.1.0", Collections.emptyList(), Collections.emptyMap(), "", "",
+            process.pid(), ProcessUtil.getStartTime(process));
+        assertTrue(ProcessUtil.isRunning(toolInfo.getProcessId(), toolInfo.getProcessStart()));
+        assertFalse("Reused process id should not match",
+            ProcessUtil.isRunning(toolInfo.getProcessId(), toolInfo.getProcessStart() + 1000L));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableSettings() {
+        final ToolInfo toolInfo = new ToolInfo("2024.1.0", Collections.emptyList(), new LinkedHashMap<>(), "", "");
+        toolInfo.getSettings().put("packagePath", "Packages");
+    }
+}
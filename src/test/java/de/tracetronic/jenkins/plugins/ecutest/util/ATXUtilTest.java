@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
@@ -19,11 +19,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.blankOrNullString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
 /**
@@ -304,4 +307,73 @@ public class ATXUtilTest {
 
         assertThat(ATXUtil.isSingleTestplanMap(atxConfig), is(false));
     }
+
+    @Test
+    public void testValidATXNameMatchesLegacyConversion() {
+        final char[] alphabet = "aZ09_-. äÄöÖüÜß#/\u0663".toCharArray();
+        final Random random = new Random(4711);
+        for (int i = 0; i < 100000; i++) {
+            final char[] chars = new char[random.nextInt(12)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            final String testName = new String(chars);
+            assertEquals("Conversion of '" + testName + "'", convertLegacy(testName), convert(testName));
+        }
+    }
+
+    @Test
+    public void testCachedValidATXName() {
+        final String validName = ATXUtil.getValidATXName("Cached Test-Name");
+        assertThat(validName, is("CachedTest_Name"));
+        assertThat(ATXUtil.getValidATXName("Cached Test-Name"), is(validName));
+    }
+
+    /**
+     * Converts the test name, capturing a thrown exception as result.
+     */
+    private static String convert(final String testName) {
+        try {
+            return ATXUtil.getValidATXName(testName);
+        } catch (final RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /**
+     * Reference implementation of the former regular expression based conversion.
+     */
+    private static String convertLegacy(final String testName) {
+        try {
+            String validATXName = ACTUAL;
+            if (testName != null && testName.chars().filter(c -> c == '_').count() != testName.length()) {
+                validATXName = testName;
+                final Map<String, String> specialCharMap = new HashMap<>();
+                specialCharMap.put("ä", "ae");
+                specialCharMap.put("Ä", "Ae");
+                specialCharMap.put("ö", "oe");
+                specialCharMap.put("Ö", "Oe");
+                specialCharMap.put("ü", "ue");
+                specialCharMap.put("Ü", "Ue");
+                specialCharMap.put("ß", "ss");
+                specialCharMap.put("-", "_");
+                specialCharMap.put("\\.", "_");
+                specialCharMap.put(" ", "");
+                for (final Map.Entry<String, String> specialChar : specialCharMap.entrySet()) {
+                    validATXName = validATXName.replaceAll(specialChar.getKey(), specialChar.getValue());
+                }
+                String previousName;
+                do {
+                    previousName = validATXName;
+                    validATXName = validATXName.replace("__", "_");
+                } while (!validATXName.equals(previousName));
+                if (Character.isDigit(validATXName.charAt(0))) {
+                    validATXName = String.format("i%s", validATXName);
+                }
+            }
+            return validATXName;
+        } catch (final RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
 }
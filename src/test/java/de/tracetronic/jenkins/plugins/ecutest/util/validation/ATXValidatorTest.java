@@ -1,15 +1,20 @@
 /*
- * Copyright (c) 2015-2023 tracetronic GmbH
+ * Copyright (c) 2015-2024 tracetronic GmbH
  *
  * SPDX-License-Identifier: BSD-3-Clause
  */
 package de.tracetronic.jenkins.plugins.ecutest.util.validation;
 
+import com.sun.net.httpserver.HttpServer;
 import hudson.util.FormValidation;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.Assert.assertEquals;
 
@@ -406,4 +411,45 @@ public class ATXValidatorTest {
         final FormValidation validation = atxValidator.testConnection(null, null, null, false, false);
         assertEquals("Error if connection URL is invalid", FormValidation.Kind.ERROR, validation.kind);
     }
+
+    @Test
+    public void testValidConnection() throws IOException {
+        final FormValidation validation = testConnection(200,
+            "{\"info\": {\"license\": \"tracetronic GmbH\", \"version\": \"1.150.0\"}}");
+        assertEquals("Valid connection", FormValidation.Kind.OK, validation.kind);
+    }
+
+    @Test
+    public void testIncompatibleConnection() throws IOException {
+        final FormValidation validation = testConnection(200,
+            "{\"info\": {\"license\": \"tracetronic GmbH\", \"version\": \"1.50.0\"}}");
+        assertEquals("Warning if incompatible version", FormValidation.Kind.WARNING, validation.kind);
+    }
+
+    @Test
+    public void testFailedConnection() throws IOException {
+        final FormValidation validation = testConnection(500, "");
+        assertEquals("Error if request failed", FormValidation.Kind.ERROR, validation.kind);
+    }
+
+    /**
+     * Tests the connection against a local HTTP server serving the given test.guide API version response.
+     */
+    private FormValidation testConnection(final int statusCode, final String content) throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/app-version-info", exchange -> {
+            final byte[] body = content.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(statusCode, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            return atxValidator.testConnection(String.format("http://%s:%d",
+                server.getAddress().getHostString(), server.getAddress().getPort()), false);
+        } finally {
+            server.stop(0);
+        }
+    }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link ETComDispatcher}.
+ */
+public class ETComDispatcherTest {
+
+    private static final Logger LOGGER = Logger.getLogger(ETComDispatcherTest.class.getName());
+
+    @Test
+    public void testSharedWorkerThread() throws ETComException {
+        final ETComDispatcher dispatcher = new ETComDispatcher("test", 16, 60L);
+        final String firstThread = dispatcher.invoke(() -> Thread.currentThread().getName(), 10);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(firstThread, dispatcher.invoke(() -> Thread.currentThread().getName(), 10));
+        }
+        assertEquals("Only one worker thread should be started", 1, dispatcher.getWorkerCount());
+        assertEquals(1001, dispatcher.getCompletedCount());
+        assertEquals(0, dispatcher.getTimedOutCount());
+        assertEquals(0, dispatcher.getQueuedCount());
+    }
+
+    @Test
+    public void testTimeoutReplacesBlockedWorker() throws ETComException {
+        final ETComDispatcher dispatcher = new ETComDispatcher("test", 16, 60L);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            dispatcher.invoke(() -> {
+                blocked.await();
+                return true;
+            }, 1);
+            fail("Expected ETComTimeoutException");
+        } catch (final ETComTimeoutException e) {
+            assertEquals("Request timeout of 1 seconds exceeded!", e.getMessage());
+        }
+        assertEquals(1, dispatcher.getTimedOutCount());
+        assertTrue(dispatcher.invoke(() -> true, 10));
+        assertEquals("Blocked worker should be replaced", 2, dispatcher.getWorkerCount());
+        blocked.countDown();
+    }
+
+    @Test
+    public void testTimeoutExcludesQueueTime() throws InterruptedException, ExecutionException {
+        final ETComDispatcher dispatcher = new ETComDispatcher("test", 16, 60L);
+        final ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> dispatcher.invoke(() -> {
+                    TimeUnit.MILLISECONDS.sleep(300L);
+                    return true;
+                }, 1)));
+            }
+            for (final Future<Boolean> result : results) {
+                assertTrue("Queued requests should not time out while waiting", result.get());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(0, dispatcher.getTimedOutCount());
+        assertEquals(8, dispatcher.getCompletedCount());
+        assertEquals(1, dispatcher.getWorkerCount());
+    }
+
+    @Test
+    public void testQueueSaturation() throws InterruptedException {
+        final ETComDispatcher dispatcher = new ETComDispatcher("test", 1, 60L);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch running = new CountDownLatch(1);
+        final Thread[] callers = new Thread[2];
+        for (int i = 0; i < callers.length; i++) {
+            callers[i] = new Thread(() -> {
+                try {
+                    dispatcher.invoke(() -> {
+                        running.countDown();
+                        blocked.await();
+                        return true;
+                    }, 60);
+                } catch (final ETComException ignored) {
+                    // no-op
+                }
+            });
+            callers[i].start();
+            if (i == 0) {
+                assertTrue(running.await(5L, TimeUnit.SECONDS));
+            }
+        }
+        TimeUnit.MILLISECONDS.sleep(200L);
+        try {
+            dispatcher.invoke(() -> true, 1);
+            fail("Expected ETComException");
+        } catch (final ETComException e) {
+            assertFalse("Saturation should not be reported as timeout", e instanceof ETComTimeoutException);
+            assertEquals("Request queue capacity of 1 exceeded!", e.getMessage());
+        }
+        blocked.countDown();
+        for (final Thread caller : callers) {
+            caller.join(5000L);
+        }
+        assertEquals(0, dispatcher.getTimedOutCount());
+    }
+
+    /**
+     * Compares the throughput of the dispatcher with the previous approach of spawning a new executor per timed
+     * request using a fake request.
+     */
+    @Test
+    public void testThroughput() throws Exception {
+        final int calls = 2000;
+        final Callable<Boolean> fakeRequest = () -> true;
+        final ETComDispatcher dispatcher = new ETComDispatcher("test", 16, 60L);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            final ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                assertTrue(executor.submit(fakeRequest).get(10, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        final double executorRate = calls / ((System.nanoTime() - start) / 1e9);
+
+        start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            assertTrue(dispatcher.invoke(fakeRequest, 10));
+        }
+        final double dispatcherRate = calls / ((System.nanoTime() - start) / 1e9);
+
+        LOGGER.info(String.format("Timed COM requests: %.0f calls/s per-call executor, %.0f calls/s dispatcher",
+            executorRate, dispatcherRate));
+        assertEquals(calls, dispatcher.getCompletedCount());
+        assertEquals("Dispatcher should not spawn a thread per call", 1, dispatcher.getWorkerCount());
+    }
+
+    @Test
+    public void testDispatcherPerProgId() {
+        assertSame(ETComDispatcher.getInstance("ecu.test.Application"),
+            ETComDispatcher.getInstance("ecu.test.Application"));
+        assertNotSame(ETComDispatcher.getInstance("ecu.test.Application"),
+            ETComDispatcher.getInstance("ecu.test.Application.2024.1"));
+    }
+
+    @Test
+    public void testRequestException() {
+        final ETComDispatcher dispatcher = new ETComDispatcher("test", 16, 60L);
+        try {
+            dispatcher.invoke(() -> {
+                throw new ETComException("Invalid method");
+            }, 10);
+            fail("Expected ETComException");
+        } catch (final ETComException e) {
+            assertTrue(e.getMessage().contains("Invalid method"));
+        }
+    }
+
+    @Test
+    public void testInterruptedCaller() throws InterruptedException {
+        final ETComDispatcher dispatcher = new ETComDispatcher("test", 16, 60L);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final boolean[] interrupted = new boolean[1];
+        final Thread caller = new Thread(() -> {
+            try {
+                dispatcher.invoke(() -> {
+                    blocked.await();
+                    return true;
+                }, 60);
+            } catch (final ETComException e) {
+                interrupted[0] = Thread.currentThread().isInterrupted();
+            }
+        });
+        caller.start();
+        TimeUnit.MILLISECONDS.sleep(200L);
+        caller.interrupt();
+        caller.join(5000L);
+        assertTrue("Interrupt status should be preserved", interrupted[0]);
+        blocked.countDown();
+    }
+
+    @Test
+    public void testIdleWorkerTerminates() throws ETComException, InterruptedException {
+        final ETComDispatcher dispatcher = new ETComDispatcher("test", 16, 0L);
+        assertTrue(dispatcher.invoke(() -> true, 10));
+        TimeUnit.MILLISECONDS.sleep(200L);
+        assertTrue(dispatcher.invoke(() -> true, 10));
+        assertEquals(2, dispatcher.getCompletedCount());
+        assertTrue(dispatcher.getWorkerCount() >= 1);
+    }
+}
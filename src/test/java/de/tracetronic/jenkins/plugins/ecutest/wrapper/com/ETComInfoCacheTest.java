@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import de.tracetronic.jenkins.plugins.ecutest.util.ToolVersion;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComApplication;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ETComInfoCache}.
+ */
+public class ETComInfoCacheTest {
+
+    private static final String PROG_ID = "ecu.test.Application";
+
+    @Test
+    public void testCacheWhileProcessIsRunning() throws ETComException {
+        final ETComInfoCache cache = new ETComInfoCache(() -> Collections.singletonList(ProcessHandle.current()), 0L);
+        final ComApplication application = mockApplication();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("2024.1.0", cache.getVersion(PROG_ID, application));
+            assertEquals(new ToolVersion(2024, 1, 0), cache.getToolVersion(PROG_ID, application));
+            assertEquals("C:\\Data\\Packages", cache.getSetting(PROG_ID, application, "packagePath"));
+        }
+        verify(application, times(1)).getVersion();
+        verify(application, times(1)).getSetting("packagePath");
+
+        cache.invalidate();
+        cache.getVersion(PROG_ID, application);
+        verify(application, times(2)).getVersion();
+    }
+
+    @Test
+    public void testCachePerProgId() throws ETComException {
+        final ETComInfoCache cache = new ETComInfoCache(() -> Collections.singletonList(ProcessHandle.current()), 0L);
+        final ComApplication application = mockApplication();
+        final ComApplication otherApplication = mock(ComApplication.class);
+        when(otherApplication.getVersion()).thenReturn("2023.4.0");
+        when(otherApplication.getSetting("packagePath")).thenReturn("D:\\Data\\Packages");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("2024.1.0", cache.getVersion(PROG_ID, application));
+            assertEquals("2023.4.0", cache.getVersion("ecu.test.Application.2023.4", otherApplication));
+            assertEquals("D:\\Data\\Packages",
+                cache.getSetting("ecu.test.Application.2023.4", otherApplication, "packagePath"));
+        }
+        verify(application, times(1)).getVersion();
+        verify(otherApplication, times(1)).getVersion();
+
+        cache.invalidate("ecu.test.Application.2023.4");
+        cache.getVersion(PROG_ID, application);
+        cache.getVersion("ecu.test.Application.2023.4", otherApplication);
+        verify(application, times(1)).getVersion();
+        verify(otherApplication, times(2)).getVersion();
+    }
+
+    @Test
+    public void testPassThroughWithoutProcess() throws ETComException {
+        final ETComInfoCache cache = new ETComInfoCache(Collections::emptyList, 0L);
+        final ComApplication application = mockApplication();
+
+        cache.getVersion(PROG_ID, application);
+        cache.getVersion(PROG_ID, application);
+        cache.getSetting(PROG_ID, application, "packagePath");
+        cache.getSetting(PROG_ID, application, "packagePath");
+        verify(application, times(2)).getVersion();
+        verify(application, times(2)).getSetting("packagePath");
+    }
+
+    @Test
+    public void testInvalidateOnProcessExit() throws Exception {
+        final Process process = new ProcessBuilder("java", "-version").start();
+        final AtomicReference<ProcessHandle> running = new AtomicReference<>(process.toHandle());
+        final ETComInfoCache cache = new ETComInfoCache(() -> Collections.singletonList(running.get()), 0L);
+        final ComApplication application = mockApplication();
+
+        cache.getVersion(PROG_ID, application);
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        running.set(ProcessHandle.current());
+        cache.getVersion(PROG_ID, application);
+        cache.getVersion(PROG_ID, application);
+        verify(application, times(2)).getVersion();
+    }
+
+    @Test
+    public void testInvalidateOnOtherProcessExit() throws Exception {
+        final Process otherProcess = new ProcessBuilder("java", "-version").start();
+        final List<ProcessHandle> processes = new ArrayList<>();
+        processes.add(ProcessHandle.current());
+        processes.add(otherProcess.toHandle());
+        final ETComInfoCache cache = new ETComInfoCache(() -> new ArrayList<>(processes), 0L);
+        final ComApplication application = mockApplication();
+
+        cache.getVersion(PROG_ID, application);
+        assertTrue(otherProcess.waitFor(30, TimeUnit.SECONDS));
+        processes.remove(1);
+        cache.getVersion(PROG_ID, application);
+        cache.getVersion(PROG_ID, application);
+        verify(application, times(2)).getVersion();
+    }
+
+    @Test
+    public void testRememberMissingProcess() throws ETComException {
+        final AtomicInteger lookups = new AtomicInteger();
+        final ETComInfoCache cache = new ETComInfoCache(() -> {
+            lookups.incrementAndGet();
+            return Collections.emptyList();
+        }, 60000L);
+        final ComApplication application = mockApplication();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("2024.1.0", cache.getVersion(PROG_ID, application));
+        }
+        assertEquals("Missing process should be looked up only once", 1, lookups.get());
+        verify(application, times(3)).getVersion();
+
+        cache.invalidate();
+        cache.getVersion(PROG_ID, application);
+        assertEquals(2, lookups.get());
+    }
+
+    private static ComApplication mockApplication() throws ETComException {
+        final ComApplication application = mock(ComApplication.class);
+        when(application.getVersion()).thenReturn("2024.1.0");
+        when(application.getSetting("packagePath")).thenReturn("C:\\Data\\Packages");
+        return application;
+    }
+}
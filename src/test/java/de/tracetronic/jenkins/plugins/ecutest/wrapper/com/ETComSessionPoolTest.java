@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import com.jacob.com.ComFailException;
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComApplication;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ETComSessionPool}.
+ */
+public class ETComSessionPoolTest {
+
+    @Test
+    public void testReuseSession() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            assertEquals("1.0", session.getVersion());
+        }
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            assertEquals("1.0", session.getVersion());
+        }
+        assertEquals("Session should be created only once", 1, factory.created.size());
+        assertTrue(factory.disposed.isEmpty());
+        assertEquals(1, pool.getSessionCount());
+    }
+
+    @Test
+    public void testSessionPerProgId() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        try (ETComSession first = pool.lease("ecu.test.Application");
+             ETComSession second = pool.lease("ecu.test.Application.2024.1")) {
+            assertEquals("ecu.test.Application", first.getProgId());
+            assertEquals("ecu.test.Application.2024.1", second.getProgId());
+        }
+        assertEquals(2, factory.created.size());
+        assertEquals(2, pool.getSessionCount());
+    }
+
+    @Test
+    public void testDefaultProgId() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        try (ETComSession session = pool.lease("")) {
+            assertEquals(ETComProperty.DEFAULT_PROG_ID, session.getProgId());
+        }
+    }
+
+    @Test
+    public void testEvictOnException() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            when(factory.created.get(0).isStarted()).thenThrow(new ETComException("COM server not available",
+                new ComFailException(0x800706BA, "The RPC server is unavailable.")));
+            session.isStarted();
+            fail("Expected ETComException");
+        } catch (final ETComException e) {
+            assertEquals("COM server not available", e.getMessage());
+        }
+        assertEquals(0, pool.getSessionCount());
+        assertEquals("Session should be disposed after lease is closed", 1, factory.disposed.size());
+
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            assertEquals("1.0", session.getVersion());
+        }
+        assertEquals(2, factory.created.size());
+    }
+
+    @Test
+    public void testKeepOnApiException() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            when(factory.created.get(0).openPackage("missing.pkg")).thenThrow(new ETComException("Package not found",
+                new ComFailException(0x80020009, "Exception occurred.")));
+            session.openPackage("missing.pkg");
+            fail("Expected ETComException");
+        } catch (final ETComException e) {
+            assertEquals("Package not found", e.getMessage());
+        }
+        assertEquals(1, pool.getSessionCount());
+        assertTrue(factory.disposed.isEmpty());
+
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            assertEquals("1.0", session.getVersion());
+        }
+        assertEquals(1, factory.created.size());
+    }
+
+    @Test
+    public void testEvictOnTimeout() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            when(factory.created.get(0).waitForIdle(1)).thenThrow(new ETComTimeoutException("Timed out"));
+            session.waitForIdle(1);
+            fail("Expected ETComTimeoutException");
+        } catch (final ETComException e) {
+            assertTrue(e.isConnectionFailure());
+        }
+        assertEquals(0, pool.getSessionCount());
+    }
+
+    @Test
+    public void testDisposeAfterLastLease() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        final ETComSession first = pool.lease("ecu.test.Application");
+        final ETComSession second = pool.lease("ecu.test.Application");
+        pool.evict("ecu.test.Application");
+        first.close();
+        assertTrue("Session must not be disposed while leased", factory.disposed.isEmpty());
+        second.close();
+        second.close();
+        assertEquals(1, factory.disposed.size());
+    }
+
+    @Test
+    public void testHealthCheckIdleSession() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, 0L);
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            assertTrue(session.isApplicationRunning());
+        }
+        when(factory.created.get(0).isApplicationRunning()).thenReturn(false);
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            assertTrue(session.isApplicationRunning());
+        }
+        assertEquals(2, factory.created.size());
+        assertEquals(1, factory.disposed.size());
+    }
+
+    @Test
+    public void testQuitEvictsSession() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            assertFalse(session.quit(60));
+        }
+        assertEquals(0, pool.getSessionCount());
+        assertEquals(1, factory.disposed.size());
+    }
+
+    @Test
+    public void testShutdown() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        pool.lease("ecu.test.Application").close();
+        pool.lease("ecu.test.Application.2024.1").close();
+        pool.shutdown();
+        assertEquals(0, pool.getSessionCount());
+        assertEquals(2, factory.disposed.size());
+    }
+
+    @Test(expected = ETComException.class)
+    public void testClosedLease() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        final ETComSession session = pool.lease("ecu.test.Application");
+        session.close();
+        session.getVersion();
+    }
+
+    @Test
+    public void testPairedAttach() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        final ETComSession first = pool.lease("ecu.test.Application");
+        final ETComSession second = pool.lease("ecu.test.Application");
+        assertEquals(2, factory.attached);
+        first.close();
+        second.close();
+        second.close();
+        assertEquals("Each attach must be released once", 0, factory.attached);
+    }
+
+    @Test
+    public void testDetachOnFailedLease() {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        factory.failing = true;
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        try {
+            pool.lease("ecu.test.Application");
+            fail("Expected ETComException");
+        } catch (final ETComException e) {
+            assertEquals(0, factory.attached);
+        }
+    }
+
+    @Test
+    public void testUnshareableSessions() throws ETComException {
+        final FakeSessionFactory factory = new FakeSessionFactory();
+        factory.shareable = false;
+        final ETComSessionPool pool = new ETComSessionPool(factory, ETComSessionPool.DEFAULT_HEALTH_CHECK_INTERVAL);
+        try (ETComSession session = pool.lease("ecu.test.Application")) {
+            assertEquals("1.0", session.getVersion());
+            assertEquals("Unshareable session must not be pooled", 0, pool.getSessionCount());
+        }
+        pool.lease("ecu.test.Application").close();
+        assertEquals(2, factory.created.size());
+        assertEquals(2, factory.disposed.size());
+        assertEquals(0, factory.attached);
+    }
+
+    /**
+     * In-memory {@link ETComSessionPool.SessionFactory} creating mocked applications.
+     */
+    private static final class FakeSessionFactory implements ETComSessionPool.SessionFactory {
+
+        private final List<ComApplication> created = new ArrayList<>();
+        private final List<ComApplication> disposed = new ArrayList<>();
+        private boolean shareable = true;
+        private boolean failing;
+        private int attached;
+
+        @Override
+        public ComApplication create(final String progId, final int timeout) throws ETComException {
+            if (failing) {
+                throw new ETComException("COM server not available");
+            }
+            final ComApplication application = mock(ComApplication.class);
+            when(application.isApplicationRunning()).thenReturn(true);
+            when(application.getVersion()).thenReturn("1.0");
+            created.add(application);
+            return application;
+        }
+
+        @Override
+        public boolean isShareable() {
+            return shareable;
+        }
+
+        @Override
+        public void attach() {
+            attached++;
+        }
+
+        @Override
+        public void detach() {
+            attached--;
+        }
+
+        @Override
+        public void dispose(final ComApplication application) {
+            disposed.add(application);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2015-2024 tracetronic GmbH
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package de.tracetronic.jenkins.plugins.ecutest.wrapper.com;
+
+import de.tracetronic.jenkins.plugins.ecutest.wrapper.com.api.ComTestExecutionInfo;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ExecutionWatcher}.
+ */
+public class ExecutionWatcherTest {
+
+    @Test
+    public void testCompletion() throws Exception {
+        final ScriptedExecutionInfo execInfo = new ScriptedExecutionInfo("RUNNING", "RUNNING", "RUNNING", "FINISHED");
+        final ExecutionWatcher watcher = new ExecutionWatcher(execInfo::getState, 0, 1L, 10L);
+        assertTrue(watcher.await());
+        assertEquals(4, watcher.getPollCount());
+    }
+
+    @Test
+    public void testNotRunning() throws Exception {
+        final ScriptedExecutionInfo execInfo = new ScriptedExecutionInfo("IDLE");
+        final AtomicInteger ticks = new AtomicInteger();
+        final ExecutionWatcher watcher = new ExecutionWatcher(execInfo::getState, 0)
+            .withTickListener(ticks::incrementAndGet);
+        assertTrue(watcher.await());
+        assertEquals(1, watcher.getPollCount());
+        assertEquals("Tick listener must not be notified", 0, ticks.get());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        final ScriptedExecutionInfo execInfo = new ScriptedExecutionInfo("RUNNING");
+        final AtomicInteger ticks = new AtomicInteger();
+        final ExecutionWatcher watcher = new ExecutionWatcher(execInfo::getState, 1, 10L, 100L)
+            .withTickListener(ticks::incrementAndGet);
+        final long start = System.currentTimeMillis();
+        assertFalse(watcher.await());
+        assertTrue(System.currentTimeMillis() - start >= 1000L);
+        assertEquals("Tick listener should be notified at start", 1, ticks.get());
+    }
+
+    @Test
+    public void testPushedState() throws Exception {
+        final ScriptedExecutionInfo execInfo = new ScriptedExecutionInfo("RUNNING");
+        final ExecutionWatcher watcher = new ExecutionWatcher(execInfo::getState, 0, 60_000L, 60_000L);
+        final Thread notifier = new Thread(() -> watcher.notifyStateChanged("FINISHED"));
+        final long start = System.currentTimeMillis();
+        notifier.start();
+        assertTrue(watcher.await());
+        notifier.join();
+        assertTrue("Watcher should wake up on push", System.currentTimeMillis() - start < 10_000L);
+        assertEquals("State should not be polled after push", 1, watcher.getPollCount());
+    }
+
+    @Test
+    public void testPushedRunningState() throws Exception {
+        final ScriptedExecutionInfo execInfo = new ScriptedExecutionInfo("RUNNING", "FINISHED");
+        final ExecutionWatcher watcher = new ExecutionWatcher(execInfo::getState, 0, 60_000L, 60_000L);
+        final Thread notifier = new Thread(() -> watcher.notifyStateChanged("RUNNING"));
+        notifier.start();
+        assertTrue(watcher.await());
+        notifier.join();
+        assertEquals("Pushed running state should be verified by polling", 2, watcher.getPollCount());
+    }
+
+    @Test(expected = ETComException.class)
+    public void testFailedCompletion() throws Exception {
+        final ExecutionWatcher watcher = new ExecutionWatcher(() -> {
+            throw new ETComException("COM server not available");
+        }, 0);
+        watcher.await();
+    }
+
+    @Test
+    public void testAdaptiveInterval() {
+        final ExecutionWatcher watcher = new ExecutionWatcher(() -> "RUNNING", 0, 50L, 1000L)
+            .withExpectedDuration(60_000L);
+        assertEquals("Fast polling after start", 50L, watcher.nextInterval(100L, 50L));
+        assertEquals(100L, watcher.nextInterval(10_000L, 50L));
+        assertEquals("Interval is bounded", 1000L, watcher.nextInterval(20_000L, 800L));
+        assertEquals("Fast polling near expected duration", 50L, watcher.nextInterval(59_000L, 1000L));
+        assertEquals(1000L, watcher.nextInterval(120_000L, 1000L));
+    }
+
+    /**
+     * Fake {@link ComTestExecutionInfo} returning scripted states, repeating the last one.
+     */
+    private static final class ScriptedExecutionInfo implements ComTestExecutionInfo {
+
+        private final Deque<String> states;
+
+        ScriptedExecutionInfo(final String... states) {
+            this.states = new ArrayDeque<>(Arrays.asList(states));
+        }
+
+        @Override
+        public boolean abort() {
+            states.clear();
+            states.add("ABORTED");
+            return true;
+        }
+
+        @Override
+        public boolean abortAfterCurrentProjectStep(final int timeout) {
+            return abort();
+        }
+
+        @Override
+        public String getReportDb() {
+            return "";
+        }
+
+        @Override
+        public String getLogFolder() {
+            return "";
+        }
+
+        @Override
+        public String getResult() {
+            return "NONE";
+        }
+
+        @Override
+        public String getState() {
+            return states.size() > 1 ? states.poll() : states.peek();
+        }
+
+        @Override
+        public String getReturnValue(final String varName) {
+            return "";
+        }
+    }
+}
@@ -11,10 +11,13 @@ freeStyleJob("reportPublisher") {
             runOnFailed(true)
             archiving(false)
             keepAll(false)
+            cacheZipDownload(true)
+            deduplicateArchive(true)
         }
         publishUNIT("ecu.test") {
             unstableThreshold(15)
             failedThreshold(30)
+            generationMode('TRF')
             allowMissing(true)
             runOnFailed(true)
             archiving(false)
@@ -23,6 +26,7 @@ freeStyleJob("reportPublisher") {
         publishETLogs() {
             unstableOnWarning(true)
             failedOnError(true)
+            compressArchive(true)
             allowMissing(true)
             runOnFailed(true)
             archiving(false)
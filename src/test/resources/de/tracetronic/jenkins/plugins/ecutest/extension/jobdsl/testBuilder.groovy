@@ -36,6 +36,7 @@ freeStyleJob("testBuilder") {
                 stopOnError(false)
                 checkTestFile(false)
                 recordWarnings(true)
+                maxLogErrors(5)
             }
         }
         testProject("test.prj") {
@@ -63,11 +64,14 @@ freeStyleJob("testBuilder") {
                 stopOnError(false)
                 checkTestFile(false)
                 recordWarnings(true)
+                maxLogErrors(5)
             }
         }
         testFolder("test") {
             scanMode("PACKAGES_ONLY")
             recursiveScan(true)
+            parallelism(2)
+            instances("ecu.test 1, ecu.test 2")
             testConfig {
                 tbcFile("test.tbc")
                 tcfFile("test.tcf")
@@ -103,6 +107,7 @@ freeStyleJob("testBuilder") {
                 stopOnError(false)
                 checkTestFile(false)
                 recordWarnings(true)
+                maxLogErrors(5)
             }
         }
         importPackages {
@@ -0,0 +1,2 @@
+INSERT INTO info VALUES ('2024-03-01 12:00:00', 0.195000171661);
+INSERT INTO pkg VALUES ('TestCase001');
@@ -0,0 +1,3 @@
+INSERT INTO info VALUES ('2024-03-01 12:00:00', 0.195000171661);
+INSERT INTO prj VALUES ('$$$_PACKAGE_$$$');
+INSERT INTO pkg VALUES ('TestCase001');
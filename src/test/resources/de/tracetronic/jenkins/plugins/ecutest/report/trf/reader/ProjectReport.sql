@@ -0,0 +1,5 @@
+INSERT INTO info VALUES ('2024-03-01 12:00:00', 1.5);
+INSERT INTO prj VALUES ('TestProject');
+INSERT INTO pkg VALUES ('TestCase001');
+INSERT INTO pkg VALUES ('TestCase002');
+INSERT INTO pkg VALUES ('TestCase003');
@@ -0,0 +1,4 @@
+-- Subset of the TRF schema read by TRFReader, i.e. the tables and columns known from reports written by ecu.test
+CREATE TABLE info (execution_time TEXT, duration REAL);
+CREATE TABLE prj (name TEXT);
+CREATE TABLE pkg (name TEXT);